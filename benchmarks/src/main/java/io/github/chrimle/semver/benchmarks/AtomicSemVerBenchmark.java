@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.AtomicSemVer;
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks concurrent increments of a shared version, using {@link AtomicSemVer} compared with
+ * a {@code synchronized} {@link SemVer#incrementVersion(Change)}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AtomicSemVerBenchmark {
+
+  private final AtomicSemVer atomic = new AtomicSemVer();
+  private final Object lock = new Object();
+  private SemVer synchronizedVersion = new SemVer(0, 0, 0);
+
+  @Benchmark
+  public SemVer atomicIncrementAndGet() {
+    final SemVer next = atomic.incrementAndGet(Change.MINOR);
+    // Keeps the minor version far from `PackedSemVer.MAX_VERSION` during long runs.
+    if (next.minor() > 1_000_000) atomic.incrementAndGet(Change.MAJOR);
+    return next;
+  }
+
+  @Benchmark
+  public SemVer synchronizedIncrementVersion() {
+    synchronized (lock) {
+      synchronizedVersion = synchronizedVersion.incrementVersion(Change.MINOR);
+      return synchronizedVersion;
+    }
+  }
+}
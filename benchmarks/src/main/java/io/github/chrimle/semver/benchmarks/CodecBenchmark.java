@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerCodec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks bulk encoding and decoding with {@link SemVerCodec}, compared with writing and parsing
+ * {@link SemVer#toCompleteVersionString()}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+  @Param({"1000"})
+  public int size;
+
+  private SemVer[] versions;
+  private SemVer[] decoded;
+  private ByteBuffer text;
+  private ByteBuffer varints;
+  private ByteBuffer keys;
+
+  @Setup
+  public void setUp() {
+    versions = Fixtures.randomVersions(size, 42L);
+    decoded = new SemVer[size];
+    text = ByteBuffer.allocate(size * 16);
+    varints = ByteBuffer.allocate(size * 16);
+    keys = ByteBuffer.allocate(size * SemVerCodec.KEY_SIZE);
+    for (final SemVer version : versions) {
+      version.writeCompleteVersionString(text).put((byte) '\n');
+    }
+    SemVerCodec.writeVarints(versions, varints).flip();
+    SemVerCodec.writeKeys(versions, keys).flip();
+  }
+
+  @Benchmark
+  public ByteBuffer encodeText() {
+    text.clear();
+    for (final SemVer version : versions) {
+      version.writeCompleteVersionString(text).put((byte) '\n');
+    }
+    return text;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeVarints() {
+    varints.clear();
+    return SemVerCodec.writeVarints(versions, varints);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeKeys() {
+    keys.clear();
+    return SemVerCodec.writeKeys(versions, keys);
+  }
+
+  @Benchmark
+  public SemVer[] decodeText() {
+    final byte[] bytes = text.array();
+    int start = 0;
+    for (int i = 0; i < size; i++) {
+      int newline = start;
+      while (bytes[newline] != '\n') newline++;
+      decoded[i] = SemVer.parse(bytes, start, newline - start);
+      start = newline + 1;
+    }
+    return decoded;
+  }
+
+  @Benchmark
+  public SemVer[] decodeVarints() {
+    SemVerCodec.readVarints(varints.rewind(), decoded);
+    return decoded;
+  }
+
+  @Benchmark
+  public SemVer[] decodeKeys() {
+    SemVerCodec.readKeys(keys.rewind(), decoded);
+    return decoded;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerColumn;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the filters of {@link SemVerColumn}, compared with filtering a {@code SemVer[]}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnBenchmark {
+
+  private static final SemVer MINIMUM = new SemVer(5, 25, 100);
+
+  @Param({"1000000"})
+  public int size;
+
+  private SemVer[] versions;
+  private SemVerColumn column;
+
+  @Setup
+  public void setUp() {
+    versions = Fixtures.randomVersions(size, 42L);
+    column = SemVerColumn.allocate();
+    column.appendAll(versions);
+  }
+
+  @Benchmark
+  public BitSet arrayAtLeast() {
+    final BitSet matches = new BitSet(versions.length);
+    for (int i = 0; i < versions.length; i++) {
+      if (versions[i].compareTo(MINIMUM) >= 0) matches.set(i);
+    }
+    return matches;
+  }
+
+  @Benchmark
+  public BitSet columnAtLeast() {
+    return column.atLeast(MINIMUM);
+  }
+
+  @Benchmark
+  public BitSet columnStable() {
+    return column.stable();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.ChangeStatistics;
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerSort;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link SemVer#compareTo(SemVer)}, both pairwise and in sorting workloads, of release
+ * and pre-release versions - as well as sorting by {@link SemVerSort}, and classifying the {@link
+ * Change}s between adjacent versions with {@link ChangeStatistics}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComparisonBenchmark {
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private SemVer[] versions;
+  private SemVer[] preReleaseVersions;
+  private long[] packed;
+
+  @Setup
+  public void setUp() {
+    versions = Fixtures.randomVersions(size, 42L);
+    preReleaseVersions = Fixtures.randomPreReleaseVersions(size, 42L);
+    packed = new long[size];
+    for (int i = 0; i < size; i++) {
+      packed[i] = versions[i].toPacked();
+    }
+  }
+
+  @Benchmark
+  public void compareToAdjacent(final Blackhole blackhole) {
+    for (int i = 1; i < versions.length; i++) {
+      blackhole.consume(versions[i - 1].compareTo(versions[i]));
+    }
+  }
+
+  @Benchmark
+  public void compareToAdjacentPreRelease(final Blackhole blackhole) {
+    for (int i = 1; i < preReleaseVersions.length; i++) {
+      blackhole.consume(preReleaseVersions[i - 1].compareTo(preReleaseVersions[i]));
+    }
+  }
+
+  @Benchmark
+  public SemVer[] sort() {
+    final SemVer[] copy = versions.clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public SemVer[] semVerSort() {
+    final SemVer[] copy = versions.clone();
+    SemVerSort.sort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public long[] sortPackedArraysSort() {
+    final long[] copy = packed.clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public long[] sortPackedSemVerSort() {
+    final long[] copy = packed.clone();
+    SemVerSort.sortPacked(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public ChangeStatistics changeStatistics() {
+    final ChangeStatistics statistics = new ChangeStatistics();
+    for (final SemVer version : versions) {
+      statistics.accept(version);
+    }
+    return statistics;
+  }
+
+  @Benchmark
+  public ChangeStatistics changeStatisticsPacked() {
+    final ChangeStatistics statistics = new ChangeStatistics();
+    for (final long version : packed) {
+      statistics.acceptPacked(version);
+    }
+    return statistics;
+  }
+}
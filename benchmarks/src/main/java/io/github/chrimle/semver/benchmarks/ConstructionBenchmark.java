@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the record constructor, the canonicalizing {@link SemVer#of(int, int, int)} and the
+ * {@code increment*}-methods of {@link SemVer}, as well as rejecting invalid input with and
+ * without exceptions.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructionBenchmark {
+
+  @Param({"MAJOR", "MINOR", "PATCH"})
+  public Change change;
+
+  private int major;
+  private int minor;
+  private int patch;
+  private SemVer semVer;
+  private String malformed;
+
+  @Setup
+  public void setUp() {
+    major = 1;
+    minor = 2;
+    patch = 3;
+    semVer = new SemVer(major, minor, patch);
+    malformed = "1.02.3";
+  }
+
+  @Benchmark
+  public SemVer constructor() {
+    return new SemVer(major, minor, patch);
+  }
+
+  @Benchmark
+  public SemVer of() {
+    return SemVer.of(major, minor, patch);
+  }
+
+  @Benchmark
+  public SemVer ofUncommon() {
+    return SemVer.of(major + 1000, minor, patch);
+  }
+
+  @Benchmark
+  public SemVer incrementMajor() {
+    return semVer.incrementMajor();
+  }
+
+  @Benchmark
+  public SemVer incrementMinor() {
+    return semVer.incrementMinor();
+  }
+
+  @Benchmark
+  public SemVer incrementPatch() {
+    return semVer.incrementPatch();
+  }
+
+  @Benchmark
+  public SemVer incrementVersion() {
+    return semVer.incrementVersion(change);
+  }
+
+  @Benchmark
+  public SemVer rejectNegative() {
+    try {
+      return new SemVer(-major, minor, patch);
+    } catch (final IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public SemVer tryOfNegative() {
+    return SemVer.tryOf(-major, minor, patch);
+  }
+
+  @Benchmark
+  public SemVer rejectMalformed() {
+    try {
+      return SemVer.parse(malformed);
+    } catch (final IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public SemVer tryParseMalformed() {
+    return SemVer.tryParse(malformed);
+  }
+}
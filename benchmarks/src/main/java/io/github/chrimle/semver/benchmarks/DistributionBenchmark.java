@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerDistribution;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks concurrently recording versions in a {@link SemVerDistribution}, compared with a
+ * {@code ConcurrentHashMap<SemVer, LongAdder>}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DistributionBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private final SemVerDistribution distribution = new SemVerDistribution();
+  private final ConcurrentHashMap<SemVer, LongAdder> map = new ConcurrentHashMap<>();
+  private SemVer[] versions;
+
+  @Setup
+  public void setUp() {
+    // Few distinct versions, like the client versions of real-world traffic.
+    versions = Fixtures.randomVersions(SIZE, 42L);
+    for (int i = 0; i < SIZE; i++) {
+      versions[i] = new SemVer(versions[i].major(), versions[i].minor() % 4, 0);
+    }
+  }
+
+  @Benchmark
+  public boolean distributionRecord() {
+    final SemVer version = versions[ThreadLocalRandom.current().nextInt(SIZE)];
+    return distribution.record(version.major(), version.minor(), version.patch());
+  }
+
+  @Benchmark
+  public void mapIncrement() {
+    final SemVer version = versions[ThreadLocalRandom.current().nextInt(SIZE)];
+    map.computeIfAbsent(version, key -> new LongAdder()).increment();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public SemVerDistribution.Snapshot distributionSnapshot() {
+    return distribution.snapshot();
+  }
+}
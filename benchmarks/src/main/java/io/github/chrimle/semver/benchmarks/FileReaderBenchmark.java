@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerFileReader;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SemVerFileReader}, sequentially and in parallel, compared with reading and
+ * parsing the lines with a {@link BufferedReader}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileReaderBenchmark {
+
+  @Param({"1000000"})
+  public int size;
+
+  private Path path;
+  private SemVerFileReader reader;
+
+  @Setup
+  public void setUp() throws IOException {
+    path = Files.createTempFile("versions", ".txt");
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      for (final SemVer version : Fixtures.randomVersions(size, 42L)) {
+        writer.append(version.toCompleteVersionString()).append('\n');
+      }
+    }
+    reader = SemVerFileReader.open(path);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reader = null;
+    Files.deleteIfExists(path);
+  }
+
+  @Benchmark
+  public long bufferedReader() throws IOException {
+    try (BufferedReader lines = Files.newBufferedReader(path)) {
+      return lines.lines().map(SemVer::parse).mapToLong(SemVer::toPacked).sum();
+    }
+  }
+
+  @Benchmark
+  public long packedVersions() {
+    return reader.packedVersions().sum();
+  }
+
+  @Benchmark
+  public long packedVersionsParallel() {
+    return reader.packedVersions().parallel().sum();
+  }
+
+  @Benchmark
+  public long versionsParallel() {
+    return reader.versions().parallel().mapToLong(SemVer::toPacked).sum();
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ *
+ * @author Chrimle
+ */
+final class Fixtures {
+
+  private Fixtures() {}
+
+  /**
+   * Creates {@code size} pseudo-random versions, skewed towards small numbers like real-world
+   * version histories. The same {@code seed} always produces equal versions.
+   */
+  static SemVer[] randomVersions(final int size, final long seed) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    final SemVer[] versions = new SemVer[size];
+    for (int i = 0; i < size; i++) {
+      versions[i] = new SemVer(random.nextInt(10), random.nextInt(50), random.nextInt(200));
+    }
+    return versions;
+  }
+
+  /**
+   * Creates {@code size} pseudo-random <em>pre-release</em> versions of a few releases, so that
+   * most comparisons have to compare the pre-release identifiers.
+   */
+  static SemVer[] randomPreReleaseVersions(final int size, final long seed) {
+    final String[] preReleases = {"alpha", "alpha.1", "alpha.beta", "beta.2", "beta.11", "rc.1"};
+    final SplittableRandom random = new SplittableRandom(seed);
+    final SemVer[] versions = new SemVer[size];
+    for (int i = 0; i < size; i++) {
+      versions[i] =
+          new SemVer(1, random.nextInt(3), 0, preReleases[random.nextInt(preReleases.length)], "");
+    }
+    return versions;
+  }
+}
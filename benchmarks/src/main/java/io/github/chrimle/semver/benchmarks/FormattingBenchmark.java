@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SemVer#toCompleteVersionString()} and {@link SemVer#toShortVersionString()},
+ * as well as the allocation-free variants which write into reused buffers.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormattingBenchmark {
+
+  @Param({"1,0,0", "1,2,0", "12,345,6789"})
+  public String version;
+
+  private SemVer semVer;
+  private final StringBuilder builder = new StringBuilder(64);
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+  private final byte[] bytes = new byte[64];
+
+  @Setup
+  public void setUp() {
+    final String[] parts = version.split(",");
+    semVer =
+        new SemVer(
+            Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+  }
+
+  @Benchmark
+  public String toCompleteVersionString() {
+    return semVer.toCompleteVersionString();
+  }
+
+  @Benchmark
+  public String toShortVersionString() {
+    return semVer.toShortVersionString();
+  }
+
+  @Benchmark
+  public StringBuilder appendCompleteVersionString() {
+    builder.setLength(0);
+    return semVer.appendCompleteVersionString(builder);
+  }
+
+  @Benchmark
+  public ByteBuffer writeCompleteVersionStringToByteBuffer() {
+    buffer.clear();
+    return semVer.writeCompleteVersionString(buffer);
+  }
+
+  @Benchmark
+  public int writeCompleteVersionStringToBytes() {
+    return semVer.writeCompleteVersionString(bytes, 0);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link SemVer#hashCode()} and {@link SemVer#equals(Object)} as {@code HashMap}-keys,
+ * compared with the packed keys of {@link SemVerMap}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashingBenchmark {
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private SemVer[] keys;
+  private SemVer[] lookups;
+  private Map<SemVer, Integer> map;
+  private SemVerMap<Integer> semVerMap;
+
+  @Setup
+  public void setUp() {
+    keys = Fixtures.randomVersions(size, 42L);
+    // Equal, but not identical, instances force `equals` to compare the versions.
+    lookups = Fixtures.randomVersions(size, 42L);
+    map = new HashMap<>();
+    semVerMap = new SemVerMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      map.put(keys[i], i);
+      semVerMap.put(keys[i], i);
+    }
+  }
+
+  @Benchmark
+  public void hashCodes(final Blackhole blackhole) {
+    for (final SemVer key : keys) {
+      blackhole.consume(key.hashCode());
+    }
+  }
+
+  @Benchmark
+  public void mapGet(final Blackhole blackhole) {
+    for (final SemVer lookup : lookups) {
+      blackhole.consume(map.get(lookup));
+    }
+  }
+
+  @Benchmark
+  public Map<SemVer, Integer> mapPut() {
+    final Map<SemVer, Integer> copy = new HashMap<>(keys.length * 2);
+    for (int i = 0; i < keys.length; i++) {
+      copy.put(keys[i], i);
+    }
+    return copy;
+  }
+
+  @Benchmark
+  public void semVerMapGet(final Blackhole blackhole) {
+    for (final SemVer lookup : lookups) {
+      blackhole.consume(semVerMap.get(lookup));
+    }
+  }
+
+  @Benchmark
+  public void semVerMapGetInts(final Blackhole blackhole) {
+    for (final SemVer lookup : lookups) {
+      blackhole.consume(semVerMap.get(lookup.major(), lookup.minor(), lookup.patch()));
+    }
+  }
+
+  @Benchmark
+  public SemVerMap<Integer> semVerMapPut() {
+    final SemVerMap<Integer> copy = new SemVerMap<>(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      copy.put(keys[i], i);
+    }
+    return copy;
+  }
+}
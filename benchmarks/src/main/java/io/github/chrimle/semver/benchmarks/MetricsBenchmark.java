@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerInstrumentation;
+import io.github.chrimle.semver.SemVerMetrics;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing and formatting with {@link SemVerInstrumentation} disabled, reporting to a
+ * {@link SemVerMetrics} and emitting Flight Recorder events - which are only recorded if the JVM
+ * is started with {@code -XX:StartFlightRecording}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+  private static final int SIZE = 1024;
+
+  @Param({"disabled", "metrics", "flightRecorder"})
+  public String instrumentation;
+
+  private final LongAdder counter = new LongAdder();
+  private String[] strings;
+  private SemVer[] versions;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    versions = Fixtures.randomVersions(SIZE, 42L);
+    strings = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      strings[i] = versions[i].toCompleteVersionString();
+    }
+    switch (instrumentation) {
+      case "metrics" ->
+          SemVerInstrumentation.setMetrics(
+              new SemVerMetrics() {
+                @Override
+                public void parsed(final long nanos, final boolean valid) {
+                  counter.add(nanos);
+                }
+
+                @Override
+                public void formatted(final long nanos) {
+                  counter.add(nanos);
+                }
+              });
+      case "flightRecorder" -> SemVerInstrumentation.setFlightRecorderEnabled(true);
+      default -> {}
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    SemVerInstrumentation.setMetrics(null);
+    SemVerInstrumentation.setFlightRecorderEnabled(false);
+  }
+
+  @Benchmark
+  public SemVer parse() {
+    return SemVer.parse(strings[index++ & (SIZE - 1)]);
+  }
+
+  @Benchmark
+  public String format() {
+    return versions[index++ & (SIZE - 1)].toCompleteVersionString();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.PackedSemVer;
+import io.github.chrimle.semver.PackedSemVerArrays;
+import io.github.chrimle.semver.SemVer;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the vectorized {@link PackedSemVerArrays}, compared with scalar loops over the same
+ * {@code long[]} and with filtering a {@code SemVer[]}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class PackedArraysBenchmark {
+
+  private static final SemVer MINIMUM = new SemVer(5, 25, 100);
+  private static final SemVer MAXIMUM = new SemVer(8, 0, 0);
+
+  @Param({"5000000"})
+  public int size;
+
+  private SemVer[] versions;
+  private long[] packed;
+  private byte[] comparisons;
+  private long min;
+  private long max;
+
+  @Setup
+  public void setUp() {
+    if (!PackedSemVerArrays.isVectorized()) {
+      throw new IllegalStateException("The Vector API is not available");
+    }
+    versions = Fixtures.randomVersions(size, 42L);
+    packed = new long[size];
+    for (int i = 0; i < size; i++) {
+      packed[i] = versions[i].toPacked();
+    }
+    comparisons = new byte[size];
+    min = MINIMUM.toPacked();
+    max = MAXIMUM.toPacked() - 1;
+  }
+
+  @Benchmark
+  public int arrayCountInRange() {
+    int count = 0;
+    for (final SemVer version : versions) {
+      if (version.compareTo(MINIMUM) >= 0 && version.compareTo(MAXIMUM) < 0) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int scalarCountInRange() {
+    int count = 0;
+    for (final long value : packed) {
+      if (value >= min && value <= max) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int countInRange() {
+    return PackedSemVerArrays.countInRange(packed, min, max);
+  }
+
+  @Benchmark
+  public BitSet scalarInRange() {
+    final BitSet matches = new BitSet(packed.length);
+    for (int i = 0; i < packed.length; i++) {
+      if (packed[i] >= min && packed[i] <= max) matches.set(i);
+    }
+    return matches;
+  }
+
+  @Benchmark
+  public BitSet inRange() {
+    return PackedSemVerArrays.inRange(packed, min, max);
+  }
+
+  @Benchmark
+  public BitSet stableInRange() {
+    return PackedSemVerArrays.inRange(packed, Math.max(min, PackedSemVer.pack(1, 0, 0)), max);
+  }
+
+  @Benchmark
+  public byte[] scalarCompare() {
+    for (int i = 0; i < packed.length; i++) {
+      comparisons[i] = (byte) Long.compare(packed[i], min);
+    }
+    return comparisons;
+  }
+
+  @Benchmark
+  public byte[] compare() {
+    PackedSemVerArrays.compare(packed, min, comparisons);
+    return comparisons;
+  }
+}
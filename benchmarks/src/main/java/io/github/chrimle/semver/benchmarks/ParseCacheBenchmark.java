@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerParseCache;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing a few hundred distinct version strings repeatedly, with and without a {@link
+ * SemVerParseCache}, compared with caching in a {@link ConcurrentHashMap}. Every tenth string is
+ * malformed.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ParseCacheBenchmark {
+
+  private static final int SIZE = 10_000;
+
+  @Param({"300"})
+  public int distinct;
+
+  private String[] strings;
+  private byte[][] bytes;
+  private SemVerParseCache cache;
+  private ConcurrentHashMap<String, Object> map;
+
+  @Setup
+  public void setUp() {
+    final SemVer[] versions = Fixtures.randomVersions(distinct, 42L);
+    final SplittableRandom random = new SplittableRandom(42L);
+    strings = new String[SIZE];
+    bytes = new byte[SIZE][];
+    for (int i = 0; i < SIZE; i++) {
+      final int index = random.nextInt(distinct);
+      final String text = versions[index].toCompleteVersionString();
+      strings[i] = index % 10 == 0 ? text + ".x+" : text;
+      bytes[i] = strings[i].getBytes(StandardCharsets.US_ASCII);
+    }
+    cache = new SemVerParseCache();
+    map = new ConcurrentHashMap<>();
+  }
+
+  @Benchmark
+  public int uncached() {
+    int valid = 0;
+    for (final String string : strings) {
+      if (SemVer.tryParse(string) != null) valid++;
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int parseCache() {
+    int valid = 0;
+    for (final String string : strings) {
+      if (cache.tryParse(string) != null) valid++;
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int parseCacheBytes() {
+    int valid = 0;
+    for (final byte[] value : bytes) {
+      if (cache.tryParse(value, 0, value.length) != null) valid++;
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int concurrentHashMap() {
+    int valid = 0;
+    for (final String string : strings) {
+      // Malformed strings are cached as the map itself, since the map cannot hold null.
+      final Object cached =
+          map.computeIfAbsent(
+              string,
+              key -> {
+                final SemVer semVer = SemVer.tryParse(key);
+                return semVer == null ? map : semVer;
+              });
+      if (cached != map) valid++;
+    }
+    return valid;
+  }
+}
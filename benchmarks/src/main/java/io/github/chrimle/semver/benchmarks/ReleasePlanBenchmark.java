@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerReleasePlan;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks planning the release of a monorepo with {@link SemVerReleasePlan}, compared with
+ * incrementing each module with {@link SemVer#tryIncrementVersion(Change)}. The modules are split
+ * into a varying number of layers, where each module depends on modules of the previous layer.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReleasePlanBenchmark {
+
+  private static final int DEPENDENCIES = 3;
+
+  @Param({"8000"})
+  public int modules;
+
+  @Param({"2", "16"})
+  public int layers;
+
+  private SemVer[] versions;
+  private Change[] changes;
+  private int[][] dependencies;
+
+  @Setup
+  public void setUp() {
+    final SplittableRandom random = new SplittableRandom(42L);
+    versions = Fixtures.randomVersions(modules, 42L);
+    changes = new Change[modules];
+    dependencies = new int[modules][];
+    final int size = modules / layers;
+    for (int module = 0; module < modules; module++) {
+      changes[module] = random.nextInt(20) == 0 ? Change.values()[random.nextInt(3)] : null;
+      final int layer = module / size;
+      dependencies[module] = new int[layer == 0 ? 0 : DEPENDENCIES];
+      for (int i = 0; i < dependencies[module].length; i++) {
+        dependencies[module][i] = (layer - 1) * size + random.nextInt(size);
+      }
+    }
+  }
+
+  @Benchmark
+  public SemVerReleasePlan releasePlan() {
+    return SemVerReleasePlan.of(
+        versions, changes, dependencies, SemVerReleasePlan.Propagation.PATCH);
+  }
+
+  @Benchmark
+  public SemVerReleasePlan releasePlanWithoutDependencies() {
+    return SemVerReleasePlan.of(versions, changes);
+  }
+
+  @Benchmark
+  public SemVer[] tryIncrementVersion() {
+    // The modules are in topological order, so every dependency is planned before its dependents.
+    final Change[] planned = new Change[modules];
+    final SemVer[] next = new SemVer[modules];
+    for (int module = 0; module < modules; module++) {
+      Change change = changes[module];
+      for (final int dependency : dependencies[module]) {
+        if (change == null && planned[dependency] != null) change = Change.PATCH;
+      }
+      planned[module] = change;
+      final SemVer version = versions[module];
+      final SemVer incremented = change == null ? version : version.tryIncrementVersion(change);
+      next[module] = incremented == null ? version : incremented;
+    }
+    return next;
+  }
+}
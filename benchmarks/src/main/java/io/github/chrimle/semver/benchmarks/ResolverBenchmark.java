@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerRange;
+import io.github.chrimle.semver.SemVerResolver;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks resolving synthetic dependency graphs with {@link SemVerResolver}, split into a
+ * varying number of independent subgraphs.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolverBenchmark {
+
+  private static final int VERSIONS = 8;
+  private static final int DEPENDENCIES = 3;
+  /** The number of required packages, spread evenly over the subgraphs. */
+  private static final int ROOTS = 256;
+
+  @Param({"2000"})
+  public int packages;
+
+  @Param({"1", "64"})
+  public int subgraphs;
+
+  private SemVerResolver resolver;
+  private Map<String, SemVerRange> requirements;
+
+  @Setup
+  public void setUp() {
+    final SplittableRandom random = new SplittableRandom(42L);
+    final SemVerResolver.Builder builder = SemVerResolver.builder();
+    requirements = new HashMap<>();
+    final int size = packages / subgraphs;
+    for (int subgraph = 0; subgraph < subgraphs; subgraph++) {
+      for (int i = 0; i < size; i++) {
+        final String name = "p" + subgraph + "-" + i;
+        for (int version = 0; version < VERSIONS; version++) {
+          final SemVer semVer = new SemVer(1 + version / 4, version % 4, 0);
+          builder.addVersion(name, semVer);
+          // Only depends on earlier packages, mostly within the same major version.
+          for (int dependency = 0; i > 0 && dependency < DEPENDENCIES; dependency++) {
+            final String target = "p" + subgraph + "-" + random.nextInt(i);
+            final String range = random.nextInt(4) == 0 ? ">=1.1.0" : "^" + semVer.major();
+            builder.addDependency(name, semVer, target, SemVerRange.parse(range));
+          }
+        }
+      }
+      for (int root = Math.max(0, size - ROOTS / subgraphs); root < size; root++) {
+        requirements.put("p" + subgraph + "-" + root, SemVerRange.any());
+      }
+    }
+    resolver = builder.build();
+  }
+
+  @Benchmark
+  public SemVerResolver.Resolution resolve() {
+    return resolver.resolve(requirements);
+  }
+}
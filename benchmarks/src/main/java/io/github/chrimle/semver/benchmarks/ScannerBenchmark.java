@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerScanner;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks extracting the version of a product from {@code User-Agent} headers with {@link
+ * SemVerScanner}, compared with a regular expression over the decoded headers. Every fourth header
+ * is of another product. Run with {@code -prof gc} to compare allocation rates.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScannerBenchmark {
+
+  private static final int SIZE = 1_000;
+
+  private static final Pattern PATTERN =
+      Pattern.compile(
+          "(?<![!#$%&'*+.^_`|~0-9A-Za-z-])MyApp/"
+              + "(v?(?:0|[1-9]\\d*)(?:\\.(?:0|[1-9]\\d*)){0,2}"
+              + "(?:-[0-9A-Za-z.-]+)?(?:\\+[0-9A-Za-z.-]+)?)"
+              + "(?![0-9A-Za-z.+_-])");
+
+  private final SemVerScanner scanner = SemVerScanner.builder().addProduct("MyApp").build();
+
+  private byte[] bytes;
+  private int[] offsets;
+  private int[] lengths;
+  private long[] matches;
+  private ByteBuffer direct;
+
+  @Setup
+  public void setUp() {
+    final SemVer[] versions = Fixtures.randomVersions(SIZE, 42L);
+    final SplittableRandom random = new SplittableRandom(42L);
+    final StringBuilder headers = new StringBuilder();
+    offsets = new int[SIZE];
+    lengths = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      offsets[i] = headers.length();
+      headers
+          .append("Mozilla/5.0 (X11; Linux x86_64) ")
+          .append(random.nextInt(4) == 0 ? "OtherApp/" : "MyApp/")
+          .append(versions[i].toShortVersionString())
+          .append(" Safari/537.36");
+      lengths[i] = headers.length() - offsets[i];
+      headers.append("\r\n");
+    }
+    bytes = headers.toString().getBytes(StandardCharsets.US_ASCII);
+    matches = new long[SIZE];
+    direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+  }
+
+  @Benchmark
+  public int regex() {
+    int found = 0;
+    for (int i = 0; i < SIZE; i++) {
+      final String header = new String(bytes, offsets[i], lengths[i], StandardCharsets.US_ASCII);
+      final Matcher matcher = PATTERN.matcher(header);
+      if (matcher.find() && SemVer.tryParse(matcher.group(1)) != null) found++;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int findAll() {
+    return scanner.findAll(bytes, offsets, lengths, matches);
+  }
+
+  @Benchmark
+  public int findDirect() {
+    int found = 0;
+    for (int i = 0; i < SIZE; i++) {
+      direct.limit(offsets[i] + lengths[i]).position(offsets[i]);
+      if (scanner.find(direct) != SemVerScanner.NOT_FOUND) found++;
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int scan() {
+    int found = 0;
+    for (int i = 0; i < SIZE; i++) {
+      if (scanner.scan(bytes, offsets[i], lengths[i]) != null) found++;
+    }
+    return found;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.SemVer;
+import io.github.chrimle.semver.SemVerCardinalitySketch;
+import io.github.chrimle.semver.SemVerFrequencySketch;
+import io.github.chrimle.semver.SemVerQuantileSketch;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks adding versions to the {@link SemVerCardinalitySketch}, {@link SemVerFrequencySketch}
+ * and {@link SemVerQuantileSketch}, compared with counting distinct versions in a {@link HashSet}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SketchBenchmark {
+
+  private static final int SIZE = 10_000;
+
+  private SemVer[] versions;
+  private long[] packed;
+
+  @Setup
+  public void setUp() {
+    versions = Fixtures.randomVersions(SIZE, 42L);
+    packed = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      packed[i] = versions[i].toPacked();
+    }
+  }
+
+  @Benchmark
+  public long cardinalitySketch() {
+    final var sketch = new SemVerCardinalitySketch();
+    for (final long value : packed) {
+      sketch.addPacked(value);
+    }
+    return sketch.estimate();
+  }
+
+  @Benchmark
+  public int hashSet() {
+    final var set = new HashSet<SemVer>();
+    for (final SemVer version : versions) {
+      set.add(version);
+    }
+    return set.size();
+  }
+
+  @Benchmark
+  public long frequencySketch() {
+    final var sketch = new SemVerFrequencySketch();
+    for (final long value : packed) {
+      sketch.addPacked(value);
+    }
+    return sketch.estimatePacked(packed[0]);
+  }
+
+  @Benchmark
+  public long quantileSketch() {
+    final var sketch = new SemVerQuantileSketch();
+    for (final long value : packed) {
+      sketch.addPacked(value);
+    }
+    return sketch.quantilePacked(0.5);
+  }
+}
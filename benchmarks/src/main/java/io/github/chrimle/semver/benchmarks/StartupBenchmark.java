@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver.benchmarks;
+
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the <em>first</em> use of {@link SemVer} in a fresh JVM, including class loading and
+ * initialization, as experienced by short-lived processes such as CLI tools. Every fork measures a
+ * single invocation. Run with {@code -prof cl} to also count the classes loaded. Results are built
+ * without string concatenation, which would bootstrap {@code StringConcatFactory} as well.
+ *
+ * <p>{@code recordBaseline} is the first {@code hashCode} and {@code toString} of an ordinary
+ * record, which bootstraps {@code java.lang.runtime.ObjectMethods} - as {@code SemVer} did before
+ * implementing these methods explicitly.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+  /** A record with the same components as {@link SemVer}. */
+  record Version(int major, int minor, int patch, String preRelease, String buildMetadata) {}
+
+  @Benchmark
+  public String validInput() {
+    final SemVer version = new SemVer(1, 2, 3);
+    final SemVer next = version.incrementVersion(Change.MINOR);
+    final SemVer parsed = SemVer.parse("v1.3.0");
+    if (version.compareTo(next) >= 0 || !next.equals(parsed)) throw new AssertionError();
+    return new StringBuilder(next.toCompleteVersionString())
+        .append(next.hashCode())
+        .append(next)
+        .toString();
+  }
+
+  @Benchmark
+  public String invalidInput() {
+    try {
+      return new SemVer(-1, 0, 0).toCompleteVersionString();
+    } catch (final IllegalArgumentException exception) {
+      return exception.getMessage();
+    }
+  }
+
+  @Benchmark
+  public String recordBaseline() {
+    final Version version = new Version(1, 3, 0, "", "");
+    return new StringBuilder().append(version.hashCode()).append(version).toString();
+  }
+}
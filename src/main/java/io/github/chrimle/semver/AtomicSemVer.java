@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A {@link SemVer} which may be updated atomically, e.g. for assigning release versions from
+ * concurrent pipelines.
+ *
+ * <p>The version is stored in its {@linkplain PackedSemVer packed} representation in a single
+ * {@code volatile long}, and every update is a lock-free <em>compare-and-set</em> loop. Only
+ * {@linkplain SemVer#isPackable() packable} versions can be held, which means that incrementing a
+ * version equal to {@value PackedSemVer#MAX_VERSION} throws an {@link ArithmeticException} - just
+ * like {@link SemVer#incrementVersion(Change)} does for {@value Integer#MAX_VALUE}.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * AtomicSemVer current = new AtomicSemVer(SemVer.parse("1.4.2"));
+ *
+ * // Each concurrent caller is assigned a distinct version
+ * SemVer assigned = current.incrementAndGet(Change.PATCH);
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class AtomicSemVer {
+
+  private static final VarHandle PACKED;
+
+  static {
+    try {
+      PACKED = MethodHandles.lookup().findVarHandle(AtomicSemVer.class, "packed", long.class);
+    } catch (final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  @SuppressWarnings("unused") // Accessed through the `PACKED` VarHandle.
+  private volatile long packed;
+
+  /**
+   * Creates an {@link AtomicSemVer} with the initial version {@code 0.0.0}.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public AtomicSemVer() {
+    this.packed = PackedSemVer.MIN_PACKED;
+  }
+
+  /**
+   * Creates an {@link AtomicSemVer} with the given initial {@code version}.
+   *
+   * @param version initial.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public AtomicSemVer(final SemVer version) throws ArithmeticException, IllegalArgumentException {
+    this.packed = packedOf(version, "version");
+  }
+
+  /**
+   * Returns the current version.
+   *
+   * @return the current {@code SemVer}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> !null")
+  public SemVer get() {
+    return SemVer.fromPacked(getPacked());
+  }
+
+  /**
+   * Returns the {@linkplain PackedSemVer packed} representation of the current version, without
+   * creating a {@link SemVer}.
+   *
+   * @return the current packed version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public long getPacked() {
+    return (long) PACKED.getVolatile(this);
+  }
+
+  /**
+   * Sets the current version, unconditionally.
+   *
+   * @param version to set.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void set(final SemVer version) throws ArithmeticException, IllegalArgumentException {
+    PACKED.setVolatile(this, packedOf(version, "version"));
+  }
+
+  /**
+   * Sets the current version to {@code newVersion}, if the current version is equal to {@code
+   * expectedVersion}.
+   *
+   * @param expectedVersion which the current version must be equal to.
+   * @param newVersion to set.
+   * @return whether the current version was set.
+   * @throws IllegalArgumentException if {@code expectedVersion} or {@code newVersion} is {@code
+   *     null}.
+   * @throws ArithmeticException if {@code newVersion} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public boolean compareAndSet(final SemVer expectedVersion, final SemVer newVersion)
+      throws ArithmeticException, IllegalArgumentException {
+    if (expectedVersion == null) throw illegalArgumentOf("expectedVersion", MUST_NOT_BE_NULL);
+    final long update = packedOf(newVersion, "newVersion");
+    // A version which cannot be packed can never be equal to the current version.
+    if (!expectedVersion.isPackable()) return false;
+    return PACKED.compareAndSet(this, expectedVersion.toPacked(), update);
+  }
+
+  /**
+   * Atomically increments the current version, and returns the <em>incremented</em> version.
+   *
+   * @param change for determining the incremented version.
+   * @return the incremented {@code SemVer}.
+   * @throws IllegalArgumentException if {@code change} is {@code null}.
+   * @throws ArithmeticException if the version to increment is equal to {@value
+   *     PackedSemVer#MAX_VERSION}, in which case the current version is not modified.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  public SemVer incrementAndGet(final Change change)
+      throws ArithmeticException, IllegalArgumentException {
+    long current;
+    long next;
+    do {
+      current = getPacked();
+      next = PackedSemVer.incrementVersion(current, change);
+    } while (!PACKED.weakCompareAndSet(this, current, next));
+    return SemVer.fromPacked(next);
+  }
+
+  /**
+   * Atomically increments the current version, and returns the <em>previous</em> version.
+   *
+   * @param change for determining the incremented version.
+   * @return the previous {@code SemVer}.
+   * @throws IllegalArgumentException if {@code change} is {@code null}.
+   * @throws ArithmeticException if the version to increment is equal to {@value
+   *     PackedSemVer#MAX_VERSION}, in which case the current version is not modified.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  public SemVer getAndIncrement(final Change change)
+      throws ArithmeticException, IllegalArgumentException {
+    long current;
+    long next;
+    do {
+      current = getPacked();
+      next = PackedSemVer.incrementVersion(current, change);
+    } while (!PACKED.weakCompareAndSet(this, current, next));
+    return SemVer.fromPacked(current);
+  }
+
+  /**
+   * Atomically advances the current version to {@code candidate}, if {@code candidate} is greater.
+   * Versions only move forward, so concurrent callers reporting observed versions in any order
+   * leave the greatest one.
+   *
+   * @param candidate version.
+   * @return the resulting current version, i.e. the greater of the previous version and {@code
+   *     candidate}.
+   * @throws IllegalArgumentException if {@code candidate} is {@code null}.
+   * @throws ArithmeticException if {@code candidate} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  public SemVer advanceTo(final SemVer candidate)
+      throws ArithmeticException, IllegalArgumentException {
+    final long update = packedOf(candidate, "candidate");
+    long current;
+    do {
+      current = getPacked();
+      if (current >= update) return SemVer.fromPacked(current);
+    } while (!PACKED.weakCompareAndSet(this, current, update));
+    return candidate;
+  }
+
+  /**
+   * Returns the {@code String} representation of the current version.
+   *
+   * @return the current version as a {@code String}.
+   */
+  @Override
+  public String toString() {
+    return get().toString();
+  }
+
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  private static long packedOf(final SemVer version, final String name) {
+    if (version == null) throw illegalArgumentOf(name, MUST_NOT_BE_NULL);
+    return version.toPacked();
+  }
+}
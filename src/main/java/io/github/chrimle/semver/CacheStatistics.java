@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A snapshot of the cumulative counters of a cache, such as the one behind {@link SemVer#of(int,
+ * int, int)}. Counters are never reset, so the activity between two snapshots is found by {@link
+ * #minus(CacheStatistics)}.
+ *
+ * @param hits number of requests answered by a cached instance. <em><strong>MUST
+ *     NOT</strong></em> be negative.
+ * @param misses number of requests which created a new instance. <em><strong>MUST
+ *     NOT</strong></em> be negative.
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public record CacheStatistics(long hits, long misses) {
+
+  /**
+   * Constructs a <em>valid</em> {@link CacheStatistics} instance.
+   *
+   * @param hits number of requests answered by a cached instance.
+   * @param misses number of requests which created a new instance.
+   * @throws IllegalArgumentException if {@link #hits} or {@link #misses} is less than {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public CacheStatistics {
+    if (hits < 0) throw illegalArgumentOf("hits", MUST_BE_AT_LEAST, "0");
+    if (misses < 0) throw illegalArgumentOf("misses", MUST_BE_AT_LEAST, "0");
+  }
+
+  /**
+   * Returns the total number of requests.
+   *
+   * @return the sum of {@link #hits} and {@link #misses}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long requests() {
+    return hits + misses;
+  }
+
+  /**
+   * Returns the ratio of requests which were {@link #hits}.
+   *
+   * @return the hit rate between {@code 0.0} and {@code 1.0}, or {@code 1.0} if there were no
+   *     requests.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public double hitRate() {
+    final long requests = requests();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  /**
+   * Returns the activity since an {@code earlier} snapshot of the same cache.
+   *
+   * @param earlier snapshot.
+   * @return the difference of the counters.
+   * @throws IllegalArgumentException if {@code earlier} is {@code null}, or has greater counters.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public CacheStatistics minus(final CacheStatistics earlier) throws IllegalArgumentException {
+    if (earlier == null) throw illegalArgumentOf("earlier", MUST_NOT_BE_NULL);
+    return new CacheStatistics(hits - earlier.hits, misses - earlier.misses);
+  }
+}
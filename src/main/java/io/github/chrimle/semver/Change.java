@@ -16,7 +16,11 @@
 
 package io.github.chrimle.semver;
 
+import static io.github.chrimle.semver.SemVerExceptions.mustNotBeNull;
+
 import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The <em>type</em> of change in <a href="https://semver.org/">Semantic Versioning</a>.
@@ -70,5 +74,90 @@ public enum Change {
    * @since 1.0.0
    */
   @API(status = API.Status.STABLE, since = "1.2.0")
-  PATCH
+  PATCH;
+
+  /**
+   * Returns the most significant {@link Change} from {@code from} to {@code to}, <em>leniently</em>
+   * - regardless of whether {@code to} is the <em>next</em> version of {@code from}. For example,
+   * both {@code 1.2.3 -> 1.3.0} and {@code 1.2.3 -> 1.7.1} are {@link #MINOR}, and {@code 1.2.3 ->
+   * 3.0.0} is {@link #MAJOR}.
+   *
+   * <p>A <em>pre-release</em> followed by its release is the change which the release introduces,
+   * e.g. {@code 2.0.0-rc.1 -> 2.0.0} is {@link #MAJOR}. Build metadata is ignored.
+   *
+   * @param from the earlier version.
+   * @param to the later version.
+   * @return the {@code Change}, or {@code null} if {@code to} does not have a higher precedence
+   *     than {@code from}, or if both are pre-releases of the same version.
+   * @throws IllegalArgumentException if {@code from} or {@code to} is {@code null}.
+   * @see #strictlyBetween(SemVer, SemVer)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static @Nullable Change between(final SemVer from, final SemVer to)
+      throws IllegalArgumentException {
+    if (from == null) throw mustNotBeNull("from");
+    if (to == null) throw mustNotBeNull("to");
+    if (to.compareTo(from) <= 0) return null;
+    if (to.major() != from.major()) return MAJOR;
+    if (to.minor() != from.minor()) return MINOR;
+    if (to.patch() != from.patch()) return PATCH;
+    // Only a pre-release and a later pre-release or release of the same version remain.
+    if (to.isPreRelease()) return null;
+    if (from.minor() == 0 && from.patch() == 0) return MAJOR;
+    return from.patch() == 0 ? MINOR : PATCH;
+  }
+
+  /**
+   * Returns the {@link Change} from {@code from} to {@code to}, <em>strictly</em> - only if {@code
+   * to} is the <em>next</em> version of {@code from}, i.e. the version returned by {@link
+   * SemVer#incrementVersion(Change) from.incrementVersion(change)}, or a pre-release of it. If
+   * several changes result in {@code to}, the most significant one is returned. For example,
+   * {@code 1.2.3 -> 1.3.0} and {@code 1.2.3 -> 1.3.0-rc.1} are {@link #MINOR}, but {@code 1.2.3 ->
+   * 1.4.0} is not a valid next version.
+   *
+   * <p>Build metadata is ignored.
+   *
+   * @param from the earlier version.
+   * @param to the later version.
+   * @return the {@code Change}, or {@code null} if {@code to} is not a next version of {@code
+   *     from}.
+   * @throws IllegalArgumentException if {@code from} or {@code to} is {@code null}.
+   * @see #between(SemVer, SemVer)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static @Nullable Change strictlyBetween(final SemVer from, final SemVer to)
+      throws IllegalArgumentException {
+    if (from == null) throw mustNotBeNull("from");
+    if (to == null) throw mustNotBeNull("to");
+    final int major = from.major();
+    final int minor = from.minor();
+    final int patch = from.patch();
+    final boolean sameVersion = to.major() == major && to.minor() == minor && to.patch() == patch;
+    // Only the release of a pre-release is next, rather than later pre-releases of it.
+    if (sameVersion && (to.isPreRelease() || !from.isPreRelease())) return null;
+    // Mirrors `SemVer.incrementVersion`, without creating the incremented versions.
+    if (from.isPreRelease() && minor == 0 && patch == 0) {
+      if (sameVersion) return MAJOR;
+    } else if (major != Integer.MAX_VALUE && isVersion(to, major + 1, 0, 0)) {
+      return MAJOR;
+    }
+    if (from.isPreRelease() && patch == 0) {
+      if (sameVersion) return MINOR;
+    } else if (minor != Integer.MAX_VALUE && isVersion(to, major, minor + 1, 0)) {
+      return MINOR;
+    }
+    if (from.isPreRelease()) return sameVersion ? PATCH : null;
+    return patch != Integer.MAX_VALUE && isVersion(to, major, minor, patch + 1) ? PATCH : null;
+  }
+
+  private static boolean isVersion(
+      final SemVer version, final int major, final int minor, final int patch) {
+    return version.major() == major && version.minor() == minor && version.patch() == patch;
+  }
 }
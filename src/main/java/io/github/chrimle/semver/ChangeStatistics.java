@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accumulates the {@link Change}s between consecutive versions of a version history, in a single
+ * pass and without creating any objects per version.
+ *
+ * <p>Each pair of consecutive versions is counted by its {@linkplain Change#between(SemVer,
+ * SemVer) lenient} {@code Change}. Pairs where the later version is not the {@linkplain
+ * Change#strictlyBetween(SemVer, SemVer) strictly} next version of the earlier one - including
+ * skipped, repeated and decreasing versions - are recorded as <em>invalid jumps</em>, by the
+ * position of the later version.
+ *
+ * <p>Like {@link java.util.LongSummaryStatistics}, this class is <strong>not</strong> thread-safe,
+ * but supports parallel <em>ordered</em> streams by {@linkplain #combine(ChangeStatistics)
+ * combining} the statistics of consecutive parts of the history.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * ChangeStatistics statistics =
+ *     history.stream()
+ *         .collect(ChangeStatistics::new, ChangeStatistics::accept, ChangeStatistics::combine);
+ * long breakingReleases = statistics.count(Change.MAJOR);
+ * long[] invalidJumps = statistics.invalidJumps();
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class ChangeStatistics implements Consumer<SemVer> {
+
+  private static final Change[] CHANGES = Change.values();
+  private static final long NOT_PACKED = -1L;
+
+  private final long[] changeCounts = new long[CHANGES.length];
+  private long[] invalidJumps = new long[8];
+  private int invalidJumpCount;
+  private long count;
+
+  /** The first and last versions, where the {@code SemVer} is only created when needed. */
+  private @Nullable SemVer first;
+
+  private long firstPacked = NOT_PACKED;
+  private @Nullable SemVer last;
+  private long lastPacked = NOT_PACKED;
+
+  /**
+   * Creates empty {@link ChangeStatistics}.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public ChangeStatistics() {}
+
+  /**
+   * Accepts the next {@code version} of the history.
+   *
+   * @param version next.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void accept(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    final long packed = version.isPackable() ? version.toPacked() : NOT_PACKED;
+    if (count > 0) {
+      if (packed != NOT_PACKED && lastPacked != NOT_PACKED) {
+        record(lastPacked, packed);
+      } else {
+        record(last(), version);
+      }
+    }
+    if (count++ == 0) {
+      first = version;
+      firstPacked = packed;
+    }
+    last = version;
+    lastPacked = packed;
+  }
+
+  /**
+   * Accepts the next {@linkplain PackedSemVer packed} version of the history.
+   *
+   * @param packed version.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void acceptPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    if (count > 0) {
+      if (lastPacked != NOT_PACKED) {
+        record(lastPacked, packed);
+      } else {
+        record(last(), SemVer.fromPacked(packed));
+      }
+    }
+    if (count++ == 0) {
+      first = null;
+      firstPacked = packed;
+    }
+    last = null;
+    lastPacked = packed;
+  }
+
+  /**
+   * Combines the {@code other} statistics, of the versions directly following the versions of
+   * <em>this</em> statistics, into <em>this</em>.
+   *
+   * @param other statistics of the following versions.
+   * @throws IllegalArgumentException if {@code other} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void combine(final ChangeStatistics other) throws IllegalArgumentException {
+    if (other == null) throw illegalArgumentOf("other", MUST_NOT_BE_NULL);
+    if (other.count == 0) return;
+    if (count > 0) {
+      // The pair of the last version of `this` and the first version of `other`.
+      if (lastPacked != NOT_PACKED && other.firstPacked != NOT_PACKED) {
+        record(lastPacked, other.firstPacked);
+      } else {
+        record(last(), other.first());
+      }
+    } else {
+      first = other.first;
+      firstPacked = other.firstPacked;
+    }
+    for (int i = 0; i < changeCounts.length; i++) {
+      changeCounts[i] += other.changeCounts[i];
+    }
+    for (int i = 0; i < other.invalidJumpCount; i++) {
+      addInvalidJump(count + other.invalidJumps[i]);
+    }
+    count += other.count;
+    last = other.last;
+    lastPacked = other.lastPacked;
+  }
+
+  /**
+   * Returns the number of accepted versions.
+   *
+   * @return the number of versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Returns the number of consecutive pairs of versions, which were leniently classified as the
+   * given {@code change}.
+   *
+   * @param change to count.
+   * @return the number of pairs.
+   * @throws IllegalArgumentException if {@code change} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public long count(final Change change) throws IllegalArgumentException {
+    if (change == null) throw illegalArgumentOf("change", MUST_NOT_BE_NULL);
+    return changeCounts[change.ordinal()];
+  }
+
+  /**
+   * Returns the number of invalid jumps.
+   *
+   * @return the number of consecutive pairs of versions which are not strictly next versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int invalidJumpCount() {
+    return invalidJumpCount;
+  }
+
+  /**
+   * Returns the positions of the invalid jumps, in ascending order. Each position is the index of
+   * the <em>later</em> version of the pair, counting from {@code 0}.
+   *
+   * @return a new array of positions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = " -> new", pure = true)
+  public long[] invalidJumps() {
+    return Arrays.copyOf(invalidJumps, invalidJumpCount);
+  }
+
+  @Override
+  public String toString() {
+    return "%s{count=%d, major=%d, minor=%d, patch=%d, invalidJumps=%d}"
+        .formatted(
+            getClass().getSimpleName(),
+            count,
+            changeCounts[Change.MAJOR.ordinal()],
+            changeCounts[Change.MINOR.ordinal()],
+            changeCounts[Change.PATCH.ordinal()],
+            invalidJumpCount);
+  }
+
+  /** Records the pair of the last version, at {@code count - 1}, and the next version. */
+  private void record(final long from, final long to) {
+    record(PackedSemVer.changeBetween(from, to), PackedSemVer.strictChangeBetween(from, to));
+  }
+
+  private void record(final SemVer from, final SemVer to) {
+    record(Change.between(from, to), Change.strictlyBetween(from, to));
+  }
+
+  private void record(final @Nullable Change change, final @Nullable Change strictChange) {
+    if (change != null) changeCounts[change.ordinal()]++;
+    if (strictChange == null) addInvalidJump(count);
+  }
+
+  private void addInvalidJump(final long index) {
+    if (invalidJumpCount == invalidJumps.length) {
+      invalidJumps = Arrays.copyOf(invalidJumps, invalidJumpCount * 2);
+    }
+    invalidJumps[invalidJumpCount++] = index;
+  }
+
+  @SuppressWarnings("DataFlowIssue")
+  private SemVer first() {
+    if (first == null) first = SemVer.fromPacked(firstPacked);
+    return first;
+  }
+
+  @SuppressWarnings("DataFlowIssue")
+  private SemVer last() {
+    if (last == null) last = SemVer.fromPacked(lastPacked);
+    return last;
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Static utilities for the <em>packed</em> representation of a {@link SemVer}, where the {@code
+ * major}, {@code minor} and {@code patch} versions are stored in a single {@code long}.
+ *
+ * <p>Each version occupies {@value #BITS_PER_VERSION} bits, laid out as {@code
+ * [0][major][minor][patch]} from the most significant bit. The sign bit is always {@code 0}, which
+ * means that both the <em>signed</em> and <em>unsigned</em> natural order of packed values is
+ * identical to {@link SemVer#compareTo(SemVer)}, and two packed values can be compared with a
+ * single {@link Long#compare(long, long)}.
+ *
+ * <p>The packing is <em>lossless</em> for every version up to, and including, {@value
+ * #MAX_VERSION}. Versions greater than that cannot be packed.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class PackedSemVer {
+
+  /**
+   * The number of bits occupied by each of {@code major}, {@code minor} and {@code patch}.
+   *
+   * @since 1.6.0
+   */
+  public static final int BITS_PER_VERSION = 21;
+
+  /**
+   * The greatest {@code major}, {@code minor} or {@code patch} version which can be packed.
+   *
+   * @since 1.6.0
+   */
+  public static final int MAX_VERSION = (1 << BITS_PER_VERSION) - 1;
+
+  /**
+   * The packed representation of {@code 0.0.0}, which is the least packed value.
+   *
+   * @since 1.6.0
+   */
+  public static final long MIN_PACKED = 0L;
+
+  /**
+   * The packed representation of {@code MAX_VERSION.MAX_VERSION.MAX_VERSION}, which is the
+   * greatest packed value.
+   *
+   * @since 1.6.0
+   */
+  public static final long MAX_PACKED = Long.MAX_VALUE;
+
+  /**
+   * Returned by the {@code try}-methods instead of a packed value when the operation fails. Since
+   * it is negative, it is never a valid packed value.
+   *
+   * @since 1.6.0
+   */
+  public static final long INVALID = -1L;
+
+  /** The least packed value with a {@code major} version of {@code 1}. */
+  static final long MIN_STABLE_PACKED = 1L << (2 * BITS_PER_VERSION);
+
+  private static final int MAJOR_SHIFT = 2 * BITS_PER_VERSION;
+  private static final int MINOR_SHIFT = BITS_PER_VERSION;
+  private static final long MAJOR_MASK = (long) MAX_VERSION << MAJOR_SHIFT;
+  private static final long PATCH_MASK = MAX_VERSION;
+  private static final long PACKED_MINOR_MASK = (1L << MAJOR_SHIFT) - 1;
+
+  private static final String PACK_OVERFLOW_MESSAGE =
+      "`SemVer` cannot be packed with a version greater than `MAX_VERSION` (" + MAX_VERSION + ")";
+  private static final String MAJOR_OVERFLOW_MESSAGE = overflowMessage("major");
+  private static final String MINOR_OVERFLOW_MESSAGE = overflowMessage("minor");
+  private static final String PATCH_OVERFLOW_MESSAGE = overflowMessage("patch");
+
+  private PackedSemVer() {}
+
+  /**
+   * Packs the given versions into a single {@code long}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return the packed representation.
+   * @throws IllegalArgumentException if {@code major}, {@code minor} or {@code patch} is less than
+   *     {@code 0}.
+   * @throws ArithmeticException if {@code major}, {@code minor} or {@code patch} is greater than
+   *     {@value #MAX_VERSION}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static long pack(final int major, final int minor, final int patch)
+      throws ArithmeticException, IllegalArgumentException {
+    if ((major | minor | patch) < 0) {
+      if (major < 0) throw illegalArgumentOf("major", MUST_BE_AT_LEAST, "0");
+      if (minor < 0) throw illegalArgumentOf("minor", MUST_BE_AT_LEAST, "0");
+      throw illegalArgumentOf("patch", MUST_BE_AT_LEAST, "0");
+    }
+    if (!isPackable(major, minor, patch)) throw new ArithmeticException(PACK_OVERFLOW_MESSAGE);
+    return packUnchecked(major, minor, patch);
+  }
+
+  /**
+   * Packs the given versions into a single {@code long} like {@link #pack(int, int, int)}, but
+   * returns {@link #INVALID} instead of throwing if the versions cannot be packed.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return the packed value, or {@link #INVALID} if any version is negative or greater than
+   *     {@value #MAX_VERSION}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static long tryPack(final int major, final int minor, final int patch) {
+    return isPackable(major, minor, patch) ? packUnchecked(major, minor, patch) : INVALID;
+  }
+
+  /**
+   * Returns whether the given versions can be {@linkplain #pack(int, int, int) packed}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return whether all versions are in the range {@code [0, MAX_VERSION]}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static boolean isPackable(final int major, final int minor, final int patch) {
+    return ((major | minor | patch) & ~MAX_VERSION) == 0;
+  }
+
+  /**
+   * Returns whether the given {@code long} is a valid packed value, i.e. it is not negative.
+   *
+   * @param packed value.
+   * @return whether {@code packed} can be unpacked.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static boolean isValid(final long packed) {
+    return packed >= 0;
+  }
+
+  /**
+   * Returns the {@code major} version of a packed value.
+   *
+   * @param packed value.
+   * @return the {@code major} version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static int major(final long packed) {
+    return (int) (packed >>> MAJOR_SHIFT) & MAX_VERSION;
+  }
+
+  /**
+   * Returns the {@code minor} version of a packed value.
+   *
+   * @param packed value.
+   * @return the {@code minor} version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static int minor(final long packed) {
+    return (int) (packed >>> MINOR_SHIFT) & MAX_VERSION;
+  }
+
+  /**
+   * Returns the {@code patch} version of a packed value.
+   *
+   * @param packed value.
+   * @return the {@code patch} version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static int patch(final long packed) {
+    return (int) packed & MAX_VERSION;
+  }
+
+  /**
+   * Compares two packed values. Equivalent to {@link SemVer#compareTo(SemVer)} of the unpacked
+   * {@code SemVer}s.
+   *
+   * @param left packed value.
+   * @param right packed value.
+   * @return a negative integer, zero, or a positive integer as {@code left} is less than, equal
+   *     to, or greater than {@code right}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static int compare(final long left, final long right) {
+    return Long.compare(left, right);
+  }
+
+  /**
+   * Returns whether the packed value is considered <em>stable</em>. Equivalent to {@link
+   * SemVer#isStable()}.
+   *
+   * @param packed value.
+   * @return whether the {@code major} version is not {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static boolean isStable(final long packed) {
+    return packed >= MIN_STABLE_PACKED;
+  }
+
+  /**
+   * Increments the corresponding version of a packed value. Equivalent to {@link
+   * SemVer#incrementVersion(Change)} of the unpacked {@code SemVer}.
+   *
+   * @param packed value.
+   * @param change for determining the new packed value.
+   * @return the incremented packed value.
+   * @throws IllegalArgumentException if {@code packed} is negative, or {@code change} is {@code
+   *     null}.
+   * @throws ArithmeticException if the version to increment is equal to {@value #MAX_VERSION},
+   *     since the incremented version could not be packed.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "_, null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static long incrementVersion(final long packed, final Change change)
+      throws ArithmeticException, IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    if (change == null) throw illegalArgumentOf("change", MUST_NOT_BE_NULL);
+    final long next = next(packed, change);
+    if (next == INVALID) {
+      throw new ArithmeticException(
+          switch (change) {
+            case MAJOR -> MAJOR_OVERFLOW_MESSAGE;
+            case MINOR -> MINOR_OVERFLOW_MESSAGE;
+            case PATCH -> PATCH_OVERFLOW_MESSAGE;
+          });
+    }
+    return next;
+  }
+
+  /**
+   * Increments the corresponding version of a packed value like {@link #incrementVersion(long,
+   * Change)}, but returns {@link #INVALID} instead of throwing if the version to increment is
+   * equal to {@value #MAX_VERSION}.
+   *
+   * @param packed value.
+   * @param change for determining the new packed value.
+   * @return the incremented packed value, or {@link #INVALID} if it could not be packed.
+   * @throws IllegalArgumentException if {@code packed} is negative, or {@code change} is {@code
+   *     null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "_, null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static long tryIncrementVersion(final long packed, final Change change)
+      throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    if (change == null) throw illegalArgumentOf("change", MUST_NOT_BE_NULL);
+    return next(packed, change);
+  }
+
+  /**
+   * Returns the most significant {@link Change} between two packed values, leniently. Equivalent
+   * to {@link Change#between(SemVer, SemVer)} of the unpacked {@code SemVer}s.
+   *
+   * @param from the earlier packed value.
+   * @param to the later packed value.
+   * @return the {@code Change}, or {@code null} if {@code to} is not greater than {@code from}.
+   * @throws IllegalArgumentException if {@code from} or {@code to} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static @Nullable Change changeBetween(final long from, final long to)
+      throws IllegalArgumentException {
+    if (from < 0) throw illegalArgumentOf("from", MUST_BE_AT_LEAST, "0");
+    if (to < 0) throw illegalArgumentOf("to", MUST_BE_AT_LEAST, "0");
+    if (to <= from) return null;
+    // The highest differing bit is in the most significant differing version.
+    final long difference = from ^ to;
+    if (difference > PACKED_MINOR_MASK) return Change.MAJOR;
+    return difference > PATCH_MASK ? Change.MINOR : Change.PATCH;
+  }
+
+  /**
+   * Returns the {@link Change} between two packed values, strictly. Equivalent to {@link
+   * Change#strictlyBetween(SemVer, SemVer)} of the unpacked {@code SemVer}s.
+   *
+   * @param from the earlier packed value.
+   * @param to the later packed value.
+   * @return the {@code Change}, or {@code null} if {@code to} is not the next version of {@code
+   *     from}.
+   * @throws IllegalArgumentException if {@code from} or {@code to} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static @Nullable Change strictChangeBetween(final long from, final long to)
+      throws IllegalArgumentException {
+    if (from < 0) throw illegalArgumentOf("from", MUST_BE_AT_LEAST, "0");
+    if (to < 0) throw illegalArgumentOf("to", MUST_BE_AT_LEAST, "0");
+    // An incremented `MAX_VERSION` carries into the next version, which is then also incremented.
+    if (to == (from & MAJOR_MASK) + (1L << MAJOR_SHIFT)) return Change.MAJOR;
+    if (to == (from & ~PATCH_MASK) + (1L << MINOR_SHIFT)) return Change.MINOR;
+    return to == from + 1 ? Change.PATCH : null;
+  }
+
+  /** Returns the incremented packed value, or {@link #INVALID} if it would overflow. */
+  private static long next(final long packed, final Change change) {
+    return switch (change) {
+      case MAJOR ->
+          major(packed) == MAX_VERSION ? INVALID : (packed & MAJOR_MASK) + (1L << MAJOR_SHIFT);
+      case MINOR ->
+          minor(packed) == MAX_VERSION ? INVALID : (packed & ~PATCH_MASK) + (1L << MINOR_SHIFT);
+      case PATCH -> patch(packed) == MAX_VERSION ? INVALID : packed + 1;
+    };
+  }
+
+  private static String overflowMessage(final String version) {
+    return "The next `SemVer` cannot be packed with a `"
+        + version
+        + "` greater than `MAX_VERSION` ("
+        + MAX_VERSION
+        + ")";
+  }
+
+  static long packUnchecked(final int major, final int minor, final int patch) {
+    return ((long) major << MAJOR_SHIFT) | ((long) minor << MINOR_SHIFT) | patch;
+  }
+}
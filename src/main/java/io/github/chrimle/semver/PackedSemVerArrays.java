@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.BitSet;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Static batch operations over arrays of {@linkplain PackedSemVer packed} versions, such as
+ * comparing every version against a pivot or selecting the versions within a range.
+ *
+ * <p>When the {@code jdk.incubator.vector} module is resolved, e.g. by passing {@code
+ * --add-modules jdk.incubator.vector} to the JVM, the operations are implemented with the Vector
+ * API and compare several versions per instruction. Otherwise, equivalent scalar loops are used.
+ * The results are identical either way, and match {@link SemVer#compareTo(SemVer)} and {@link
+ * SemVer#isStable()} of the unpacked versions.
+ *
+ * <p>The arrays are expected to only contain valid packed values. A negative value, which is not a
+ * valid packed value, is less than every valid packed value when compared, and is never in any
+ * range.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * long[] devices = ...;
+ * // The stable versions of `>=1.4.0 <2.0.0`
+ * BitSet targeted = PackedSemVerArrays.inRange(
+ *     devices, PackedSemVer.pack(1, 4, 0), PackedSemVer.pack(2, 0, 0) - 1);
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class PackedSemVerArrays {
+
+  private PackedSemVerArrays() {}
+
+  /**
+   * Returns whether the operations are implemented with the Vector API, which requires the {@code
+   * jdk.incubator.vector} module to be resolved.
+   *
+   * @return whether the operations are vectorized.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static boolean isVectorized() {
+    return Vectorization.ENABLED;
+  }
+
+  /**
+   * Compares every packed version against the {@code pivot}, storing {@code -1}, {@code 0} or
+   * {@code 1} at the same index of {@code result} if the version is less than, equal to or
+   * greater than the {@code pivot} respectively.
+   *
+   * @param packed versions to compare.
+   * @param pivot packed version to compare against.
+   * @param result to store the comparisons in, at least as long as {@code packed}.
+   * @throws IllegalArgumentException if {@code packed} or {@code result} is {@code null}, or
+   *     {@code pivot} is negative.
+   * @throws IndexOutOfBoundsException if {@code result} is shorter than {@code packed}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail; _, _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void compare(final long[] packed, final long pivot, final byte[] result)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    if (pivot < 0) throw illegalArgumentOf("pivot", MUST_BE_AT_LEAST, "0");
+    if (result == null) throw illegalArgumentOf("result", MUST_NOT_BE_NULL);
+    Objects.checkFromIndexSize(0, packed.length, result.length);
+    if (Vectorization.ENABLED) {
+      PackedVectorKernel.compare(packed, pivot, result);
+      return;
+    }
+    for (int i = 0; i < packed.length; i++) {
+      result[i] = (byte) Long.compare(packed[i], pivot);
+    }
+  }
+
+  /**
+   * Returns the indices of the packed versions within {@code [min, max]}, i.e. the versions which
+   * are greater than, or equal to, {@code min} and less than, or equal to, {@code max}.
+   *
+   * <p>The range is empty if {@code min} is greater than {@code max}. Only <em>stable</em>
+   * versions are selected if {@code min} is at least the packed value of {@code 1.0.0}.
+   *
+   * @param packed versions to select from.
+   * @param min packed version, inclusive.
+   * @param max packed version, inclusive.
+   * @return the {@code BitSet} of matching indices.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}, or {@code min} or {@code
+   *     max} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail; !null, _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static BitSet inRange(final long[] packed, final long min, final long max)
+      throws IllegalArgumentException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    if (min < 0) throw illegalArgumentOf("min", MUST_BE_AT_LEAST, "0");
+    if (max < 0) throw illegalArgumentOf("max", MUST_BE_AT_LEAST, "0");
+    if (min > max) return new BitSet();
+    final long[] words = new long[(packed.length + 63) >>> 6];
+    if (Vectorization.ENABLED) {
+      PackedVectorKernel.select(packed, min, max - min, words);
+    } else {
+      // Offsetting by `min` turns the range check into a single unsigned comparison.
+      final long bound = (max - min) + Long.MIN_VALUE;
+      for (int i = 0; i < packed.length; i++) {
+        final long bit = (packed[i] - min + Long.MIN_VALUE) <= bound ? 1L : 0L;
+        words[i >>> 6] |= bit << i;
+      }
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Returns the number of packed versions within {@code [min, max]}. Equivalent to the {@link
+   * BitSet#cardinality()} of {@link #inRange(long[], long, long)}, without creating the {@code
+   * BitSet}.
+   *
+   * @param packed versions to count.
+   * @param min packed version, inclusive.
+   * @param max packed version, inclusive.
+   * @return the number of matching versions.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}, or {@code min} or {@code
+   *     max} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static int countInRange(final long[] packed, final long min, final long max)
+      throws IllegalArgumentException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    if (min < 0) throw illegalArgumentOf("min", MUST_BE_AT_LEAST, "0");
+    if (max < 0) throw illegalArgumentOf("max", MUST_BE_AT_LEAST, "0");
+    if (min > max) return 0;
+    if (Vectorization.ENABLED) return PackedVectorKernel.count(packed, min, max - min);
+    final long bound = (max - min) + Long.MIN_VALUE;
+    int count = 0;
+    for (final long value : packed) {
+      if ((value - min + Long.MIN_VALUE) <= bound) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the indices of the {@linkplain PackedSemVer#isStable(long) stable} packed versions.
+   *
+   * @param packed versions to select from.
+   * @return the {@code BitSet} of matching indices.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  public static BitSet stable(final long[] packed) throws IllegalArgumentException {
+    return inRange(packed, PackedSemVer.MIN_STABLE_PACKED, PackedSemVer.MAX_PACKED);
+  }
+
+  /**
+   * Returns the number of {@linkplain PackedSemVer#isStable(long) stable} packed versions.
+   *
+   * @param packed versions to count.
+   * @return the number of stable versions.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  public static int countStable(final long[] packed) throws IllegalArgumentException {
+    return countInRange(packed, PackedSemVer.MIN_STABLE_PACKED, PackedSemVer.MAX_PACKED);
+  }
+
+  /**
+   * Holds whether the Vector API is usable, so that {@link PackedVectorKernel} is only loaded when
+   * the {@code jdk.incubator.vector} module is resolved.
+   */
+  private static final class Vectorization {
+
+    static final boolean ENABLED = isEnabled();
+
+    private Vectorization() {}
+
+    private static boolean isEnabled() {
+      if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+      try {
+        return PackedVectorKernel.isSupported();
+      } catch (final LinkageError error) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementations of the operations of {@link PackedSemVerArrays}, which <strong>MUST
+ * NOT</strong> be loaded unless the {@code jdk.incubator.vector} module is resolved.
+ *
+ * <p>Whole vectors are processed with the preferred species, and the remaining tail with scalar
+ * code equivalent to the fallback of {@code PackedSemVerArrays}. Ranges are checked with a single
+ * unsigned comparison of the offset value, so negative values are never in range.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class PackedVectorKernel {
+
+  private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+  /** The smallest byte species holding a lane for each lane of {@link #SPECIES}. */
+  private static final VectorSpecies<Byte> BYTES =
+      VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, SPECIES.length() * 8)));
+
+  /** Selects the lanes of {@link #BYTES} which hold a converted lane of {@link #SPECIES}. */
+  private static final VectorMask<Byte> CONVERTED = BYTES.indexInRange(0, SPECIES.length());
+
+  private PackedVectorKernel() {}
+
+  /** Returns whether the preferred species holds more than one lane, i.e. SIMD is available. */
+  static boolean isSupported() {
+    return SPECIES.length() > 1;
+  }
+
+  static void compare(final long[] packed, final long pivot, final byte[] result) {
+    final int lanes = SPECIES.length();
+    final int bound = SPECIES.loopBound(packed.length);
+    int i = 0;
+    for (; i < bound; i += lanes) {
+      final LongVector vector = LongVector.fromArray(SPECIES, packed, i);
+      final LongVector signs =
+          LongVector.zero(SPECIES)
+              .blend(1L, vector.compare(VectorOperators.GT, pivot))
+              .blend(-1L, vector.compare(VectorOperators.LT, pivot));
+      // Narrows the lanes into the first lanes of a byte vector, storing only those.
+      ((ByteVector) signs.convertShape(VectorOperators.L2B, BYTES, 0))
+          .intoArray(result, i, CONVERTED);
+    }
+    for (; i < packed.length; i++) {
+      result[i] = (byte) Long.compare(packed[i], pivot);
+    }
+  }
+
+  /** Sets the bits of the values within {@code [min, min + span]} in {@code words}. */
+  static void select(final long[] packed, final long min, final long span, final long[] words) {
+    final int lanes = SPECIES.length();
+    final int bound = SPECIES.loopBound(packed.length);
+    int i = 0;
+    // The number of lanes is a power of two of at most 64, so a mask never straddles two words.
+    for (; i < bound; i += lanes) {
+      words[i >>> 6] |= inRange(LongVector.fromArray(SPECIES, packed, i), min, span).toLong() << i;
+    }
+    for (; i < packed.length; i++) {
+      final long bit = Long.compareUnsigned(packed[i] - min, span) <= 0 ? 1L : 0L;
+      words[i >>> 6] |= bit << i;
+    }
+  }
+
+  /** Counts the values within {@code [min, min + span]}. */
+  static int count(final long[] packed, final long min, final long span) {
+    final int lanes = SPECIES.length();
+    final int bound = SPECIES.loopBound(packed.length);
+    int count = 0;
+    int i = 0;
+    for (; i < bound; i += lanes) {
+      count += inRange(LongVector.fromArray(SPECIES, packed, i), min, span).trueCount();
+    }
+    for (; i < packed.length; i++) {
+      if (Long.compareUnsigned(packed[i] - min, span) <= 0) count++;
+    }
+    return count;
+  }
+
+  private static VectorMask<Long> inRange(
+      final LongVector vector, final long min, final long span) {
+    return vector.sub(min).compare(VectorOperators.UNSIGNED_LE, span);
+  }
+}
@@ -16,27 +16,57 @@
 
 package io.github.chrimle.semver;
 
-import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
-import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
-import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+import static io.github.chrimle.semver.SemVerExceptions.mustNotBeNegative;
+import static io.github.chrimle.semver.SemVerExceptions.mustNotBeNull;
+import static io.github.chrimle.semver.SemVerExceptions.nullPointerOf;
+import static io.github.chrimle.semver.SemVerInstrumentation.overflowed;
+import static io.github.chrimle.semver.SemVerInstrumentation.rejected;
 
-import io.github.chrimle.exceptionfactory.ExceptionBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Represents a <em>Release Version Number</em> adhering to <a href="https://semver.org/">Semantic
- * Versioning</a>.
+ * Represents a <em>Version Number</em> adhering to <a href="https://semver.org/">Semantic
+ * Versioning</a> - optionally with a <em>pre-release</em> version and <em>build metadata</em>.
+ *
+ * <p>The natural order is the <em>precedence</em> of <a href="https://semver.org/#spec-item-11">
+ * SemVer Spec §11</a>, which ignores {@link #buildMetadata}. As a consequence, {@link
+ * #compareTo(SemVer)} is <em>inconsistent with equals</em> for versions only differing in build
+ * metadata.
  *
  * @param major version. <em><strong>MUST NOT</strong></em> be negative.
  *     <em><strong>MAY</strong></em> be {@code 0} under <em>initial development</em>.
  * @param minor version. <em><strong>MUST NOT</strong></em> be negative.
  * @param patch version. <em><strong>MUST NOT</strong></em> be negative.
+ * @param preRelease version, such as {@code "rc.1"}, or empty if this is a <em>release</em>
+ *     version. <em><strong>MUST</strong></em> adhere to <a
+ *     href="https://semver.org/#spec-item-9">SemVer Spec §9</a>.
+ * @param buildMetadata such as {@code "build.77"}, or empty if there is none.
+ *     <em><strong>MUST</strong></em> adhere to <a href="https://semver.org/#spec-item-10">SemVer
+ *     Spec §10</a>.
  * @since 1.0.0
  * @author Chrimle
  */
 @API(status = API.Status.STABLE, since = "1.0.1")
-public record SemVer(int major, int minor, int patch) implements Comparable<SemVer> {
+public record SemVer(int major, int minor, int patch, String preRelease, String buildMetadata)
+    implements Comparable<SemVer> {
+
+  private static final String MAJOR_OVERFLOW_MESSAGE =
+      "The next `SemVer` cannot be created with a `major` greater than `Integer.MAX_VALUE` ("
+          + Integer.MAX_VALUE
+          + ")";
+  private static final String MINOR_OVERFLOW_MESSAGE =
+      "The next `SemVer` cannot be created with a `minor` greater than `Integer.MAX_VALUE` ("
+          + Integer.MAX_VALUE
+          + ")";
+  private static final String PATCH_OVERFLOW_MESSAGE =
+      "The next `SemVer` cannot be created with a `patch` greater than `Integer.MAX_VALUE` ("
+          + Integer.MAX_VALUE
+          + ")";
 
   /**
    * Constructs a <em>valid</em> {@link SemVer} instance.
@@ -44,23 +74,297 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
    * @param major version.
    * @param minor version.
    * @param patch version.
+   * @param preRelease version, or empty.
+   * @param buildMetadata or empty.
+   * @throws IllegalArgumentException if {@link #major} is less than {@code 0}.
+   * @throws IllegalArgumentException if {@link #minor} is less than {@code 0}.
+   * @throws IllegalArgumentException if {@link #patch} is less than {@code 0}.
+   * @throws IllegalArgumentException if {@link #preRelease} is {@code null}, or not empty and not
+   *     dot-separated identifiers of {@code [0-9A-Za-z-]}, or has a numeric identifier with a
+   *     leading zero.
+   * @throws IllegalArgumentException if {@link #buildMetadata} is {@code null}, or not empty and
+   *     not dot-separated identifiers of {@code [0-9A-Za-z-]}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public SemVer {
+    if ((major | minor | patch) < 0) {
+      if (major < 0) throw rejected("major", mustNotBeNegative("major"));
+      if (minor < 0) throw rejected("minor", mustNotBeNegative("minor"));
+      throw rejected("patch", mustNotBeNegative("patch"));
+    }
+    if (preRelease == null) {
+      throw rejected("preRelease", mustNotBeNull("preRelease"));
+    }
+    if (!preRelease.isEmpty()
+        && !SemVerIdentifiers.isValidPreRelease(preRelease, 0, preRelease.length())) {
+      throw rejected(
+          "preRelease", new IllegalArgumentException(SemVerIdentifiers.PRE_RELEASE_MESSAGE));
+    }
+    if (buildMetadata == null) {
+      throw rejected("buildMetadata", mustNotBeNull("buildMetadata"));
+    }
+    if (!buildMetadata.isEmpty()
+        && !SemVerIdentifiers.isValidBuildMetadata(buildMetadata, 0, buildMetadata.length())) {
+      throw rejected(
+          "buildMetadata",
+          new IllegalArgumentException(SemVerIdentifiers.BUILD_METADATA_MESSAGE));
+    }
+  }
+
+  /**
+   * Constructs a <em>valid</em> <em>release</em> {@link SemVer} instance, without a {@link
+   * #preRelease} version or {@link #buildMetadata}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
    * @throws IllegalArgumentException if {@link #major} is less than {@code 0}.
    * @throws IllegalArgumentException if {@link #minor} is less than {@code 0}.
    * @throws IllegalArgumentException if {@link #patch} is less than {@code 0}.
    * @since 1.0.0
    */
   @API(status = API.Status.STABLE, since = "1.2.0")
-  public SemVer {
-    if (major < 0) throw illegalArgumentOf("major", MUST_BE_AT_LEAST, "0");
-    if (minor < 0) throw illegalArgumentOf("minor", MUST_BE_AT_LEAST, "0");
-    if (patch < 0) throw illegalArgumentOf("patch", MUST_BE_AT_LEAST, "0");
+  public SemVer(final int major, final int minor, final int patch) {
+    this(major, minor, patch, "", "");
+  }
+
+  /**
+   * Returns a {@link SemVer} equal to {@code new SemVer(major, minor, patch)}, reusing a canonical
+   * instance whenever possible. Applications holding many references to few distinct versions
+   * should prefer this factory over the constructor, so that equal versions share one instance.
+   *
+   * <p>Small versions are always canonical. Other versions are kept in a bounded cache, where
+   * rarely used versions are evicted - so instances returned by this method are <em>not</em>
+   * guaranteed to be identical, and <strong>MUST</strong> still be compared with {@link
+   * #equals(Object)}. {@link #incrementVersion(Change)}, {@link #parse(CharSequence)} and {@link
+   * #fromPacked(long)} also return instances from this factory.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return the {@code SemVer}.
+   * @throws IllegalArgumentException if {@code major}, {@code minor} or {@code patch} is less than
+   *     {@code 0}.
+   * @see #cacheStatistics()
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("_, _, _ -> !null")
+  public static SemVer of(final int major, final int minor, final int patch)
+      throws IllegalArgumentException {
+    return SemVerSmallCache.canonical(major, minor, patch);
   }
 
   /**
-   * Creates a new {@link SemVer} with the corresponding version incremented.
+   * Returns a {@link SemVer} equal to {@code new SemVer(major, minor, patch)}, or {@code null} if
+   * any version is negative. Unlike {@link #of(int, int, int)}, invalid versions are rejected
+   * without creating an exception, which suits rejecting untrusted input on hot paths.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return the {@code SemVer}, which may be a {@linkplain #of(int, int, int) canonical
+   *     instance}, or {@code null} if {@code major}, {@code minor} or {@code patch} is less than
+   *     {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static @Nullable SemVer tryOf(final int major, final int minor, final int patch) {
+    if ((major | minor | patch) < 0) return null;
+    return SemVerSmallCache.canonical(major, minor, patch);
+  }
+
+  /**
+   * Returns the cumulative hits and misses of {@link #of(int, int, int)}, counted since the class
+   * was loaded.
+   *
+   * @return a snapshot of the {@code CacheStatistics}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public static CacheStatistics cacheStatistics() {
+    return SemVerCache.statistics();
+  }
+
+  /**
+   * Parses a {@link SemVer} from the given {@code text}, without creating any intermediate
+   * objects.
+   *
+   * <p>Accepts the format {@code [v]MAJOR[.MINOR[.PATCH]][-PRERELEASE][+BUILD]}, where omitted
+   * versions default to {@code 0}. This includes the output of {@link #toCompleteVersionString()}
+   * and {@link #toShortVersionString()}, as well as bare versions such as {@code "1.2.3"}. Only
+   * the {@link #preRelease} and {@link #buildMetadata}, if present, are copied into new {@code
+   * String}s.
+   *
+   * <p><strong>Examples:</strong>
+   *
+   * <ul>
+   *   <li>{@code "v1"} returns {@code 1.0.0}
+   *   <li>{@code "v1.2"} returns {@code 1.2.0}
+   *   <li>{@code "1.2.3"} returns {@code 1.2.3}
+   *   <li>{@code "1.4.0-rc.2+build.77"} returns {@code 1.4.0-rc.2+build.77}
+   * </ul>
+   *
+   * @param text to parse.
+   * @return the parsed {@code SemVer}.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @throws IllegalArgumentException if {@code text} is not of the format {@code
+   *     [v]MAJOR[.MINOR[.PATCH]][-PRERELEASE][+BUILD]}, any numeric version or identifier has a
+   *     leading zero, or any version is greater than {@value Integer#MAX_VALUE}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer parse(final CharSequence text) throws IllegalArgumentException {
+    if (text == null) throw mustNotBeNull("text");
+    final long start = SemVerInstrumentation.start();
+    final SemVer semVer =
+        SemVerInstrumentation.parsed(start, SemVerParser.parse(text, 0, text.length()));
+    if (semVer == null) throw new IllegalArgumentException(SemVerParser.FORMAT_MESSAGE);
+    return semVer;
+  }
+
+  /**
+   * Parses a {@link SemVer} from the {@code US-ASCII} encoded {@code bytes} in the range {@code
+   * [offset, offset + length)}, without creating any intermediate objects.
+   *
+   * @param bytes to parse.
+   * @param offset of the first byte to parse.
+   * @param length of the range to parse.
+   * @return the parsed {@code SemVer}.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IllegalArgumentException if the range is not of the format {@code
+   *     [v]MAJOR[.MINOR[.PATCH]][-PRERELEASE][+BUILD]}, any numeric version or identifier has a
+   *     leading zero, or any version is greater than {@value Integer#MAX_VALUE}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code bytes}.
+   * @see #parse(CharSequence)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail; !null, _, _ -> !null")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer parse(final byte[] bytes, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (bytes == null) throw mustNotBeNull("bytes");
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    final long start = SemVerInstrumentation.start();
+    final SemVer semVer =
+        SemVerInstrumentation.parsed(start, SemVerParser.parse(bytes, offset, offset + length));
+    if (semVer == null) throw new IllegalArgumentException(SemVerParser.FORMAT_MESSAGE);
+    return semVer;
+  }
+
+  /**
+   * Parses a {@link SemVer} from the {@code US-ASCII} encoded bytes between the {@code position}
+   * and the {@code limit} of the {@code buffer}, without creating any intermediate objects - except
+   * that the labels of a direct {@code buffer} are each copied through a builder of their length.
+   * The {@code position} of the {@code buffer} is <em>not</em> modified.
+   *
+   * @param buffer to parse.
+   * @return the parsed {@code SemVer}.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @throws IllegalArgumentException if the remaining bytes are not of the format {@code
+   *     [v]MAJOR[.MINOR[.PATCH]][-PRERELEASE][+BUILD]}, any numeric version or identifier has a
+   *     leading zero, or any version is greater than {@value Integer#MAX_VALUE}.
+   * @see #parse(CharSequence)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer parse(final ByteBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null) throw mustNotBeNull("buffer");
+    final long start = SemVerInstrumentation.start();
+    final SemVer semVer =
+        SemVerInstrumentation.parsed(
+            start, SemVerParser.parse(buffer, buffer.position(), buffer.limit()));
+    if (semVer == null) throw new IllegalArgumentException(SemVerParser.FORMAT_MESSAGE);
+    return semVer;
+  }
+
+  /**
+   * Parses a {@link SemVer} from the given {@code text} like {@link #parse(CharSequence)}, but
+   * returns {@code null} instead of throwing if the {@code text} is malformed. No objects are
+   * created when rejecting the {@code text}.
+   *
+   * @param text to parse.
+   * @return the parsed {@code SemVer}, or {@code null} if {@code text} is malformed.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @see #parse(CharSequence)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static @Nullable SemVer tryParse(final CharSequence text) throws IllegalArgumentException {
+    if (text == null) throw mustNotBeNull("text");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.parsed(start, SemVerParser.parse(text, 0, text.length()));
+  }
+
+  /**
+   * Parses a {@link SemVer} from the {@code US-ASCII} encoded {@code bytes} in the range {@code
+   * [offset, offset + length)} like {@link #parse(byte[], int, int)}, but returns {@code null}
+   * instead of throwing if the range is malformed. No objects are created when rejecting the
+   * range, including malformed labels, which are validated before they are copied.
+   *
+   * @param bytes to parse.
+   * @param offset of the first byte to parse.
+   * @param length of the range to parse.
+   * @return the parsed {@code SemVer}, or {@code null} if the range is malformed.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code bytes}.
+   * @see #parse(byte[], int, int)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static @Nullable SemVer tryParse(final byte[] bytes, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (bytes == null) throw mustNotBeNull("bytes");
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.parsed(start, SemVerParser.parse(bytes, offset, offset + length));
+  }
+
+  /**
+   * Parses a {@link SemVer} from the remaining bytes of the {@code buffer} like {@link
+   * #parse(ByteBuffer)}, but returns {@code null} instead of throwing if the remaining bytes are
+   * malformed. No objects are created when rejecting the bytes, including malformed labels, which
+   * are validated before they are copied. The {@code position} of the {@code buffer} is
+   * <em>not</em> modified.
+   *
+   * @param buffer to parse.
+   * @return the parsed {@code SemVer}, or {@code null} if the remaining bytes are malformed.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @see #parse(ByteBuffer)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static @Nullable SemVer tryParse(final ByteBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null) throw mustNotBeNull("buffer");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.parsed(
+        start, SemVerParser.parse(buffer, buffer.position(), buffer.limit()));
+  }
+
+  /**
+   * Returns a {@link SemVer} with the corresponding version incremented.
+   *
+   * <p>The returned {@code SemVer} is always a <em>release</em> version, without {@link
+   * #buildMetadata}. For <em>pre-release</em> versions, see {@link #incrementMajor()}, {@link
+   * #incrementMinor()} and {@link #incrementPatch()}.
    *
    * @param change for determining the new {@code SemVer}.
-   * @return the new {@code SemVer}.
+   * @return the new {@code SemVer}, which may be a {@linkplain #of(int, int, int) canonical
+   *     instance}.
    * @since 1.0.0
    * @throws IllegalArgumentException if {@code change} is {@code null}.
    * @throws ArithmeticException if the current {@code major}, {@code minor} or {@code patch}
@@ -68,11 +372,11 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
    *     increment that version, causing an <em>integer overflow</em>.
    */
   @API(status = API.Status.STABLE, since = "1.2.0")
-  @Contract("null -> fail; !null -> new")
+  @Contract("null -> fail; !null -> !null")
   @SuppressWarnings({"ConstantValue", "Contract"})
   public SemVer incrementVersion(final Change change)
       throws ArithmeticException, IllegalArgumentException {
-    if (change == null) throw illegalArgumentOf("change", MUST_NOT_BE_NULL);
+    if (change == null) throw mustNotBeNull("change");
     return switch (change) {
       case MAJOR -> incrementMajor();
       case MINOR -> incrementMinor();
@@ -81,63 +385,123 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
   }
 
   /**
-   * Creates a new {@link SemVer} with the {@link #major}-version incremented.
+   * Returns a {@link SemVer} with the corresponding version incremented like {@link
+   * #incrementVersion(Change)}, or {@code null} if that version is equal to {@value
+   * Integer#MAX_VALUE}. No exception is created when the increment would overflow.
+   *
+   * @param change for determining the new {@code SemVer}.
+   * @return the new {@code SemVer}, which may be a {@linkplain #of(int, int, int) canonical
+   *     instance}, or {@code null} if the increment would cause an <em>integer overflow</em>.
+   * @throws IllegalArgumentException if {@code change} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer tryIncrementVersion(final Change change)
+      throws IllegalArgumentException {
+    if (change == null) throw mustNotBeNull("change");
+    return switch (change) {
+      case MAJOR -> nextMajor();
+      case MINOR -> nextMinor();
+      case PATCH -> nextPatch();
+    };
+  }
+
+  /**
+   * Returns a {@link SemVer} with the {@link #major}-version incremented.
+   *
+   * <p>The returned {@code SemVer} is always a <em>release</em> version, without {@link
+   * #buildMetadata}. A <em>pre-release</em> of the next major version is incremented to that
+   * release, e.g. {@code 2.0.0-rc.1} returns {@code 2.0.0}.
    *
    * @since 1.0.0
-   * @return the new {@code SemVer}.
+   * @return the new {@code SemVer}, which may be a {@linkplain #of(int, int, int) canonical
+   *     instance}.
    * @throws ArithmeticException if <em>this</em> {@code major} is equal to {@value
    *     Integer#MAX_VALUE}, which would cause an <em>integer overflow</em> when creating the new
    *     {@code SemVer}.
    */
   @API(status = API.Status.STABLE, since = "1.2.0")
-  @Contract(" -> new")
+  @Contract(" -> !null")
   public SemVer incrementMajor() throws ArithmeticException {
-    if (major == Integer.MAX_VALUE) {
-      throw new ArithmeticException(
-          "The next `SemVer` cannot be created with a `major` greater than `Integer.MAX_VALUE` (%d)"
-              .formatted(Integer.MAX_VALUE));
+    final SemVer next = nextMajor();
+    if (next == null) {
+      throw overflowed(Change.MAJOR, new ArithmeticException(MAJOR_OVERFLOW_MESSAGE));
+    }
+    return next;
+  }
+
+  /** Returns the next {@link #major}-version, or {@code null} if it would overflow. */
+  private @Nullable SemVer nextMajor() {
+    if (!preRelease.isEmpty() && minor == 0 && patch == 0) {
+      return of(major, 0, 0);
     }
-    return new SemVer(major + 1, 0, 0);
+    return major == Integer.MAX_VALUE ? null : of(major + 1, 0, 0);
   }
 
   /**
-   * Creates a new {@link SemVer} with the {@link #minor}-version incremented.
+   * Returns a {@link SemVer} with the {@link #minor}-version incremented.
+   *
+   * <p>The returned {@code SemVer} is always a <em>release</em> version, without {@link
+   * #buildMetadata}. A <em>pre-release</em> of the next minor version is incremented to that
+   * release, e.g. {@code 1.2.0-rc.1} returns {@code 1.2.0}.
    *
    * @since 1.0.0
-   * @return the new {@code SemVer}.
+   * @return the new {@code SemVer}, which may be a {@linkplain #of(int, int, int) canonical
+   *     instance}.
    * @throws ArithmeticException if <em>this</em> {@code minor} is equal to {@value
    *     Integer#MAX_VALUE}, which would cause an <em>integer overflow</em> when creating the new
    *     {@code SemVer}.
    */
   @API(status = API.Status.STABLE, since = "1.2.0")
-  @Contract(" -> new")
+  @Contract(" -> !null")
   public SemVer incrementMinor() throws ArithmeticException {
-    if (minor == Integer.MAX_VALUE) {
-      throw new ArithmeticException(
-          "The next `SemVer` cannot be created with a `minor` greater than `Integer.MAX_VALUE` (%d)"
-              .formatted(Integer.MAX_VALUE));
+    final SemVer next = nextMinor();
+    if (next == null) {
+      throw overflowed(Change.MINOR, new ArithmeticException(MINOR_OVERFLOW_MESSAGE));
     }
-    return new SemVer(major, minor + 1, 0);
+    return next;
+  }
+
+  /** Returns the next {@link #minor}-version, or {@code null} if it would overflow. */
+  private @Nullable SemVer nextMinor() {
+    if (!preRelease.isEmpty() && patch == 0) {
+      return of(major, minor, 0);
+    }
+    return minor == Integer.MAX_VALUE ? null : of(major, minor + 1, 0);
   }
 
   /**
-   * Creates a new {@link SemVer} with the {@link #patch}-version incremented.
+   * Returns a {@link SemVer} with the {@link #patch}-version incremented.
+   *
+   * <p>The returned {@code SemVer} is always a <em>release</em> version, without {@link
+   * #buildMetadata}. A <em>pre-release</em> of the next patch version is incremented to that
+   * release, e.g. {@code 1.2.3-rc.1} returns {@code 1.2.3}.
    *
    * @since 1.0.0
-   * @return the new {@code SemVer}.
+   * @return the new {@code SemVer}, which may be a {@linkplain #of(int, int, int) canonical
+   *     instance}.
    * @throws ArithmeticException if <em>this</em> {@code patch} is equal to {@value
    *     Integer#MAX_VALUE}, which would cause an <em>integer overflow</em> when creating the new
    *     {@code SemVer}.
    */
   @API(status = API.Status.STABLE, since = "1.2.0")
-  @Contract(" -> new")
+  @Contract(" -> !null")
   public SemVer incrementPatch() throws ArithmeticException {
-    if (patch == Integer.MAX_VALUE) {
-      throw new ArithmeticException(
-          "The next `SemVer` cannot be created with a `patch` greater than `Integer.MAX_VALUE` (%d)"
-              .formatted(Integer.MAX_VALUE));
+    final SemVer next = nextPatch();
+    if (next == null) {
+      throw overflowed(Change.PATCH, new ArithmeticException(PATCH_OVERFLOW_MESSAGE));
     }
-    return new SemVer(major, minor, patch + 1);
+    return next;
+  }
+
+  /** Returns the next {@link #patch}-version, or {@code null} if it would overflow. */
+  private @Nullable SemVer nextPatch() {
+    if (!preRelease.isEmpty()) {
+      return of(major, minor, patch);
+    }
+    return patch == Integer.MAX_VALUE ? null : of(major, minor, patch + 1);
   }
 
   /**
@@ -151,18 +515,96 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
    *
    * </blockquote>
    *
+   * <p>As well as <a href="https://semver.org/#spec-item-9">SemVer Spec §9</a>:
+   *
+   * <blockquote>
+   *
+   * A pre-release version indicates that the version is unstable and might not satisfy the
+   * intended compatibility requirements as denoted by its associated normal version.
+   *
+   * </blockquote>
+   *
    * @return whether <em>this</em> {@link SemVer} is considered a <em>stable</em> release.
    * @since 1.4.0
    */
   @API(status = API.Status.STABLE, since = "1.4.0")
   @Contract(pure = true)
   public boolean isStable() {
-    return major != 0;
+    return major != 0 && preRelease.isEmpty();
+  }
+
+  /**
+   * Returns whether <em>this</em> {@link SemVer} is a <em>pre-release</em> version, i.e. has a
+   * non-empty {@link #preRelease}.
+   *
+   * @return whether <em>this</em> {@code SemVer} is a pre-release version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isPreRelease() {
+    return !preRelease.isEmpty();
+  }
+
+  /**
+   * Creates a {@link SemVer} from its packed representation.
+   *
+   * @param packed representation, as returned by {@link #toPacked()}.
+   * @return the unpacked {@code SemVer}.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @see PackedSemVer
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" _ -> !null")
+  public static SemVer fromPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw mustNotBeNegative("packed");
+    return of(
+        PackedSemVer.major(packed), PackedSemVer.minor(packed), PackedSemVer.patch(packed));
+  }
+
+  /**
+   * Returns the packed representation of <em>this</em> {@link SemVer}, whose natural order is
+   * identical to {@link #compareTo(SemVer)}.
+   *
+   * @return the packed representation.
+   * @throws ArithmeticException if {@link #major}, {@link #minor} or {@link #patch} is greater
+   *     than {@value PackedSemVer#MAX_VERSION}.
+   * @throws ArithmeticException if <em>this</em> has a {@link #preRelease} version or {@link
+   *     #buildMetadata}, which cannot be packed.
+   * @see PackedSemVer
+   * @see #isPackable()
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long toPacked() throws ArithmeticException {
+    if (!preRelease.isEmpty() || !buildMetadata.isEmpty()) {
+      throw new ArithmeticException(
+          "A `SemVer` with a `preRelease` version or `buildMetadata` cannot be packed");
+    }
+    return PackedSemVer.pack(major, minor, patch);
+  }
+
+  /**
+   * Returns whether <em>this</em> {@link SemVer} can be {@linkplain #toPacked() packed}.
+   *
+   * @return whether {@link #major}, {@link #minor} and {@link #patch} are no greater than {@value
+   *     PackedSemVer#MAX_VERSION}, and there is neither a {@link #preRelease} version nor {@link
+   *     #buildMetadata}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isPackable() {
+    return PackedSemVer.isPackable(major, minor, patch)
+        && preRelease.isEmpty()
+        && buildMetadata.isEmpty();
   }
 
   /**
    * Returns <em>this</em> {@link SemVer} as a {@code String} in the format: {@code
-   * v{major}.{minor}.{patch}}.
+   * v{major}.{minor}.{patch}[-{preRelease}][+{buildMetadata}]}.
    *
    * @return the formatted {@code String}.
    * @since 1.0.0
@@ -170,12 +612,15 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
   @API(status = API.Status.STABLE, since = "1.2.0")
   @Contract(value = "-> !null")
   public String toCompleteVersionString() {
-    return "v%d.%d.%d".formatted(major, minor, patch);
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.toString(this, SemVerFormatter.COMPLETE_PARTS));
   }
 
   /**
    * Returns <em>this</em> {@link SemVer} as a {@code String} in the format: {@code
-   * v{major}.{minor}.{patch}} - where trailing zero versions are omitted.
+   * v{major}.{minor}.{patch}[-{preRelease}][+{buildMetadata}]} - where trailing zero versions are
+   * omitted.
    *
    * <p><strong>Examples:</strong>
    *
@@ -183,6 +628,7 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
    *   <li>{@code 1.0.0} returns {@code "v1"}
    *   <li>{@code 1.2.0} returns {@code "v1.2"}
    *   <li>{@code 1.2.3} returns {@code "v1.2.3"}
+   *   <li>{@code 1.0.0-rc.1} returns {@code "v1-rc.1"}
    * </ul>
    *
    * @return the formatted {@code String}.
@@ -191,18 +637,220 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
   @API(status = API.Status.STABLE, since = "1.2.0")
   @Contract(value = "-> !null")
   public String toShortVersionString() {
-    if (patch > 0) {
-      return toCompleteVersionString();
-    }
-    if (minor > 0) {
-      return "v%d.%d".formatted(major, minor);
-    }
-    return "v%d".formatted(major);
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.toString(this, SemVerFormatter.shortParts(this)));
+  }
+
+  /**
+   * Returns the exact length of {@link #toCompleteVersionString()}, without creating it. Since all
+   * characters are {@code US-ASCII}, this is also the number of bytes written by {@link
+   * #writeCompleteVersionString(byte[], int)}.
+   *
+   * @return the length of the complete version {@code String}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int completeVersionStringLength() {
+    return SemVerFormatter.length(this, SemVerFormatter.COMPLETE_PARTS);
+  }
+
+  /**
+   * Returns the exact length of {@link #toShortVersionString()}, without creating it. Since all
+   * characters are {@code US-ASCII}, this is also the number of bytes written by {@link
+   * #writeShortVersionString(byte[], int)}.
+   *
+   * @return the length of the short version {@code String}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int shortVersionStringLength() {
+    return SemVerFormatter.length(this, SemVerFormatter.shortParts(this));
+  }
+
+  /**
+   * Appends {@link #toCompleteVersionString()} to the {@code builder}, without creating any
+   * intermediate {@code String}.
+   *
+   * @param builder to append to.
+   * @return the {@code builder}.
+   * @throws IllegalArgumentException if {@code builder} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; _ -> param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public StringBuilder appendCompleteVersionString(final StringBuilder builder)
+      throws IllegalArgumentException {
+    if (builder == null) throw mustNotBeNull("builder");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.append(this, SemVerFormatter.COMPLETE_PARTS, builder));
+  }
+
+  /**
+   * Appends {@link #toShortVersionString()} to the {@code builder}, without creating any
+   * intermediate {@code String}.
+   *
+   * @param builder to append to.
+   * @return the {@code builder}.
+   * @throws IllegalArgumentException if {@code builder} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; _ -> param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public StringBuilder appendShortVersionString(final StringBuilder builder)
+      throws IllegalArgumentException {
+    if (builder == null) throw mustNotBeNull("builder");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.append(this, SemVerFormatter.shortParts(this), builder));
+  }
+
+  /**
+   * Appends {@link #toCompleteVersionString()} to the {@code appendable}, one {@code char} at a
+   * time, without creating any intermediate {@code String}.
+   *
+   * @param appendable to append to, such as a {@code Writer}.
+   * @return the {@code appendable}.
+   * @throws IllegalArgumentException if {@code appendable} is {@code null}.
+   * @throws IOException if thrown by the {@code appendable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; _ -> param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Appendable appendCompleteVersionString(final Appendable appendable)
+      throws IllegalArgumentException, IOException {
+    if (appendable == null) throw mustNotBeNull("appendable");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.append(this, SemVerFormatter.COMPLETE_PARTS, appendable));
+  }
+
+  /**
+   * Appends {@link #toShortVersionString()} to the {@code appendable}, one {@code char} at a time,
+   * without creating any intermediate {@code String}.
+   *
+   * @param appendable to append to, such as a {@code Writer}.
+   * @return the {@code appendable}.
+   * @throws IllegalArgumentException if {@code appendable} is {@code null}.
+   * @throws IOException if thrown by the {@code appendable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; _ -> param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Appendable appendShortVersionString(final Appendable appendable)
+      throws IllegalArgumentException, IOException {
+    if (appendable == null) throw mustNotBeNull("appendable");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.append(this, SemVerFormatter.shortParts(this), appendable));
+  }
+
+  /**
+   * Writes {@link #toCompleteVersionString()} as {@code US-ASCII} bytes into the {@code buffer},
+   * starting at its {@code position}, which is advanced by {@link #completeVersionStringLength()}.
+   *
+   * @param buffer to write to.
+   * @return the {@code buffer}.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @throws java.nio.BufferOverflowException if the {@code buffer} has insufficient remaining
+   *     bytes, in which case nothing is written.
+   * @throws java.nio.ReadOnlyBufferException if the {@code buffer} is read-only.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; _ -> param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ByteBuffer writeCompleteVersionString(final ByteBuffer buffer)
+      throws IllegalArgumentException {
+    if (buffer == null) throw mustNotBeNull("buffer");
+    final long start = SemVerInstrumentation.start();
+    SemVerFormatter.write(this, SemVerFormatter.COMPLETE_PARTS, buffer);
+    return SemVerInstrumentation.formatted(start, buffer);
+  }
+
+  /**
+   * Writes {@link #toShortVersionString()} as {@code US-ASCII} bytes into the {@code buffer},
+   * starting at its {@code position}, which is advanced by {@link #shortVersionStringLength()}.
+   *
+   * @param buffer to write to.
+   * @return the {@code buffer}.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @throws java.nio.BufferOverflowException if the {@code buffer} has insufficient remaining
+   *     bytes, in which case nothing is written.
+   * @throws java.nio.ReadOnlyBufferException if the {@code buffer} is read-only.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; _ -> param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ByteBuffer writeShortVersionString(final ByteBuffer buffer)
+      throws IllegalArgumentException {
+    if (buffer == null) throw mustNotBeNull("buffer");
+    final long start = SemVerInstrumentation.start();
+    SemVerFormatter.write(this, SemVerFormatter.shortParts(this), buffer);
+    return SemVerInstrumentation.formatted(start, buffer);
+  }
+
+  /**
+   * Writes {@link #toCompleteVersionString()} as {@code US-ASCII} bytes into the {@code bytes},
+   * starting at {@code offset}.
+   *
+   * @param bytes to write to.
+   * @param offset of the first byte to write.
+   * @return the number of bytes written, i.e. {@link #completeVersionStringLength()}.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IndexOutOfBoundsException if the {@code bytes} has insufficient space after {@code
+   *     offset}, in which case nothing is written.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int writeCompleteVersionString(final byte[] bytes, final int offset)
+      throws IllegalArgumentException {
+    if (bytes == null) throw mustNotBeNull("bytes");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.write(this, SemVerFormatter.COMPLETE_PARTS, bytes, offset));
+  }
+
+  /**
+   * Writes {@link #toShortVersionString()} as {@code US-ASCII} bytes into the {@code bytes},
+   * starting at {@code offset}.
+   *
+   * @param bytes to write to.
+   * @param offset of the first byte to write.
+   * @return the number of bytes written, i.e. {@link #shortVersionStringLength()}.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IndexOutOfBoundsException if the {@code bytes} has insufficient space after {@code
+   *     offset}, in which case nothing is written.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int writeShortVersionString(final byte[] bytes, final int offset)
+      throws IllegalArgumentException {
+    if (bytes == null) throw mustNotBeNull("bytes");
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.formatted(
+        start, SemVerFormatter.write(this, SemVerFormatter.shortParts(this), bytes, offset));
   }
 
   /**
    * {@inheritDoc}
    *
+   * <p>Compares the <em>precedence</em> according to <a href="https://semver.org/#spec-item-11">
+   * SemVer Spec §11</a>. The {@link #preRelease} versions are only compared if {@link #major},
+   * {@link #minor} and {@link #patch} are equal, and {@link #buildMetadata} is ignored.
+   *
    * @throws NullPointerException if {@code other} is {@code null}.
    * @since 1.1.0
    */
@@ -212,9 +860,7 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
   @SuppressWarnings({"ConstantValue", "Contract"})
   public int compareTo(final SemVer other) throws NullPointerException {
     if (other == null) {
-      throw ExceptionBuilder.of(NullPointerException.class)
-          .setMessage(MUST_NOT_BE_NULL, "other")
-          .build();
+      throw nullPointerOf("other");
     }
     int result = Integer.compare(this.major(), other.major());
     if (result != 0) {
@@ -224,6 +870,73 @@ public record SemVer(int major, int minor, int patch) implements Comparable<SemV
     if (result != 0) {
       return result;
     }
-    return Integer.compare(this.patch(), other.patch());
+    result = Integer.compare(this.patch(), other.patch());
+    if (result != 0) {
+      return result;
+    }
+    return SemVerIdentifiers.comparePreRelease(this.preRelease(), other.preRelease());
+  }
+
+  // The following methods are equivalent to those generated for a record, but do not bootstrap
+  // `java.lang.runtime.ObjectMethods` - which spins method handles, and loads a few hundred
+  // classes, on the first invocation.
+
+  /**
+   * Returns whether the {@code object} is a {@link SemVer} with equal components, including the
+   * {@link #buildMetadata}.
+   *
+   * @param object to compare with.
+   * @return whether the {@code object} is equal to <em>this</em>.
+   */
+  @Contract(value = "null -> false", pure = true)
+  @Override
+  public boolean equals(final @Nullable Object object) {
+    return this == object
+        || object instanceof SemVer other
+            && major == other.major
+            && minor == other.minor
+            && patch == other.patch
+            && preRelease.equals(other.preRelease)
+            && buildMetadata.equals(other.buildMetadata);
+  }
+
+  /**
+   * Returns the hash code of the components, combined like that of a record.
+   *
+   * @return the hash code.
+   */
+  @Contract(pure = true)
+  @Override
+  public int hashCode() {
+    int hash = major;
+    hash = 31 * hash + minor;
+    hash = 31 * hash + patch;
+    hash = 31 * hash + preRelease.hashCode();
+    return 31 * hash + buildMetadata.hashCode();
+  }
+
+  /**
+   * Returns the components like the {@code toString()} of a record, e.g. {@code
+   * SemVer[major=1, minor=2, patch=3, preRelease=rc.1, buildMetadata=]}.
+   *
+   * @return the components.
+   * @see #toCompleteVersionString()
+   */
+  @Contract(pure = true)
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("SemVer[major=")
+        .append(major)
+        .append(", minor=")
+        .append(minor)
+        .append(", patch=")
+        .append(patch)
+        .append(", preRelease=")
+        .append(preRelease)
+        .append(", buildMetadata=")
+        .append(buildMetadata)
+        .append(']')
+        .toString();
   }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonical {@link SemVer}-instances of versions outside the small range of {@link
+ * SemVerSmallCache}, as returned by {@link SemVer#of(int, int, int)}. The versions share a bounded,
+ * direct-mapped intern cache, where a version evicts whichever version previously occupied its
+ * slot. This class is only loaded once such a version is requested.
+ *
+ * <p>The table is not synchronized. Since {@link SemVer} is immutable, a racing thread may at worst
+ * observe a stale slot and create an equal instance - which is then <em>not</em> canonical, but
+ * still correct.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerCache {
+
+  static final int INTERN_CAPACITY = 4096;
+
+  private static final SemVer[] INTERNED = new SemVer[INTERN_CAPACITY];
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+
+  private SemVerCache() {}
+
+  static SemVer canonical(final int major, final int minor, final int patch) {
+    final int index = slot(major, minor, patch);
+    final SemVer cached = INTERNED[index];
+    if (cached != null
+        && cached.major() == major
+        && cached.minor() == minor
+        && cached.patch() == patch) {
+      HITS.increment();
+      return cached;
+    }
+    MISSES.increment();
+    final SemVer semVer = new SemVer(major, minor, patch);
+    INTERNED[index] = semVer;
+    return semVer;
+  }
+
+  /** Returns the statistics of this cache, including those of {@link SemVerSmallCache}. */
+  static CacheStatistics statistics() {
+    final CacheStatistics small = SemVerSmallCache.statistics();
+    return new CacheStatistics(HITS.sum() + small.hits(), MISSES.sum() + small.misses());
+  }
+
+  private static int slot(final int major, final int minor, final int patch) {
+    int hash = (major * 0x9E3779B1 + minor) * 0x9E3779B1 + patch;
+    hash *= 0x85EBCA6B;
+    return (hash ^ (hash >>> 16)) & (INTERN_CAPACITY - 1);
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A <em>HyperLogLog</em> sketch estimating the number of distinct versions, in a fixed amount of
+ * memory regardless of how many versions are added.
+ *
+ * <p>The sketch holds {@code 2^precision} one-byte registers, and the standard error of {@link
+ * #estimate()} is about {@code 1.04 / sqrt(2^precision)}, e.g. {@code 0.8%} for the default
+ * precision of {@value #DEFAULT_PRECISION}. Versions are distinct if they are not {@linkplain
+ * SemVer#equals(Object) equal}, including their <em>pre-release</em> versions and <em>build
+ * metadata</em>. A <em>release</em> version is equal to its {@linkplain PackedSemVer packed} value.
+ *
+ * <p>Sketches of different nodes are combined by {@link #merge(SemVerCardinalitySketch)}, which
+ * is as accurate as a single sketch of all versions. This class is <strong>not</strong>
+ * thread-safe.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerCardinalitySketch {
+
+  /**
+   * The precision used by {@link #SemVerCardinalitySketch()}.
+   *
+   * @since 1.6.0
+   */
+  public static final int DEFAULT_PRECISION = 14;
+
+  /**
+   * The least supported precision.
+   *
+   * @since 1.6.0
+   */
+  public static final int MIN_PRECISION = 4;
+
+  /**
+   * The greatest supported precision.
+   *
+   * @since 1.6.0
+   */
+  public static final int MAX_PRECISION = 18;
+
+  private static final int MAGIC = 0x31485653; // "SVH1"
+
+  private final byte[] registers;
+  private final int precision;
+
+  /**
+   * Creates an empty {@link SemVerCardinalitySketch} with the {@linkplain #DEFAULT_PRECISION
+   * default precision}.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerCardinalitySketch() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates an empty {@link SemVerCardinalitySketch} with {@code 2^precision} registers.
+   *
+   * @param precision of the sketch.
+   * @throws IllegalArgumentException if {@code precision} is less than {@value #MIN_PRECISION},
+   *     or greater than {@value #MAX_PRECISION}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerCardinalitySketch(final int precision) throws IllegalArgumentException {
+    if (precision < MIN_PRECISION) {
+      throw illegalArgumentOf("precision", MUST_BE_AT_LEAST, String.valueOf(MIN_PRECISION));
+    }
+    if (precision > MAX_PRECISION) {
+      throw illegalArgumentOf("precision", MUST_BE_AT_MOST, String.valueOf(MAX_PRECISION));
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  /**
+   * Returns the precision of <em>this</em> sketch.
+   *
+   * @return the base-2 logarithm of the number of registers.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int precision() {
+    return precision;
+  }
+
+  /**
+   * Adds the {@code version}.
+   *
+   * @param version to add.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void add(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    addHash(SemVerSketches.hash(version));
+  }
+
+  /**
+   * Adds the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void addPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    addHash(SemVerSketches.hash(packed));
+  }
+
+  /**
+   * Returns the estimated number of distinct versions added.
+   *
+   * @return the estimated number of distinct versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long estimate() {
+    final int m = registers.length;
+    double sum = 0;
+    int zeros = 0;
+    for (final byte register : registers) {
+      sum += Double.longBitsToDouble((1023L - register) << 52); // 2^-register
+      if (register == 0) zeros++;
+    }
+    final double estimate = alpha(m) * m * m / sum;
+    // Small cardinalities are estimated more accurately by the number of empty registers.
+    if (estimate <= 2.5 * m && zeros > 0) return Math.round(m * Math.log((double) m / zeros));
+    return Math.round(estimate);
+  }
+
+  /**
+   * Merges the {@code other} sketch into <em>this</em> sketch, which then estimates the distinct
+   * versions added to either sketch.
+   *
+   * @param other sketch to merge.
+   * @throws IllegalArgumentException if {@code other} is {@code null}, or has another {@linkplain
+   *     #precision() precision}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void merge(final SemVerCardinalitySketch other) throws IllegalArgumentException {
+    if (other == null) throw illegalArgumentOf("other", MUST_NOT_BE_NULL);
+    if (other.precision != precision) {
+      throw new IllegalArgumentException("`other` MUST have the same `precision`");
+    }
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+    }
+  }
+
+  /**
+   * Serializes <em>this</em> sketch, to be restored by {@link #fromByteArray(byte[])}. The size is
+   * {@code 5 + 2^precision} bytes.
+   *
+   * @return a new byte array.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = " -> new", pure = true)
+  public byte[] toByteArray() {
+    final ByteBuffer target = ByteBuffer.allocate(Integer.BYTES + 1 + registers.length);
+    target.putInt(MAGIC).put((byte) precision).put(registers);
+    return target.array();
+  }
+
+  /**
+   * Restores a sketch serialized by {@link #toByteArray()}.
+   *
+   * @param bytes of the serialized sketch.
+   * @return the restored sketch.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}, or not a serialized {@code
+   *     SemVerCardinalitySketch}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerCardinalitySketch fromByteArray(final byte[] bytes)
+      throws IllegalArgumentException {
+    if (bytes == null) throw illegalArgumentOf("bytes", MUST_NOT_BE_NULL);
+    try {
+      final ByteBuffer source = ByteBuffer.wrap(bytes);
+      if (source.getInt() != MAGIC) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      final int precision = source.get();
+      if (precision < MIN_PRECISION
+          || precision > MAX_PRECISION
+          || source.remaining() != 1 << precision) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      final SemVerCardinalitySketch sketch = new SemVerCardinalitySketch(precision);
+      source.get(sketch.registers);
+      for (final byte register : sketch.registers) {
+        if (register < 0 || register > Long.SIZE - precision + 1) {
+          throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+        }
+      }
+      return sketch;
+    } catch (final BufferUnderflowException exception) {
+      throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE, exception);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "%s{precision=%d, estimate=%d}"
+        .formatted(getClass().getSimpleName(), precision, estimate());
+  }
+
+  private void addHash(final long hash) {
+    final int index = (int) (hash >>> (Long.SIZE - precision));
+    // The sentinel bit bounds the rank, if all remaining bits of the hash are zero.
+    final long remaining = (hash << precision) | (1L << (precision - 1));
+    final byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+    if (rank > registers[index]) registers[index] = rank;
+  }
+
+  private static double alpha(final int m) {
+    return switch (m) {
+      case 16 -> 0.673;
+      case 32 -> 0.697;
+      case 64 -> 0.709;
+      default -> 0.7213 / (1 + 1.079 / m);
+    };
+  }
+}
@@ -0,0 +1,698 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Static utilities for encoding {@link SemVer}s as bytes, in one of two formats.
+ *
+ * <p>The <em>varint</em>-format is compact, and lossless for every {@code SemVer}. The {@code
+ * major} and {@code minor} versions are written as unsigned <em>LEB128</em> varints, followed by
+ * the {@code patch} version shifted left by one, with the lowest bit set if labels follow. Labels
+ * are written as a varint length followed by their {@code US-ASCII} bytes; first the {@code
+ * preRelease} version, then the {@code buildMetadata}. Release versions below {@code 128.128.64}
+ * take 3 bytes.
+ *
+ * <p>The <em>key</em>-format is {@value #KEY_SIZE} bytes: the {@code major}, {@code minor} and
+ * {@code patch} versions as big-endian {@code int}s. The unsigned lexicographic order of keys is
+ * identical to {@link SemVer#compareTo(SemVer)}, so keys can be sorted by key-value stores
+ * without being decoded. Only <em>release</em> versions can be encoded as keys.
+ *
+ * <p>The {@code ByteBuffer}-methods read and write at the current position, and are independent
+ * of the {@linkplain ByteBuffer#order() byte order} of the buffer. The bulk-methods do not
+ * allocate per version, except for the decoded {@code SemVer}s and their labels.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerCodec {
+
+  /**
+   * The number of bytes of the key-format.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static final int KEY_SIZE = 3 * Integer.BYTES;
+
+  static final String MALFORMED_MESSAGE = "The bytes MUST be a `SemVer` encoded by `SemVerCodec`";
+
+  static final String KEY_MESSAGE =
+      "A `SemVer` with a `preRelease` version or `buildMetadata` cannot be encoded as a key";
+
+  private static final int MAX_VARINT_SIZE = 5;
+
+  private SemVerCodec() {}
+
+  /**
+   * Returns the number of bytes of the {@code version} in the varint-format.
+   *
+   * @param version to encode.
+   * @return the number of bytes.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static int varintSize(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    final int size =
+        unsignedSize(version.major())
+            + unsignedSize(version.minor())
+            + unsignedSize((long) version.patch() << 1);
+    if (!hasLabels(version)) return size;
+    return size
+        + unsignedSize(version.preRelease().length())
+        + version.preRelease().length()
+        + unsignedSize(version.buildMetadata().length())
+        + version.buildMetadata().length();
+  }
+
+  /**
+   * Writes the {@code version} in the varint-format into the {@code target}.
+   *
+   * @param version to encode.
+   * @param target to write into.
+   * @return the {@code target}.
+   * @throws IllegalArgumentException if {@code version} or {@code target} is {@code null}.
+   * @throws BufferOverflowException if {@code target} has fewer bytes remaining than {@link
+   *     #varintSize(SemVer)}. Then, nothing is written.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static ByteBuffer writeVarint(final SemVer version, final ByteBuffer target)
+      throws BufferOverflowException, IllegalArgumentException {
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    if (target.remaining() < varintSize(version)) throw new BufferOverflowException();
+    putVarint(version, target);
+    return target;
+  }
+
+  /**
+   * Writes all the {@code versions} in the varint-format into the {@code target}, in order.
+   *
+   * @param versions to encode.
+   * @param target to write into.
+   * @return the {@code target}.
+   * @throws IllegalArgumentException if {@code versions} or {@code target} is {@code null}, or
+   *     {@code versions} contains {@code null}.
+   * @throws BufferOverflowException if {@code target} has too few bytes remaining. Then, nothing
+   *     is written.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static ByteBuffer writeVarints(final SemVer[] versions, final ByteBuffer target)
+      throws BufferOverflowException, IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    long size = 0;
+    for (final SemVer version : versions) {
+      size += varintSize(version);
+    }
+    if (target.remaining() < size) throw new BufferOverflowException();
+    for (final SemVer version : versions) {
+      putVarint(version, target);
+    }
+    return target;
+  }
+
+  /**
+   * Writes the {@code version} in the varint-format to the {@code output}.
+   *
+   * @param version to encode.
+   * @param output to write to.
+   * @throws IllegalArgumentException if {@code version} or {@code output} is {@code null}.
+   * @throws IOException if {@code output} throws it.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void writeVarint(final SemVer version, final DataOutput output)
+      throws IOException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (output == null) throw illegalArgumentOf("output", MUST_NOT_BE_NULL);
+    writeUnsigned(version.major(), output);
+    writeUnsigned(version.minor(), output);
+    if (!hasLabels(version)) {
+      writeUnsigned((long) version.patch() << 1, output);
+      return;
+    }
+    writeUnsigned(((long) version.patch() << 1) | 1, output);
+    writeLabel(version.preRelease(), output);
+    writeLabel(version.buildMetadata(), output);
+  }
+
+  /**
+   * Writes all the {@code versions} in the varint-format to the {@code output}, in order.
+   *
+   * @param versions to encode.
+   * @param output to write to.
+   * @throws IllegalArgumentException if {@code versions} or {@code output} is {@code null}, or
+   *     {@code versions} contains {@code null}. Then, nothing is written.
+   * @throws IOException if {@code output} throws it.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void writeVarints(final SemVer[] versions, final DataOutput output)
+      throws IOException, IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    if (output == null) throw illegalArgumentOf("output", MUST_NOT_BE_NULL);
+    int maxSize = 3 * MAX_VARINT_SIZE;
+    for (final SemVer version : versions) {
+      maxSize = Math.max(maxSize, varintSize(version));
+    }
+    final byte[] scratch = new byte[maxSize];
+    for (final SemVer version : versions) {
+      output.write(scratch, 0, encodeVarint(version, scratch, 0));
+    }
+  }
+
+  /**
+   * Reads a version in the varint-format from the {@code source}.
+   *
+   * @param source to read from.
+   * @return the decoded {@code SemVer}.
+   * @throws IllegalArgumentException if {@code source} is {@code null}, or does not contain a
+   *     version in the varint-format.
+   * @throws BufferUnderflowException if {@code source} ends before the version does.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer readVarint(final ByteBuffer source)
+      throws BufferUnderflowException, IllegalArgumentException {
+    if (source == null) throw illegalArgumentOf("source", MUST_NOT_BE_NULL);
+    return getVarint(source);
+  }
+
+  /**
+   * Reads {@code target.length} versions in the varint-format from the {@code source} into the
+   * {@code target}, in order. If an exception is thrown, the contents of {@code target} and the
+   * position of {@code source} are unspecified.
+   *
+   * @param source to read from.
+   * @param target to read into.
+   * @throws IllegalArgumentException if {@code source} or {@code target} is {@code null}, or
+   *     {@code source} does not contain versions in the varint-format.
+   * @throws BufferUnderflowException if {@code source} ends before the versions do.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", mutates = "param1, param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void readVarints(final ByteBuffer source, final SemVer[] target)
+      throws BufferUnderflowException, IllegalArgumentException {
+    if (source == null) throw illegalArgumentOf("source", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    for (int i = 0; i < target.length; i++) {
+      target[i] = getVarint(source);
+    }
+  }
+
+  /**
+   * Reads a version in the varint-format from the {@code input}.
+   *
+   * @param input to read from.
+   * @return the decoded {@code SemVer}.
+   * @throws IllegalArgumentException if {@code input} is {@code null}, or does not contain a
+   *     version in the varint-format.
+   * @throws IOException if {@code input} throws it, such as when it ends before the version does.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer readVarint(final DataInput input)
+      throws IOException, IllegalArgumentException {
+    if (input == null) throw illegalArgumentOf("input", MUST_NOT_BE_NULL);
+    return getVarint(input);
+  }
+
+  /**
+   * Reads {@code target.length} versions in the varint-format from the {@code input} into the
+   * {@code target}, in order. If an exception is thrown, the contents of {@code target} are
+   * unspecified.
+   *
+   * @param input to read from.
+   * @param target to read into.
+   * @throws IllegalArgumentException if {@code input} or {@code target} is {@code null}, or
+   *     {@code input} does not contain versions in the varint-format.
+   * @throws IOException if {@code input} throws it, such as when it ends before the versions do.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", mutates = "param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void readVarints(final DataInput input, final SemVer[] target)
+      throws IOException, IllegalArgumentException {
+    if (input == null) throw illegalArgumentOf("input", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    for (int i = 0; i < target.length; i++) {
+      target[i] = getVarint(input);
+    }
+  }
+
+  /**
+   * Returns the {@code version} in the key-format.
+   *
+   * @param version to encode.
+   * @return the {@value #KEY_SIZE} bytes of the key.
+   * @throws IllegalArgumentException if {@code version} is {@code null}, or has a {@code
+   *     preRelease} version or {@code buildMetadata}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail; !null -> new", pure = true)
+  public static byte[] toKey(final SemVer version) throws IllegalArgumentException {
+    final byte[] key = new byte[KEY_SIZE];
+    writeKey(version, ByteBuffer.wrap(key));
+    return key;
+  }
+
+  /**
+   * Returns the version of the {@code key}.
+   *
+   * @param key of {@value #KEY_SIZE} bytes.
+   * @return the decoded {@code SemVer}.
+   * @throws IllegalArgumentException if {@code key} is {@code null}, or is not a key of {@value
+   *     #KEY_SIZE} bytes.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer fromKey(final byte[] key) throws IllegalArgumentException {
+    if (key == null) throw illegalArgumentOf("key", MUST_NOT_BE_NULL);
+    if (key.length != KEY_SIZE) throw new IllegalArgumentException(MALFORMED_MESSAGE);
+    return getKey(ByteBuffer.wrap(key));
+  }
+
+  /**
+   * Writes the {@code version} in the key-format into the {@code target}.
+   *
+   * @param version to encode.
+   * @param target to write into.
+   * @return the {@code target}.
+   * @throws IllegalArgumentException if {@code version} or {@code target} is {@code null}, or
+   *     {@code version} has a {@code preRelease} version or {@code buildMetadata}.
+   * @throws BufferOverflowException if {@code target} has fewer than {@value #KEY_SIZE} bytes
+   *     remaining. Then, nothing is written.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static ByteBuffer writeKey(final SemVer version, final ByteBuffer target)
+      throws BufferOverflowException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    if (hasLabels(version)) throw new IllegalArgumentException(KEY_MESSAGE);
+    if (target.remaining() < KEY_SIZE) throw new BufferOverflowException();
+    putKey(version, target);
+    return target;
+  }
+
+  /**
+   * Writes all the {@code versions} in the key-format into the {@code target}, in order.
+   *
+   * @param versions to encode.
+   * @param target to write into.
+   * @return the {@code target}.
+   * @throws IllegalArgumentException if {@code versions} or {@code target} is {@code null}, or
+   *     any version is {@code null} or has a {@code preRelease} version or {@code buildMetadata}.
+   *     Then, nothing is written.
+   * @throws BufferOverflowException if {@code target} has too few bytes remaining. Then, nothing
+   *     is written.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static ByteBuffer writeKeys(final SemVer[] versions, final ByteBuffer target)
+      throws BufferOverflowException, IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    requireKeys(versions);
+    if (target.remaining() < (long) versions.length * KEY_SIZE) {
+      throw new BufferOverflowException();
+    }
+    for (final SemVer version : versions) {
+      putKey(version, target);
+    }
+    return target;
+  }
+
+  /**
+   * Writes the {@code version} in the key-format to the {@code output}.
+   *
+   * @param version to encode.
+   * @param output to write to.
+   * @throws IllegalArgumentException if {@code version} or {@code output} is {@code null}, or
+   *     {@code version} has a {@code preRelease} version or {@code buildMetadata}.
+   * @throws IOException if {@code output} throws it.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void writeKey(final SemVer version, final DataOutput output)
+      throws IOException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (output == null) throw illegalArgumentOf("output", MUST_NOT_BE_NULL);
+    if (hasLabels(version)) throw new IllegalArgumentException(KEY_MESSAGE);
+    output.writeInt(version.major());
+    output.writeInt(version.minor());
+    output.writeInt(version.patch());
+  }
+
+  /**
+   * Writes all the {@code versions} in the key-format to the {@code output}, in order.
+   *
+   * @param versions to encode.
+   * @param output to write to.
+   * @throws IllegalArgumentException if {@code versions} or {@code output} is {@code null}, or
+   *     any version is {@code null} or has a {@code preRelease} version or {@code buildMetadata}.
+   *     Then, nothing is written.
+   * @throws IOException if {@code output} throws it.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void writeKeys(final SemVer[] versions, final DataOutput output)
+      throws IOException, IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    if (output == null) throw illegalArgumentOf("output", MUST_NOT_BE_NULL);
+    requireKeys(versions);
+    for (final SemVer version : versions) {
+      output.writeInt(version.major());
+      output.writeInt(version.minor());
+      output.writeInt(version.patch());
+    }
+  }
+
+  /**
+   * Reads a version in the key-format from the {@code source}.
+   *
+   * @param source to read from.
+   * @return the decoded {@code SemVer}.
+   * @throws IllegalArgumentException if {@code source} is {@code null}, or does not contain a
+   *     version in the key-format.
+   * @throws BufferUnderflowException if {@code source} has fewer than {@value #KEY_SIZE} bytes
+   *     remaining.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer readKey(final ByteBuffer source)
+      throws BufferUnderflowException, IllegalArgumentException {
+    if (source == null) throw illegalArgumentOf("source", MUST_NOT_BE_NULL);
+    return getKey(source);
+  }
+
+  /**
+   * Reads {@code target.length} versions in the key-format from the {@code source} into the
+   * {@code target}, in order. If an exception is thrown, the contents of {@code target} and the
+   * position of {@code source} are unspecified.
+   *
+   * @param source to read from.
+   * @param target to read into.
+   * @throws IllegalArgumentException if {@code source} or {@code target} is {@code null}, or
+   *     {@code source} does not contain versions in the key-format.
+   * @throws BufferUnderflowException if {@code source} ends before the versions do.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", mutates = "param1, param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void readKeys(final ByteBuffer source, final SemVer[] target)
+      throws BufferUnderflowException, IllegalArgumentException {
+    if (source == null) throw illegalArgumentOf("source", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    for (int i = 0; i < target.length; i++) {
+      target[i] = getKey(source);
+    }
+  }
+
+  /**
+   * Reads a version in the key-format from the {@code input}.
+   *
+   * @param input to read from.
+   * @return the decoded {@code SemVer}.
+   * @throws IllegalArgumentException if {@code input} is {@code null}, or does not contain a
+   *     version in the key-format.
+   * @throws IOException if {@code input} throws it, such as when it ends before the version does.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVer readKey(final DataInput input) throws IOException, IllegalArgumentException {
+    if (input == null) throw illegalArgumentOf("input", MUST_NOT_BE_NULL);
+    return keyOf(input.readInt(), input.readInt(), input.readInt());
+  }
+
+  /**
+   * Reads {@code target.length} versions in the key-format from the {@code input} into the {@code
+   * target}, in order. If an exception is thrown, the contents of {@code target} are unspecified.
+   *
+   * @param input to read from.
+   * @param target to read into.
+   * @throws IllegalArgumentException if {@code input} or {@code target} is {@code null}, or
+   *     {@code input} does not contain versions in the key-format.
+   * @throws IOException if {@code input} throws it, such as when it ends before the versions do.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", mutates = "param2")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void readKeys(final DataInput input, final SemVer[] target)
+      throws IOException, IllegalArgumentException {
+    if (input == null) throw illegalArgumentOf("input", MUST_NOT_BE_NULL);
+    if (target == null) throw illegalArgumentOf("target", MUST_NOT_BE_NULL);
+    for (int i = 0; i < target.length; i++) {
+      target[i] = keyOf(input.readInt(), input.readInt(), input.readInt());
+    }
+  }
+
+  private static boolean hasLabels(final SemVer version) {
+    return !version.preRelease().isEmpty() || !version.buildMetadata().isEmpty();
+  }
+
+  private static void requireKeys(final SemVer[] versions) {
+    for (int i = 0; i < versions.length; i++) {
+      final SemVer version = versions[i];
+      if (version == null) throw illegalArgumentOf("versions[" + i + "]", MUST_NOT_BE_NULL);
+      if (hasLabels(version)) throw new IllegalArgumentException(KEY_MESSAGE);
+    }
+  }
+
+  private static int unsignedSize(final long value) {
+    int size = 1;
+    for (long rest = value >>> 7; rest != 0; rest >>>= 7) {
+      size++;
+    }
+    return size;
+  }
+
+  /** Encodes the {@code version} at the {@code offset} of the {@code target}, returning the end. */
+  private static int encodeVarint(final SemVer version, final byte[] target, final int offset) {
+    int index = encodeUnsigned(version.major(), target, offset);
+    index = encodeUnsigned(version.minor(), target, index);
+    if (!hasLabels(version)) return encodeUnsigned((long) version.patch() << 1, target, index);
+    index = encodeUnsigned(((long) version.patch() << 1) | 1, target, index);
+    index = encodeLabel(version.preRelease(), target, index);
+    return encodeLabel(version.buildMetadata(), target, index);
+  }
+
+  private static int encodeUnsigned(long value, final byte[] target, int index) {
+    while ((value & ~0x7FL) != 0) {
+      target[index++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    target[index++] = (byte) value;
+    return index;
+  }
+
+  private static int encodeLabel(final String label, final byte[] target, final int offset) {
+    int index = encodeUnsigned(label.length(), target, offset);
+    for (int i = 0; i < label.length(); i++) {
+      target[index++] = (byte) label.charAt(i);
+    }
+    return index;
+  }
+
+  private static void putVarint(final SemVer version, final ByteBuffer target) {
+    if (target.hasArray()) {
+      // Encodes directly into the backing array, since the remaining size has been checked.
+      final int position = target.position();
+      final int offset = target.arrayOffset() + position;
+      target.position(position + encodeVarint(version, target.array(), offset) - offset);
+      return;
+    }
+    putUnsigned(version.major(), target);
+    putUnsigned(version.minor(), target);
+    if (!hasLabels(version)) {
+      putUnsigned((long) version.patch() << 1, target);
+      return;
+    }
+    putUnsigned(((long) version.patch() << 1) | 1, target);
+    putLabel(version.preRelease(), target);
+    putLabel(version.buildMetadata(), target);
+  }
+
+  private static void putUnsigned(long value, final ByteBuffer target) {
+    while ((value & ~0x7FL) != 0) {
+      target.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    target.put((byte) value);
+  }
+
+  private static void putLabel(final String label, final ByteBuffer target) {
+    putUnsigned(label.length(), target);
+    for (int i = 0; i < label.length(); i++) {
+      target.put((byte) label.charAt(i));
+    }
+  }
+
+  private static void writeUnsigned(long value, final DataOutput output) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    output.writeByte((int) value);
+  }
+
+  private static void writeLabel(final String label, final DataOutput output)
+      throws IOException {
+    writeUnsigned(label.length(), output);
+    // Labels are ASCII, so the low byte of each char is written.
+    output.writeBytes(label);
+  }
+
+  private static SemVer getVarint(final ByteBuffer source) {
+    final int major = toInt(getUnsigned(source));
+    final int minor = toInt(getUnsigned(source));
+    final long patchAndLabels = getUnsigned(source);
+    final int patch = toInt(patchAndLabels >>> 1);
+    if ((patchAndLabels & 1) == 0) return SemVer.of(major, minor, patch);
+    final String preRelease = getLabel(source);
+    return new SemVer(major, minor, patch, preRelease, getLabel(source));
+  }
+
+  private static long getUnsigned(final ByteBuffer source) {
+    long value = 0;
+    for (int shift = 0; shift < 7 * MAX_VARINT_SIZE; shift += 7) {
+      final byte next = source.get();
+      value |= (long) (next & 0x7F) << shift;
+      if (next >= 0) return value;
+    }
+    throw new IllegalArgumentException(MALFORMED_MESSAGE);
+  }
+
+  private static String getLabel(final ByteBuffer source) {
+    final int length = toInt(getUnsigned(source));
+    if (length > source.remaining()) throw new BufferUnderflowException();
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (source.get() & 0xFF);
+    }
+    return new String(chars);
+  }
+
+  private static SemVer getVarint(final DataInput input) throws IOException {
+    final int major = toInt(getUnsigned(input));
+    final int minor = toInt(getUnsigned(input));
+    final long patchAndLabels = getUnsigned(input);
+    final int patch = toInt(patchAndLabels >>> 1);
+    if ((patchAndLabels & 1) == 0) return SemVer.of(major, minor, patch);
+    final String preRelease = getLabel(input);
+    return new SemVer(major, minor, patch, preRelease, getLabel(input));
+  }
+
+  private static long getUnsigned(final DataInput input) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 7 * MAX_VARINT_SIZE; shift += 7) {
+      final byte next = input.readByte();
+      value |= (long) (next & 0x7F) << shift;
+      if (next >= 0) return value;
+    }
+    throw new IllegalArgumentException(MALFORMED_MESSAGE);
+  }
+
+  private static String getLabel(final DataInput input) throws IOException {
+    final int length = toInt(getUnsigned(input));
+    // Grows with the bytes actually read, rather than trusting the length of malformed input.
+    final StringBuilder label = new StringBuilder(Math.min(length, 64));
+    for (int i = 0; i < length; i++) {
+      label.append((char) input.readUnsignedByte());
+    }
+    return label.toString();
+  }
+
+  private static int toInt(final long value) {
+    if (value > Integer.MAX_VALUE) throw new IllegalArgumentException(MALFORMED_MESSAGE);
+    return (int) value;
+  }
+
+  private static void putKey(final SemVer version, final ByteBuffer target) {
+    final boolean bigEndian = target.order() == ByteOrder.BIG_ENDIAN;
+    target.putInt(bigEndian ? version.major() : Integer.reverseBytes(version.major()));
+    target.putInt(bigEndian ? version.minor() : Integer.reverseBytes(version.minor()));
+    target.putInt(bigEndian ? version.patch() : Integer.reverseBytes(version.patch()));
+  }
+
+  private static SemVer getKey(final ByteBuffer source) {
+    if (source.remaining() < KEY_SIZE) throw new BufferUnderflowException();
+    final boolean bigEndian = source.order() == ByteOrder.BIG_ENDIAN;
+    final int major = source.getInt();
+    final int minor = source.getInt();
+    final int patch = source.getInt();
+    if (bigEndian) return keyOf(major, minor, patch);
+    return keyOf(
+        Integer.reverseBytes(major), Integer.reverseBytes(minor), Integer.reverseBytes(patch));
+  }
+
+  private static SemVer keyOf(final int major, final int minor, final int patch) {
+    if ((major | minor | patch) < 0) throw new IllegalArgumentException(MALFORMED_MESSAGE);
+    return SemVer.of(major, minor, patch);
+  }
+}
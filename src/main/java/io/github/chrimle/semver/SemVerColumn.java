@@ -0,0 +1,458 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An append-only column of {@link SemVer}s, stored <em>off-heap</em> in their {@linkplain
+ * PackedSemVer packed} representation of 8 bytes per version.
+ *
+ * <p>The versions are stored in chunks of 8 MiB, either in {@linkplain #allocate() direct memory}
+ * or in a {@linkplain #map(Path) memory-mapped file}, so a column may hold more versions than
+ * would fit on the heap as {@code SemVer}s. Versions are only created when they are {@linkplain
+ * #get(long) read}. Filters such as {@link #atLeast(SemVer)} and {@link #stable()} compare the
+ * packed values in bulk, with a single branch-free comparison per version.
+ *
+ * <p>Only {@linkplain SemVer#isPackable() packable} <em>release</em> versions can be appended.
+ * Columns are <strong>not</strong> thread-safe.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerColumn column = SemVerColumn.map(Path.of("client-versions.col"));
+ * column.appendAll(reportedVersions);
+ * column.force();
+ * BitSet outdated = column.lessThan(new SemVer(2, 0, 0));
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerColumn {
+
+  /** The number of versions per chunk is {@code 1 << CHUNK_SHIFT}. */
+  static final int CHUNK_SHIFT = 20;
+
+  /**
+   * Files start with the {@code int} {@link #MAGIC}, followed by 4 reserved bytes and the {@code
+   * long} {@link #size()}. All values are little-endian.
+   */
+  static final int HEADER_SIZE = 16;
+
+  private static final int MAGIC = 0x31435653; // "SVC1"
+  private static final int SIZE_OFFSET = 8;
+
+  /** The number of versions copied onto the heap at a time when filtering. */
+  private static final int BLOCK_SIZE = 1 << 10;
+
+  private final int chunkShift;
+  private final @Nullable Path path;
+  private final @Nullable MappedByteBuffer header;
+  private ByteBuffer[] buffers;
+  private LongBuffer[] chunks;
+  private int chunkCount;
+  private long size;
+
+  private SemVerColumn(
+      final int chunkShift, final @Nullable Path path, final @Nullable MappedByteBuffer header) {
+    this.chunkShift = chunkShift;
+    this.path = path;
+    this.header = header;
+    this.buffers = new ByteBuffer[8];
+    this.chunks = new LongBuffer[8];
+  }
+
+  /**
+   * Creates an empty column in <em>direct</em> memory, which is released once the column is
+   * garbage collected.
+   *
+   * @return the new {@code SemVerColumn}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public static SemVerColumn allocate() {
+    return allocate(CHUNK_SHIFT);
+  }
+
+  static SemVerColumn allocate(final int chunkShift) {
+    return new SemVerColumn(chunkShift, null, null);
+  }
+
+  /**
+   * Memory-maps the column stored in the file at the given {@code path}, creating the file if it
+   * does not exist. The stored versions are not copied, and appended versions are written
+   * directly to the file. Call {@link #force()} to ensure that they have been persisted.
+   *
+   * @param path of the file.
+   * @return the new {@code SemVerColumn}.
+   * @throws IllegalArgumentException if {@code path} is {@code null}.
+   * @throws IOException if the file cannot be mapped, or is not a {@code SemVerColumn}-file.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerColumn map(final Path path) throws IOException, IllegalArgumentException {
+    if (path == null) throw illegalArgumentOf("path", MUST_NOT_BE_NULL);
+    return map(path, CHUNK_SHIFT);
+  }
+
+  static SemVerColumn map(final Path path, final int chunkShift) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+      final boolean created = channel.size() == 0;
+      if (!created && channel.size() < HEADER_SIZE) {
+        throw new IOException("The file is not a `SemVerColumn`-file: " + path);
+      }
+      final MappedByteBuffer header =
+          channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+      header.order(ByteOrder.LITTLE_ENDIAN);
+      if (created) {
+        header.putInt(0, MAGIC);
+      } else if (header.getInt(0) != MAGIC) {
+        throw new IOException("The file is not a `SemVerColumn`-file: " + path);
+      }
+      final SemVerColumn column = new SemVerColumn(chunkShift, path, header);
+      final long size = header.getLong(SIZE_OFFSET);
+      final long chunkBytes = (long) Long.BYTES << chunkShift;
+      if (size < 0 || size > (channel.size() - HEADER_SIZE) / Long.BYTES) {
+        throw new IOException("The file is truncated: " + path);
+      }
+      while ((long) column.chunkCount << chunkShift < size) {
+        column.addChunk(
+            channel.map(
+                FileChannel.MapMode.READ_WRITE,
+                HEADER_SIZE + column.chunkCount * chunkBytes,
+                chunkBytes));
+      }
+      column.size = size;
+      return column;
+    }
+  }
+
+  /**
+   * Returns the number of versions in <em>this</em> column.
+   *
+   * @return the number of versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns whether <em>this</em> column is stored in a memory-mapped file.
+   *
+   * @return whether <em>this</em> column was created by {@link #map(Path)}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isMapped() {
+    return path != null;
+  }
+
+  /**
+   * Appends the {@code version}.
+   *
+   * @param version to append.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @throws UncheckedIOException if a mapped file could not be extended.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void append(final SemVer version) throws ArithmeticException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    appendPacked(version.toPacked());
+  }
+
+  /**
+   * Appends the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version to append.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @throws UncheckedIOException if a mapped file could not be extended.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void appendPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    ensureCapacity(size + 1);
+    chunks[(int) (size >>> chunkShift)].put((int) (size & chunkMask()), packed);
+    setSize(size + 1);
+  }
+
+  /**
+   * Appends all the {@code versions}, in order. Either all or none of the versions are appended.
+   *
+   * @param versions to append.
+   * @throws IllegalArgumentException if {@code versions} is {@code null} or contains {@code null}.
+   * @throws ArithmeticException if any version is not {@linkplain SemVer#isPackable() packable}.
+   * @throws UncheckedIOException if a mapped file could not be extended.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void appendAll(final SemVer... versions)
+      throws ArithmeticException, IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    final long[] packed = new long[versions.length];
+    for (int i = 0; i < versions.length; i++) {
+      final SemVer version = versions[i];
+      if (version == null) throw illegalArgumentOf("versions[" + i + "]", MUST_NOT_BE_NULL);
+      packed[i] = version.toPacked();
+    }
+    appendAllPacked(packed, 0, packed.length);
+  }
+
+  /**
+   * Appends the {@linkplain PackedSemVer packed} versions {@code [from, to)}, in order. Either all
+   * or none of the versions are appended.
+   *
+   * @param packed versions to append.
+   * @param from index, inclusive.
+   * @param to index, exclusive.
+   * @throws IllegalArgumentException if {@code packed} is {@code null} or contains a negative
+   *     value.
+   * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of bounds.
+   * @throws UncheckedIOException if a mapped file could not be extended.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void appendAllPacked(final long[] packed, final int from, final int to)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    Objects.checkFromToIndex(from, to, packed.length);
+    for (int i = from; i < to; i++) {
+      if (packed[i] < 0) throw illegalArgumentOf("packed[" + i + "]", MUST_BE_AT_LEAST, "0");
+    }
+    ensureCapacity(size + (to - from));
+    long index = size;
+    int offset = from;
+    while (offset < to) {
+      final int position = (int) (index & chunkMask());
+      final int length = Math.min(to - offset, (1 << chunkShift) - position);
+      chunks[(int) (index >>> chunkShift)].put(position, packed, offset, length);
+      index += length;
+      offset += length;
+    }
+    setSize(index);
+  }
+
+  /**
+   * Returns the version at the given position.
+   *
+   * @param index of the version.
+   * @return the {@code SemVer} at {@code index}.
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVer get(final long index) throws IndexOutOfBoundsException {
+    return SemVer.fromPacked(getPacked(index));
+  }
+
+  /**
+   * Returns the {@linkplain PackedSemVer packed} version at the given position.
+   *
+   * @param index of the version.
+   * @return the packed version at {@code index}.
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long getPacked(final long index) throws IndexOutOfBoundsException {
+    Objects.checkIndex(index, size);
+    return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask()));
+  }
+
+  /**
+   * Returns the positions of the versions which are greater than, or equal to, the {@code
+   * minimum}, as per {@link SemVer#compareTo(SemVer)}.
+   *
+   * @param minimum version, inclusive.
+   * @return the {@code BitSet} of matching positions.
+   * @throws IllegalArgumentException if {@code minimum} is {@code null}.
+   * @throws ArithmeticException if {@link #size()} is greater than {@link Integer#MAX_VALUE}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public BitSet atLeast(final SemVer minimum)
+      throws ArithmeticException, IllegalArgumentException {
+    if (minimum == null) throw illegalArgumentOf("minimum", MUST_NOT_BE_NULL);
+    // Only releases are stored, and a pre-release precedes the release of the same triple.
+    if (!PackedSemVer.isPackable(minimum.major(), minimum.minor(), minimum.patch())) {
+      return select(1, 0);
+    }
+    return select(
+        PackedSemVer.packUnchecked(minimum.major(), minimum.minor(), minimum.patch()),
+        PackedSemVer.MAX_PACKED);
+  }
+
+  /**
+   * Returns the positions of the versions which are less than the {@code maximum}, as per {@link
+   * SemVer#compareTo(SemVer)}.
+   *
+   * @param maximum version, exclusive.
+   * @return the {@code BitSet} of matching positions.
+   * @throws IllegalArgumentException if {@code maximum} is {@code null}.
+   * @throws ArithmeticException if {@link #size()} is greater than {@link Integer#MAX_VALUE}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public BitSet lessThan(final SemVer maximum)
+      throws ArithmeticException, IllegalArgumentException {
+    if (maximum == null) throw illegalArgumentOf("maximum", MUST_NOT_BE_NULL);
+    if (!PackedSemVer.isPackable(maximum.major(), maximum.minor(), maximum.patch())) {
+      return select(PackedSemVer.MIN_PACKED, PackedSemVer.MAX_PACKED);
+    }
+    return select(
+        PackedSemVer.MIN_PACKED,
+        PackedSemVer.packUnchecked(maximum.major(), maximum.minor(), maximum.patch()) - 1);
+  }
+
+  /**
+   * Returns the positions of the versions which are {@linkplain SemVer#isStable() stable}.
+   *
+   * @return the {@code BitSet} of matching positions.
+   * @throws ArithmeticException if {@link #size()} is greater than {@link Integer#MAX_VALUE}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public BitSet stable() throws ArithmeticException {
+    return select(PackedSemVer.MIN_STABLE_PACKED, PackedSemVer.MAX_PACKED);
+  }
+
+  /**
+   * Ensures that all appended versions have been written to the storage device, if <em>this</em>
+   * column is {@linkplain #isMapped() mapped}. Otherwise, does nothing.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void force() {
+    if (header == null) return;
+    for (int i = 0; i < chunkCount; i++) {
+      ((MappedByteBuffer) buffers[i]).force();
+    }
+    header.force();
+  }
+
+  /**
+   * Selects the positions of the packed values within {@code [min, max]}, which is empty if {@code
+   * min} is greater than {@code max}.
+   */
+  private BitSet select(final long min, final long max) {
+    if (size > Integer.MAX_VALUE) {
+      throw new ArithmeticException(
+          "A `SemVerColumn` with more than `Integer.MAX_VALUE` versions cannot be filtered");
+    }
+    if (min > max) return new BitSet();
+    // Offsetting by `min` turns the range check into a single unsigned comparison.
+    final long bound = (max - min) + Long.MIN_VALUE;
+    final long[] words = new long[(int) ((size + 63) >>> 6)];
+    final long[] block = new long[BLOCK_SIZE];
+    long index = 0;
+    while (index < size) {
+      final int position = (int) (index & chunkMask());
+      final int length =
+          (int) Math.min(Math.min(size - index, BLOCK_SIZE), chunkMask() + 1 - position);
+      chunks[(int) (index >>> chunkShift)].get(position, block, 0, length);
+      for (int i = 0; i < length; i++) {
+        final long bit = (block[i] - min + Long.MIN_VALUE) <= bound ? 1L : 0L;
+        words[(int) ((index + i) >>> 6)] |= bit << (index + i);
+      }
+      index += length;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  private long chunkMask() {
+    return (1L << chunkShift) - 1;
+  }
+
+  private void setSize(final long size) {
+    this.size = size;
+    if (header != null) header.putLong(SIZE_OFFSET, size);
+  }
+
+  private void ensureCapacity(final long capacity) {
+    while ((long) chunkCount << chunkShift < capacity) {
+      final int chunkBytes = Long.BYTES << chunkShift;
+      if (path == null) {
+        addChunk(ByteBuffer.allocateDirect(chunkBytes));
+        continue;
+      }
+      try (FileChannel channel =
+          FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        addChunk(
+            channel.map(
+                FileChannel.MapMode.READ_WRITE,
+                HEADER_SIZE + (long) chunkCount * chunkBytes,
+                chunkBytes));
+      } catch (final IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+  }
+
+  private void addChunk(final ByteBuffer buffer) {
+    if (chunkCount == chunks.length) {
+      buffers = Arrays.copyOf(buffers, chunkCount * 2);
+      chunks = Arrays.copyOf(chunks, chunkCount * 2);
+    }
+    buffers[chunkCount] = buffer;
+    chunks[chunkCount++] = buffer.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+  }
+}
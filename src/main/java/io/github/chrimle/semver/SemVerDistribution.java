@@ -0,0 +1,604 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread-safe, lock-free counter of how often each version is observed, such as the client
+ * version of every request of a service.
+ *
+ * <p>Versions are counted by their {@code major}, {@code minor} and {@code patch} versions, in a
+ * fixed-size open-addressing table of {@linkplain PackedSemVer packed} keys. Each version has one
+ * counter per <em>stripe</em>, and threads increment the counter of their own stripe, so that
+ * threads recording the same popular version rarely contend for the same cache line. Recording a
+ * known version never allocates, and never blocks.
+ *
+ * <p>Queries are answered by a {@link Snapshot}, which sums the stripes without blocking
+ * recording threads. Versions recorded concurrently with taking a snapshot may or may not be
+ * included in it. {@link #snapshotAndReset()} starts a new <em>window</em> in a fresh table,
+ * without losing any concurrently recorded versions, and {@link #decay()} halves all counters
+ * instead.
+ *
+ * <p>At most {@link #maxVersions()} distinct versions are tracked per window. Further distinct
+ * versions, as well as versions which cannot be packed, are not counted but {@linkplain #dropped()
+ * dropped}. Versions are only released by {@link #snapshotAndReset()}, so a distribution which is
+ * only {@linkplain #decay() decayed} keeps tracking the first {@code maxVersions} versions.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerDistribution clients = new SemVerDistribution();
+ * // For every request, from any thread
+ * clients.record(major, minor, patch);
+ * // Periodically
+ * SemVerDistribution.Snapshot window = clients.snapshotAndReset();
+ * SemVer oldest = window.min();
+ * List<SemVerDistribution.VersionCount> popular = window.top(10);
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerDistribution {
+
+  static final int DEFAULT_MAX_VERSIONS = 1 << 10;
+  static final int MAX_VERSIONS = 1 << 16;
+  static final int MAX_STRIPES = 64;
+
+  private final int maxVersions;
+  private final int capacity;
+  private final int shift;
+  private final int mask;
+  private final int stripeMask;
+
+  /** The table of the current window, which is replaced by {@link #snapshotAndReset()}. */
+  private final AtomicReference<Table> table;
+
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * Creates an empty {@link SemVerDistribution}, tracking at most {@value #DEFAULT_MAX_VERSIONS}
+   * distinct versions.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerDistribution() {
+    this(DEFAULT_MAX_VERSIONS);
+  }
+
+  /**
+   * Creates an empty {@link SemVerDistribution}, tracking at most {@code maxVersions} distinct
+   * versions.
+   *
+   * @param maxVersions number of distinct versions.
+   * @throws IllegalArgumentException if {@code maxVersions} is less than {@code 1}, or greater
+   *     than {@code 65536}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerDistribution(final int maxVersions) throws IllegalArgumentException {
+    this(maxVersions, defaultStripes());
+  }
+
+  SemVerDistribution(final int maxVersions, final int stripes) {
+    if (maxVersions < 1) throw illegalArgumentOf("maxVersions", MUST_BE_AT_LEAST, "1");
+    if (maxVersions > MAX_VERSIONS) {
+      throw illegalArgumentOf("maxVersions", MUST_BE_AT_MOST, String.valueOf(MAX_VERSIONS));
+    }
+    this.maxVersions = maxVersions;
+    this.capacity = SemVerSet.capacityFor(maxVersions);
+    this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    this.mask = capacity - 1;
+    this.stripeMask = stripes - 1;
+    this.table = new AtomicReference<>(new Table(capacity, stripes));
+  }
+
+  /**
+   * Returns the maximum number of distinct versions tracked by <em>this</em> distribution.
+   *
+   * @return the maximum number of distinct versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int maxVersions() {
+    return maxVersions;
+  }
+
+  /**
+   * Returns the number of versions which were not counted, either because {@link #maxVersions()}
+   * distinct versions were already tracked in their window, or because they could not be packed.
+   *
+   * @return the number of dropped versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Records one observation of the {@code version}. A <em>pre-release</em> version, and any
+   * <em>build metadata</em>, is counted as the {@code major}, {@code minor} and {@code patch}
+   * version.
+   *
+   * @param version to record.
+   * @return whether the {@code version} was counted, rather than {@linkplain #dropped() dropped}.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public boolean record(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return record(version.major(), version.minor(), version.patch());
+  }
+
+  /**
+   * Records one observation of the version {@code major.minor.patch}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return whether the version was counted, rather than {@linkplain #dropped() dropped}.
+   * @throws IllegalArgumentException if {@code major}, {@code minor} or {@code patch} is less than
+   *     {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public boolean record(final int major, final int minor, final int patch)
+      throws IllegalArgumentException {
+    if ((major | minor | patch) < 0) {
+      if (major < 0) throw illegalArgumentOf("major", MUST_BE_AT_LEAST, "0");
+      if (minor < 0) throw illegalArgumentOf("minor", MUST_BE_AT_LEAST, "0");
+      throw illegalArgumentOf("patch", MUST_BE_AT_LEAST, "0");
+    }
+    if (!PackedSemVer.isPackable(major, minor, patch)) {
+      dropped.increment();
+      return false;
+    }
+    return increment(PackedSemVer.packUnchecked(major, minor, patch));
+  }
+
+  /**
+   * Records one observation of the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version.
+   * @return whether the version was counted, rather than {@linkplain #dropped() dropped}.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public boolean recordPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    return increment(packed);
+  }
+
+  /**
+   * Returns a {@link Snapshot} of the current counts.
+   *
+   * @return the {@code Snapshot}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public Snapshot snapshot() {
+    return snapshot(table.get(), false);
+  }
+
+  /**
+   * Returns a {@link Snapshot} of the current counts, and starts a new window in a fresh table, in
+   * which every counter is {@code 0} and no versions are tracked yet. Every concurrently recorded
+   * version is counted either by the returned {@code Snapshot}, or by the next one.
+   *
+   * @return the {@code Snapshot} of the ending window.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public Snapshot snapshotAndReset() {
+    return snapshot(table.getAndSet(new Table(capacity, stripeMask + 1)), true);
+  }
+
+  /**
+   * Halves every counter of the current window, rounding down, so that older observations weigh
+   * less than recent ones. Each counter is halved atomically, so concurrently recorded versions are
+   * never lost, and concurrent decays each halve the counters. Since each stripe is halved
+   * separately, a count may be rounded down by up to one per stripe.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void decay() {
+    final AtomicLongArray counts = table.get().counts;
+    for (int i = 0; i < counts.length(); i++) {
+      if (counts.get(i) != 0) counts.getAndUpdate(i, count -> count >>> 1);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "%s{versions=%d, dropped=%d}"
+        .formatted(getClass().getSimpleName(), table.get().size.get(), dropped());
+  }
+
+  private boolean increment(final long packed) {
+    while (true) {
+      final Table current = table.get();
+      final int counter = increment(current, packed);
+      if (counter < 0) {
+        dropped.increment();
+        return false;
+      }
+      if (table.get() == current) return true;
+      // The window ended concurrently, and its snapshot may have been taken before the increment.
+      // If the observation is still in the old table, it is taken back and recorded again.
+      if (current.counts.getAndUpdate(counter, count -> count > 0 ? count - 1 : 0) == 0) {
+        return true;
+      }
+    }
+  }
+
+  /** Returns the index of the incremented counter, or {@code -1} if the {@code table} is full. */
+  private int increment(final Table table, final long packed) {
+    final AtomicLongArray keys = table.keys;
+    int slot = SemVerSet.slot(packed, shift);
+    while (true) {
+      final long key = keys.get(slot);
+      if (key == packed) {
+        return increment(table.counts, stripe() * capacity + slot);
+      }
+      if (key == SemVerSet.EMPTY) {
+        if (table.reserved.incrementAndGet() > maxVersions) {
+          table.reserved.decrementAndGet();
+          if (table.size.get() >= maxVersions) return -1;
+          // A concurrent insert holds a reservation which it may release after losing the race for
+          // its slot, so the table is not full yet. The slot is read again once it is resolved.
+          Thread.onSpinWait();
+          continue;
+        }
+        if (keys.compareAndSet(slot, SemVerSet.EMPTY, packed)) {
+          table.size.incrementAndGet();
+          return increment(table.counts, stripe() * capacity + slot);
+        }
+        // Another thread claimed the slot, possibly for this version, so it is read again.
+        table.reserved.decrementAndGet();
+        continue;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private static int increment(final AtomicLongArray counts, final int counter) {
+    counts.getAndIncrement(counter);
+    return counter;
+  }
+
+  private int stripe() {
+    return (int) Thread.currentThread().getId() & stripeMask;
+  }
+
+  private Snapshot snapshot(final Table table, final boolean reset) {
+    final AtomicLongArray keys = table.keys;
+    final AtomicLongArray counts = table.counts;
+    final long[] found = new long[capacity];
+    final long[] foundCounts = new long[capacity];
+    int length = 0;
+    for (int slot = 0; slot < capacity; slot++) {
+      final long key = keys.get(slot);
+      if (key == SemVerSet.EMPTY) continue;
+      long count = 0;
+      for (int i = slot; i < counts.length(); i += capacity) {
+        count += reset ? counts.getAndSet(i, 0) : counts.get(i);
+      }
+      if (count == 0) continue;
+      found[length] = key;
+      foundCounts[length++] = count;
+    }
+    return Snapshot.of(found, foundCounts, length);
+  }
+
+  /** The keys and counters of a window. */
+  private static final class Table {
+
+    private final AtomicLongArray keys;
+
+    /** The counters, where the counters of the stripe {@code s} start at {@code s * capacity}. */
+    private final AtomicLongArray counts;
+
+    /** The number of inserted versions, plus the number of inserts in progress. */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /** The number of inserted versions. */
+    private final AtomicInteger size = new AtomicInteger();
+
+    private Table(final int capacity, final int stripes) {
+      this.keys = new AtomicLongArray(capacity);
+      for (int i = 0; i < capacity; i++) {
+        keys.set(i, SemVerSet.EMPTY);
+      }
+      this.counts = new AtomicLongArray(stripes * capacity);
+    }
+  }
+
+  /** Returns the number of stripes, which is the power of two at least the number of CPUs. */
+  private static int defaultStripes() {
+    final int processors = Runtime.getRuntime().availableProcessors();
+    return Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, 2 * processors - 1)));
+  }
+
+  /**
+   * The number of observations of a {@link SemVer}.
+   *
+   * @param version observed.
+   * @param count of observations.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public record VersionCount(SemVer version, long count) {}
+
+  /**
+   * An immutable snapshot of a {@link SemVerDistribution}, holding the observed versions in
+   * ascending order with their counts. Only versions with a count greater than {@code 0} are
+   * included.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static final class Snapshot {
+
+    private final long[] packed;
+    private final long[] counts;
+
+    /** The cumulative counts, where {@code cumulative[i]} is the sum of {@code counts[0, i)}. */
+    private final long[] cumulative;
+
+    private Snapshot(final long[] packed, final long[] counts) {
+      this.packed = packed;
+      this.counts = counts;
+      this.cumulative = new long[packed.length + 1];
+      for (int i = 0; i < packed.length; i++) {
+        cumulative[i + 1] = cumulative[i] + counts[i];
+      }
+    }
+
+    private static Snapshot of(final long[] packed, final long[] counts, final int length) {
+      final Integer[] order = new Integer[length];
+      for (int i = 0; i < length; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingLong(i -> packed[i]));
+      final long[] sortedPacked = new long[length];
+      final long[] sortedCounts = new long[length];
+      for (int i = 0; i < length; i++) {
+        sortedPacked[i] = packed[order[i]];
+        sortedCounts[i] = counts[order[i]];
+      }
+      return new Snapshot(sortedPacked, sortedCounts);
+    }
+
+    /**
+     * Returns the total number of observations.
+     *
+     * @return the sum of all counts.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public long total() {
+      return cumulative[packed.length];
+    }
+
+    /**
+     * Returns the number of distinct observed versions.
+     *
+     * @return the number of versions.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public int size() {
+      return packed.length;
+    }
+
+    /**
+     * Returns whether no versions were observed.
+     *
+     * @return whether {@link #size()} is {@code 0}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public boolean isEmpty() {
+      return packed.length == 0;
+    }
+
+    /**
+     * Returns the number of observations of the version {@code major.minor.patch}.
+     *
+     * @param major version.
+     * @param minor version.
+     * @param patch version.
+     * @return the count, or {@code 0} if the version was not observed.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public long count(final int major, final int minor, final int patch) {
+      final long key = PackedSemVer.tryPack(major, minor, patch);
+      if (key == PackedSemVer.INVALID) return 0;
+      final int index = Arrays.binarySearch(packed, key);
+      return index < 0 ? 0 : counts[index];
+    }
+
+    /**
+     * Returns the number of observations of all versions with the given {@code major} version.
+     *
+     * @param major version.
+     * @return the sum of the counts.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public long countMajor(final int major) {
+      if (major < 0 || major > PackedSemVer.MAX_VERSION) return 0;
+      final long min = PackedSemVer.packUnchecked(major, 0, 0);
+      return countBetween(min, min + PackedSemVer.MIN_STABLE_PACKED - 1);
+    }
+
+    /**
+     * Returns the number of observations of all versions with the given {@code major} and {@code
+     * minor} versions.
+     *
+     * @param major version.
+     * @param minor version.
+     * @return the sum of the counts.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public long countMinor(final int major, final int minor) {
+      final long min = PackedSemVer.tryPack(major, minor, 0);
+      if (min == PackedSemVer.INVALID) return 0;
+      return countBetween(min, min + PackedSemVer.MAX_VERSION);
+    }
+
+    /**
+     * Returns the number of observations of all versions matched by the {@code range}.
+     *
+     * @param range to match.
+     * @return the sum of the counts.
+     * @throws IllegalArgumentException if {@code range} is {@code null}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(value = "null -> fail", pure = true)
+    @SuppressWarnings({"ConstantValue", "Contract"})
+    public long count(final SemVerRange range) throws IllegalArgumentException {
+      if (range == null) throw illegalArgumentOf("range", MUST_NOT_BE_NULL);
+      long count = 0;
+      for (int i = 0; i < packed.length; i++) {
+        if (range.testPacked(packed[i])) count += counts[i];
+      }
+      return count;
+    }
+
+    /**
+     * Returns the counts of each observed {@code major} version.
+     *
+     * @return an unmodifiable map from {@code major} version to its count, in ascending order.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(value = " -> new", pure = true)
+    public SortedMap<Integer, Long> countsByMajor() {
+      final TreeMap<Integer, Long> majors = new TreeMap<>();
+      for (int i = 0; i < packed.length; i++) {
+        majors.merge(PackedSemVer.major(packed[i]), counts[i], Long::sum);
+      }
+      return Collections.unmodifiableSortedMap(majors);
+    }
+
+    /**
+     * Returns the least observed version, such as the oldest version still in use.
+     *
+     * @return the least version, or {@code null} if {@link #isEmpty()}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public @Nullable SemVer min() {
+      return isEmpty() ? null : SemVer.fromPacked(packed[0]);
+    }
+
+    /**
+     * Returns the greatest observed version.
+     *
+     * @return the greatest version, or {@code null} if {@link #isEmpty()}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public @Nullable SemVer max() {
+      return isEmpty() ? null : SemVer.fromPacked(packed[packed.length - 1]);
+    }
+
+    /**
+     * Returns the {@code n} most observed versions, by descending count. Versions with equal counts
+     * are ordered by descending version.
+     *
+     * @param n maximum number of versions.
+     * @return an unmodifiable list of at most {@code n} versions and their counts.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(value = "_ -> new", pure = true)
+    public List<VersionCount> top(final int n) throws IllegalArgumentException {
+      if (n < 0) throw illegalArgumentOf("n", MUST_BE_AT_LEAST, "0");
+      final Integer[] order = new Integer[packed.length];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = order.length - 1 - i;
+      }
+      // The sort is stable, so equal counts keep the descending order of the versions.
+      Arrays.sort(order, Comparator.comparingLong(i -> -counts[i]));
+      final List<VersionCount> top = new ArrayList<>(Math.min(n, order.length));
+      for (int i = 0; i < Math.min(n, order.length); i++) {
+        top.add(new VersionCount(SemVer.fromPacked(packed[order[i]]), counts[order[i]]));
+      }
+      return Collections.unmodifiableList(top);
+    }
+
+    @Override
+    public String toString() {
+      return "%s{versions=%d, total=%d}".formatted(getClass().getSimpleName(), size(), total());
+    }
+
+    /** Returns the sum of the counts of the packed versions within {@code [min, max]}. */
+    private long countBetween(final long min, final long max) {
+      final int to = max == PackedSemVer.MAX_PACKED ? packed.length : insertionPoint(max + 1);
+      return cumulative[to] - cumulative[insertionPoint(min)];
+    }
+
+    /** Returns the index of the first packed version which is not less than {@code key}. */
+    private int insertionPoint(final long key) {
+      final int index = Arrays.binarySearch(packed, key);
+      return index < 0 ? -index - 1 : index;
+    }
+  }
+}
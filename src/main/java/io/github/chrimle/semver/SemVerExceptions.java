@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import io.github.chrimle.exceptionfactory.ExceptionBuilder;
+
+/**
+ * The exceptions thrown by {@link SemVer} and {@link Change}, created by the {@code
+ * exceptionfactory}.
+ *
+ * <p>This is the only class of the core which refers to the {@code exceptionfactory}, and it is
+ * only referred to where an exception is thrown. So neither this class, nor any class of the
+ * {@code exceptionfactory}, is loaded until valid input is rejected - regardless of how eagerly the
+ * JVM, or an ahead-of-time cache, resolves the references of {@code SemVer} and {@code Change}.
+ *
+ * <p>Valid input does load the other classes of the core which it uses: {@link SemVerIdentifiers}
+ * for labels, {@link SemVerParser} when parsing, {@link SemVerFormatter} when formatting,
+ * {@link SemVerInstrumentation} when parsing or formatting, and {@link SemVerSmallCache} for
+ * canonical instances. {@link SemVerCache} is only loaded once a version outside the small range
+ * is requested.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerExceptions {
+
+  private SemVerExceptions() {}
+
+  static IllegalArgumentException mustNotBeNull(final String name) {
+    return illegalArgumentOf(name, MUST_NOT_BE_NULL);
+  }
+
+  static IllegalArgumentException mustNotBeNegative(final String name) {
+    return illegalArgumentOf(name, MUST_BE_AT_LEAST, "0");
+  }
+
+  static NullPointerException nullPointerOf(final String name) {
+    return ExceptionBuilder.of(NullPointerException.class)
+        .setMessage(MUST_NOT_BE_NULL, name)
+        .build();
+  }
+}
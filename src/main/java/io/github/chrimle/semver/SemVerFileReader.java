@@ -0,0 +1,410 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads newline-delimited {@link SemVer}-strings from a memory-mapped file.
+ *
+ * <p>The file is mapped into segments of at most 1 GiB, each ending on a line boundary. Versions
+ * are {@linkplain SemVer#parse(ByteBuffer) parsed} directly from the mapped bytes, so release
+ * versions are read without creating any intermediate objects. {@link #packedVersions()} parses
+ * each line straight into its packed representation, without creating a {@code SemVer} or
+ * touching the cache behind {@link SemVer#of(int, int, int)}.
+ *
+ * <p>The returned streams are <em>sequential</em>, but split on line boundaries - first between
+ * segments, then within a segment - so that {@link Stream#parallel()} scales across cores.
+ *
+ * <p>Each line holds one version, in any format accepted by {@link SemVer#parse(CharSequence)}.
+ * Trailing {@code '\r'} and empty lines are ignored. Malformed lines do <em>not</em> abort the
+ * stream; they are skipped, and optionally reported with the byte offset at which they start.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerFileReader reader = SemVerFileReader.open(Path.of("versions.txt"));
+ * SemVerIndex index = SemVerIndex.ofPacked(reader.packedVersions().parallel().toArray());
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerFileReader {
+
+  /** The greatest number of bytes mapped into a single segment. */
+  static final int SEGMENT_SIZE = 1 << 30;
+
+  /** Ranges of fewer bytes are not split any further. */
+  private static final int MIN_SPLIT_SIZE = 1 << 12;
+
+  /** A rough estimate of the number of bytes per line, used for estimating stream sizes. */
+  private static final int ESTIMATED_LINE_SIZE = 8;
+
+  private static final ObjLongConsumer<String> IGNORE = (line, offset) -> {};
+
+  private final ByteBuffer[] segments;
+  private final long[] offsets;
+  private final long size;
+
+  private SemVerFileReader(final ByteBuffer[] segments, final long[] offsets, final long size) {
+    this.segments = segments;
+    this.offsets = offsets;
+    this.size = size;
+  }
+
+  /**
+   * Memory-maps the file at the given {@code path} for reading. The file is not read until one of
+   * the streams is consumed, and <strong>MUST NOT</strong> be modified while it is mapped.
+   *
+   * @param path of the file.
+   * @return the new {@code SemVerFileReader}.
+   * @throws IllegalArgumentException if {@code path} is {@code null}.
+   * @throws IOException if the file cannot be mapped, or has a line longer than 1 GiB.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerFileReader open(final Path path)
+      throws IOException, IllegalArgumentException {
+    if (path == null) throw illegalArgumentOf("path", MUST_NOT_BE_NULL);
+    return open(path, SEGMENT_SIZE);
+  }
+
+  static SemVerFileReader open(final Path path, final int segmentSize) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      final List<ByteBuffer> segments = new ArrayList<>();
+      final List<Long> offsets = new ArrayList<>();
+      long offset = 0;
+      while (offset < size) {
+        final int length = (int) Math.min(segmentSize, size - offset);
+        final MappedByteBuffer mapped =
+            channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        int end = length;
+        if (offset + length < size) {
+          // Ends the segment after its last complete line, where the next segment starts.
+          end = lastIndexOfNewline(mapped, length) + 1;
+          if (end == 0) {
+            throw new IOException("The line at byte offset %d is too long".formatted(offset));
+          }
+        }
+        segments.add(mapped.slice(0, end));
+        offsets.add(offset);
+        offset += end;
+      }
+      final long[] segmentOffsets = new long[offsets.size()];
+      for (int i = 0; i < segmentOffsets.length; i++) {
+        segmentOffsets[i] = offsets.get(i);
+      }
+      return new SemVerFileReader(segments.toArray(new ByteBuffer[0]), segmentOffsets, size);
+    }
+  }
+
+  /**
+   * Returns the size of the file.
+   *
+   * @return the number of bytes.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns a sequential {@code Stream} of the versions in the file, in order, skipping malformed
+   * lines.
+   *
+   * @return the {@code Stream} of {@code SemVer}s.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public Stream<SemVer> versions() {
+    return versions(IGNORE);
+  }
+
+  /**
+   * Returns a sequential {@code Stream} of the versions in the file, in order. Malformed lines are
+   * skipped, and reported to {@code onMalformedLine} with their byte offset in the file. If the
+   * stream is parallel, {@code onMalformedLine} may be invoked concurrently, and in any order.
+   *
+   * @param onMalformedLine accepting the malformed line and its byte offset.
+   * @return the {@code Stream} of {@code SemVer}s.
+   * @throws IllegalArgumentException if {@code onMalformedLine} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Stream<SemVer> versions(final ObjLongConsumer<String> onMalformedLine)
+      throws IllegalArgumentException {
+    if (onMalformedLine == null) throw illegalArgumentOf("onMalformedLine", MUST_NOT_BE_NULL);
+    return StreamSupport.stream(
+        new SemVerSpliterator(this, onMalformedLine, 0, segments.length, 0), false);
+  }
+
+  /**
+   * Returns a sequential {@code LongStream} of the {@linkplain PackedSemVer packed} versions in the
+   * file, in order, skipping malformed lines.
+   *
+   * @return the {@code LongStream} of packed versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public LongStream packedVersions() {
+    return packedVersions(IGNORE);
+  }
+
+  /**
+   * Returns a sequential {@code LongStream} of the {@linkplain PackedSemVer packed} versions in the
+   * file, in order. Malformed lines, as well as versions which are not {@linkplain
+   * SemVer#isPackable() packable}, are skipped and reported to {@code onMalformedLine} with their
+   * byte offset in the file. If the stream is parallel, {@code onMalformedLine} may be invoked
+   * concurrently, and in any order.
+   *
+   * @param onMalformedLine accepting the malformed line and its byte offset.
+   * @return the {@code LongStream} of packed versions.
+   * @throws IllegalArgumentException if {@code onMalformedLine} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public LongStream packedVersions(final ObjLongConsumer<String> onMalformedLine)
+      throws IllegalArgumentException {
+    if (onMalformedLine == null) throw illegalArgumentOf("onMalformedLine", MUST_NOT_BE_NULL);
+    return StreamSupport.longStream(
+        new PackedSpliterator(this, onMalformedLine, 0, segments.length, 0), false);
+  }
+
+  private static int lastIndexOfNewline(final ByteBuffer buffer, final int end) {
+    for (int index = end - 1; index >= 0; index--) {
+      if (buffer.get(index) == '\n') return index;
+    }
+    return -1;
+  }
+
+  private static int indexOfNewline(final ByteBuffer buffer, final int from, final int to) {
+    for (int index = from; index < to; index++) {
+      if (buffer.get(index) == '\n') return index;
+    }
+    return -1;
+  }
+
+  /**
+   * Iterates over the lines of the segments {@code [segment, segmentEnd)}, starting at {@code
+   * index} of the first segment and ending at {@code end} of the last segment.
+   */
+  private abstract static class Lines {
+
+    final SemVerFileReader reader;
+    final ObjLongConsumer<String> onMalformedLine;
+    int segment;
+    final int segmentEnd;
+    int index;
+    int end;
+
+    /** The segment, start and end of the line found by {@link #nextLine()}. */
+    @Nullable ByteBuffer line;
+
+    int lineStart;
+    int lineEnd;
+
+    Lines(
+        final SemVerFileReader reader,
+        final ObjLongConsumer<String> onMalformedLine,
+        final int segment,
+        final int segmentEnd,
+        final int index) {
+      this.reader = reader;
+      this.onMalformedLine = onMalformedLine;
+      this.segment = segment;
+      this.segmentEnd = segmentEnd;
+      this.index = index;
+      this.end = segment < segmentEnd ? reader.segments[segmentEnd - 1].limit() : 0;
+    }
+
+    /** Finds the next non-empty line, and returns whether there was one. */
+    final boolean nextLine() {
+      while (segment < segmentEnd) {
+        final ByteBuffer buffer = reader.segments[segment];
+        final int limit = segment == segmentEnd - 1 ? end : buffer.limit();
+        while (index < limit) {
+          final int newline = indexOfNewline(buffer, index, limit);
+          final int start = index;
+          int stop = newline < 0 ? limit : newline;
+          index = newline < 0 ? limit : newline + 1;
+          if (stop > start && buffer.get(stop - 1) == '\r') stop--;
+          if (stop > start) {
+            line = buffer;
+            lineStart = start;
+            lineEnd = stop;
+            return true;
+          }
+        }
+        segment++;
+        index = 0;
+      }
+      return false;
+    }
+
+    final void reportMalformedLine() {
+      final ByteBuffer buffer = reader.segments[segment];
+      final byte[] bytes = new byte[lineEnd - lineStart];
+      buffer.get(lineStart, bytes);
+      onMalformedLine.accept(
+          new String(bytes, StandardCharsets.UTF_8), reader.offsets[segment] + lineStart);
+    }
+
+    /**
+     * Splits off a prefix of the remaining lines - whole segments if more than one remains, or
+     * else the lines before the middle of the remaining segment.
+     */
+    final @Nullable Lines split() {
+      if (segmentEnd - segment > 1) {
+        final int mid = (segment + segmentEnd) >>> 1;
+        final Lines prefix = create(segment, mid, index);
+        segment = mid;
+        index = 0;
+        return prefix;
+      }
+      if (segment == segmentEnd || end - index < MIN_SPLIT_SIZE) return null;
+      final ByteBuffer buffer = reader.segments[segment];
+      final int newline = indexOfNewline(buffer, (index + end) >>> 1, end);
+      if (newline < 0) return null;
+      final Lines prefix = create(segment, segment + 1, index);
+      prefix.end = newline + 1;
+      index = newline + 1;
+      return prefix;
+    }
+
+    final long remainingBytes() {
+      long remaining = 0;
+      for (int i = segment; i < segmentEnd; i++) {
+        remaining += (i == segmentEnd - 1 ? end : reader.segments[i].limit());
+      }
+      return remaining - index;
+    }
+
+    public final long estimateSize() {
+      return remainingBytes() / ESTIMATED_LINE_SIZE;
+    }
+
+    public final int characteristics() {
+      return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    }
+
+    abstract Lines create(int segment, int segmentEnd, int index);
+  }
+
+  private static final class SemVerSpliterator extends Lines implements Spliterator<SemVer> {
+
+    SemVerSpliterator(
+        final SemVerFileReader reader,
+        final ObjLongConsumer<String> onMalformedLine,
+        final int segment,
+        final int segmentEnd,
+        final int index) {
+      super(reader, onMalformedLine, segment, segmentEnd, index);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super SemVer> action) {
+      while (nextLine()) {
+        final SemVer version = SemVerParser.parse(line, lineStart, lineEnd);
+        if (version != null) {
+          action.accept(version);
+          return true;
+        }
+        reportMalformedLine();
+      }
+      return false;
+    }
+
+    @Override
+    public @Nullable Spliterator<SemVer> trySplit() {
+      return (SemVerSpliterator) split();
+    }
+
+    @Override
+    Lines create(final int segment, final int segmentEnd, final int index) {
+      return new SemVerSpliterator(reader, onMalformedLine, segment, segmentEnd, index);
+    }
+  }
+
+  private static final class PackedSpliterator extends Lines implements Spliterator.OfLong {
+
+    PackedSpliterator(
+        final SemVerFileReader reader,
+        final ObjLongConsumer<String> onMalformedLine,
+        final int segment,
+        final int segmentEnd,
+        final int index) {
+      super(reader, onMalformedLine, segment, segmentEnd, index);
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+      while (nextLine()) {
+        final long packed = SemVerParser.parsePacked(line, lineStart, lineEnd);
+        if (packed != PackedSemVer.INVALID) {
+          action.accept(packed);
+          return true;
+        }
+        reportMalformedLine();
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator.@Nullable OfLong trySplit() {
+      return (PackedSpliterator) split();
+    }
+
+    @Override
+    Lines create(final int segment, final int segmentEnd, final int index) {
+      return new PackedSpliterator(reader, onMalformedLine, segment, segmentEnd, index);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The <em>JDK Flight Recorder</em> events of {@link SemVerInstrumentation}. This class is only
+ * loaded if the {@code jdk.jfr} module is resolved.
+ *
+ * <p>Parsing and formatting are instant events carrying their elapsed time, since their start is
+ * only known as a {@link System#nanoTime()}. They omit stack traces, as they are frequent and
+ * their call sites are rarely of interest, unlike those of rejected input.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerFlightRecorder {
+
+  private static final String CATEGORY = "Semantic Versioning";
+
+  private SemVerFlightRecorder() {}
+
+  /** Returns whether events can be recorded, which throws a {@link LinkageError} otherwise. */
+  static boolean isSupported() {
+    return FlightRecorder.isAvailable();
+  }
+
+  static void parsed(final long nanos, final boolean valid) {
+    final ParseEvent event = new ParseEvent();
+    if (event.isEnabled()) {
+      event.elapsed = nanos;
+      event.valid = valid;
+      event.commit();
+    }
+  }
+
+  static void formatted(final long nanos) {
+    final FormatEvent event = new FormatEvent();
+    if (event.isEnabled()) {
+      event.elapsed = nanos;
+      event.commit();
+    }
+  }
+
+  static void rejected(final String component, final @Nullable String message) {
+    final RejectedEvent event = new RejectedEvent();
+    if (event.isEnabled()) {
+      event.component = component;
+      event.message = message;
+      event.commit();
+    }
+  }
+
+  static void overflowed(final Change change) {
+    final OverflowEvent event = new OverflowEvent();
+    if (event.isEnabled()) {
+      event.change = change.name();
+      event.commit();
+    }
+  }
+
+  @Name("io.github.chrimle.semver.Parse")
+  @Label("SemVer Parse")
+  @Description("A version parsed by SemVer.parse or SemVer.tryParse")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class ParseEvent extends Event {
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Valid")
+    @Description("Whether a version was parsed")
+    boolean valid;
+  }
+
+  @Name("io.github.chrimle.semver.Format")
+  @Label("SemVer Format")
+  @Description("A version formatted by SemVer.to*, append* or write*")
+  @Category(CATEGORY)
+  @StackTrace(false)
+  static final class FormatEvent extends Event {
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+  }
+
+  @Name("io.github.chrimle.semver.Rejected")
+  @Label("SemVer Rejected")
+  @Description("An invalid component rejected by the SemVer constructor")
+  @Category(CATEGORY)
+  static final class RejectedEvent extends Event {
+
+    @Label("Component")
+    @Nullable String component;
+
+    @Label("Message")
+    @Nullable String message;
+  }
+
+  @Name("io.github.chrimle.semver.Overflow")
+  @Label("SemVer Overflow")
+  @Description("An increment of a SemVer which would overflow")
+  @Category(CATEGORY)
+  static final class OverflowEvent extends Event {
+
+    @Label("Change")
+    @Nullable String change;
+  }
+}
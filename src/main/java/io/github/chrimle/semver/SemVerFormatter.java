@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Allocation-free writer of {@link SemVer}-strings in the format {@code
+ * v{major}.{minor}.{patch}[-{preRelease}][+{buildMetadata}]}.
+ *
+ * <p>The number of {@code parts} determines how many versions are written, i.e. {@code 3} for
+ * {@link SemVer#toCompleteVersionString()} and {@link #shortParts(SemVer)} for {@link
+ * SemVer#toShortVersionString()}. Digits are written directly, without format strings or boxing.
+ * Labels are always written, and only contain {@code US-ASCII} characters.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerFormatter {
+
+  static final int COMPLETE_PARTS = 3;
+
+  private SemVerFormatter() {}
+
+  /** Returns the number of versions of the short format, omitting trailing zero versions. */
+  static int shortParts(final SemVer semVer) {
+    if (semVer.patch() > 0) return 3;
+    return semVer.minor() > 0 ? 2 : 1;
+  }
+
+  static int length(final SemVer semVer, final int parts) {
+    int length = 1 + digits(semVer.major());
+    if (parts > 1) length += 1 + digits(semVer.minor());
+    if (parts > 2) length += 1 + digits(semVer.patch());
+    return length + labelLength(semVer.preRelease()) + labelLength(semVer.buildMetadata());
+  }
+
+  static String toString(final SemVer semVer, final int parts) {
+    final byte[] bytes = new byte[length(semVer, parts)];
+    write(semVer, parts, bytes, 0);
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+  /** Writes the {@code US-ASCII} bytes into {@code target}, returning the number written. */
+  static int write(final SemVer semVer, final int parts, final byte[] target, final int offset) {
+    final int length = length(semVer, parts);
+    Objects.checkFromIndexSize(offset, length, target.length);
+    int index = offset;
+    target[index++] = 'v';
+    index = writeDigits(semVer.major(), target, index);
+    if (parts > 1) {
+      target[index++] = '.';
+      index = writeDigits(semVer.minor(), target, index);
+    }
+    if (parts > 2) {
+      target[index++] = '.';
+      index = writeDigits(semVer.patch(), target, index);
+    }
+    index = writeLabel('-', semVer.preRelease(), target, index);
+    writeLabel('+', semVer.buildMetadata(), target, index);
+    return length;
+  }
+
+  /** Writes the {@code US-ASCII} bytes at the {@code position} of the {@code target}. */
+  static void write(final SemVer semVer, final int parts, final ByteBuffer target) {
+    final int length = length(semVer, parts);
+    if (target.remaining() < length) throw new BufferOverflowException();
+    if (target.hasArray()) {
+      final int position = target.position();
+      write(semVer, parts, target.array(), target.arrayOffset() + position);
+      target.position(position + length);
+      return;
+    }
+    target.put((byte) 'v');
+    putDigits(semVer.major(), target);
+    if (parts > 1) {
+      target.put((byte) '.');
+      putDigits(semVer.minor(), target);
+    }
+    if (parts > 2) {
+      target.put((byte) '.');
+      putDigits(semVer.patch(), target);
+    }
+    putLabel('-', semVer.preRelease(), target);
+    putLabel('+', semVer.buildMetadata(), target);
+  }
+
+  static StringBuilder append(final SemVer semVer, final int parts, final StringBuilder target) {
+    target.append('v').append(semVer.major());
+    if (parts > 1) target.append('.').append(semVer.minor());
+    if (parts > 2) target.append('.').append(semVer.patch());
+    if (!semVer.preRelease().isEmpty()) target.append('-').append(semVer.preRelease());
+    if (!semVer.buildMetadata().isEmpty()) target.append('+').append(semVer.buildMetadata());
+    return target;
+  }
+
+  static Appendable append(final SemVer semVer, final int parts, final Appendable target)
+      throws IOException {
+    if (target instanceof StringBuilder builder) return append(semVer, parts, builder);
+    target.append('v');
+    appendDigits(semVer.major(), target);
+    if (parts > 1) {
+      target.append('.');
+      appendDigits(semVer.minor(), target);
+    }
+    if (parts > 2) {
+      target.append('.');
+      appendDigits(semVer.patch(), target);
+    }
+    if (!semVer.preRelease().isEmpty()) target.append('-').append(semVer.preRelease());
+    if (!semVer.buildMetadata().isEmpty()) target.append('+').append(semVer.buildMetadata());
+    return target;
+  }
+
+  /** Returns the number of decimal digits of a non-negative {@code value}. */
+  static int digits(final int value) {
+    int limit = 10;
+    for (int digits = 1; digits < 10; digits++) {
+      if (value < limit) return digits;
+      limit *= 10;
+    }
+    return 10;
+  }
+
+  private static int labelLength(final String label) {
+    return label.isEmpty() ? 0 : 1 + label.length();
+  }
+
+  private static int writeLabel(
+      final char prefix, final String label, final byte[] target, final int offset) {
+    if (label.isEmpty()) return offset;
+    int index = offset;
+    target[index++] = (byte) prefix;
+    for (int i = 0; i < label.length(); i++) {
+      target[index++] = (byte) label.charAt(i);
+    }
+    return index;
+  }
+
+  private static void putLabel(final char prefix, final String label, final ByteBuffer target) {
+    if (label.isEmpty()) return;
+    target.put((byte) prefix);
+    for (int i = 0; i < label.length(); i++) {
+      target.put((byte) label.charAt(i));
+    }
+  }
+
+  private static int writeDigits(int value, final byte[] target, final int offset) {
+    final int end = offset + digits(value);
+    int index = end;
+    do {
+      target[--index] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+    return end;
+  }
+
+  private static void putDigits(final int value, final ByteBuffer target) {
+    for (int divisor = divisor(value); divisor > 0; divisor /= 10) {
+      target.put((byte) ('0' + value / divisor % 10));
+    }
+  }
+
+  private static void appendDigits(final int value, final Appendable target) throws IOException {
+    for (int divisor = divisor(value); divisor > 0; divisor /= 10) {
+      target.append((char) ('0' + value / divisor % 10));
+    }
+  }
+
+  /** Returns the power of ten of the most significant digit of a non-negative {@code value}. */
+  private static int divisor(final int value) {
+    int divisor = 1;
+    for (int digits = digits(value); digits > 1; digits--) {
+      divisor *= 10;
+    }
+    return divisor;
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A <em>Count-Min</em> sketch estimating how often each version was added, in a fixed amount of
+ * memory regardless of how many distinct versions are added.
+ *
+ * <p>The sketch holds {@code depth} rows of {@code width} counters. An {@linkplain
+ * #estimate(SemVer) estimate} is never less than the true count, and exceeds it by more than
+ * {@code e / width} of the {@link #total()} with a probability of at most {@code e^-depth}.
+ * Versions are counted separately if they are not {@linkplain SemVer#equals(Object) equal}. A
+ * <em>release</em> version is equal to its {@linkplain PackedSemVer packed} value.
+ *
+ * <p>Sketches of different nodes are combined by {@link #merge(SemVerFrequencySketch)}, which is
+ * as accurate as a single sketch of all versions. This class is <strong>not</strong> thread-safe.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerFrequencySketch {
+
+  /**
+   * The depth used by {@link #SemVerFrequencySketch()}.
+   *
+   * @since 1.6.0
+   */
+  public static final int DEFAULT_DEPTH = 4;
+
+  /**
+   * The width used by {@link #SemVerFrequencySketch()}.
+   *
+   * @since 1.6.0
+   */
+  public static final int DEFAULT_WIDTH = 1 << 12;
+
+  private static final int MAGIC = 0x31465653; // "SVF1"
+  private static final int MAX_DEPTH = 32;
+  private static final int MAX_WIDTH = 1 << 24;
+
+  private final int depth;
+  private final int width;
+  private final long[] counters;
+  private long total;
+
+  /**
+   * Creates an empty {@link SemVerFrequencySketch} of {@value #DEFAULT_DEPTH} rows of {@value
+   * #DEFAULT_WIDTH} counters.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerFrequencySketch() {
+    this(DEFAULT_DEPTH, DEFAULT_WIDTH);
+  }
+
+  /**
+   * Creates an empty {@link SemVerFrequencySketch} of {@code depth} rows of {@code width}
+   * counters.
+   *
+   * @param depth number of rows.
+   * @param width number of counters per row.
+   * @throws IllegalArgumentException if {@code depth} is less than {@code 1} or greater than
+   *     {@code 32}, or {@code width} is less than {@code 1} or greater than {@code 2^24}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerFrequencySketch(final int depth, final int width) throws IllegalArgumentException {
+    if (depth < 1) throw illegalArgumentOf("depth", MUST_BE_AT_LEAST, "1");
+    if (depth > MAX_DEPTH) {
+      throw illegalArgumentOf("depth", MUST_BE_AT_MOST, String.valueOf(MAX_DEPTH));
+    }
+    if (width < 1) throw illegalArgumentOf("width", MUST_BE_AT_LEAST, "1");
+    if (width > MAX_WIDTH) {
+      throw illegalArgumentOf("width", MUST_BE_AT_MOST, String.valueOf(MAX_WIDTH));
+    }
+    this.depth = depth;
+    this.width = width;
+    this.counters = new long[depth * width];
+  }
+
+  /**
+   * Returns the number of rows of <em>this</em> sketch.
+   *
+   * @return the depth.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int depth() {
+    return depth;
+  }
+
+  /**
+   * Returns the number of counters per row of <em>this</em> sketch.
+   *
+   * @return the width.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int width() {
+    return width;
+  }
+
+  /**
+   * Returns the total count of all versions added.
+   *
+   * @return the exact total count.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long total() {
+    return total;
+  }
+
+  /**
+   * Adds one occurrence of the {@code version}.
+   *
+   * @param version to add.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void add(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    addHash(SemVerSketches.hash(version), 1);
+  }
+
+  /**
+   * Adds one occurrence of the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void addPacked(final long packed) throws IllegalArgumentException {
+    addPacked(packed, 1);
+  }
+
+  /**
+   * Adds {@code count} occurrences of the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version.
+   * @param count of occurrences.
+   * @throws IllegalArgumentException if {@code packed} or {@code count} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void addPacked(final long packed, final long count) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    if (count < 0) throw illegalArgumentOf("count", MUST_BE_AT_LEAST, "0");
+    addHash(SemVerSketches.hash(packed), count);
+  }
+
+  /**
+   * Returns the estimated number of occurrences of the {@code version}.
+   *
+   * @param version to estimate.
+   * @return the estimated count, which is never less than the true count.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public long estimate(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return estimateHash(SemVerSketches.hash(version));
+  }
+
+  /**
+   * Returns the estimated number of occurrences of the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version.
+   * @return the estimated count, which is never less than the true count.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long estimatePacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    return estimateHash(SemVerSketches.hash(packed));
+  }
+
+  /**
+   * Merges the {@code other} sketch into <em>this</em> sketch, which then estimates the counts of
+   * the versions added to either sketch.
+   *
+   * @param other sketch to merge.
+   * @throws IllegalArgumentException if {@code other} is {@code null}, or has another {@linkplain
+   *     #depth() depth} or {@linkplain #width() width}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void merge(final SemVerFrequencySketch other) throws IllegalArgumentException {
+    if (other == null) throw illegalArgumentOf("other", MUST_NOT_BE_NULL);
+    if (other.depth != depth || other.width != width) {
+      throw new IllegalArgumentException("`other` MUST have the same `depth` and `width`");
+    }
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] += other.counters[i];
+    }
+    total += other.total;
+  }
+
+  /**
+   * Serializes <em>this</em> sketch, to be restored by {@link #fromByteArray(byte[])}. Counters
+   * are written as varints, so that sparse or lightly loaded sketches are smaller.
+   *
+   * @return a new byte array.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = " -> new", pure = true)
+  public byte[] toByteArray() {
+    int size = Integer.BYTES;
+    size += SemVerSketches.unsignedSize(depth) + SemVerSketches.unsignedSize(width);
+    size += SemVerSketches.unsignedSize(total);
+    for (final long counter : counters) {
+      size += SemVerSketches.unsignedSize(counter);
+    }
+    final ByteBuffer target = ByteBuffer.allocate(size).putInt(MAGIC);
+    SemVerSketches.putUnsigned(depth, target);
+    SemVerSketches.putUnsigned(width, target);
+    SemVerSketches.putUnsigned(total, target);
+    for (final long counter : counters) {
+      SemVerSketches.putUnsigned(counter, target);
+    }
+    return target.array();
+  }
+
+  /**
+   * Restores a sketch serialized by {@link #toByteArray()}.
+   *
+   * @param bytes of the serialized sketch.
+   * @return the restored sketch.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}, or not a serialized {@code
+   *     SemVerFrequencySketch}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerFrequencySketch fromByteArray(final byte[] bytes)
+      throws IllegalArgumentException {
+    if (bytes == null) throw illegalArgumentOf("bytes", MUST_NOT_BE_NULL);
+    try {
+      final ByteBuffer source = ByteBuffer.wrap(bytes);
+      if (source.getInt() != MAGIC) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      final int depth = SemVerSketches.getInt(source, 1, MAX_DEPTH);
+      final int width = SemVerSketches.getInt(source, 1, MAX_WIDTH);
+      final long total = SemVerSketches.getUnsigned(source);
+      // Every counter takes at least one byte, so reject truncated input before allocating.
+      if (source.remaining() < (long) depth * width) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      final SemVerFrequencySketch sketch = new SemVerFrequencySketch(depth, width);
+      sketch.total = total;
+      for (int i = 0; i < sketch.counters.length; i++) {
+        sketch.counters[i] = SemVerSketches.getUnsigned(source);
+      }
+      if (source.hasRemaining()) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      return sketch;
+    } catch (final BufferUnderflowException exception) {
+      throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE, exception);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "%s{depth=%d, width=%d, total=%d}"
+        .formatted(getClass().getSimpleName(), depth, width, total);
+  }
+
+  private void addHash(final long hash, final long count) {
+    for (int row = 0; row < depth; row++) {
+      counters[row * width + column(hash, row)] += count;
+    }
+    total += count;
+  }
+
+  private long estimateHash(final long hash) {
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters[row * width + column(hash, row)]);
+    }
+    return estimate;
+  }
+
+  /**
+   * Returns the column of the {@code row}, from the two halves of the {@code hash} combined as
+   * {@code h1 + row * h2}, and mapped onto {@code [0, width)} without a division.
+   */
+  private int column(final long hash, final int row) {
+    final int combined = (int) hash + row * (int) (hash >>> 32);
+    return (int) (((combined & 0xFFFFFFFFL) * width) >>> 32);
+  }
+}
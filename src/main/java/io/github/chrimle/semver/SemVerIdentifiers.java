@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validation and precedence of dot-separated identifiers, as used by <em>pre-release</em> versions
+ * (<a href="https://semver.org/#spec-item-9">SemVer Spec §9</a>) and <em>build metadata</em> (<a
+ * href="https://semver.org/#spec-item-10">SemVer Spec §10</a>).
+ *
+ * <p>Identifiers are kept as the original {@code String} and are only scanned when needed, i.e.
+ * when comparing two versions with equal {@code major}, {@code minor} and {@code patch} versions.
+ * Scanning does not create any intermediate objects.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerIdentifiers {
+
+  static final String PRE_RELEASE_MESSAGE =
+      "`preRelease` MUST be empty, or dot-separated non-empty identifiers of [0-9A-Za-z-], where"
+          + " numeric identifiers MUST NOT have leading zeroes";
+
+  static final String BUILD_METADATA_MESSAGE =
+      "`buildMetadata` MUST be empty, or dot-separated non-empty identifiers of [0-9A-Za-z-]";
+
+  private SemVerIdentifiers() {}
+
+  /** Returns whether the range is a valid, non-empty, <em>pre-release</em> version. */
+  static boolean isValidPreRelease(final CharSequence text, final int from, final int to) {
+    int start = from;
+    boolean numeric = true;
+    for (int index = from; index <= to; index++) {
+      if (index == to || text.charAt(index) == '.') {
+        if (index == start) return false;
+        if (numeric && text.charAt(start) == '0' && index - start > 1) return false;
+        start = index + 1;
+        numeric = true;
+      } else {
+        final char c = text.charAt(index);
+        if (!isIdentifierChar(c)) return false;
+        numeric &= isDigit(c);
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the range is valid, non-empty, <em>build metadata</em>. */
+  static boolean isValidBuildMetadata(final CharSequence text, final int from, final int to) {
+    int start = from;
+    for (int index = from; index <= to; index++) {
+      if (index == to || text.charAt(index) == '.') {
+        if (index == start) return false;
+        start = index + 1;
+      } else if (!isIdentifierChar(text.charAt(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the range of bytes is a valid, non-empty, <em>pre-release</em> version. */
+  static boolean isValidPreRelease(final byte[] bytes, final int from, final int to) {
+    int start = from;
+    boolean numeric = true;
+    for (int index = from; index <= to; index++) {
+      final char c = index == to ? '.' : (char) (bytes[index] & 0xFF);
+      if (c == '.') {
+        if (index == start) return false;
+        if (numeric && bytes[start] == '0' && index - start > 1) return false;
+        start = index + 1;
+        numeric = true;
+      } else {
+        if (!isIdentifierChar(c)) return false;
+        numeric &= isDigit(c);
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the range of bytes is valid, non-empty, <em>build metadata</em>. */
+  static boolean isValidBuildMetadata(final byte[] bytes, final int from, final int to) {
+    int start = from;
+    for (int index = from; index <= to; index++) {
+      final char c = index == to ? '.' : (char) (bytes[index] & 0xFF);
+      if (c == '.') {
+        if (index == start) return false;
+        start = index + 1;
+      } else if (!isIdentifierChar(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the range of bytes is a valid, non-empty, <em>pre-release</em> version. */
+  static boolean isValidPreRelease(final ByteBuffer buffer, final int from, final int to) {
+    int start = from;
+    boolean numeric = true;
+    for (int index = from; index <= to; index++) {
+      final char c = index == to ? '.' : (char) (buffer.get(index) & 0xFF);
+      if (c == '.') {
+        if (index == start) return false;
+        if (numeric && buffer.get(start) == '0' && index - start > 1) return false;
+        start = index + 1;
+        numeric = true;
+      } else {
+        if (!isIdentifierChar(c)) return false;
+        numeric &= isDigit(c);
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the range of bytes is valid, non-empty, <em>build metadata</em>. */
+  static boolean isValidBuildMetadata(final ByteBuffer buffer, final int from, final int to) {
+    int start = from;
+    for (int index = from; index <= to; index++) {
+      final char c = index == to ? '.' : (char) (buffer.get(index) & 0xFF);
+      if (c == '.') {
+        if (index == start) return false;
+        start = index + 1;
+      } else if (!isIdentifierChar(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the precedence of two valid <em>pre-release</em> versions (<a
+   * href="https://semver.org/#spec-item-11">SemVer Spec §11</a>), where an empty {@code String}
+   * means <em>not</em> a pre-release, which has higher precedence.
+   */
+  static int comparePreRelease(final String left, final String right) {
+    if (left == right) return 0;
+    if (left.isEmpty() || right.isEmpty()) {
+      return Boolean.compare(left.isEmpty(), right.isEmpty());
+    }
+    final int leftLength = left.length();
+    final int rightLength = right.length();
+    int leftStart = 0;
+    int rightStart = 0;
+    while (leftStart < leftLength && rightStart < rightLength) {
+      final int leftEnd = identifierEnd(left, leftStart);
+      final int rightEnd = identifierEnd(right, rightStart);
+      final int result = compareIdentifier(left, leftStart, leftEnd, right, rightStart, rightEnd);
+      if (result != 0) return result;
+      leftStart = leftEnd + 1;
+      rightStart = rightEnd + 1;
+    }
+    // A larger set of identifiers has higher precedence, if all preceding identifiers are equal.
+    return Boolean.compare(leftStart < leftLength, rightStart < rightLength);
+  }
+
+  private static int compareIdentifier(
+      final String left,
+      final int leftStart,
+      final int leftEnd,
+      final String right,
+      final int rightStart,
+      final int rightEnd) {
+    final boolean leftNumeric = isNumeric(left, leftStart, leftEnd);
+    final boolean rightNumeric = isNumeric(right, rightStart, rightEnd);
+    if (leftNumeric != rightNumeric) return leftNumeric ? -1 : 1;
+    final int leftSize = leftEnd - leftStart;
+    final int rightSize = rightEnd - rightStart;
+    // Numeric identifiers have no leading zeroes, so a longer identifier is a greater number.
+    if (leftNumeric && leftSize != rightSize) return Integer.compare(leftSize, rightSize);
+    final int common = Math.min(leftSize, rightSize);
+    for (int i = 0; i < common; i++) {
+      final char leftChar = left.charAt(leftStart + i);
+      final char rightChar = right.charAt(rightStart + i);
+      if (leftChar != rightChar) return Character.compare(leftChar, rightChar);
+    }
+    return Integer.compare(leftSize, rightSize);
+  }
+
+  private static int identifierEnd(final String text, final int from) {
+    final int end = text.indexOf('.', from);
+    return end < 0 ? text.length() : end;
+  }
+
+  private static boolean isNumeric(final String text, final int from, final int to) {
+    for (int index = from; index < to; index++) {
+      if (!isDigit(text.charAt(index))) return false;
+    }
+    return true;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isIdentifierChar(final char c) {
+    return isDigit(c) || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-';
+  }
+}
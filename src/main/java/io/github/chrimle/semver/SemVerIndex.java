@@ -0,0 +1,463 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable, sorted set of distinct {@link SemVer}s, answering <em>floor</em>, <em>ceiling</em>,
+ * <em>range</em> and <em>latest</em>-queries in {@code O(log n)}.
+ *
+ * <p>The versions are stored in their {@linkplain PackedSemVer packed} representation in a single
+ * sorted {@code long[]}, so queries are binary searches over primitives. The {@code *Index}- and
+ * {@code *Packed}-methods do not allocate; methods returning a {@code SemVer} only allocate the
+ * returned instance.
+ *
+ * <p>Only {@linkplain SemVer#isPackable() packable} <em>release</em> versions can be indexed, but
+ * any version, including <em>pre-release</em> versions, can be queried.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerIndex index = SemVerIndex.of(publishedVersions);
+ * SemVer latestStable = index.latestStable();
+ * SemVer latestV1 = index.latestInMajor(1);
+ * SemVer highestAtMost = index.floor(new SemVer(1, 4, 0));
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerIndex {
+
+  private static final SemVerIndex EMPTY = new SemVerIndex(new long[0]);
+
+  private final long[] packed;
+
+  private SemVerIndex(final long[] packed) {
+    this.packed = packed;
+  }
+
+  /**
+   * Creates a {@link SemVerIndex} of the given {@code versions}. The {@code versions} do not need
+   * to be sorted, and duplicates are removed.
+   *
+   * @param versions to index.
+   * @return the new {@code SemVerIndex}.
+   * @throws IllegalArgumentException if {@code versions} is {@code null} or contains {@code null}.
+   * @throws ArithmeticException if any version is not {@linkplain SemVer#isPackable() packable}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerIndex of(final Collection<SemVer> versions)
+      throws ArithmeticException, IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    final long[] packed = new long[versions.size()];
+    int size = 0;
+    for (final SemVer version : versions) {
+      if (version == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+      packed[size++] = version.toPacked();
+    }
+    return ofSortable(packed, size);
+  }
+
+  /**
+   * Creates a {@link SemVerIndex} of the given {@linkplain PackedSemVer packed} versions. The
+   * versions do not need to be sorted, and duplicates are removed. The given array is not
+   * modified.
+   *
+   * @param packed versions to index.
+   * @return the new {@code SemVerIndex}.
+   * @throws IllegalArgumentException if {@code packed} is {@code null} or contains a negative
+   *     value.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerIndex ofPacked(final long... packed) throws IllegalArgumentException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    for (final long version : packed) {
+      if (version < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    }
+    return ofSortable(packed.clone(), packed.length);
+  }
+
+  private static SemVerIndex ofSortable(final long[] packed, final int size) {
+    if (size == 0) return EMPTY;
+    final int distinct = SemVerSort.sortDistinctPacked(packed, 0, size);
+    return new SemVerIndex(distinct == packed.length ? packed : Arrays.copyOf(packed, distinct));
+  }
+
+  /**
+   * Returns the number of distinct versions in <em>this</em> index.
+   *
+   * @return the number of versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int size() {
+    return packed.length;
+  }
+
+  /**
+   * Returns whether <em>this</em> index contains no versions.
+   *
+   * @return whether {@link #size()} is {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return packed.length == 0;
+  }
+
+  /**
+   * Returns the version at the given position, in ascending order.
+   *
+   * @param index of the version.
+   * @return the {@code SemVer} at {@code index}.
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVer get(final int index) throws IndexOutOfBoundsException {
+    return SemVer.fromPacked(getPacked(index));
+  }
+
+  /**
+   * Returns the {@linkplain PackedSemVer packed} version at the given position, in ascending
+   * order.
+   *
+   * @param index of the version.
+   * @return the packed version at {@code index}.
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long getPacked(final int index) throws IndexOutOfBoundsException {
+    return packed[index];
+  }
+
+  /**
+   * Returns whether <em>this</em> index contains the given {@code version}.
+   *
+   * @param version to look for.
+   * @return whether {@code version} is indexed.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  public boolean contains(final SemVer version) throws IllegalArgumentException {
+    return indexOf(version) >= 0;
+  }
+
+  /**
+   * Returns the position of the given {@code version}.
+   *
+   * @param version to look for.
+   * @return the position of {@code version}, or {@code -1} if it is not indexed.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int indexOf(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (!version.isPackable()) return -1;
+    return Math.max(-1, Arrays.binarySearch(packed, version.toPacked()));
+  }
+
+  /**
+   * Returns the greatest indexed version less than, or equal to, the given {@code version}.
+   *
+   * @param version to compare with.
+   * @return the floor {@code SemVer}, or {@code null} if there is none.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  public @Nullable SemVer floor(final SemVer version) throws IllegalArgumentException {
+    return orNull(floorIndex(version));
+  }
+
+  /**
+   * Returns the least indexed version greater than, or equal to, the given {@code version}.
+   *
+   * @param version to compare with.
+   * @return the ceiling {@code SemVer}, or {@code null} if there is none.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  public @Nullable SemVer ceiling(final SemVer version) throws IllegalArgumentException {
+    return orNull(ceilingIndex(version));
+  }
+
+  /**
+   * Returns the position of the greatest indexed version less than, or equal to, the given {@code
+   * version}.
+   *
+   * @param version to compare with.
+   * @return the position of the floor version, or {@code -1} if there is none.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int floorIndex(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (version.isPreRelease()) {
+      // Indexed versions are releases, and a pre-release precedes the release of its versions.
+      return ceilingIndex(version.major(), version.minor(), version.patch()) - 1;
+    }
+    return floorIndex(version.major(), version.minor(), version.patch());
+  }
+
+  /**
+   * Returns the position of the least indexed version greater than, or equal to, the given {@code
+   * version}.
+   *
+   * @param version to compare with.
+   * @return the position of the ceiling version, or {@link #size()} if there is none.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int ceilingIndex(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return ceilingIndex(version.major(), version.minor(), version.patch());
+  }
+
+  int floorIndex(final int major, final int minor, final int patch) {
+    return floorIndexPacked(saturatedPack(major, minor, patch));
+  }
+
+  int ceilingIndex(final int major, final int minor, final int patch) {
+    final long key = saturatedPack(major, minor, patch);
+    if (PackedSemVer.isPackable(major, minor, patch)) return ceilingIndexPacked(key);
+    // Every indexed version differs from a non-packable version, so ceiling is strictly higher.
+    return key == PackedSemVer.MAX_PACKED ? packed.length : ceilingIndexPacked(key + 1);
+  }
+
+  /**
+   * Returns the position of the greatest indexed version less than, or equal to, the given
+   * {@linkplain PackedSemVer packed} version.
+   *
+   * @param version packed, to compare with.
+   * @return the position of the floor version, or {@code -1} if there is none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int floorIndexPacked(final long version) {
+    final int index = Arrays.binarySearch(packed, version);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  /**
+   * Returns the position of the least indexed version greater than, or equal to, the given
+   * {@linkplain PackedSemVer packed} version.
+   *
+   * @param version packed, to compare with.
+   * @return the position of the ceiling version, or {@link #size()} if there is none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int ceilingIndexPacked(final long version) {
+    final int index = Arrays.binarySearch(packed, version);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /**
+   * Returns the greatest indexed version.
+   *
+   * @return the latest {@code SemVer}, or {@code null} if <em>this</em> index is empty.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public @Nullable SemVer latest() {
+    return orNull(packed.length - 1);
+  }
+
+  /**
+   * Returns the greatest indexed version which is {@linkplain SemVer#isStable() stable}. As every
+   * stable version is greater than every unstable version, this is an {@code O(1)} operation.
+   *
+   * @return the latest stable {@code SemVer}, or {@code null} if there is none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public @Nullable SemVer latestStable() {
+    final int last = packed.length - 1;
+    return last >= 0 && PackedSemVer.isStable(packed[last]) ? get(last) : null;
+  }
+
+  /**
+   * Returns the greatest indexed version with the given {@code major} version.
+   *
+   * @param major version.
+   * @return the latest {@code SemVer} of {@code major}, or {@code null} if there is none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public @Nullable SemVer latestInMajor(final int major) {
+    if (major < 0 || major > PackedSemVer.MAX_VERSION) return null;
+    final int max = PackedSemVer.MAX_VERSION;
+    final int index = floorIndexPacked(PackedSemVer.packUnchecked(major, max, max));
+    return index >= 0 && PackedSemVer.major(packed[index]) == major ? get(index) : null;
+  }
+
+  /**
+   * Returns the number of indexed versions in the range {@code [fromInclusive, toExclusive)}.
+   *
+   * @param fromInclusive lower bound of the range.
+   * @param toExclusive upper bound of the range.
+   * @return the number of versions in the range.
+   * @throws IllegalArgumentException if {@code fromInclusive} or {@code toExclusive} is {@code
+   *     null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail", pure = true)
+  public int count(final SemVer fromInclusive, final SemVer toExclusive)
+      throws IllegalArgumentException {
+    return Math.max(0, ceilingIndex(toExclusive) - ceilingIndex(fromInclusive));
+  }
+
+  /**
+   * Returns an unmodifiable {@code List}-view of the indexed versions in the range {@code
+   * [fromInclusive, toExclusive)}, in ascending order.
+   *
+   * @param fromInclusive lower bound of the range.
+   * @param toExclusive upper bound of the range.
+   * @return the versions in the range.
+   * @throws IllegalArgumentException if {@code fromInclusive} or {@code toExclusive} is {@code
+   *     null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null, _ -> fail; _, null -> fail; _, _ -> new", pure = true)
+  public List<SemVer> range(final SemVer fromInclusive, final SemVer toExclusive)
+      throws IllegalArgumentException {
+    final int from = ceilingIndex(fromInclusive);
+    return new View(from, Math.max(from, ceilingIndex(toExclusive)));
+  }
+
+  /**
+   * Returns an unmodifiable {@code List}-view of all indexed versions, in ascending order.
+   *
+   * @return the indexed versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "-> new", pure = true)
+  public List<SemVer> asList() {
+    return new View(0, packed.length);
+  }
+
+  /**
+   * Returns a copy of the {@linkplain PackedSemVer packed} versions, in ascending order.
+   *
+   * @return the packed versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "-> new", pure = true)
+  public long[] toPackedArray() {
+    return packed.clone();
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    return this == other
+        || (other instanceof SemVerIndex index && Arrays.equals(packed, index.packed));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(packed);
+  }
+
+  @Override
+  public String toString() {
+    return "%s{size=%d}".formatted(getClass().getSimpleName(), packed.length);
+  }
+
+  private @Nullable SemVer orNull(final int index) {
+    return index >= 0 && index < packed.length ? get(index) : null;
+  }
+
+  /**
+   * Packs the given versions, clamping versions which are too large to be packed, such that every
+   * packable version less than or equal to the given versions is also less than or equal to the
+   * result.
+   */
+  private static long saturatedPack(final int major, final int minor, final int patch) {
+    final int max = PackedSemVer.MAX_VERSION;
+    if (major > max) return PackedSemVer.MAX_PACKED;
+    if (minor > max) return PackedSemVer.packUnchecked(major, max, max);
+    if (patch > max) return PackedSemVer.packUnchecked(major, minor, max);
+    return PackedSemVer.packUnchecked(major, minor, patch);
+  }
+
+  private final class View extends AbstractList<SemVer> implements RandomAccess {
+
+    private final int from;
+    private final int to;
+
+    private View(final int from, final int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public SemVer get(final int index) {
+      return SemVerIndex.this.get(from + Objects.checkIndex(index, to - from));
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Opt-in instrumentation of parsing, formatting, validation failures and overflowing increments of
+ * {@link SemVer}, reported to a {@link SemVerMetrics} and/or as <em>JDK Flight Recorder</em>
+ * events.
+ *
+ * <p>Instrumentation is disabled by default. While disabled, an instrumented method only performs
+ * one additional field read, and rejected input is not measured at all. While enabled, parsing and
+ * formatting additionally read {@link System#nanoTime()} twice.
+ *
+ * <p>The Flight Recorder events are named {@code io.github.chrimle.semver.Parse}, {@code
+ * .Format}, {@code .Rejected} and {@code .Overflow}, and are only recorded while both {@linkplain
+ * #setFlightRecorderEnabled(boolean) enabled} here and enabled by a running recording, e.g. one
+ * started by {@code -XX:StartFlightRecording}. The events require the {@code jdk.jfr} module to be
+ * resolved.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerInstrumentation.setFlightRecorderEnabled(true);
+ * SemVerInstrumentation.setMetrics(new MicrometerSemVerMetrics(registry));
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerInstrumentation {
+
+  /** Returned by {@link #start()} while disabled, since it is not a plausible {@code nanoTime}. */
+  private static final long DISABLED = Long.MIN_VALUE;
+
+  private static volatile @Nullable SemVerMetrics metrics;
+  private static volatile boolean flightRecorder;
+
+  /** Whether {@link #metrics} is set or {@link #flightRecorder} is enabled. */
+  private static volatile boolean enabled;
+
+  private SemVerInstrumentation() {}
+
+  /**
+   * Sets the {@link SemVerMetrics} to report to, replacing the previous one.
+   *
+   * @param metrics to report to, or {@code null} to stop reporting.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static synchronized void setMetrics(final @Nullable SemVerMetrics metrics) {
+    SemVerInstrumentation.metrics = metrics;
+    enabled = metrics != null || flightRecorder;
+  }
+
+  /**
+   * Returns the {@link SemVerMetrics} reported to.
+   *
+   * @return the {@code SemVerMetrics}, or {@code null} if none is set.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static @Nullable SemVerMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Enables or disables the Flight Recorder events.
+   *
+   * @param enabled whether to enable the events.
+   * @return whether the events are enabled, which is {@code false} if the {@code jdk.jfr} module
+   *     is not resolved.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static synchronized boolean setFlightRecorderEnabled(final boolean enabled) {
+    flightRecorder = enabled && FlightRecorder.AVAILABLE;
+    SemVerInstrumentation.enabled = metrics != null || flightRecorder;
+    return flightRecorder;
+  }
+
+  /**
+   * Returns whether the Flight Recorder events are enabled.
+   *
+   * @return whether the events are enabled.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static boolean isFlightRecorderEnabled() {
+    return flightRecorder;
+  }
+
+  /**
+   * Returns whether any instrumentation is enabled.
+   *
+   * @return whether a {@link SemVerMetrics} is set, or the Flight Recorder events are enabled.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Returns the start time of a measurement, or {@link #DISABLED}. */
+  static long start() {
+    return enabled ? System.nanoTime() : DISABLED;
+  }
+
+  /** Reports parsing since {@code start}, returning the parsed {@code result}. */
+  static @Nullable SemVer parsed(final long start, final @Nullable SemVer result) {
+    if (start != DISABLED) {
+      final long nanos = System.nanoTime() - start;
+      final SemVerMetrics current = metrics;
+      if (current != null) current.parsed(nanos, result != null);
+      if (flightRecorder) SemVerFlightRecorder.parsed(nanos, result != null);
+    }
+    return result;
+  }
+
+  /** Reports formatting since {@code start}, returning the {@code result}. */
+  static <T> T formatted(final long start, final T result) {
+    formatted(start);
+    return result;
+  }
+
+  /** Reports formatting since {@code start}, returning the {@code result}. */
+  static int formatted(final long start, final int result) {
+    formatted(start);
+    return result;
+  }
+
+  /** Reports the rejected {@code component}, returning the {@code exception} to throw. */
+  static <T extends RuntimeException> T rejected(final String component, final T exception) {
+    if (enabled) {
+      final SemVerMetrics current = metrics;
+      if (current != null) current.rejected(component);
+      if (flightRecorder) SemVerFlightRecorder.rejected(component, exception.getMessage());
+    }
+    return exception;
+  }
+
+  /** Reports the overflowing {@code change}, returning the {@code exception} to throw. */
+  static ArithmeticException overflowed(final Change change, final ArithmeticException exception) {
+    if (enabled) {
+      final SemVerMetrics current = metrics;
+      if (current != null) current.overflowed(change);
+      if (flightRecorder) SemVerFlightRecorder.overflowed(change);
+    }
+    return exception;
+  }
+
+  private static void formatted(final long start) {
+    if (start != DISABLED) {
+      final long nanos = System.nanoTime() - start;
+      final SemVerMetrics current = metrics;
+      if (current != null) current.formatted(nanos);
+      if (flightRecorder) SemVerFlightRecorder.formatted(nanos);
+    }
+  }
+
+  /**
+   * Holds whether the Flight Recorder is usable, so that {@link SemVerFlightRecorder} is only
+   * loaded when the {@code jdk.jfr} module is resolved.
+   */
+  private static final class FlightRecorder {
+
+    static final boolean AVAILABLE = isAvailable();
+
+    private FlightRecorder() {}
+
+    private static boolean isAvailable() {
+      if (ModuleLayer.boot().findModule("jdk.jfr").isEmpty()) return false;
+      try {
+        return SemVerFlightRecorder.isSupported();
+      } catch (final LinkageError error) {
+        return false;
+      }
+    }
+  }
+}
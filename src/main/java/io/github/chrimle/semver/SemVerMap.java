@@ -0,0 +1,350 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A mutable hash map from {@link SemVer}s to values, with the keys stored as {@linkplain
+ * PackedSemVer packed} {@code long}s in a single open-addressing table.
+ *
+ * <p>There are no per-entry objects; each key occupies one slot of a {@code long[]}, and its value
+ * the same slot of an {@code Object[]}. Keys are probed as in {@link SemVerSet}. Values can be
+ * looked up by the {@code major}, {@code minor} and {@code patch} versions, without creating a
+ * {@code SemVer}.
+ *
+ * <p>Only {@linkplain SemVer#isPackable() packable} <em>release</em> versions can be keys, but any
+ * version can be looked up. Values <strong>MUST NOT</strong> be {@code null}, so that {@link
+ * #get(SemVer)} only returns {@code null} for absent keys. This map is <strong>not</strong>
+ * thread-safe.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerMap<Features> features = new SemVerMap<>();
+ * features.put(new SemVer(2, 1, 0), Features.DARK_MODE);
+ * Features enabled = features.get(major, minor, patch);
+ * }</pre>
+ *
+ * @param <V> the type of the values.
+ * @see SemVerSet
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerMap<V> {
+
+  private long[] keys;
+  private Object[] values;
+  private int size;
+  private int shift;
+
+  /**
+   * Creates an empty {@link SemVerMap}.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerMap() {
+    this(SemVerSet.DEFAULT_CAPACITY / 2);
+  }
+
+  /**
+   * Creates an empty {@link SemVerMap}, which can hold {@code expectedSize} entries without
+   * resizing.
+   *
+   * @param expectedSize number of entries.
+   * @throws IllegalArgumentException if {@code expectedSize} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerMap(final int expectedSize) throws IllegalArgumentException {
+    if (expectedSize < 0) throw illegalArgumentOf("expectedSize", MUST_BE_AT_LEAST, "0");
+    allocate(SemVerSet.capacityFor(expectedSize));
+  }
+
+  /**
+   * Returns the number of entries in <em>this</em> map.
+   *
+   * @return the number of entries.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether <em>this</em> map contains no entries.
+   *
+   * @return whether {@link #size()} is {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Associates the {@code value} with the {@code version}.
+   *
+   * @param version key.
+   * @param value to associate.
+   * @return the previous value, or {@code null} if there was none.
+   * @throws IllegalArgumentException if {@code version} or {@code value} is {@code null}.
+   * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @throws IllegalStateException if the map is full, and has no entry for the {@code version}.
+   *     Then, the map is not modified.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable V put(final SemVer version, final V value)
+      throws ArithmeticException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return putPacked(version.toPacked(), value);
+  }
+
+  /**
+   * Associates the {@code value} with the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version key.
+   * @param value to associate.
+   * @return the previous value, or {@code null} if there was none.
+   * @throws IllegalArgumentException if {@code packed} is negative, or {@code value} is {@code
+   *     null}.
+   * @throws IllegalStateException if the map is full, and has no entry for the {@code packed}
+   *     version. Then, the map is not modified.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("_, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract", "unchecked"})
+  public @Nullable V putPacked(final long packed, final V value) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    if (value == null) throw illegalArgumentOf("value", MUST_NOT_BE_NULL);
+    final int mask = keys.length - 1;
+    int slot = SemVerSet.slot(packed, shift);
+    for (long key; (key = keys[slot]) != SemVerSet.EMPTY; slot = (slot + 1) & mask) {
+      if (key == packed) {
+        final V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+      }
+    }
+    if (size == keys.length >>> 1) {
+      // Grows before inserting, so that a full map throws without being modified.
+      resize();
+      slot = SemVerSet.slot(packed, shift);
+      while (keys[slot] != SemVerSet.EMPTY) slot = (slot + 1) & (keys.length - 1);
+    }
+    keys[slot] = packed;
+    values[slot] = value;
+    size++;
+    return null;
+  }
+
+  /**
+   * Returns the value associated with the {@code version}.
+   *
+   * @param version key.
+   * @return the value, or {@code null} if there is none.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable V get(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return version.isPackable() ? getPacked(version.toPacked()) : null;
+  }
+
+  /**
+   * Returns the value associated with the release version {@code major.minor.patch}, without
+   * creating a {@link SemVer}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return the value, or {@code null} if there is none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public @Nullable V get(final int major, final int minor, final int patch) {
+    if (!PackedSemVer.isPackable(major, minor, patch)) return null;
+    return getPacked(PackedSemVer.packUnchecked(major, minor, patch));
+  }
+
+  /**
+   * Returns the value associated with the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version key.
+   * @return the value, or {@code null} if there is none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  public @Nullable V getPacked(final long packed) {
+    if (packed < 0) return null;
+    final int mask = keys.length - 1;
+    for (int slot = SemVerSet.slot(packed, shift); ; slot = (slot + 1) & mask) {
+      final long key = keys[slot];
+      if (key == packed) return (V) values[slot];
+      if (key == SemVerSet.EMPTY) return null;
+    }
+  }
+
+  /**
+   * Returns whether <em>this</em> map contains the {@code version} as a key.
+   *
+   * @param version key.
+   * @return whether a value is associated with the {@code version}.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  public boolean containsKey(final SemVer version) throws IllegalArgumentException {
+    return get(version) != null;
+  }
+
+  /**
+   * Returns whether <em>this</em> map contains the release version {@code major.minor.patch} as a
+   * key, without creating a {@link SemVer}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return whether a value is associated with the version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean containsKey(final int major, final int minor, final int patch) {
+    return get(major, minor, patch) != null;
+  }
+
+  /**
+   * Removes the entry of the {@code version}, if present.
+   *
+   * @param version key.
+   * @return the removed value, or {@code null} if there was none.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable V remove(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return version.isPackable() ? removePacked(version.toPacked()) : null;
+  }
+
+  /**
+   * Removes the entry of the {@linkplain PackedSemVer packed} version, if present.
+   *
+   * @param packed version key.
+   * @return the removed value, or {@code null} if there was none.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @SuppressWarnings("unchecked")
+  public @Nullable V removePacked(final long packed) {
+    if (packed < 0) return null;
+    final int mask = keys.length - 1;
+    for (int slot = SemVerSet.slot(packed, shift); ; slot = (slot + 1) & mask) {
+      final long key = keys[slot];
+      if (key == SemVerSet.EMPTY) return null;
+      if (key == packed) {
+        final V removed = (V) values[slot];
+        size--;
+        SemVerSet.shiftBack(keys, values, slot, shift);
+        return removed;
+      }
+    }
+  }
+
+  /**
+   * Removes all entries.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void clear() {
+    Arrays.fill(keys, SemVerSet.EMPTY);
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  /**
+   * Performs the {@code action} for each entry, with the value and the {@linkplain PackedSemVer
+   * packed} key, in an unspecified order.
+   *
+   * @param action to perform.
+   * @throws IllegalArgumentException if {@code action} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract", "unchecked"})
+  public void forEachPacked(final ObjLongConsumer<? super V> action)
+      throws IllegalArgumentException {
+    if (action == null) throw illegalArgumentOf("action", MUST_NOT_BE_NULL);
+    for (int slot = 0; slot < keys.length; slot++) {
+      if (keys[slot] != SemVerSet.EMPTY) action.accept((V) values[slot], keys[slot]);
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    Arrays.fill(keys, SemVerSet.EMPTY);
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  private void resize() {
+    if (keys.length == SemVerSet.MAX_CAPACITY) {
+      throw new IllegalStateException("`SemVerMap` is full");
+    }
+    final long[] oldKeys = keys;
+    final Object[] oldValues = values;
+    allocate(oldKeys.length << 1);
+    final int mask = keys.length - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] == SemVerSet.EMPTY) continue;
+      int slot = SemVerSet.slot(oldKeys[i], shift);
+      while (keys[slot] != SemVerSet.EMPTY) slot = (slot + 1) & mask;
+      keys[slot] = oldKeys[i];
+      values[slot] = oldValues[i];
+    }
+  }
+}
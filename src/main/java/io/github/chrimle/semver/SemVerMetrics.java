@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import org.apiguardian.api.API;
+
+/**
+ * Receives the measurements of {@link SemVerInstrumentation}, e.g. to increment the counters and
+ * timers of a metrics library. Every method does nothing by default, so implementations only
+ * override the measurements they are interested in.
+ *
+ * <p>Methods are invoked synchronously by the thread parsing, formatting or creating a {@link
+ * SemVer}, possibly concurrently. Implementations <em><strong>MUST</strong></em> be thread-safe,
+ * <em><strong>SHOULD</strong></em> return quickly and <em><strong>MUST NOT</strong></em> throw.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * LongAdder overflows = new LongAdder();
+ * SemVerInstrumentation.setMetrics(new SemVerMetrics() {
+ *   @Override
+ *   public void overflowed(Change change) {
+ *     overflows.increment();
+ *   }
+ * });
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public interface SemVerMetrics {
+
+  /**
+   * Invoked after parsing by {@link SemVer#parse(CharSequence)}, {@link
+   * SemVer#tryParse(CharSequence)} or any of their overloads.
+   *
+   * @param nanos the elapsed time, in nanoseconds.
+   * @param valid whether a {@code SemVer} was parsed.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  default void parsed(final long nanos, final boolean valid) {}
+
+  /**
+   * Invoked after formatting by {@link SemVer#toCompleteVersionString()}, {@link
+   * SemVer#toShortVersionString()}, or any of the {@code append*}- and {@code write*}-methods.
+   *
+   * @param nanos the elapsed time, in nanoseconds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  default void formatted(final long nanos) {}
+
+  /**
+   * Invoked when the constructor of {@link SemVer} rejects an invalid component.
+   *
+   * @param component the name of the rejected component, e.g. {@code "major"} or {@code
+   *     "preRelease"}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  default void rejected(final String component) {}
+
+  /**
+   * Invoked when {@link SemVer#incrementMajor()}, {@link SemVer#incrementMinor()} or {@link
+   * SemVer#incrementPatch()} throws an {@link ArithmeticException}, since the version would
+   * overflow.
+   *
+   * @param change the overflowing increment.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  default void overflowed(final Change change) {}
+}
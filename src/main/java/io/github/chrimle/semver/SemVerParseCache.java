@@ -0,0 +1,388 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded cache of parsed {@link SemVer}-instances, keyed by the text they were parsed from. The
+ * same text is only parsed once while cached, and returns the same instance until it is evicted.
+ * Malformed text is cached as well, so repeatedly rejecting it is as cheap as a hit.
+ *
+ * <p>Text is looked up as {@code US-ASCII} bytes, so {@code byte[]}-ranges and {@link ByteBuffer}s
+ * are looked up without creating a {@code String} first. Text longer than {@value
+ * #MAX_KEY_LENGTH} characters, or {@code CharSequence}s containing non-ASCII characters, are parsed
+ * without being cached.
+ *
+ * <p>The cache is divided into sets of 8 entries, where text is only cached in the set its hash
+ * maps to. Within a set, entries are evicted by the <em>CLOCK</em> algorithm: a hit marks its
+ * entry as referenced, and an insertion evicts the first unreferenced entry after the last
+ * insertion, clearing the marks it passes. Text which is only parsed once is therefore evicted
+ * before text which is parsed repeatedly.
+ *
+ * <p>Like the cache behind {@link SemVer#of(int, int, int)}, this cache is thread-safe without
+ * being synchronized. Entries are immutable, so a racing thread may at worst miss an entry which
+ * was just inserted, or evict an entry which was just referenced, and parse an equal instance.
+ * Only misses are reported to {@link SemVerInstrumentation}.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerParseCache cache = new SemVerParseCache(512);
+ * SemVer version = cache.tryParse(header, offset, length);
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerParseCache {
+
+  /**
+   * The capacity used by {@link #SemVerParseCache()}.
+   *
+   * @since 1.6.0
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /**
+   * The maximum length of cached text. Longer text is parsed without being cached, so that
+   * malformed input cannot occupy an unbounded amount of memory.
+   *
+   * @since 1.6.0
+   */
+  public static final int MAX_KEY_LENGTH = 128;
+
+  private static final int WAYS = 8;
+  private static final int MAX_CAPACITY = 1 << 24;
+
+  private final Entry[] entries;
+  private final byte[] hands;
+  private final int mask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates an empty {@link SemVerParseCache} of {@value #DEFAULT_CAPACITY} entries.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerParseCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty {@link SemVerParseCache} of at least {@code capacity} entries. The capacity is
+   * rounded up to a power of two, and to at least {@code 8}.
+   *
+   * @param capacity minimum number of entries.
+   * @throws IllegalArgumentException if {@code capacity} is less than {@code 1} or greater than
+   *     {@code 2^24}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerParseCache(final int capacity) throws IllegalArgumentException {
+    if (capacity < 1) throw illegalArgumentOf("capacity", MUST_BE_AT_LEAST, "1");
+    if (capacity > MAX_CAPACITY) {
+      throw illegalArgumentOf("capacity", MUST_BE_AT_MOST, String.valueOf(MAX_CAPACITY));
+    }
+    final int rounded = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+    this.entries = new Entry[rounded];
+    this.hands = new byte[rounded / WAYS];
+    this.mask = rounded / WAYS - 1;
+  }
+
+  /**
+   * Returns the maximum number of entries of <em>this</em> cache.
+   *
+   * @return the capacity.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int capacity() {
+    return entries.length;
+  }
+
+  /**
+   * Returns a snapshot of the hits and misses of <em>this</em> cache. Cached malformed text counts
+   * as a hit, and uncacheable text as a miss.
+   *
+   * @return a snapshot of the {@code CacheStatistics}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("-> new")
+  public CacheStatistics statistics() {
+    return new CacheStatistics(hits.sum(), misses.sum());
+  }
+
+  /**
+   * Parses a {@link SemVer} like {@link SemVer#parse(CharSequence)}, unless the {@code text} is
+   * cached.
+   *
+   * @param text to parse.
+   * @return the parsed {@code SemVer}.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @throws IllegalArgumentException if {@code text} is malformed, as by {@link
+   *     SemVer#parse(CharSequence)}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  public SemVer parse(final CharSequence text) throws IllegalArgumentException {
+    return requireValid(tryParse(text));
+  }
+
+  /**
+   * Parses a {@link SemVer} like {@link SemVer#parse(byte[], int, int)}, unless the range is
+   * cached.
+   *
+   * @param bytes to parse.
+   * @param offset of the first byte to parse.
+   * @param length of the range to parse.
+   * @return the parsed {@code SemVer}.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IllegalArgumentException if the range is malformed, as by {@link SemVer#parse(byte[],
+   *     int, int)}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code bytes}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail; !null, _, _ -> !null")
+  public SemVer parse(final byte[] bytes, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    return requireValid(tryParse(bytes, offset, length));
+  }
+
+  /**
+   * Parses a {@link SemVer} like {@link SemVer#parse(ByteBuffer)}, unless the remaining bytes are
+   * cached. The {@code position} of the {@code buffer} is <em>not</em> modified.
+   *
+   * @param buffer to parse.
+   * @return the parsed {@code SemVer}.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @throws IllegalArgumentException if the remaining bytes are malformed, as by {@link
+   *     SemVer#parse(ByteBuffer)}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> !null")
+  public SemVer parse(final ByteBuffer buffer) throws IllegalArgumentException {
+    return requireValid(tryParse(buffer));
+  }
+
+  /**
+   * Parses a {@link SemVer} like {@link SemVer#tryParse(CharSequence)}, unless the {@code text} is
+   * cached.
+   *
+   * @param text to parse.
+   * @return the parsed {@code SemVer}, or {@code null} if {@code text} is malformed.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer tryParse(final CharSequence text) throws IllegalArgumentException {
+    if (text == null) throw illegalArgumentOf("text", MUST_NOT_BE_NULL);
+    final int length = text.length();
+    if (length > MAX_KEY_LENGTH) return uncached(SemVer.tryParse(text));
+    int hash = length;
+    for (int index = 0; index < length; index++) {
+      final char character = text.charAt(index);
+      if (character > 0x7F) return uncached(SemVer.tryParse(text));
+      hash = 31 * hash + character;
+    }
+    final int set = set(hash);
+    for (int way = 0; way < WAYS; way++) {
+      final Entry entry = entries[set + way];
+      if (entry != null && entry.hash == hash && entry.matches(text)) return hit(entry);
+    }
+    misses.increment();
+    final SemVer semVer = SemVer.tryParse(text);
+    final byte[] key = new byte[length];
+    for (int index = 0; index < length; index++) {
+      key[index] = (byte) text.charAt(index);
+    }
+    insert(set, new Entry(key, hash, semVer));
+    return semVer;
+  }
+
+  /**
+   * Parses a {@link SemVer} like {@link SemVer#tryParse(byte[], int, int)}, unless the range is
+   * cached. A hit does not create any objects.
+   *
+   * @param bytes to parse.
+   * @param offset of the first byte to parse.
+   * @param length of the range to parse.
+   * @return the parsed {@code SemVer}, or {@code null} if the range is malformed.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code bytes}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer tryParse(final byte[] bytes, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (bytes == null) throw illegalArgumentOf("bytes", MUST_NOT_BE_NULL);
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    if (length > MAX_KEY_LENGTH) return uncached(SemVer.tryParse(bytes, offset, length));
+    int hash = length;
+    for (int index = offset; index < offset + length; index++) {
+      hash = 31 * hash + bytes[index];
+    }
+    final int set = set(hash);
+    for (int way = 0; way < WAYS; way++) {
+      final Entry entry = entries[set + way];
+      if (entry != null && entry.hash == hash && entry.matches(bytes, offset, length)) {
+        return hit(entry);
+      }
+    }
+    misses.increment();
+    final SemVer semVer = SemVer.tryParse(bytes, offset, length);
+    insert(set, new Entry(Arrays.copyOfRange(bytes, offset, offset + length), hash, semVer));
+    return semVer;
+  }
+
+  /**
+   * Parses a {@link SemVer} like {@link SemVer#tryParse(ByteBuffer)}, unless the remaining bytes
+   * are cached. The {@code position} of the {@code buffer} is <em>not</em> modified. A hit does
+   * not create any objects, not even for direct buffers.
+   *
+   * @param buffer to parse.
+   * @return the parsed {@code SemVer}, or {@code null} if the remaining bytes are malformed.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer tryParse(final ByteBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null) throw illegalArgumentOf("buffer", MUST_NOT_BE_NULL);
+    if (buffer.hasArray()) {
+      return tryParse(
+          buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    final int offset = buffer.position();
+    final int length = buffer.remaining();
+    if (length > MAX_KEY_LENGTH) return uncached(SemVer.tryParse(buffer));
+    int hash = length;
+    for (int index = offset; index < offset + length; index++) {
+      hash = 31 * hash + buffer.get(index);
+    }
+    final int set = set(hash);
+    for (int way = 0; way < WAYS; way++) {
+      final Entry entry = entries[set + way];
+      if (entry != null && entry.hash == hash && entry.matches(buffer, offset, length)) {
+        return hit(entry);
+      }
+    }
+    misses.increment();
+    final SemVer semVer = SemVer.tryParse(buffer);
+    final byte[] key = new byte[length];
+    buffer.get(offset, key);
+    insert(set, new Entry(key, hash, semVer));
+    return semVer;
+  }
+
+  private @Nullable SemVer hit(final Entry entry) {
+    // Only writes the mark if needed, so that hits on a shared entry do not contend.
+    if (!entry.referenced) entry.referenced = true;
+    hits.increment();
+    return entry.semVer;
+  }
+
+  private @Nullable SemVer uncached(final @Nullable SemVer semVer) {
+    misses.increment();
+    return semVer;
+  }
+
+  private int set(final int hash) {
+    final int spread = hash * 0x9E3779B1;
+    return ((spread ^ (spread >>> 16)) & mask) * WAYS;
+  }
+
+  /** Inserts the {@code entry} into the {@code set}, by the CLOCK algorithm. */
+  private void insert(final int set, final Entry entry) {
+    final int hand = set / WAYS;
+    int way = hands[hand];
+    // At most one revolution, since a racing thread may mark an entry again after it was cleared.
+    for (int step = 0; step < WAYS; step++) {
+      final Entry victim = entries[set + way];
+      if (victim == null || !victim.referenced) break;
+      victim.referenced = false;
+      way = (way + 1) & (WAYS - 1);
+    }
+    entries[set + way] = entry;
+    hands[hand] = (byte) ((way + 1) & (WAYS - 1));
+  }
+
+  private static SemVer requireValid(final @Nullable SemVer semVer) {
+    if (semVer == null) throw new IllegalArgumentException(SemVerParser.FORMAT_MESSAGE);
+    return semVer;
+  }
+
+  /** Cached text, and the {@link SemVer} parsed from it, or {@code null} if it was malformed. */
+  private static final class Entry {
+
+    private final byte[] key;
+    private final int hash;
+    private final @Nullable SemVer semVer;
+
+    /** Whether the entry was hit since the CLOCK hand last passed it. Races are benign. */
+    private boolean referenced;
+
+    private Entry(final byte[] key, final int hash, final @Nullable SemVer semVer) {
+      this.key = key;
+      this.hash = hash;
+      this.semVer = semVer;
+    }
+
+    private boolean matches(final CharSequence text) {
+      if (text.length() != key.length) return false;
+      for (int index = 0; index < key.length; index++) {
+        if (text.charAt(index) != key[index]) return false;
+      }
+      return true;
+    }
+
+    private boolean matches(final byte[] bytes, final int offset, final int length) {
+      return Arrays.equals(key, 0, key.length, bytes, offset, offset + length);
+    }
+
+    private boolean matches(final ByteBuffer buffer, final int offset, final int length) {
+      if (length != key.length) return false;
+      for (int index = 0; index < key.length; index++) {
+        if (buffer.get(offset + index) != key[index]) return false;
+      }
+      return true;
+    }
+  }
+}
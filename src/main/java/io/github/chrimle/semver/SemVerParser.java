@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Allocation-free parser of {@link SemVer}-strings.
+ *
+ * <p>Accepts the format {@code [v]MAJOR[.MINOR[.PATCH]][-PRERELEASE][+BUILD]}, i.e. both the
+ * output of {@link SemVer#toCompleteVersionString()} and {@link SemVer#toShortVersionString()}, as
+ * well as bare versions such as {@code 1.2.3}. Omitted versions default to {@code 0}. Numeric
+ * versions <em><strong>MUST NOT</strong></em> contain leading zeroes (<a
+ * href="https://semver.org/#spec-item-2">SemVer Spec §2</a>) and <em><strong>MUST NOT</strong></em>
+ * exceed {@value Integer#MAX_VALUE}.
+ *
+ * <p>Each version is scanned into a {@code long} holding the parsed value in the upper 32 bits and
+ * the index following it in the lower 32 bits, so that no intermediate objects are created. Only
+ * the <em>pre-release</em> and <em>build metadata</em> labels, when present, are copied into
+ * {@code String}s.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerParser {
+
+  /** Returned by the {@code component}-methods when no valid version could be scanned. */
+  static final long INVALID = -1L;
+
+  static final String FORMAT_MESSAGE =
+      "`version` MUST be a Semantic Version of the format"
+          + " `[v]MAJOR[.MINOR[.PATCH]][-PRERELEASE][+BUILD]`";
+
+  private SemVerParser() {}
+
+  static @Nullable SemVer parse(final CharSequence text, final int from, final int to) {
+    int index = from;
+    if (index < to && text.charAt(index) == 'v') {
+      index++;
+    }
+    final long major = component(text, index, to);
+    if (major == INVALID) return null;
+    index = (int) major;
+    long minor = 0L;
+    long patch = 0L;
+    if (index < to && text.charAt(index) == '.') {
+      minor = component(text, index + 1, to);
+      if (minor == INVALID) return null;
+      index = (int) minor;
+      if (index < to && text.charAt(index) == '.') {
+        patch = component(text, index + 1, to);
+        if (patch == INVALID) return null;
+        index = (int) patch;
+      }
+    }
+    if (index == to) {
+      return SemVer.of((int) (major >>> 32), (int) (minor >>> 32), (int) (patch >>> 32));
+    }
+    return withLabels(text, index, to, major, minor, patch);
+  }
+
+  static @Nullable SemVer parse(final byte[] bytes, final int from, final int to) {
+    int index = from;
+    if (index < to && bytes[index] == 'v') {
+      index++;
+    }
+    final long major = component(bytes, index, to);
+    if (major == INVALID) return null;
+    index = (int) major;
+    long minor = 0L;
+    long patch = 0L;
+    if (index < to && bytes[index] == '.') {
+      minor = component(bytes, index + 1, to);
+      if (minor == INVALID) return null;
+      index = (int) minor;
+      if (index < to && bytes[index] == '.') {
+        patch = component(bytes, index + 1, to);
+        if (patch == INVALID) return null;
+        index = (int) patch;
+      }
+    }
+    if (index == to) {
+      return SemVer.of((int) (major >>> 32), (int) (minor >>> 32), (int) (patch >>> 32));
+    }
+    return withLabels(bytes, index, to, major, minor, patch);
+  }
+
+  static @Nullable SemVer parse(final ByteBuffer buffer, final int from, final int to) {
+    if (buffer.hasArray()) {
+      final int offset = buffer.arrayOffset();
+      return parse(buffer.array(), offset + from, offset + to);
+    }
+    int index = from;
+    if (index < to && buffer.get(index) == 'v') {
+      index++;
+    }
+    final long major = component(buffer, index, to);
+    if (major == INVALID) return null;
+    index = (int) major;
+    long minor = 0L;
+    long patch = 0L;
+    if (index < to && buffer.get(index) == '.') {
+      minor = component(buffer, index + 1, to);
+      if (minor == INVALID) return null;
+      index = (int) minor;
+      if (index < to && buffer.get(index) == '.') {
+        patch = component(buffer, index + 1, to);
+        if (patch == INVALID) return null;
+        index = (int) patch;
+      }
+    }
+    if (index == to) {
+      return SemVer.of((int) (major >>> 32), (int) (minor >>> 32), (int) (patch >>> 32));
+    }
+    return withLabels(buffer, index, to, major, minor, patch);
+  }
+
+  /**
+   * Parses a <em>release</em> version straight into its {@linkplain PackedSemVer packed}
+   * representation, without creating a {@link SemVer} or looking it up in the cache behind {@link
+   * SemVer#of(int, int, int)}.
+   *
+   * @return the packed version, or {@link PackedSemVer#INVALID} if the range is malformed, has a
+   *     <em>pre-release</em> version or <em>build metadata</em>, or is not packable.
+   */
+  static long parsePacked(final byte[] bytes, final int from, final int to) {
+    int index = from;
+    if (index < to && bytes[index] == 'v') {
+      index++;
+    }
+    final long major = component(bytes, index, to);
+    if (major == INVALID) return PackedSemVer.INVALID;
+    index = (int) major;
+    long minor = 0L;
+    long patch = 0L;
+    if (index < to && bytes[index] == '.') {
+      minor = component(bytes, index + 1, to);
+      if (minor == INVALID) return PackedSemVer.INVALID;
+      index = (int) minor;
+      if (index < to && bytes[index] == '.') {
+        patch = component(bytes, index + 1, to);
+        if (patch == INVALID) return PackedSemVer.INVALID;
+        index = (int) patch;
+      }
+    }
+    if (index != to) return PackedSemVer.INVALID;
+    return PackedSemVer.tryPack((int) (major >>> 32), (int) (minor >>> 32), (int) (patch >>> 32));
+  }
+
+  static long parsePacked(final ByteBuffer buffer, final int from, final int to) {
+    if (buffer.hasArray()) {
+      final int offset = buffer.arrayOffset();
+      return parsePacked(buffer.array(), offset + from, offset + to);
+    }
+    int index = from;
+    if (index < to && buffer.get(index) == 'v') {
+      index++;
+    }
+    final long major = component(buffer, index, to);
+    if (major == INVALID) return PackedSemVer.INVALID;
+    index = (int) major;
+    long minor = 0L;
+    long patch = 0L;
+    if (index < to && buffer.get(index) == '.') {
+      minor = component(buffer, index + 1, to);
+      if (minor == INVALID) return PackedSemVer.INVALID;
+      index = (int) minor;
+      if (index < to && buffer.get(index) == '.') {
+        patch = component(buffer, index + 1, to);
+        if (patch == INVALID) return PackedSemVer.INVALID;
+        index = (int) patch;
+      }
+    }
+    if (index != to) return PackedSemVer.INVALID;
+    return PackedSemVer.tryPack((int) (major >>> 32), (int) (minor >>> 32), (int) (patch >>> 32));
+  }
+
+  /**
+   * Parses the optional {@code -PRERELEASE} and {@code +BUILD} following the numeric versions.
+   *
+   * <p>Release versions are far more common, so labels are only copied into {@code String}s once
+   * it is known that they are present.
+   */
+  private static @Nullable SemVer withLabels(
+      final CharSequence text,
+      final int from,
+      final int to,
+      final long major,
+      final long minor,
+      final long patch) {
+    int plus = from;
+    while (plus < to && text.charAt(plus) != '+') {
+      plus++;
+    }
+    String preRelease = "";
+    if (text.charAt(from) == '-') {
+      if (!SemVerIdentifiers.isValidPreRelease(text, from + 1, plus)) return null;
+      preRelease = text.subSequence(from + 1, plus).toString();
+    } else if (plus != from) {
+      return null;
+    }
+    String buildMetadata = "";
+    if (plus < to) {
+      if (!SemVerIdentifiers.isValidBuildMetadata(text, plus + 1, to)) return null;
+      buildMetadata = text.subSequence(plus + 1, to).toString();
+    }
+    return new SemVer(
+        (int) (major >>> 32),
+        (int) (minor >>> 32),
+        (int) (patch >>> 32),
+        preRelease,
+        buildMetadata);
+  }
+
+  /**
+   * Parses the labels of {@code US-ASCII} bytes like {@link #withLabels(CharSequence, int, int,
+   * long, long, long)}, validating them in place before copying them into {@code String}s.
+   */
+  private static @Nullable SemVer withLabels(
+      final byte[] bytes,
+      final int from,
+      final int to,
+      final long major,
+      final long minor,
+      final long patch) {
+    int plus = from;
+    while (plus < to && bytes[plus] != '+') {
+      plus++;
+    }
+    final boolean hasPreRelease = bytes[from] == '-';
+    if (!hasPreRelease && plus != from) return null;
+    if (hasPreRelease && !SemVerIdentifiers.isValidPreRelease(bytes, from + 1, plus)) return null;
+    if (plus < to && !SemVerIdentifiers.isValidBuildMetadata(bytes, plus + 1, to)) return null;
+    return new SemVer(
+        (int) (major >>> 32),
+        (int) (minor >>> 32),
+        (int) (patch >>> 32),
+        hasPreRelease ? label(bytes, from + 1, plus) : "",
+        plus < to ? label(bytes, plus + 1, to) : "");
+  }
+
+  private static @Nullable SemVer withLabels(
+      final ByteBuffer buffer,
+      final int from,
+      final int to,
+      final long major,
+      final long minor,
+      final long patch) {
+    int plus = from;
+    while (plus < to && buffer.get(plus) != '+') {
+      plus++;
+    }
+    final boolean hasPreRelease = buffer.get(from) == '-';
+    if (!hasPreRelease && plus != from) return null;
+    if (hasPreRelease && !SemVerIdentifiers.isValidPreRelease(buffer, from + 1, plus)) return null;
+    if (plus < to && !SemVerIdentifiers.isValidBuildMetadata(buffer, plus + 1, to)) return null;
+    return new SemVer(
+        (int) (major >>> 32),
+        (int) (minor >>> 32),
+        (int) (patch >>> 32),
+        hasPreRelease ? label(buffer, from + 1, plus) : "",
+        plus < to ? label(buffer, plus + 1, to) : "");
+  }
+
+  private static String label(final byte[] bytes, final int from, final int to) {
+    return new String(bytes, from, to - from, StandardCharsets.US_ASCII);
+  }
+
+  /** Copies a validated label straight into a {@code String}, without an intermediate array. */
+  private static String label(final ByteBuffer buffer, final int from, final int to) {
+    final StringBuilder label = new StringBuilder(to - from);
+    for (int index = from; index < to; index++) {
+      label.append((char) buffer.get(index));
+    }
+    return label.toString();
+  }
+
+  /**
+   * Scans a single numeric version starting at {@code from}.
+   *
+   * @return the value in the upper 32 bits and the index of the first non-digit in the lower 32
+   *     bits, or {@link #INVALID} if there is no digit, a leading zero or an {@code int}-overflow.
+   */
+  private static long component(final CharSequence text, final int from, final int to) {
+    int index = from;
+    int value = 0;
+    while (index < to) {
+      final int digit = text.charAt(index) - '0';
+      if (digit < 0 || digit > 9) break;
+      if (value > (Integer.MAX_VALUE - digit) / 10) return INVALID;
+      value = value * 10 + digit;
+      index++;
+    }
+    return accept(from, index, value, index > from ? text.charAt(from) : 0);
+  }
+
+  private static long component(final byte[] bytes, final int from, final int to) {
+    int index = from;
+    int value = 0;
+    while (index < to) {
+      final int digit = bytes[index] - '0';
+      if (digit < 0 || digit > 9) break;
+      if (value > (Integer.MAX_VALUE - digit) / 10) return INVALID;
+      value = value * 10 + digit;
+      index++;
+    }
+    return accept(from, index, value, index > from ? bytes[from] : 0);
+  }
+
+  private static long component(final ByteBuffer buffer, final int from, final int to) {
+    int index = from;
+    int value = 0;
+    while (index < to) {
+      final int digit = buffer.get(index) - '0';
+      if (digit < 0 || digit > 9) break;
+      if (value > (Integer.MAX_VALUE - digit) / 10) return INVALID;
+      value = value * 10 + digit;
+      index++;
+    }
+    return accept(from, index, value, index > from ? buffer.get(from) : 0);
+  }
+
+  private static long accept(final int from, final int end, final int value, final int first) {
+    if (end == from) return INVALID;
+    if (first == '0' && end - from > 1) return INVALID;
+    return ((long) value << 32) | end;
+  }
+}
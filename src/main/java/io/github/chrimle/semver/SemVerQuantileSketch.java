@@ -0,0 +1,469 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A <em>KLL</em> quantile sketch over the order of versions, answering questions such as "which
+ * fraction of the versions is less than {@code 3.2.0}" in a bounded amount of memory.
+ *
+ * <p>Versions are kept as {@linkplain PackedSemVer packed} values in levels of <em>compactors</em>,
+ * where each version of level {@code h} stands for {@code 2^h} added versions. When a level is
+ * full, it is sorted and every other version is promoted to the next level. The sketch holds about
+ * {@code 3 * k} versions, and the error of a {@linkplain #rank(SemVer) rank} is about {@code 1.7 /
+ * k}, e.g. {@code 0.85%} for the default {@code k} of {@value #DEFAULT_K}.
+ *
+ * <p>Versions are ordered by their {@code major}, {@code minor} and {@code patch} versions, as per
+ * {@link SemVer#compareTo(SemVer)}. <em>Pre-release</em> versions and <em>build metadata</em> are
+ * not part of the order, so a pre-release is added as its release.
+ *
+ * <p>Sketches of different nodes are combined by {@link #merge(SemVerQuantileSketch)}. This class
+ * is <strong>not</strong> thread-safe.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerQuantileSketch {
+
+  /**
+   * The {@code k} used by {@link #SemVerQuantileSketch()}.
+   *
+   * @since 1.6.0
+   */
+  public static final int DEFAULT_K = 200;
+
+  private static final int MAGIC = 0x31515653; // "SVQ1"
+  private static final int MIN_K = 8;
+  private static final int MAX_K = 1 << 16;
+  private static final int MIN_CAPACITY = 8;
+
+  /** The ratio of the capacity of each level to the next, which bounds the total size. */
+  private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+  private final int k;
+  private long[][] levels = {new long[MIN_CAPACITY]};
+  private int[] sizes = {0};
+  private long count;
+  private long min = Long.MAX_VALUE;
+  private long max = Long.MIN_VALUE;
+
+  /** The state of a {@code xorshift} generator, choosing which half of a level is promoted. */
+  private long random = 0x9E3779B97F4A7C15L;
+
+  /**
+   * Creates an empty {@link SemVerQuantileSketch} with a {@code k} of {@value #DEFAULT_K}.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerQuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  /**
+   * Creates an empty {@link SemVerQuantileSketch}, where a greater {@code k} is more accurate but
+   * holds more versions.
+   *
+   * @param k capacity of the top level.
+   * @throws IllegalArgumentException if {@code k} is less than {@code 8}, or greater than {@code
+   *     65536}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerQuantileSketch(final int k) throws IllegalArgumentException {
+    if (k < MIN_K) throw illegalArgumentOf("k", MUST_BE_AT_LEAST, String.valueOf(MIN_K));
+    if (k > MAX_K) throw illegalArgumentOf("k", MUST_BE_AT_MOST, String.valueOf(MAX_K));
+    this.k = k;
+  }
+
+  /**
+   * Returns the {@code k} of <em>this</em> sketch.
+   *
+   * @return the capacity of the top level.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int k() {
+    return k;
+  }
+
+  /**
+   * Returns the number of versions added.
+   *
+   * @return the exact number of versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Returns whether no versions were added.
+   *
+   * @return whether {@link #count()} is {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /**
+   * Adds the {@code version}. A <em>pre-release</em> version is added as its release.
+   *
+   * @param version to add.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @throws ArithmeticException if {@code major}, {@code minor} or {@code patch} is greater than
+   *     {@value PackedSemVer#MAX_VERSION}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void add(final SemVer version) throws ArithmeticException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    append(PackedSemVer.pack(version.major(), version.minor(), version.patch()));
+  }
+
+  /**
+   * Adds the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void addPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    append(packed);
+  }
+
+  /**
+   * Returns the estimated fraction of the added versions which are less than the {@code version}.
+   *
+   * @param version to rank.
+   * @return the fraction between {@code 0.0} and {@code 1.0}, or {@code 0.0} if {@link
+   *     #isEmpty()}.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public double rank(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    final long packed = PackedSemVer.tryPack(version.major(), version.minor(), version.patch());
+    if (packed == PackedSemVer.INVALID) return isEmpty() ? 0.0 : 1.0;
+    return rankPacked(packed);
+  }
+
+  /**
+   * Returns the estimated fraction of the added versions which are less than the {@linkplain
+   * PackedSemVer packed} version.
+   *
+   * @param packed version to rank.
+   * @return the fraction between {@code 0.0} and {@code 1.0}, or {@code 0.0} if {@link
+   *     #isEmpty()}.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public double rankPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    if (isEmpty()) return 0.0;
+    if (packed <= min) return 0.0;
+    if (packed > max) return 1.0;
+    long weight = 0;
+    for (int level = 0; level < levels.length; level++) {
+      final long[] values = levels[level];
+      for (int i = 0; i < sizes[level]; i++) {
+        if (values[i] < packed) weight += 1L << level;
+      }
+    }
+    return (double) weight / count;
+  }
+
+  /**
+   * Returns the estimated version at the given {@code fraction} of the order of the added
+   * versions, e.g. the median for {@code 0.5}. The fractions {@code 0.0} and {@code 1.0} return
+   * the exact least and greatest added version respectively.
+   *
+   * @param fraction between {@code 0.0} and {@code 1.0}.
+   * @return the version, or {@code null} if {@link #isEmpty()}.
+   * @throws IllegalArgumentException if {@code fraction} is not between {@code 0.0} and {@code
+   *     1.0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public @Nullable SemVer quantile(final double fraction) throws IllegalArgumentException {
+    final long packed = quantilePacked(fraction);
+    return packed == PackedSemVer.INVALID ? null : SemVer.fromPacked(packed);
+  }
+
+  /**
+   * Returns the estimated {@linkplain PackedSemVer packed} version at the given {@code fraction}
+   * of the order of the added versions.
+   *
+   * @param fraction between {@code 0.0} and {@code 1.0}.
+   * @return the packed version, or {@link PackedSemVer#INVALID} if {@link #isEmpty()}.
+   * @throws IllegalArgumentException if {@code fraction} is not between {@code 0.0} and {@code
+   *     1.0}.
+   * @see #quantile(double)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public long quantilePacked(final double fraction) throws IllegalArgumentException {
+    if (!(fraction >= 0.0 && fraction <= 1.0)) {
+      throw new IllegalArgumentException("`fraction` MUST be between `0.0` and `1.0`");
+    }
+    if (isEmpty()) return PackedSemVer.INVALID;
+    if (fraction == 0.0) return min;
+    if (fraction == 1.0) return max;
+    int retained = 0;
+    for (final int size : sizes) {
+      retained += size;
+    }
+    final long[] values = new long[retained];
+    final int[] valueLevels = new int[retained];
+    final Integer[] order = new Integer[retained];
+    int index = 0;
+    for (int level = 0; level < levels.length; level++) {
+      for (int i = 0; i < sizes[level]; i++) {
+        values[index] = levels[level][i];
+        valueLevels[index] = level;
+        order[index] = index;
+        index++;
+      }
+    }
+    Arrays.sort(order, Comparator.comparingLong(i -> values[i]));
+    final double target = fraction * count;
+    long weight = 0;
+    for (final int i : order) {
+      weight += 1L << valueLevels[i];
+      if (weight >= target) return values[i];
+    }
+    return max;
+  }
+
+  /**
+   * Merges the {@code other} sketch into <em>this</em> sketch, which then answers queries about
+   * the versions added to either sketch.
+   *
+   * @param other sketch to merge.
+   * @throws IllegalArgumentException if {@code other} is {@code null}, or has another {@code k}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void merge(final SemVerQuantileSketch other) throws IllegalArgumentException {
+    if (other == null) throw illegalArgumentOf("other", MUST_NOT_BE_NULL);
+    if (other.k != k) throw new IllegalArgumentException("`other` MUST have the same `k`");
+    if (other == this) throw new IllegalArgumentException("`other` MUST NOT be `this`");
+    while (levels.length < other.levels.length) addLevel();
+    for (int level = 0; level < other.levels.length; level++) {
+      for (int i = 0; i < other.sizes[level]; i++) {
+        push(level, other.levels[level][i]);
+      }
+    }
+    count += other.count;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    compress();
+  }
+
+  /**
+   * Serializes <em>this</em> sketch, to be restored by {@link #fromByteArray(byte[])}. Each level
+   * is written as sorted, delta-encoded varints, so that the many equal and close versions of
+   * real-world traffic take about one byte each.
+   *
+   * @return a new byte array.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(" -> new")
+  public byte[] toByteArray() {
+    int size = Integer.BYTES + SemVerSketches.unsignedSize(k);
+    size += SemVerSketches.unsignedSize(count) + SemVerSketches.unsignedSize(levels.length);
+    if (!isEmpty()) size += SemVerSketches.unsignedSize(min) + SemVerSketches.unsignedSize(max);
+    for (int level = 0; level < levels.length; level++) {
+      Arrays.sort(levels[level], 0, sizes[level]);
+      size += SemVerSketches.unsignedSize(sizes[level]);
+      long previous = 0;
+      for (int i = 0; i < sizes[level]; i++) {
+        size += SemVerSketches.unsignedSize(levels[level][i] - previous);
+        previous = levels[level][i];
+      }
+    }
+    final ByteBuffer target = ByteBuffer.allocate(size).putInt(MAGIC);
+    SemVerSketches.putUnsigned(k, target);
+    SemVerSketches.putUnsigned(count, target);
+    if (!isEmpty()) {
+      SemVerSketches.putUnsigned(min, target);
+      SemVerSketches.putUnsigned(max, target);
+    }
+    SemVerSketches.putUnsigned(levels.length, target);
+    for (int level = 0; level < levels.length; level++) {
+      SemVerSketches.putUnsigned(sizes[level], target);
+      long previous = 0;
+      for (int i = 0; i < sizes[level]; i++) {
+        SemVerSketches.putUnsigned(levels[level][i] - previous, target);
+        previous = levels[level][i];
+      }
+    }
+    return target.array();
+  }
+
+  /**
+   * Restores a sketch serialized by {@link #toByteArray()}.
+   *
+   * @param bytes of the serialized sketch.
+   * @return the restored sketch.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}, or not a serialized {@code
+   *     SemVerQuantileSketch}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerQuantileSketch fromByteArray(final byte[] bytes)
+      throws IllegalArgumentException {
+    if (bytes == null) throw illegalArgumentOf("bytes", MUST_NOT_BE_NULL);
+    try {
+      final ByteBuffer source = ByteBuffer.wrap(bytes);
+      if (source.getInt() != MAGIC) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      final SemVerQuantileSketch sketch =
+          new SemVerQuantileSketch(SemVerSketches.getInt(source, MIN_K, MAX_K));
+      sketch.count = SemVerSketches.getUnsigned(source);
+      if (!sketch.isEmpty()) {
+        sketch.min = SemVerSketches.getUnsigned(source);
+        sketch.max = SemVerSketches.getUnsigned(source);
+        // Varints of at least 2^63 are decoded as negative values, which are not packed versions.
+        if (sketch.min < 0 || sketch.min > sketch.max) {
+          throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+        }
+      }
+      final int levelCount = SemVerSketches.getInt(source, 1, Long.SIZE - 1);
+      while (sketch.levels.length < levelCount) sketch.addLevel();
+      long weight = 0;
+      for (int level = 0; level < levelCount; level++) {
+        final int size = SemVerSketches.getInt(source, 0, source.remaining());
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+          value += SemVerSketches.getUnsigned(source);
+          if (value < sketch.min || value > sketch.max) {
+            throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+          }
+          sketch.push(level, value);
+        }
+        weight += (long) size << level;
+      }
+      if (weight != sketch.count) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      if (source.hasRemaining()) {
+        throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE);
+      }
+      return sketch;
+    } catch (final BufferUnderflowException exception) {
+      throw new IllegalArgumentException(SemVerSketches.MALFORMED_MESSAGE, exception);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "%s{k=%d, count=%d, levels=%d}"
+        .formatted(getClass().getSimpleName(), k, count, levels.length);
+  }
+
+  private void append(final long packed) {
+    push(0, packed);
+    count++;
+    if (packed < min) min = packed;
+    if (packed > max) max = packed;
+    if (sizes[0] > capacity(0)) compress();
+  }
+
+  private void push(final int level, final long value) {
+    if (sizes[level] == levels[level].length) {
+      levels[level] = Arrays.copyOf(levels[level], levels[level].length << 1);
+    }
+    levels[level][sizes[level]++] = value;
+  }
+
+  private void addLevel() {
+    levels = Arrays.copyOf(levels, levels.length + 1);
+    levels[levels.length - 1] = new long[MIN_CAPACITY];
+    sizes = Arrays.copyOf(sizes, sizes.length + 1);
+  }
+
+  /**
+   * Returns the capacity of the {@code level}, which shrinks geometrically from {@code k} at the
+   * top level, but is never less than {@value #MIN_CAPACITY}.
+   */
+  private int capacity(final int level) {
+    final int depth = levels.length - 1 - level;
+    return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+  }
+
+  /** Compacts every full level, from the bottom up, which only ever fills the levels above. */
+  private void compress() {
+    for (int level = 0; level < levels.length; level++) {
+      if (sizes[level] > capacity(level)) compact(level);
+    }
+  }
+
+  /**
+   * Sorts the {@code level}, and promotes either the even or the odd positions to the next level.
+   * The least version stays behind if the size is odd, so that the total weight is unchanged.
+   */
+  private void compact(final int level) {
+    if (level == levels.length - 1) addLevel();
+    final long[] values = levels[level];
+    final int size = sizes[level];
+    Arrays.sort(values, 0, size);
+    final int kept = size & 1;
+    random ^= random << 13;
+    random ^= random >>> 7;
+    random ^= random << 17;
+    for (int i = kept + (int) (random & 1); i < size; i += 2) {
+      push(level + 1, values[i]);
+    }
+    sizes[level] = kept;
+  }
+}
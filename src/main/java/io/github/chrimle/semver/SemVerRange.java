@@ -0,0 +1,743 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable set of {@link SemVer}s described by a <em>range expression</em>, compiled once into
+ * a sorted list of disjoint intervals.
+ *
+ * <p>Supported expressions:
+ *
+ * <ul>
+ *   <li><strong>Comparators:</strong> {@code 1.2.3}, {@code =1.2.3}, {@code >1.2.3}, {@code
+ *       >=1.2.3}, {@code <1.2.3} and {@code <=1.2.3}. Whitespace-separated comparators must
+ *       <em>all</em> match, e.g. {@code >=1.0.0 <2.0.0}.
+ *   <li><strong>Partial versions:</strong> {@code 1.2}, {@code 1.x}, {@code 1.2.*} and {@code *},
+ *       where omitted versions match <em>any</em> version, e.g. {@code 1.2} is {@code
+ *       >=1.2.0 <1.3.0}.
+ *   <li><strong>Caret:</strong> {@code ^1.2.3} is {@code >=1.2.3 <2.0.0}, {@code ^0.2.3} is {@code
+ *       >=0.2.3 <0.3.0} and {@code ^0.0.3} is {@code >=0.0.3 <0.0.4}.
+ *   <li><strong>Tilde:</strong> {@code ~1.2.3} is {@code >=1.2.3 <1.3.0} and {@code ~1} is {@code
+ *       >=1.0.0 <2.0.0}.
+ *   <li><strong>Hyphen:</strong> {@code 1.2.3 - 2.3} is {@code >=1.2.3 <2.4.0}.
+ *   <li><strong>Intervals:</strong> {@code [1.0,2.0)}, {@code (,1.0]}, {@code [1.5,)} and {@code
+ *       [1.2.3]}, where a missing bound is unbounded.
+ *   <li><strong>Unions:</strong> {@code ^1.2 || [2.0,2.5)}, or comma-separated intervals such as
+ *       {@code [1.0,2.0),[3.0,4.0)}.
+ * </ul>
+ *
+ * <p>Bounds are always <em>release</em> versions. A <em>pre-release</em> version is matched
+ * according to its precedence, e.g. {@code 2.0.0-rc.1} is matched by {@code [1.0,2.0)} but not by
+ * {@code [2.0,3.0)}. Exclusive lower bounds are compiled into the next release, so {@code >1.2.3}
+ * is {@code >=1.2.4} and does <em>not</em> match {@code 1.2.4-rc.1}.
+ *
+ * <p>Testing a version performs a few {@code int}-comparisons per interval, consistent with {@link
+ * SemVer#compareTo(SemVer)}, and does not allocate. Selecting from a {@link SemVerIndex} or a
+ * sorted {@code List} performs a binary search per interval.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerRange range = SemVerRange.parse("^1.2 || >=3.0.0 <3.5.0");
+ * range.test(new SemVer(1, 4, 0)); // returns `true`
+ * SemVer best = range.maxSatisfying(index);
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerRange implements Predicate<SemVer> {
+
+  /** Marks an <em>upper</em> bound as unbounded, when stored as its {@code major} version. */
+  private static final int UNBOUNDED = -1;
+
+  /** Each interval is stored as {@code [lowerInclusive x 3, upperExclusive x 3]}. */
+  private static final int STRIDE = 6;
+
+  private static final int[] NONE = new int[0];
+  private static final int[] ANY = {0, 0, 0, UNBOUNDED, 0, 0};
+
+  private static final String PRE_RELEASE_BOUND_MESSAGE =
+      "`version` MUST NOT be a pre-release version, since bounds are release versions";
+
+  private final int[] bounds;
+
+  private SemVerRange(final int[] bounds) {
+    this.bounds = bounds;
+  }
+
+  /**
+   * Parses and compiles a <em>range expression</em>.
+   *
+   * @param expression to parse.
+   * @return the compiled {@code SemVerRange}.
+   * @throws IllegalArgumentException if {@code expression} is {@code null} or is not a valid range
+   *     expression.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerRange parse(final CharSequence expression) throws IllegalArgumentException {
+    if (expression == null) throw illegalArgumentOf("expression", MUST_NOT_BE_NULL);
+    final String text = expression.toString();
+    int[] bounds = NONE;
+    int from = 0;
+    while (true) {
+      final int separator = text.indexOf("||", from);
+      final int to = separator < 0 ? text.length() : separator;
+      bounds = union(bounds, parseClause(text.substring(from, to).strip()));
+      if (separator < 0) return new SemVerRange(bounds);
+      from = separator + 2;
+    }
+  }
+
+  /**
+   * Returns the {@link SemVerRange} matching <em>every</em> version.
+   *
+   * @return the range equivalent to {@code *}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static SemVerRange any() {
+    return new SemVerRange(ANY);
+  }
+
+  /**
+   * Returns the {@link SemVerRange} matching <em>exactly</em> the given {@code version}.
+   *
+   * @param version to match.
+   * @return the range equivalent to {@code [version]}.
+   * @throws IllegalArgumentException if {@code version} is {@code null}, or a {@linkplain
+   *     SemVer#isPreRelease() pre-release} version.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail; !null -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerRange exactly(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (version.isPreRelease()) throw new IllegalArgumentException(PRE_RELEASE_BOUND_MESSAGE);
+    final int[] bounds = new int[STRIDE];
+    setTriple(bounds, 0, version.major(), version.minor(), version.patch());
+    setSuccessor(bounds, 3, bounds, 0);
+    return new SemVerRange(bounds);
+  }
+
+  /**
+   * Returns whether <em>this</em> range matches no version at all.
+   *
+   * @return whether <em>this</em> range is empty.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return bounds.length == 0;
+  }
+
+  /**
+   * Returns whether the given {@code version} is matched by <em>this</em> range.
+   *
+   * @param version to test.
+   * @return whether {@code version} is matched.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @Override
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public boolean test(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    if (!version.isPreRelease()) return test(version.major(), version.minor(), version.patch());
+    final int[] bounds = this.bounds;
+    for (int i = 0; i < bounds.length; i += STRIDE) {
+      if (compare(version, bounds, i) < 0) return false;
+      if (compare(version, bounds, i + 3) < 0) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether the given version is matched by <em>this</em> range, without requiring a
+   * {@link SemVer} instance.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return whether the version is matched.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean test(final int major, final int minor, final int patch) {
+    final int[] bounds = this.bounds;
+    for (int i = 0; i < bounds.length; i += STRIDE) {
+      // Intervals are sorted, so being below this lower bound means being below all that follow.
+      if (compare(major, minor, patch, bounds, i) < 0) return false;
+      if (compare(major, minor, patch, bounds, i + 3) < 0) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether the given {@linkplain PackedSemVer packed} version is matched by <em>this</em>
+   * range.
+   *
+   * @param packed version.
+   * @return whether the version is matched.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean testPacked(final long packed) {
+    return test(PackedSemVer.major(packed), PackedSemVer.minor(packed), PackedSemVer.patch(packed));
+  }
+
+  /**
+   * Returns the range matching the versions matched by <em>both</em> {@code this} and {@code
+   * other}.
+   *
+   * @param other range.
+   * @return the intersection.
+   * @throws IllegalArgumentException if {@code other} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail; !null -> new", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public SemVerRange intersect(final SemVerRange other) throws IllegalArgumentException {
+    if (other == null) throw illegalArgumentOf("other", MUST_NOT_BE_NULL);
+    return new SemVerRange(intersect(bounds, other.bounds));
+  }
+
+  /**
+   * Returns the range matching the versions matched by <em>either</em> {@code this} or {@code
+   * other}.
+   *
+   * @param other range.
+   * @return the union.
+   * @throws IllegalArgumentException if {@code other} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail; !null -> new", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public SemVerRange union(final SemVerRange other) throws IllegalArgumentException {
+    if (other == null) throw illegalArgumentOf("other", MUST_NOT_BE_NULL);
+    return new SemVerRange(union(bounds, other.bounds));
+  }
+
+  /**
+   * Returns the greatest version of the {@code index} matched by <em>this</em> range.
+   *
+   * @param index to select from.
+   * @return the greatest matching {@code SemVer}, or {@code null} if there is none.
+   * @throws IllegalArgumentException if {@code index} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer maxSatisfying(final SemVerIndex index) throws IllegalArgumentException {
+    if (index == null) throw illegalArgumentOf("index", MUST_NOT_BE_NULL);
+    for (int i = bounds.length - STRIDE; i >= 0; i -= STRIDE) {
+      final int last = upperIndex(index, i) - 1;
+      if (last >= lowerIndex(index, i)) return index.get(last);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the least version of the {@code index} matched by <em>this</em> range.
+   *
+   * @param index to select from.
+   * @return the least matching {@code SemVer}, or {@code null} if there is none.
+   * @throws IllegalArgumentException if {@code index} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer minSatisfying(final SemVerIndex index) throws IllegalArgumentException {
+    if (index == null) throw illegalArgumentOf("index", MUST_NOT_BE_NULL);
+    for (int i = 0; i < bounds.length; i += STRIDE) {
+      final int first = lowerIndex(index, i);
+      if (first < upperIndex(index, i)) return index.get(first);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of versions of the {@code index} matched by <em>this</em> range.
+   *
+   * @param index to count in.
+   * @return the number of matching versions.
+   * @throws IllegalArgumentException if {@code index} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int count(final SemVerIndex index) throws IllegalArgumentException {
+    if (index == null) throw illegalArgumentOf("index", MUST_NOT_BE_NULL);
+    int count = 0;
+    for (int i = 0; i < bounds.length; i += STRIDE) {
+      count += Math.max(0, upperIndex(index, i) - lowerIndex(index, i));
+    }
+    return count;
+  }
+
+  /**
+   * Returns all versions of the {@code index} matched by <em>this</em> range, in ascending order.
+   *
+   * @param index to select from.
+   * @return the matching versions.
+   * @throws IllegalArgumentException if {@code index} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail; !null -> new", pure = true)
+  public List<SemVer> select(final SemVerIndex index) throws IllegalArgumentException {
+    final List<SemVer> selected = new ArrayList<>(count(index));
+    for (int i = 0; i < bounds.length; i += STRIDE) {
+      final int to = upperIndex(index, i);
+      for (int position = lowerIndex(index, i); position < to; position++) {
+        selected.add(index.get(position));
+      }
+    }
+    return List.copyOf(selected);
+  }
+
+  /**
+   * Returns the greatest version of the {@code sorted} list matched by <em>this</em> range. The
+   * list <em><strong>MUST</strong></em> be sorted in ascending order, and should support fast
+   * random access.
+   *
+   * @param sorted versions to select from.
+   * @return the greatest matching {@code SemVer}, or {@code null} if there is none.
+   * @throws IllegalArgumentException if {@code sorted} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public @Nullable SemVer maxSatisfying(final List<SemVer> sorted) throws IllegalArgumentException {
+    if (sorted == null) throw illegalArgumentOf("sorted", MUST_NOT_BE_NULL);
+    for (int i = bounds.length - STRIDE; i >= 0; i -= STRIDE) {
+      final int last =
+          (bounds[i + 3] == UNBOUNDED ? sorted.size() : ceilingIndex(sorted, i + 3)) - 1;
+      if (last >= 0 && last >= ceilingIndex(sorted, i)) return sorted.get(last);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    return this == other
+        || (other instanceof SemVerRange range && Arrays.equals(bounds, range.bounds));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bounds);
+  }
+
+  /**
+   * Returns the normalized interval notation of <em>this</em> range, e.g. {@code
+   * [1.2.0,2.0.0),[3.0.0,)}, which can be {@linkplain #parse(CharSequence) parsed} again.
+   *
+   * @return the normalized range expression.
+   */
+  @Override
+  public String toString() {
+    if (bounds.length == 0) return "(,0.0.0)";
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < bounds.length; i += STRIDE) {
+      if (i > 0) builder.append(',');
+      builder.append('[').append(bounds[i]).append('.').append(bounds[i + 1]).append('.');
+      builder.append(bounds[i + 2]).append(',');
+      if (bounds[i + 3] != UNBOUNDED) {
+        builder.append(bounds[i + 3]).append('.').append(bounds[i + 4]).append('.');
+        builder.append(bounds[i + 5]);
+      }
+      builder.append(')');
+    }
+    return builder.toString();
+  }
+
+  private int lowerIndex(final SemVerIndex index, final int i) {
+    return index.ceilingIndex(bounds[i], bounds[i + 1], bounds[i + 2]);
+  }
+
+  private int upperIndex(final SemVerIndex index, final int i) {
+    if (bounds[i + 3] == UNBOUNDED) return index.size();
+    return index.ceilingIndex(bounds[i + 3], bounds[i + 4], bounds[i + 5]);
+  }
+
+  /** Returns the position of the first element of {@code sorted} not less than the bound. */
+  private int ceilingIndex(final List<SemVer> sorted, final int i) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compare(sorted.get(mid), bounds, i) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares a version with the bound at {@code bounds[i]}, where a pre-release version precedes
+   * the release of the bound - except for {@code 0.0.0}, which is the lowest bound of all versions.
+   */
+  private static int compare(final SemVer version, final int[] bounds, final int i) {
+    final int result = compare(version.major(), version.minor(), version.patch(), bounds, i);
+    if (result != 0 || !version.isPreRelease()) return result;
+    return (bounds[i] | bounds[i + 1] | bounds[i + 2]) == 0 ? 0 : -1;
+  }
+
+  /** Compares a version with the bound at {@code bounds[i]}, which may be {@link #UNBOUNDED}. */
+  private static int compare(
+      final int major, final int minor, final int patch, final int[] bounds, final int i) {
+    final int boundMajor = bounds[i];
+    if (boundMajor == UNBOUNDED) return -1;
+    if (major != boundMajor) return Integer.compare(major, boundMajor);
+    if (minor != bounds[i + 1]) return Integer.compare(minor, bounds[i + 1]);
+    return Integer.compare(patch, bounds[i + 2]);
+  }
+
+  /** Compares the bounds at {@code left[l]} and {@code right[r]}. */
+  private static int compare(final int[] left, final int l, final int[] right, final int r) {
+    if (left[l] == UNBOUNDED) return right[r] == UNBOUNDED ? 0 : 1;
+    return compare(left[l], left[l + 1], left[l + 2], right, r);
+  }
+
+  // === Interval arithmetic ===
+
+  private static int[] intersect(final int[] left, final int[] right) {
+    final int[] result = new int[left.length + right.length];
+    int size = 0;
+    int l = 0;
+    int r = 0;
+    while (l < left.length && r < right.length) {
+      final boolean leftStartsLast = compare(left, l, right, r) >= 0;
+      final int[] lowerOf = leftStartsLast ? left : right;
+      final int lower = leftStartsLast ? l : r;
+      final boolean leftEndsFirst = compare(left, l + 3, right, r + 3) <= 0;
+      final int[] upperOf = leftEndsFirst ? left : right;
+      final int upper = (leftEndsFirst ? l : r) + 3;
+      if (compare(lowerOf, lower, upperOf, upper) < 0) {
+        System.arraycopy(lowerOf, lower, result, size, 3);
+        System.arraycopy(upperOf, upper, result, size + 3, 3);
+        size += STRIDE;
+      }
+      if (leftEndsFirst) {
+        l += STRIDE;
+      } else {
+        r += STRIDE;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  private static int[] union(final int[] left, final int[] right) {
+    final int[] all = new int[left.length + right.length];
+    System.arraycopy(left, 0, all, 0, left.length);
+    System.arraycopy(right, 0, all, left.length, right.length);
+    return normalize(all, all.length);
+  }
+
+  /** Sorts the intervals by their lower bound, and merges overlapping and adjacent intervals. */
+  private static int[] normalize(final int[] intervals, final int length) {
+    final List<int[]> sorted = new ArrayList<>();
+    for (int i = 0; i < length; i += STRIDE) {
+      final int[] interval = Arrays.copyOfRange(intervals, i, i + STRIDE);
+      if (compare(interval, 0, interval, 3) < 0) sorted.add(interval);
+    }
+    sorted.sort((left, right) -> compare(left, 0, right, 0));
+    final int[] result = new int[sorted.size() * STRIDE];
+    int size = 0;
+    for (final int[] interval : sorted) {
+      if (size > 0 && compare(interval, 0, result, size - 3) <= 0) {
+        if (compare(interval, 3, result, size - 3) > 0) {
+          System.arraycopy(interval, 3, result, size - 3, 3);
+        }
+      } else {
+        System.arraycopy(interval, 0, result, size, STRIDE);
+        size += STRIDE;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  // === Parsing ===
+
+  private static IllegalArgumentException invalid(final String expression) {
+    return new IllegalArgumentException(
+        "`expression` MUST be a valid range expression, but was `%s`".formatted(expression));
+  }
+
+  /** Parses one or more comma-separated intervals, such as {@code [1.0,2.0),[3.0,)}. */
+  private static int[] parseIntervals(final String text) {
+    final int[] intervals = new int[STRIDE * (1 + text.length() / 3)];
+    int size = 0;
+    int index = 0;
+    while (true) {
+      final char open = text.charAt(index);
+      int close = index + 1;
+      while (close < text.length() && text.charAt(close) != ']' && text.charAt(close) != ')') {
+        close++;
+      }
+      if ((open != '[' && open != '(') || close == text.length()) throw invalid(text);
+      final String content = text.substring(index + 1, close);
+      final int comma = content.indexOf(',');
+      final boolean lowerInclusive = open == '[';
+      final boolean upperInclusive = text.charAt(close) == ']';
+      if (comma < 0) {
+        if (!lowerInclusive || !upperInclusive) throw invalid(text);
+        exact(content.strip(), text, intervals, size);
+        setSuccessor(intervals, size + 3, intervals, size);
+      } else {
+        final String lower = content.substring(0, comma).strip();
+        final String upper = content.substring(comma + 1).strip();
+        if (upper.indexOf(',') >= 0) throw invalid(text);
+        if (lower.isEmpty()) {
+          if (lowerInclusive) throw invalid(text);
+          setTriple(intervals, size, 0, 0, 0);
+        } else {
+          exact(lower, text, intervals, size);
+          if (!lowerInclusive) setSuccessor(intervals, size, intervals, size);
+        }
+        if (upper.isEmpty()) {
+          if (upperInclusive) throw invalid(text);
+          intervals[size + 3] = UNBOUNDED;
+        } else {
+          exact(upper, text, intervals, size + 3);
+          if (upperInclusive) setSuccessor(intervals, size + 3, intervals, size + 3);
+        }
+      }
+      size += STRIDE;
+      index = close + 1;
+      while (index < text.length() && Character.isWhitespace(text.charAt(index))) index++;
+      if (index == text.length()) return normalize(intervals, size);
+      if (text.charAt(index) != ',') throw invalid(text);
+      index++;
+      while (index < text.length() && Character.isWhitespace(text.charAt(index))) index++;
+      if (index == text.length()) throw invalid(text);
+    }
+  }
+
+  /** Parses whitespace-separated comparators, or a hyphen range, which must all match. */
+  private static int[] parseClause(final String clause) {
+    if (clause.isEmpty()) return ANY;
+    if (clause.charAt(0) == '[' || clause.charAt(0) == '(') return parseIntervals(clause);
+    final List<String> tokens = new ArrayList<>();
+    int index = 0;
+    while (index < clause.length()) {
+      int end = index;
+      while (end < clause.length() && !Character.isWhitespace(clause.charAt(end))) end++;
+      final String token = clause.substring(index, end);
+      final int last = tokens.size() - 1;
+      if (last >= 0 && isOperator(tokens.get(last))) {
+        tokens.set(last, tokens.get(last) + token);
+      } else {
+        tokens.add(token);
+      }
+      index = end;
+      while (index < clause.length() && Character.isWhitespace(clause.charAt(index))) index++;
+    }
+    if (tokens.size() == 3 && tokens.get(1).equals("-")) {
+      final int[] interval = new int[STRIDE];
+      final int[] lower = partial(tokens.get(0), clause);
+      setTriple(interval, 0, lower[0], lower[1], lower[2]);
+      setUpperOfPartial(interval, 3, partial(tokens.get(2), clause));
+      return normalize(interval, STRIDE);
+    }
+    int[] bounds = ANY;
+    for (final String token : tokens) {
+      bounds = intersect(bounds, comparator(token, clause));
+    }
+    return bounds;
+  }
+
+  private static boolean isOperator(final String token) {
+    return switch (token) {
+      case "=", ">", ">=", "<", "<=", "^", "~" -> true;
+      default -> false;
+    };
+  }
+
+  private static int[] comparator(final String token, final String clause) {
+    int operatorLength = 0;
+    while (operatorLength < token.length() && "=<>^~".indexOf(token.charAt(operatorLength)) >= 0) {
+      operatorLength++;
+    }
+    final String operator = token.substring(0, operatorLength);
+    final int[] partial = partial(token.substring(operatorLength), clause);
+    final int parts = partial[3];
+    final int[] interval = new int[STRIDE];
+    switch (operator) {
+      case "", "=" -> {
+        setTriple(interval, 0, partial[0], partial[1], partial[2]);
+        setUpperOfPartial(interval, 3, partial);
+      }
+      case ">=" -> {
+        setTriple(interval, 0, partial[0], partial[1], partial[2]);
+        interval[3] = UNBOUNDED;
+      }
+      case ">" -> {
+        setUpperOfPartial(interval, 0, partial);
+        interval[3] = UNBOUNDED;
+      }
+      case "<" -> setTriple(interval, 3, partial[0], partial[1], partial[2]);
+      case "<=" -> setUpperOfPartial(interval, 3, partial);
+      case "~" -> {
+        setTriple(interval, 0, partial[0], partial[1], partial[2]);
+        setUpperOfPartial(interval, 3, partial, Math.min(parts, 2));
+      }
+      case "^" -> {
+        setTriple(interval, 0, partial[0], partial[1], partial[2]);
+        final int significant;
+        if (partial[0] > 0 || parts <= 1) {
+          significant = Math.min(parts, 1);
+        } else if (partial[1] > 0 || parts == 2) {
+          significant = 2;
+        } else {
+          significant = 3;
+        }
+        setUpperOfPartial(interval, 3, partial, significant);
+      }
+      default -> throw invalid(clause);
+    }
+    return normalize(interval, STRIDE);
+  }
+
+  /**
+   * Parses a partial version, such as {@code 1}, {@code v1.2} or {@code 1.x.x}.
+   *
+   * @return {@code [major, minor, patch, parts]}, where omitted versions are {@code 0} and {@code
+   *     parts} is the number of versions specified.
+   */
+  private static int[] partial(final String token, final String clause) {
+    final int[] partial = new int[4];
+    final String text = token.startsWith("v") ? token.substring(1) : token;
+    int index = 0;
+    for (int part = 0; part < 3 && index <= text.length(); part++) {
+      int end = text.indexOf('.', index);
+      if (end < 0) end = text.length();
+      final String version = text.substring(index, end);
+      if (version.equals("x") || version.equals("X") || version.equals("*")) {
+        if (end != text.length() && !isWildcardTail(text.substring(end + 1))) {
+          throw invalid(clause);
+        }
+        return partial;
+      }
+      if (version.isEmpty() || version.charAt(0) == 'v') throw invalid(clause);
+      final SemVer parsed = SemVerParser.parse(version, 0, version.length());
+      if (!isRelease(parsed)) throw invalid(clause);
+      partial[part] = parsed.major();
+      partial[3] = part + 1;
+      index = end + 1;
+    }
+    if (index <= text.length()) throw invalid(clause);
+    return partial;
+  }
+
+  private static boolean isWildcardTail(final String tail) {
+    for (final String part : tail.split("\\.", -1)) {
+      if (!part.equals("x") && !part.equals("X") && !part.equals("*")) return false;
+    }
+    return true;
+  }
+
+  /** Parses a version, where omitted versions are {@code 0} and wildcards are not allowed. */
+  private static void exact(
+      final String text, final String expression, final int[] target, final int offset) {
+    final SemVer version = SemVerParser.parse(text, 0, text.length());
+    if (!isRelease(version)) throw invalid(expression);
+    setTriple(target, offset, version.major(), version.minor(), version.patch());
+  }
+
+  /** Returns whether a parsed bound is valid, i.e. has neither pre-release nor build metadata. */
+  @Contract("null -> false")
+  private static boolean isRelease(final @Nullable SemVer version) {
+    return version != null && !version.isPreRelease() && version.buildMetadata().isEmpty();
+  }
+
+  private static void setTriple(
+      final int[] target, final int offset, final int major, final int minor, final int patch) {
+    target[offset] = major;
+    target[offset + 1] = minor;
+    target[offset + 2] = patch;
+  }
+
+  private static void setUpperOfPartial(final int[] target, final int offset, final int[] partial) {
+    setUpperOfPartial(target, offset, partial, partial[3]);
+  }
+
+  /**
+   * Sets the least version greater than every version matching the first {@code significant}
+   * versions of the {@code partial}.
+   */
+  private static void setUpperOfPartial(
+      final int[] target, final int offset, final int[] partial, final int significant) {
+    switch (significant) {
+      case 0 -> target[offset] = UNBOUNDED;
+      case 1 -> setTriple(target, offset, partial[0], Integer.MAX_VALUE, Integer.MAX_VALUE);
+      case 2 -> setTriple(target, offset, partial[0], partial[1], Integer.MAX_VALUE);
+      default -> setTriple(target, offset, partial[0], partial[1], partial[2]);
+    }
+    if (significant > 0) setSuccessor(target, offset, target, offset);
+  }
+
+  /** Sets the version immediately following the one at {@code source[s]}. */
+  private static void setSuccessor(
+      final int[] target, final int t, final int[] source, final int s) {
+    final int major = source[s];
+    final int minor = source[s + 1];
+    final int patch = source[s + 2];
+    if (major == UNBOUNDED) {
+      target[t] = UNBOUNDED;
+    } else if (patch < Integer.MAX_VALUE) {
+      setTriple(target, t, major, minor, patch + 1);
+    } else if (minor < Integer.MAX_VALUE) {
+      setTriple(target, t, major, minor + 1, 0);
+    } else if (major < Integer.MAX_VALUE) {
+      setTriple(target, t, major + 1, 0, 0);
+    } else {
+      target[t] = UNBOUNDED;
+    }
+  }
+}
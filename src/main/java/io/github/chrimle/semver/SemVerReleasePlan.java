@@ -0,0 +1,636 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The next versions of many modules released at once, planned from their current versions, their
+ * own {@link Change}s and - optionally - the dependencies between them.
+ *
+ * <p>A module's change is the most significant of its own change, and the changes {@linkplain
+ * Propagation propagated} from its dependencies. For example, with {@link Propagation#PATCH}, every
+ * module depending - directly or transitively - on a changed module gets at least a patch release.
+ * Modules are planned in topological batches, where every module of a batch only depends on
+ * modules of earlier batches. The modules of a batch of at least {@value #PARALLEL_THRESHOLD}
+ * modules are planned in parallel in the {@link ForkJoinPool#commonPool()}, with the same result.
+ *
+ * <p>The next versions are those of {@link SemVer#incrementVersion(Change)}, and are held in
+ * {@code int[]}s rather than as {@code SemVer}-instances. A module whose increment would overflow
+ * is not thrown for, but is {@linkplain #isOverflowed(int) marked} as overflowed and keeps its
+ * current version. Its change is still propagated to its dependents.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * // `app` (2) depends on `lib` (1), which depends on `core` (0)
+ * SemVerReleasePlan plan = SemVerReleasePlan.of(
+ *     new SemVer[] {core, lib, app},
+ *     new Change[] {Change.MAJOR, null, null},
+ *     new int[][] {{}, {0}, {1}},
+ *     SemVerReleasePlan.Propagation.PATCH);
+ * plan.change(2); // returns `Change.PATCH`
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerReleasePlan {
+
+  /** Batches of at least this many modules are planned in parallel. */
+  static final int PARALLEL_THRESHOLD = 1 << 12;
+
+  /** Ranges of at most this many modules are planned without being split further. */
+  private static final int CHUNK_SIZE = 1 << 10;
+
+  /** The changes by their code, which increases with the significance of the change. */
+  private static final @Nullable Change[] CHANGES = {
+    null, Change.PATCH, Change.MINOR, Change.MAJOR
+  };
+
+  private static final byte PROPAGATED = 1;
+  private static final byte OVERFLOWED = 2;
+
+  private final SemVer[] versions;
+  private final int[] majors;
+  private final int[] minors;
+  private final int[] patches;
+
+  /** The {@link #code(Change)} of the change of each module. */
+  private final byte[] changes;
+
+  private final byte[] flags;
+  private final int batches;
+
+  private SemVerReleasePlan(
+      final SemVer[] versions,
+      final byte[] own,
+      final int @Nullable [][] dependencies,
+      final byte[] propagation) {
+    final int size = versions.length;
+    this.versions = versions;
+    this.majors = new int[size];
+    this.minors = new int[size];
+    this.patches = new int[size];
+    this.changes = new byte[size];
+    this.flags = new byte[size];
+    if (dependencies == null) {
+      final int[] order = new int[size];
+      for (int module = 0; module < size; module++) {
+        order[module] = module;
+      }
+      plan(new Batch(this, order, own, null, propagation, 0, size));
+      this.batches = size == 0 ? 0 : 1;
+      return;
+    }
+    final int[] order = topologicalOrder(dependencies);
+    int batches = 0;
+    int from = 0;
+    while (from < size) {
+      // The batch ends before the first module which depends on a module of the batch.
+      final int to = order[size + from];
+      plan(new Batch(this, order, own, dependencies, propagation, from, to));
+      batches++;
+      from = to;
+    }
+    this.batches = batches;
+  }
+
+  /**
+   * Plans the next versions of modules without dependencies between them, which is equivalent to
+   * {@link SemVer#tryIncrementVersion(Change)} of each module.
+   *
+   * @param versions the current version of each module.
+   * @param changes the change of each module, or {@code null} for modules without a change.
+   * @return the {@code SemVerReleasePlan}.
+   * @throws IllegalArgumentException if {@code versions} or {@code changes} is {@code null}, if
+   *     {@code versions} contains {@code null}, or if the lengths differ.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerReleasePlan of(final SemVer[] versions, final @Nullable Change[] changes)
+      throws IllegalArgumentException {
+    return new SemVerReleasePlan(
+        copyOf(versions), codesOf(changes, versions.length), null, Propagation.NONE.codes());
+  }
+
+  /**
+   * Plans the next versions of modules, propagating changes from the dependencies of each module
+   * to it.
+   *
+   * @param versions the current version of each module.
+   * @param changes the own change of each module, or {@code null} for modules without one.
+   * @param dependencies the indices of the modules which each module depends on.
+   * @param propagation of changes from a dependency to its dependents.
+   * @return the {@code SemVerReleasePlan}.
+   * @throws IllegalArgumentException if any argument is {@code null}, if {@code versions} or
+   *     {@code dependencies} contains {@code null}, if the lengths of {@code versions}, {@code
+   *     changes} and {@code dependencies} differ, or if the {@code dependencies} are cyclic.
+   * @throws IndexOutOfBoundsException if {@code dependencies} contains an index which is not the
+   *     index of a module.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _, _ -> fail; _, null, _, _ -> fail; _, _, null, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static SemVerReleasePlan of(
+      final SemVer[] versions,
+      final @Nullable Change[] changes,
+      final int[][] dependencies,
+      final Propagation propagation)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    final SemVer[] copy = copyOf(versions);
+    final byte[] own = codesOf(changes, copy.length);
+    if (dependencies == null) throw illegalArgumentOf("dependencies", MUST_NOT_BE_NULL);
+    if (dependencies.length != copy.length) {
+      throw new IllegalArgumentException("`dependencies` MUST have the same length as `versions`");
+    }
+    for (final int[] modules : dependencies) {
+      if (modules == null) throw illegalArgumentOf("dependencies", MUST_NOT_BE_NULL);
+      for (final int module : modules) {
+        Objects.checkIndex(module, copy.length);
+      }
+    }
+    if (propagation == null) throw illegalArgumentOf("propagation", MUST_NOT_BE_NULL);
+    return new SemVerReleasePlan(copy, own, dependencies, propagation.codes());
+  }
+
+  /**
+   * Returns the number of modules of <em>this</em> plan.
+   *
+   * @return the number of modules.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int size() {
+    return versions.length;
+  }
+
+  /**
+   * Returns the number of topological batches the modules were planned in, which is the length of
+   * the longest chain of dependencies.
+   *
+   * @return the number of batches.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int batches() {
+    return batches;
+  }
+
+  /**
+   * Returns the change of a module, including changes propagated from its dependencies.
+   *
+   * @param module index.
+   * @return the {@code Change}, or {@code null} if the module is unchanged.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public @Nullable Change change(final int module) throws IndexOutOfBoundsException {
+    return CHANGES[changes[module]];
+  }
+
+  /**
+   * Returns whether the change of a module was propagated from its dependencies, i.e. is more
+   * significant than its own change.
+   *
+   * @param module index.
+   * @return whether the change was propagated.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isPropagated(final int module) throws IndexOutOfBoundsException {
+    return (flags[module] & PROPAGATED) != 0;
+  }
+
+  /**
+   * Returns whether incrementing a module would overflow, in which case it keeps its current
+   * version.
+   *
+   * @param module index.
+   * @return whether the increment would overflow.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isOverflowed(final int module) throws IndexOutOfBoundsException {
+    return (flags[module] & OVERFLOWED) != 0;
+  }
+
+  /**
+   * Returns the next {@code major} version of a module.
+   *
+   * @param module index.
+   * @return the {@code major} version.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int major(final int module) throws IndexOutOfBoundsException {
+    return majors[module];
+  }
+
+  /**
+   * Returns the next {@code minor} version of a module.
+   *
+   * @param module index.
+   * @return the {@code minor} version.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int minor(final int module) throws IndexOutOfBoundsException {
+    return minors[module];
+  }
+
+  /**
+   * Returns the next {@code patch} version of a module.
+   *
+   * @param module index.
+   * @return the {@code patch} version.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int patch(final int module) throws IndexOutOfBoundsException {
+    return patches[module];
+  }
+
+  /**
+   * Returns the next version of a module. Unchanged and overflowed modules return their current
+   * {@code SemVer}-instance, including any pre-release version or build metadata.
+   *
+   * @param module index.
+   * @return the next {@code SemVer}, which may be a {@linkplain SemVer#of(int, int, int) canonical
+   *     instance}.
+   * @throws IndexOutOfBoundsException if {@code module} is out of bounds.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public SemVer version(final int module) throws IndexOutOfBoundsException {
+    if (changes[module] == 0 || flags[module] >= OVERFLOWED) return versions[module];
+    return SemVer.of(majors[module], minors[module], patches[module]);
+  }
+
+  /**
+   * Returns the modules which are changed, including overflowed modules.
+   *
+   * @return a new {@code BitSet} of the indices of changed modules.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("-> new")
+  public BitSet changed() {
+    final BitSet changed = new BitSet(changes.length);
+    for (int module = 0; module < changes.length; module++) {
+      if (changes[module] != 0) changed.set(module);
+    }
+    return changed;
+  }
+
+  /**
+   * Returns the modules whose increment would overflow.
+   *
+   * @return a new {@code BitSet} of the indices of overflowed modules.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("-> new")
+  public BitSet overflowed() {
+    final BitSet overflowed = new BitSet(flags.length);
+    for (int module = 0; module < flags.length; module++) {
+      if (flags[module] >= OVERFLOWED) overflowed.set(module);
+    }
+    return overflowed;
+  }
+
+  /**
+   * Returns the next version of every module, {@linkplain PackedSemVer packed}. Versions which
+   * cannot be packed, such as unchanged <em>pre-release</em> versions, are {@link
+   * PackedSemVer#INVALID}.
+   *
+   * @return a new array of the packed versions, by module index.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("-> new")
+  public long[] toPacked() {
+    final long[] packed = new long[versions.length];
+    for (int module = 0; module < packed.length; module++) {
+      final SemVer current = versions[module];
+      final boolean kept = changes[module] == 0 || flags[module] >= OVERFLOWED;
+      packed[module] =
+          kept && (current.isPreRelease() || !current.buildMetadata().isEmpty())
+              ? PackedSemVer.INVALID
+              : PackedSemVer.tryPack(majors[module], minors[module], patches[module]);
+    }
+    return packed;
+  }
+
+  @Override
+  public String toString() {
+    return "%s{size=%d, batches=%d}"
+        .formatted(getClass().getSimpleName(), versions.length, batches);
+  }
+
+  private static SemVer[] copyOf(final SemVer[] versions) {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    final SemVer[] copy = versions.clone();
+    for (final SemVer version : copy) {
+      if (version == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    }
+    return copy;
+  }
+
+  private static byte[] codesOf(final @Nullable Change[] changes, final int length) {
+    if (changes == null) throw illegalArgumentOf("changes", MUST_NOT_BE_NULL);
+    if (changes.length != length) {
+      throw new IllegalArgumentException("`changes` MUST have the same length as `versions`");
+    }
+    final byte[] codes = new byte[length];
+    for (int module = 0; module < length; module++) {
+      codes[module] = code(changes[module]);
+    }
+    return codes;
+  }
+
+  private static byte code(final @Nullable Change change) {
+    return change == null ? 0 : (byte) (CHANGES.length - 1 - change.ordinal());
+  }
+
+  /**
+   * Returns the modules in topological order - dependencies first - followed by the end of the
+   * batch of each module, at {@code size + position}.
+   */
+  private static int[] topologicalOrder(final int[][] dependencies) {
+    final int size = dependencies.length;
+    final int[] remaining = new int[size];
+    final int[] offsets = new int[size + 1];
+    for (int module = 0; module < size; module++) {
+      remaining[module] = dependencies[module].length;
+      for (final int dependency : dependencies[module]) {
+        offsets[dependency + 1]++;
+      }
+    }
+    for (int module = 0; module < size; module++) {
+      offsets[module + 1] += offsets[module];
+    }
+    final int[] dependents = new int[offsets[size]];
+    final int[] next = offsets.clone();
+    for (int module = 0; module < size; module++) {
+      for (final int dependency : dependencies[module]) {
+        dependents[next[dependency]++] = module;
+      }
+    }
+    final int[] order = new int[2 * size];
+    int tail = 0;
+    for (int module = 0; module < size; module++) {
+      if (remaining[module] == 0) order[tail++] = module;
+    }
+    int head = 0;
+    while (head < tail) {
+      final int end = tail;
+      for (int position = head; position < end; position++) {
+        order[size + position] = end;
+        final int module = order[position];
+        for (int index = offsets[module]; index < offsets[module + 1]; index++) {
+          if (--remaining[dependents[index]] == 0) order[tail++] = dependents[index];
+        }
+      }
+      head = end;
+    }
+    if (tail < size) {
+      throw new IllegalArgumentException("`dependencies` MUST NOT be cyclic");
+    }
+    return order;
+  }
+
+  private static void plan(final Batch batch) {
+    if (batch.to - batch.from >= PARALLEL_THRESHOLD
+        && ForkJoinPool.getCommonPoolParallelism() > 1) {
+      ForkJoinPool.commonPool().invoke(batch);
+    } else {
+      batch.compute();
+    }
+  }
+
+  /**
+   * Plans the modules of a range of a batch, splitting it in halves while it is large. The batch
+   * writes into the arrays of the plan, without capturing the plan itself.
+   */
+  @SuppressWarnings("serial") // Tasks are never serialized.
+  private static final class Batch extends RecursiveAction {
+
+    private final SemVer[] versions;
+    private final int[] majors;
+    private final int[] minors;
+    private final int[] patches;
+    private final byte[] changes;
+    private final byte[] flags;
+    private final int[] order;
+    private final byte[] own;
+    private final int @Nullable [][] dependencies;
+
+    /** The propagated change by the {@link #code(Change)} of the change of a dependency. */
+    private final byte[] propagation;
+
+    private final int from;
+    private final int to;
+
+    private Batch(
+        final SemVerReleasePlan plan,
+        final int[] order,
+        final byte[] own,
+        final int @Nullable [][] dependencies,
+        final byte[] propagation,
+        final int from,
+        final int to) {
+      this.versions = plan.versions;
+      this.majors = plan.majors;
+      this.minors = plan.minors;
+      this.patches = plan.patches;
+      this.changes = plan.changes;
+      this.flags = plan.flags;
+      this.order = order;
+      this.own = own;
+      this.dependencies = dependencies;
+      this.propagation = propagation;
+      this.from = from;
+      this.to = to;
+    }
+
+    private Batch(final Batch batch, final int from, final int to) {
+      this.versions = batch.versions;
+      this.majors = batch.majors;
+      this.minors = batch.minors;
+      this.patches = batch.patches;
+      this.changes = batch.changes;
+      this.flags = batch.flags;
+      this.order = batch.order;
+      this.own = batch.own;
+      this.dependencies = batch.dependencies;
+      this.propagation = batch.propagation;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > CHUNK_SIZE && getPool() != null) {
+        final int middle = (from + to) >>> 1;
+        invokeAll(new Batch(this, from, middle), new Batch(this, middle, to));
+        return;
+      }
+      for (int position = from; position < to; position++) {
+        planModule(order[position]);
+      }
+    }
+
+    private void planModule(final int module) {
+      byte change = own[module];
+      if (dependencies != null) {
+        for (final int dependency : dependencies[module]) {
+          change = (byte) Math.max(change, propagation[changes[dependency]]);
+        }
+      }
+      final SemVer current = versions[module];
+      int major = current.major();
+      int minor = current.minor();
+      int patch = current.patch();
+      byte flag = change > own[module] ? PROPAGATED : 0;
+      // Mirrors `SemVer.tryIncrementVersion`, without creating the incremented versions.
+      final boolean preRelease = current.isPreRelease();
+      switch (change) {
+        case 3 -> {
+          if (!preRelease || minor != 0 || patch != 0) {
+            if (major == Integer.MAX_VALUE) flag |= OVERFLOWED;
+            else major++;
+          }
+          minor = 0;
+          patch = 0;
+        }
+        case 2 -> {
+          if (!preRelease || patch != 0) {
+            if (minor == Integer.MAX_VALUE) flag |= OVERFLOWED;
+            else minor++;
+          }
+          patch = 0;
+        }
+        case 1 -> {
+          if (!preRelease) {
+            if (patch == Integer.MAX_VALUE) flag |= OVERFLOWED;
+            else patch++;
+          }
+        }
+        default -> {}
+      }
+      if (flag >= OVERFLOWED) {
+        major = current.major();
+        minor = current.minor();
+        patch = current.patch();
+      }
+      majors[module] = major;
+      minors[module] = minor;
+      patches[module] = patch;
+      changes[module] = change;
+      flags[module] = flag;
+    }
+  }
+
+  /**
+   * The changes propagated from a dependency to its dependents, by the change of the dependency.
+   * A dependent gets the most significant of its own change and the changes propagated from its
+   * dependencies.
+   *
+   * @param onMajor change of the dependents of a dependency with a {@link Change#MAJOR} change, or
+   *     {@code null} to not propagate it.
+   * @param onMinor change of the dependents of a dependency with a {@link Change#MINOR} change, or
+   *     {@code null} to not propagate it.
+   * @param onPatch change of the dependents of a dependency with a {@link Change#PATCH} change, or
+   *     {@code null} to not propagate it.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public record Propagation(
+      @Nullable Change onMajor, @Nullable Change onMinor, @Nullable Change onPatch) {
+
+    /**
+     * Propagates no changes, so every module only gets its own change.
+     *
+     * @since 1.6.0
+     */
+    public static final Propagation NONE = new Propagation(null, null, null);
+
+    /**
+     * Propagates every change as a {@link Change#PATCH} change, so that every module depending on
+     * a changed module is released as well.
+     *
+     * @since 1.6.0
+     */
+    public static final Propagation PATCH =
+        new Propagation(Change.PATCH, Change.PATCH, Change.PATCH);
+
+    /**
+     * Returns the change of the dependents of a dependency with the given {@code change}.
+     *
+     * @param change of the dependency, or {@code null} if it is unchanged.
+     * @return the propagated change, or {@code null} if none is propagated.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public @Nullable Change propagate(final @Nullable Change change) {
+      if (change == null) return null;
+      return switch (change) {
+        case MAJOR -> onMajor;
+        case MINOR -> onMinor;
+        case PATCH -> onPatch;
+      };
+    }
+
+    private byte[] codes() {
+      final byte[] codes = new byte[CHANGES.length];
+      for (int code = 1; code < CHANGES.length; code++) {
+        codes[code] = code(propagate(CHANGES[code]));
+      }
+      return codes;
+    }
+  }
+}
@@ -0,0 +1,660 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable catalogue of the available versions of named packages, and of the dependencies of
+ * each version, which resolves a version per package satisfying all requirements.
+ *
+ * <p>The versions of each package are held in a sorted {@code long[]} of {@linkplain PackedSemVer
+ * packed} versions. {@link #resolve(Map)} selects one package at a time - the one with the fewest
+ * remaining candidates - trying its candidates from the greatest version, and backtracks when a
+ * requirement can no longer be satisfied. So the greatest versions are preferred, and the result
+ * is deterministic. During a resolution, the candidates of each required range are memoized, and
+ * so are the partial selections which are known to fail - by a 128-bit hash of the selection - so
+ * that no selection is explored twice.
+ *
+ * <p>Packages which can never depend on each other, regardless of the selected versions, form
+ * <em>independent</em> subgraphs. These are resolved separately - in parallel, if more than one
+ * core is available - and a conflict in one subgraph does not prevent resolving the others.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerResolver resolver = SemVerResolver.builder()
+ *     .addVersions("core", SemVerIndex.ofPacked(corePackedVersions))
+ *     .addDependency("web", new SemVer(2, 1, 0), "core", SemVerRange.parse("^1.4"))
+ *     .build();
+ * SemVerResolver.Resolution resolution =
+ *     resolver.resolve(Map.of("web", SemVerRange.parse("^2")));
+ * SemVer core = resolution.versions().get("core");
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerResolver {
+
+  private static final Edge[] NO_EDGES = new Edge[0];
+
+  private final String[] names;
+  private final Map<String, Integer> ids;
+
+  /** The available versions of each package, in ascending order. */
+  private final long[][] versions;
+
+  /** The dependencies of each version of each package, as {@code edges[package][version]}. */
+  private final Edge[][][] edges;
+
+  /** The packages of each independent subgraph. */
+  private final int[][] components;
+
+  private final int[] componentOf;
+
+  /** The index of each package within the {@link #components} it belongs to. */
+  private final int[] localIndex;
+
+  private SemVerResolver(final Map<String, TreeMap<Long, List<Dependency>>> packages) {
+    final int size = packages.size();
+    this.names = packages.keySet().toArray(new String[0]);
+    this.ids = new HashMap<>(size * 2);
+    for (int id = 0; id < size; id++) {
+      ids.put(names[id], id);
+    }
+    this.versions = new long[size][];
+    this.edges = new Edge[size][][];
+    final int[] parents = new int[size];
+    for (int id = 0; id < size; id++) {
+      parents[id] = id;
+      final TreeMap<Long, List<Dependency>> available = packages.get(names[id]);
+      versions[id] = new long[available.size()];
+      edges[id] = new Edge[available.size()][];
+      int version = 0;
+      for (final Map.Entry<Long, List<Dependency>> entry : available.entrySet()) {
+        versions[id][version] = entry.getKey();
+        edges[id][version++] = edgesOf(entry.getValue());
+      }
+    }
+    for (int id = 0; id < size; id++) {
+      for (final Edge[] dependencies : edges[id]) {
+        for (final Edge edge : dependencies) {
+          parents[find(parents, id)] = find(parents, edge.target);
+        }
+      }
+    }
+    this.componentOf = new int[size];
+    this.localIndex = new int[size];
+    final Map<Integer, Integer> roots = new HashMap<>();
+    final int[] componentSizes = new int[size];
+    for (int id = 0; id < size; id++) {
+      final int component = roots.computeIfAbsent(find(parents, id), root -> roots.size());
+      componentOf[id] = component;
+      localIndex[id] = componentSizes[component]++;
+    }
+    this.components = new int[roots.size()][];
+    for (int component = 0; component < components.length; component++) {
+      components[component] = new int[componentSizes[component]];
+    }
+    for (int id = 0; id < size; id++) {
+      components[componentOf[id]][localIndex[id]] = id;
+    }
+  }
+
+  private Edge[] edgesOf(final List<Dependency> dependencies) {
+    if (dependencies.isEmpty()) return NO_EDGES;
+    final Edge[] result = new Edge[dependencies.size()];
+    for (int i = 0; i < result.length; i++) {
+      final Dependency dependency = dependencies.get(i);
+      result[i] = new Edge(ids.get(dependency.name), dependency.range);
+    }
+    return result;
+  }
+
+  private static int find(final int[] parents, int id) {
+    while (parents[id] != id) {
+      parents[id] = parents[parents[id]];
+      id = parents[id];
+    }
+    return id;
+  }
+
+  /**
+   * Returns a new, empty {@link Builder}.
+   *
+   * @return a new {@code Builder}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = " -> new", pure = true)
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the names of all packages in <em>this</em> catalogue, including packages which are
+   * only depended on.
+   *
+   * @return an unmodifiable set of package names.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public Set<String> packages() {
+    return Collections.unmodifiableSet(ids.keySet());
+  }
+
+  /**
+   * Returns the available versions of the package {@code name}.
+   *
+   * @param name of the package.
+   * @return the available versions, or an empty {@link SemVerIndex} if the package is unknown.
+   * @throws IllegalArgumentException if {@code name} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail; !null -> new", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public SemVerIndex versions(final String name) throws IllegalArgumentException {
+    if (name == null) throw illegalArgumentOf("name", MUST_NOT_BE_NULL);
+    final Integer id = ids.get(name);
+    return id == null ? SemVerIndex.ofPacked() : SemVerIndex.ofPacked(versions[id]);
+  }
+
+  /**
+   * Resolves a version of each package required by the {@code requirements}, directly or
+   * transitively, such that every requirement of the selected versions is satisfied.
+   *
+   * <p>If an independent subgraph cannot be resolved, one {@link Conflict} is reported for it -
+   * the one found with the most packages selected - and none of its packages are selected.
+   *
+   * @param requirements the range of versions required of each package name.
+   * @return the {@link Resolution}.
+   * @throws IllegalArgumentException if {@code requirements} is {@code null}, or contains {@code
+   *     null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail; !null -> new", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Resolution resolve(final Map<String, SemVerRange> requirements)
+      throws IllegalArgumentException {
+    if (requirements == null) throw illegalArgumentOf("requirements", MUST_NOT_BE_NULL);
+    final Map<Integer, Search> searches = new LinkedHashMap<>();
+    final List<Conflict> conflicts = new ArrayList<>();
+    for (final Map.Entry<String, SemVerRange> requirement : requirements.entrySet()) {
+      final String name = requirement.getKey();
+      final SemVerRange range = requirement.getValue();
+      if (name == null || range == null) {
+        throw illegalArgumentOf("requirements", MUST_NOT_BE_NULL);
+      }
+      final Integer id = ids.get(name);
+      if (id == null) {
+        conflicts.add(new Conflict(name, range, List.of(new Requirement(null, null, range))));
+        continue;
+      }
+      searches
+          .computeIfAbsent(componentOf[id], component -> new Search(components[component]))
+          .require(localIndex[id], range);
+    }
+    final Search[] pending = searches.values().toArray(new Search[0]);
+    if (pending.length > 1 && ForkJoinPool.getCommonPoolParallelism() > 1) {
+      ForkJoinPool.commonPool().invoke(new SearchTask(pending, 0, pending.length));
+    } else {
+      for (final Search search : pending) {
+        search.run();
+      }
+    }
+    final SortedMap<String, SemVer> selected = new TreeMap<>();
+    for (final Search search : pending) {
+      if (search.resolved) {
+        search.collect(selected);
+      } else {
+        conflicts.add(Objects.requireNonNull(search.conflict));
+      }
+    }
+    conflicts.sort(Comparator.comparing(Conflict::name));
+    return new Resolution(Collections.unmodifiableSortedMap(selected), List.copyOf(conflicts));
+  }
+
+  @Override
+  public String toString() {
+    return "%s{packages=%d, subgraphs=%d}"
+        .formatted(getClass().getSimpleName(), names.length, components.length);
+  }
+
+  /**
+   * The outcome of {@linkplain #resolve(Map) resolving} requirements.
+   *
+   * @param versions the selected version of each package, sorted by name. Packages of subgraphs
+   *     with a conflict are not included.
+   * @param conflicts the conflicts preventing a complete resolution, sorted by package name.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public record Resolution(Map<String, SemVer> versions, List<Conflict> conflicts) {
+
+    /**
+     * Returns whether every requirement was satisfied.
+     *
+     * @return whether there are no {@link #conflicts}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(pure = true)
+    public boolean isResolved() {
+      return conflicts.isEmpty();
+    }
+  }
+
+  /**
+   * Requirements on a package, which cannot all be satisfied together with the versions selected
+   * of the other packages.
+   *
+   * @param name of the package.
+   * @param range the intersection of the {@code requirements}.
+   * @param requirements on the package, by the requirements of {@link #resolve(Map)} and by the
+   *     selected versions of other packages.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public record Conflict(String name, SemVerRange range, List<Requirement> requirements) {}
+
+  /**
+   * A range of versions required of a package.
+   *
+   * @param name of the requiring package, or {@code null} if required by {@link #resolve(Map)}.
+   * @param version of the requiring package, or {@code null} if required by {@link
+   *     #resolve(Map)}.
+   * @param range of versions required.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public record Requirement(@Nullable String name, @Nullable SemVer version, SemVerRange range) {}
+
+  /**
+   * A mutable builder of a {@link SemVerResolver}. This class is <strong>not</strong> thread-safe.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static final class Builder {
+
+    private final Map<String, TreeMap<Long, List<Dependency>>> packages = new LinkedHashMap<>();
+
+    private Builder() {}
+
+    /**
+     * Adds an available {@code version} of the package {@code name}.
+     *
+     * @param name of the package.
+     * @param version available.
+     * @return <em>this</em> builder.
+     * @throws IllegalArgumentException if {@code name} or {@code version} is {@code null}.
+     * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+     *     packable}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract("null, _ -> fail; _, null -> fail; _, _ -> this")
+    @SuppressWarnings({"ConstantValue", "Contract"})
+    public Builder addVersion(final String name, final SemVer version)
+        throws ArithmeticException, IllegalArgumentException {
+      if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+      dependenciesOf(name, version.toPacked());
+      return this;
+    }
+
+    /**
+     * Adds all {@code versions} as available versions of the package {@code name}.
+     *
+     * @param name of the package.
+     * @param versions available.
+     * @return <em>this</em> builder.
+     * @throws IllegalArgumentException if {@code name} or {@code versions} is {@code null}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract("null, _ -> fail; _, null -> fail; _, _ -> this")
+    @SuppressWarnings({"ConstantValue", "Contract"})
+    public Builder addVersions(final String name, final SemVerIndex versions)
+        throws IllegalArgumentException {
+      if (name == null) throw illegalArgumentOf("name", MUST_NOT_BE_NULL);
+      if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+      final TreeMap<Long, List<Dependency>> available = packageOf(name);
+      for (final long packed : versions.toPackedArray()) {
+        available.computeIfAbsent(packed, key -> new ArrayList<>());
+      }
+      return this;
+    }
+
+    /**
+     * Adds a dependency of the {@code version} of the package {@code name}, which requires a
+     * version of the package {@code dependency} in the {@code range}. The {@code version} is added
+     * as an available version, if it was not already.
+     *
+     * @param name of the depending package.
+     * @param version of the depending package.
+     * @param dependency name of the required package.
+     * @param range of versions required.
+     * @return <em>this</em> builder.
+     * @throws IllegalArgumentException if any argument is {@code null}.
+     * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+     *     packable}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(
+        "null, _, _, _ -> fail; _, null, _, _ -> fail; _, _, null, _ -> fail; "
+            + "_, _, _, null -> fail; _, _, _, _ -> this")
+    @SuppressWarnings({"ConstantValue", "Contract"})
+    public Builder addDependency(
+        final String name, final SemVer version, final String dependency, final SemVerRange range)
+        throws ArithmeticException, IllegalArgumentException {
+      if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+      if (dependency == null) throw illegalArgumentOf("dependency", MUST_NOT_BE_NULL);
+      if (range == null) throw illegalArgumentOf("range", MUST_NOT_BE_NULL);
+      final List<Dependency> dependencies = dependenciesOf(name, version.toPacked());
+      packageOf(dependency);
+      dependencies.add(new Dependency(dependency, range));
+      return this;
+    }
+
+    /**
+     * Builds a {@link SemVerResolver} of the versions and dependencies added so far. <em>This</em>
+     * builder can still be used afterwards.
+     *
+     * @return the new {@code SemVerResolver}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(value = " -> new", pure = true)
+    public SemVerResolver build() {
+      return new SemVerResolver(packages);
+    }
+
+    private List<Dependency> dependenciesOf(final String name, final long packed) {
+      return packageOf(name).computeIfAbsent(packed, key -> new ArrayList<>());
+    }
+
+    @SuppressWarnings({"ConstantValue", "Contract"})
+    private TreeMap<Long, List<Dependency>> packageOf(final String name) {
+      if (name == null) throw illegalArgumentOf("name", MUST_NOT_BE_NULL);
+      return packages.computeIfAbsent(name, key -> new TreeMap<>());
+    }
+  }
+
+  private record Dependency(String name, SemVerRange range) {}
+
+  private record Edge(int target, SemVerRange range) {}
+
+  private record CandidatesKey(int member, SemVerRange range) {}
+
+  /**
+   * A selection of versions, identified by two independent 64-bit hashes. Each is the XOR of the
+   * hashes of the selected {@code (member, version)}-pairs, so that it is updated in constant time
+   * and does not depend on the order of selection.
+   */
+  private record Selection(long first, long second) {}
+
+  /** A package being selected, with the candidates left to try. */
+  private static final class Frame {
+
+    private final int member;
+    private final int[] candidates;
+    private final Selection selection;
+    private int cursor;
+    private @Nullable Edge[] applied;
+    private int appliedCount;
+    private @Nullable SemVerRange[] savedRanges;
+    private int @Nullable [][] savedCandidates;
+
+    private Frame(final int member, final int[] candidates, final Selection selection) {
+      this.member = member;
+      this.candidates = candidates;
+      this.selection = selection;
+      this.cursor = candidates.length;
+    }
+  }
+
+  /** The search of a single independent subgraph, identifying packages by their member index. */
+  private final class Search {
+
+    private final int[] members;
+    private final int[] selected;
+    private final @Nullable SemVerRange[] ranges;
+    private final int @Nullable [][] candidates;
+    private final @Nullable SemVerRange[] required;
+    private final Map<CandidatesKey, int[]> candidatesCache = new HashMap<>();
+    private final Set<Selection> failed = new HashSet<>();
+    private long firstHash;
+    private long secondHash;
+    private boolean resolved;
+    private int conflictDepth = -1;
+    private @Nullable Conflict conflict;
+
+    private Search(final int[] members) {
+      this.members = members;
+      this.selected = new int[members.length];
+      Arrays.fill(selected, -1);
+      this.ranges = new SemVerRange[members.length];
+      this.candidates = new int[members.length][];
+      this.required = new SemVerRange[members.length];
+    }
+
+    private void require(final int member, final SemVerRange range) {
+      required[member] = range;
+      ranges[member] = range;
+      candidates[member] = candidatesOf(member, range);
+    }
+
+    private void run() {
+      final ArrayDeque<Frame> stack = new ArrayDeque<>();
+      while (true) {
+        final int next = next();
+        if (next < 0) {
+          resolved = true;
+          return;
+        }
+        final int[] nextCandidates = candidates[next];
+        final Selection selection = new Selection(firstHash, secondHash);
+        if (nextCandidates.length == 0) {
+          conflict(stack.size(), next, ranges[next]);
+        } else if (!failed.contains(selection)) {
+          stack.push(new Frame(next, nextCandidates, selection));
+        }
+        if (!advance(stack)) return;
+      }
+    }
+
+    /** Returns the required member with the fewest candidates left, or {@code -1} if none. */
+    private int next() {
+      int next = -1;
+      int fewest = Integer.MAX_VALUE;
+      for (int member = 0; member < members.length; member++) {
+        if (selected[member] < 0 && candidates[member] != null) {
+          final int count = candidates[member].length;
+          if (count < fewest) {
+            next = member;
+            fewest = count;
+          }
+        }
+      }
+      return next;
+    }
+
+    /**
+     * Selects the next candidate of the deepest frame with candidates left, which is consistent
+     * with the current selection, and discards exhausted frames.
+     */
+    private boolean advance(final ArrayDeque<Frame> stack) {
+      while (!stack.isEmpty()) {
+        final Frame frame = stack.peek();
+        undo(frame);
+        if (frame.cursor == 0) {
+          failed.add(frame.selection);
+          stack.pop();
+          continue;
+        }
+        if (select(frame, frame.candidates[--frame.cursor], stack.size())) return true;
+      }
+      return false;
+    }
+
+    private boolean select(final Frame frame, final int version, final int depth) {
+      selected[frame.member] = version;
+      toggle(frame.member, version);
+      final Edge[] dependencies = edges[members[frame.member]][version];
+      frame.applied = dependencies;
+      frame.savedRanges = new SemVerRange[dependencies.length];
+      frame.savedCandidates = new int[dependencies.length][];
+      for (int i = 0; i < dependencies.length; i++) {
+        final Edge edge = dependencies[i];
+        final int target = localIndex[edge.target];
+        final SemVerRange current = ranges[target];
+        final SemVerRange range = current == null ? edge.range : current.intersect(edge.range);
+        final int[] targetCandidates = candidatesOf(target, range);
+        final boolean satisfiable =
+            selected[target] >= 0
+                ? edge.range.testPacked(versions[edge.target][selected[target]])
+                : targetCandidates.length > 0;
+        if (!satisfiable) {
+          conflict(depth, target, range);
+          return false;
+        }
+        frame.savedRanges[i] = current;
+        frame.savedCandidates[i] = candidates[target];
+        frame.appliedCount = i + 1;
+        ranges[target] = range;
+        candidates[target] = targetCandidates;
+      }
+      return true;
+    }
+
+    private void undo(final Frame frame) {
+      final Edge[] applied = frame.applied;
+      if (applied == null) return;
+      for (int i = frame.appliedCount - 1; i >= 0; i--) {
+        final int target = localIndex[applied[i].target];
+        ranges[target] = frame.savedRanges[i];
+        candidates[target] = frame.savedCandidates[i];
+      }
+      toggle(frame.member, selected[frame.member]);
+      selected[frame.member] = -1;
+      frame.applied = null;
+      frame.appliedCount = 0;
+    }
+
+    /** Adds or removes the {@code (member, version)}-pair to or from the selection hashes. */
+    private void toggle(final int member, final int version) {
+      final long pair = ((long) member << Integer.SIZE) | version;
+      firstHash ^= SemVerSketches.hash(pair);
+      secondHash ^= SemVerSketches.hash(~pair);
+    }
+
+    /** Returns the indices of the versions of the {@code member} in the {@code range}. */
+    private int[] candidatesOf(final int member, final SemVerRange range) {
+      return candidatesCache.computeIfAbsent(
+          new CandidatesKey(member, range),
+          key -> {
+            final long[] available = versions[members[member]];
+            final int[] matching = new int[available.length];
+            int count = 0;
+            for (int i = 0; i < available.length; i++) {
+              if (range.testPacked(available[i])) matching[count++] = i;
+            }
+            return Arrays.copyOf(matching, count);
+          });
+    }
+
+    /** Records the conflict on the {@code member}, if more packages are selected than before. */
+    private void conflict(final int depth, final int member, final SemVerRange range) {
+      if (depth <= conflictDepth) return;
+      conflictDepth = depth;
+      final int target = members[member];
+      final List<Requirement> requirements = new ArrayList<>();
+      if (required[member] != null) requirements.add(new Requirement(null, null, required[member]));
+      for (int other = 0; other < members.length; other++) {
+        if (selected[other] < 0) continue;
+        final int id = members[other];
+        for (final Edge edge : edges[id][selected[other]]) {
+          if (edge.target == target) {
+            final SemVer version = SemVer.fromPacked(versions[id][selected[other]]);
+            requirements.add(new Requirement(names[id], version, edge.range));
+          }
+        }
+      }
+      conflict = new Conflict(names[target], range, List.copyOf(requirements));
+    }
+
+    private void collect(final Map<String, SemVer> target) {
+      for (int member = 0; member < members.length; member++) {
+        if (selected[member] >= 0) {
+          final int id = members[member];
+          target.put(names[id], SemVer.fromPacked(versions[id][selected[member]]));
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("serial") // Tasks are never serialized.
+  private static final class SearchTask extends RecursiveAction {
+
+    private final Search[] searches;
+    private final int from;
+    private final int to;
+
+    private SearchTask(final Search[] searches, final int from, final int to) {
+      this.searches = searches;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        searches[from].run();
+        return;
+      }
+      final int mid = (from + to) >>> 1;
+      invokeAll(new SearchTask(searches, from, mid), new SearchTask(searches, mid, to));
+    }
+  }
+}
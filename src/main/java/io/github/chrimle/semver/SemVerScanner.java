@@ -0,0 +1,739 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds {@link SemVer}-formatted versions embedded in larger text, such as {@code User-Agent}
+ * headers like {@code MyApp/3.14.2 (Linux)}, without decoding or copying the text.
+ *
+ * <p>A scanner without products finds the first version of at least {@code MAJOR.MINOR} which
+ * starts and ends at a word boundary, i.e. is neither preceded nor followed by any of {@code
+ * [0-9A-Za-z.+_-]}. A scanner with {@linkplain Builder#addProduct(String) products} only finds the
+ * version of a product, in the form {@code PRODUCT/VERSION} of <a
+ * href="https://www.rfc-editor.org/rfc/rfc9110#section-10.1.5">RFC 9110 §10.1.5</a>, or {@code
+ * PRODUCT: VERSION} of a header line such as {@code x-client-version: v2.1}. Versions are matched
+ * in the format of {@link SemVer#parse(CharSequence)}, where {@code v1.2.3-rc.1.2} is a version
+ * but {@code 120.0.6099.109} is not.
+ *
+ * <p>The {@code find}-methods never create any objects, whether they find a version or not. A
+ * match is returned as a {@code long} of the {@linkplain #start(long) start} and {@linkplain
+ * #end(long) end} of the version within the scanned text, or {@link #NOT_FOUND}. Scanning again
+ * from the end of a match finds the next match. The {@code scan}-methods also parse the first
+ * match, which only creates objects for versions which are not {@linkplain SemVer#of(int, int,
+ * int) canonical}.
+ *
+ * <p>Bytes are scanned as {@code US-ASCII}, where any other byte is a word boundary. Scanners are
+ * immutable, and thus thread-safe.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerScanner scanner = SemVerScanner.builder().addProduct("MyApp").build();
+ * long match = scanner.find(header, offset, length);
+ * if (match != SemVerScanner.NOT_FOUND) {
+ *   int start = SemVerScanner.start(match);
+ *   int end = SemVerScanner.end(match);
+ * }
+ * }</pre>
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerScanner {
+
+  /**
+   * Returned by the {@code find}-methods if no version was found.
+   *
+   * @since 1.6.0
+   */
+  public static final long NOT_FOUND = -1L;
+
+  private static final SemVerScanner ANY = new SemVerScanner(new byte[0][], false);
+
+  /** The characters of a product, which is a {@code token} of RFC 9110. */
+  private static final boolean[] TOKEN = new boolean[128];
+
+  /** The characters which MUST NOT precede or follow a version. */
+  private static final boolean[] WORD = new boolean[128];
+
+  static {
+    for (int c = 0; c < 128; c++) {
+      final boolean alphanumeric =
+          (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+      TOKEN[c] = alphanumeric || "!#$%&'*+-.^_`|~".indexOf(c) >= 0;
+      WORD[c] = alphanumeric || ".+_-".indexOf(c) >= 0;
+    }
+  }
+
+  /** The products as {@code US-ASCII}, lower-cased if {@link #ignoreCase}. */
+  private final byte[][] products;
+
+  private final boolean ignoreCase;
+
+  private SemVerScanner(final byte[][] products, final boolean ignoreCase) {
+    this.products = products;
+    this.ignoreCase = ignoreCase;
+  }
+
+  /**
+   * Returns a scanner which finds any version of at least {@code MAJOR.MINOR}, regardless of
+   * product.
+   *
+   * @return the {@code SemVerScanner}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static SemVerScanner any() {
+    return ANY;
+  }
+
+  /**
+   * Returns a new, empty {@link Builder}.
+   *
+   * @return a new {@code Builder}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = " -> new", pure = true)
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the index of the first character of a match, which may be a leading {@code v}.
+   *
+   * @param match returned by a {@code find}-method, other than {@link #NOT_FOUND}.
+   * @return the start index of the version, inclusive.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static int start(final long match) {
+    return (int) (match >>> 32);
+  }
+
+  /**
+   * Returns the index following the last character of a match.
+   *
+   * @param match returned by a {@code find}-method, other than {@link #NOT_FOUND}.
+   * @return the end index of the version, exclusive.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public static int end(final long match) {
+    return (int) match;
+  }
+
+  /**
+   * Finds the first version in the {@code text}.
+   *
+   * @param text to scan.
+   * @return the match, or {@link #NOT_FOUND}.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public long find(final CharSequence text) throws IllegalArgumentException {
+    if (text == null) throw illegalArgumentOf("text", MUST_NOT_BE_NULL);
+    return find(text, 0, text.length());
+  }
+
+  /**
+   * Finds the first version in the range {@code [offset, offset + length)} of the {@code text}.
+   *
+   * @param text to scan.
+   * @param offset of the first character to scan.
+   * @param length of the range to scan.
+   * @return the match, with indices into {@code text}, or {@link #NOT_FOUND}.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code text}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public long find(final CharSequence text, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (text == null) throw illegalArgumentOf("text", MUST_NOT_BE_NULL);
+    Objects.checkFromIndexSize(offset, length, text.length());
+    final int to = offset + length;
+    for (int index = offset; index < to; index++) {
+      final long match = matchAt(text, offset, index, to);
+      if (match != NOT_FOUND) return match;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Finds the first version in the {@code US-ASCII} encoded {@code bytes} in the range {@code
+   * [offset, offset + length)}.
+   *
+   * @param bytes to scan.
+   * @param offset of the first byte to scan.
+   * @param length of the range to scan.
+   * @return the match, with indices into {@code bytes}, or {@link #NOT_FOUND}.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code bytes}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public long find(final byte[] bytes, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (bytes == null) throw illegalArgumentOf("bytes", MUST_NOT_BE_NULL);
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return find(bytes, offset, offset + length, 0);
+  }
+
+  /**
+   * Finds the first version in the {@code US-ASCII} encoded bytes between the {@code position} and
+   * the {@code limit} of the {@code buffer}. The {@code position} of the {@code buffer} is
+   * <em>not</em> modified.
+   *
+   * @param buffer to scan.
+   * @return the match, with absolute indices into {@code buffer}, or {@link #NOT_FOUND}.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public long find(final ByteBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null) throw illegalArgumentOf("buffer", MUST_NOT_BE_NULL);
+    final int from = buffer.position();
+    final int to = buffer.limit();
+    if (buffer.hasArray()) {
+      final int offset = buffer.arrayOffset();
+      return find(buffer.array(), offset + from, offset + to, offset);
+    }
+    for (int index = from; index < to; index++) {
+      final long match = matchAt(buffer, from, index, to);
+      if (match != NOT_FOUND) return match;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Finds the first version in each of the ranges {@code [offsets[i], offsets[i] + lengths[i])}
+   * of the {@code US-ASCII} encoded {@code bytes}, such as the headers of a request, into {@code
+   * matches[i]}.
+   *
+   * @param bytes to scan.
+   * @param offsets of the first byte of each range.
+   * @param lengths of each range.
+   * @param matches to store the match of each range in, with indices into {@code bytes}.
+   * @return the number of ranges in which a version was found.
+   * @throws IllegalArgumentException if any argument is {@code null}, or if {@code lengths} or
+   *     {@code matches} is shorter than {@code offsets}.
+   * @throws IndexOutOfBoundsException if any range is out of bounds of {@code bytes}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _, _ -> fail; _, null, _, _ -> fail; _, _, null, _ -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int findAll(
+      final byte[] bytes, final int[] offsets, final int[] lengths, final long[] matches)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (bytes == null) throw illegalArgumentOf("bytes", MUST_NOT_BE_NULL);
+    if (offsets == null) throw illegalArgumentOf("offsets", MUST_NOT_BE_NULL);
+    if (lengths == null) throw illegalArgumentOf("lengths", MUST_NOT_BE_NULL);
+    if (matches == null) throw illegalArgumentOf("matches", MUST_NOT_BE_NULL);
+    if (lengths.length < offsets.length || matches.length < offsets.length) {
+      throw new IllegalArgumentException(
+          "`lengths` and `matches` MUST be at least as long as `offsets`");
+    }
+    int found = 0;
+    for (int range = 0; range < offsets.length; range++) {
+      Objects.checkFromIndexSize(offsets[range], lengths[range], bytes.length);
+      final long match = find(bytes, offsets[range], offsets[range] + lengths[range], 0);
+      matches[range] = match;
+      if (match != NOT_FOUND) found++;
+    }
+    return found;
+  }
+
+  /**
+   * Finds the first version in each of the {@code buffers}, like {@link #find(ByteBuffer)}, into
+   * {@code matches[i]}.
+   *
+   * @param buffers to scan.
+   * @param matches to store the match of each buffer in.
+   * @return the number of buffers in which a version was found.
+   * @throws IllegalArgumentException if any argument is {@code null}, if {@code buffers} contains
+   *     {@code null}, or if {@code matches} is shorter than {@code buffers}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public int findAll(final ByteBuffer[] buffers, final long[] matches)
+      throws IllegalArgumentException {
+    if (buffers == null) throw illegalArgumentOf("buffers", MUST_NOT_BE_NULL);
+    if (matches == null) throw illegalArgumentOf("matches", MUST_NOT_BE_NULL);
+    if (matches.length < buffers.length) {
+      throw new IllegalArgumentException("`matches` MUST be at least as long as `buffers`");
+    }
+    int found = 0;
+    for (int buffer = 0; buffer < buffers.length; buffer++) {
+      final long match = find(buffers[buffer]);
+      matches[buffer] = match;
+      if (match != NOT_FOUND) found++;
+    }
+    return found;
+  }
+
+  /**
+   * Finds and parses the first version in the {@code text}.
+   *
+   * @param text to scan.
+   * @return the {@code SemVer}, or {@code null} if no version was found.
+   * @throws IllegalArgumentException if {@code text} is {@code null}.
+   * @see #find(CharSequence)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  public @Nullable SemVer scan(final CharSequence text) throws IllegalArgumentException {
+    final long match = find(text);
+    if (match == NOT_FOUND) return null;
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.parsed(
+        start, SemVerParser.parse(text, start(match), end(match)));
+  }
+
+  /**
+   * Finds and parses the first version in the {@code US-ASCII} encoded {@code bytes} in the range
+   * {@code [offset, offset + length)}.
+   *
+   * @param bytes to scan.
+   * @param offset of the first byte to scan.
+   * @param length of the range to scan.
+   * @return the {@code SemVer}, or {@code null} if no version was found.
+   * @throws IllegalArgumentException if {@code bytes} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code bytes}.
+   * @see #find(byte[], int, int)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null, _, _ -> fail")
+  public @Nullable SemVer scan(final byte[] bytes, final int offset, final int length)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    final long match = find(bytes, offset, length);
+    if (match == NOT_FOUND) return null;
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.parsed(
+        start, SemVerParser.parse(bytes, start(match), end(match)));
+  }
+
+  /**
+   * Finds and parses the first version in the {@code US-ASCII} encoded bytes between the {@code
+   * position} and the {@code limit} of the {@code buffer}. The {@code position} of the {@code
+   * buffer} is <em>not</em> modified.
+   *
+   * @param buffer to scan.
+   * @return the {@code SemVer}, or {@code null} if no version was found.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}.
+   * @see #find(ByteBuffer)
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  public @Nullable SemVer scan(final ByteBuffer buffer) throws IllegalArgumentException {
+    final long match = find(buffer);
+    if (match == NOT_FOUND) return null;
+    final long start = SemVerInstrumentation.start();
+    return SemVerInstrumentation.parsed(
+        start, SemVerParser.parse(buffer, start(match), end(match)));
+  }
+
+  @Override
+  public String toString() {
+    final List<String> names = new ArrayList<>(products.length);
+    for (final byte[] product : products) {
+      names.add(new String(product, StandardCharsets.US_ASCII));
+    }
+    return "%s{products=%s, ignoreCase=%s}"
+        .formatted(getClass().getSimpleName(), names, ignoreCase);
+  }
+
+  /**
+   * Finds the first version in the range {@code [from, to)} of the {@code bytes}.
+   *
+   * @param base subtracted from the indices of the match.
+   */
+  private long find(final byte[] bytes, final int from, final int to, final int base) {
+    for (int index = from; index < to; index++) {
+      final long match = matchAt(bytes, from, index, to);
+      if (match != NOT_FOUND) return match - (((long) base << 32) | base);
+    }
+    return NOT_FOUND;
+  }
+
+  private static long match(final int start, final int end) {
+    return ((long) start << 32) | end;
+  }
+
+  private static boolean isToken(final int c) {
+    return c >= 0 && c < 128 && TOKEN[c];
+  }
+
+  private static boolean isWord(final int c) {
+    return c >= 0 && c < 128 && WORD[c];
+  }
+
+  private static boolean isDigit(final int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isIdentifier(final int c) {
+    return c != '.' && c != '+' && c != '_' && isWord(c);
+  }
+
+  private int lower(final int c) {
+    return ignoreCase && c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+  }
+
+  // The following methods are identical for each kind of input, except for how a character is
+  // read, so that scanning neither creates objects nor dispatches on the kind of input.
+
+  /** Returns the version at {@code index}, or of the product at {@code index}, if any. */
+  private long matchAt(final CharSequence text, final int from, final int index, final int to) {
+    if (products.length == 0) {
+      return index == from || !isWord(text.charAt(index - 1))
+          ? version(text, index, to, 2)
+          : NOT_FOUND;
+    }
+    if (index != from && isToken(text.charAt(index - 1))) return NOT_FOUND;
+    for (final byte[] product : products) {
+      int end = index + product.length;
+      if (end >= to || lower(text.charAt(index)) != product[0]) continue;
+      int position = index + 1;
+      while (position < end && lower(text.charAt(position)) == product[position - index]) {
+        position++;
+      }
+      if (position < end || (text.charAt(end) != '/' && text.charAt(end) != ':')) continue;
+      end++;
+      while (end < to && (text.charAt(end) == ' ' || text.charAt(end) == '\t')) {
+        end++;
+      }
+      final long match = version(text, end, to, 1);
+      if (match != NOT_FOUND) return match;
+    }
+    return NOT_FOUND;
+  }
+
+  /** Returns the version of at least {@code components} numeric versions at {@code from}. */
+  private static long version(
+      final CharSequence text, final int from, final int to, final int components) {
+    int index = from < to && text.charAt(from) == 'v' ? from + 1 : from;
+    int count = 0;
+    do {
+      if (count > 0) index++;
+      index = number(text, index, to);
+      if (index < 0) return NOT_FOUND;
+      count++;
+    } while (count < 3 && index + 1 < to && text.charAt(index) == '.');
+    if (count < components) return NOT_FOUND;
+    if (index < to && text.charAt(index) == '-') {
+      index = identifiers(text, index + 1, to, true);
+      if (index < 0) return NOT_FOUND;
+    }
+    if (index < to && text.charAt(index) == '+') {
+      index = identifiers(text, index + 1, to, false);
+      if (index < 0) return NOT_FOUND;
+    }
+    return index == to || !isWord(text.charAt(index)) ? match(from, index) : NOT_FOUND;
+  }
+
+  /** Returns the index following the number at {@code from}, or {@code -1} if invalid. */
+  private static int number(final CharSequence text, final int from, final int to) {
+    int index = from;
+    int value = 0;
+    while (index < to && isDigit(text.charAt(index))) {
+      final int digit = text.charAt(index) - '0';
+      if (value > (Integer.MAX_VALUE - digit) / 10) return -1;
+      value = value * 10 + digit;
+      index++;
+    }
+    if (index == from || (text.charAt(from) == '0' && index - from > 1)) return -1;
+    return index;
+  }
+
+  /** Returns the index following the identifiers at {@code from}, or {@code -1} if invalid. */
+  private static int identifiers(
+      final CharSequence text, final int from, final int to, final boolean preRelease) {
+    int index = from;
+    while (true) {
+      final int start = index;
+      boolean numeric = true;
+      while (index < to && isIdentifier(text.charAt(index))) {
+        numeric &= isDigit(text.charAt(index));
+        index++;
+      }
+      if (index == start) return -1;
+      if (preRelease && numeric && text.charAt(start) == '0' && index - start > 1) return -1;
+      if (index == to || text.charAt(index) != '.') return index;
+      index++;
+    }
+  }
+
+  private long matchAt(final byte[] bytes, final int from, final int index, final int to) {
+    if (products.length == 0) {
+      return index == from || !isWord(bytes[index - 1])
+          ? version(bytes, index, to, 2)
+          : NOT_FOUND;
+    }
+    if (index != from && isToken(bytes[index - 1])) return NOT_FOUND;
+    for (final byte[] product : products) {
+      int end = index + product.length;
+      if (end >= to || lower(bytes[index]) != product[0]) continue;
+      int position = index + 1;
+      while (position < end && lower(bytes[position]) == product[position - index]) {
+        position++;
+      }
+      if (position < end || (bytes[end] != '/' && bytes[end] != ':')) continue;
+      end++;
+      while (end < to && (bytes[end] == ' ' || bytes[end] == '\t')) {
+        end++;
+      }
+      final long match = version(bytes, end, to, 1);
+      if (match != NOT_FOUND) return match;
+    }
+    return NOT_FOUND;
+  }
+
+  private static long version(
+      final byte[] bytes, final int from, final int to, final int components) {
+    int index = from < to && bytes[from] == 'v' ? from + 1 : from;
+    int count = 0;
+    do {
+      if (count > 0) index++;
+      index = number(bytes, index, to);
+      if (index < 0) return NOT_FOUND;
+      count++;
+    } while (count < 3 && index + 1 < to && bytes[index] == '.');
+    if (count < components) return NOT_FOUND;
+    if (index < to && bytes[index] == '-') {
+      index = identifiers(bytes, index + 1, to, true);
+      if (index < 0) return NOT_FOUND;
+    }
+    if (index < to && bytes[index] == '+') {
+      index = identifiers(bytes, index + 1, to, false);
+      if (index < 0) return NOT_FOUND;
+    }
+    return index == to || !isWord(bytes[index]) ? match(from, index) : NOT_FOUND;
+  }
+
+  private static int number(final byte[] bytes, final int from, final int to) {
+    int index = from;
+    int value = 0;
+    while (index < to && isDigit(bytes[index])) {
+      final int digit = bytes[index] - '0';
+      if (value > (Integer.MAX_VALUE - digit) / 10) return -1;
+      value = value * 10 + digit;
+      index++;
+    }
+    if (index == from || (bytes[from] == '0' && index - from > 1)) return -1;
+    return index;
+  }
+
+  private static int identifiers(
+      final byte[] bytes, final int from, final int to, final boolean preRelease) {
+    int index = from;
+    while (true) {
+      final int start = index;
+      boolean numeric = true;
+      while (index < to && isIdentifier(bytes[index])) {
+        numeric &= isDigit(bytes[index]);
+        index++;
+      }
+      if (index == start) return -1;
+      if (preRelease && numeric && bytes[start] == '0' && index - start > 1) return -1;
+      if (index == to || bytes[index] != '.') return index;
+      index++;
+    }
+  }
+
+  private long matchAt(final ByteBuffer buffer, final int from, final int index, final int to) {
+    if (products.length == 0) {
+      return index == from || !isWord(buffer.get(index - 1))
+          ? version(buffer, index, to, 2)
+          : NOT_FOUND;
+    }
+    if (index != from && isToken(buffer.get(index - 1))) return NOT_FOUND;
+    for (final byte[] product : products) {
+      int end = index + product.length;
+      if (end >= to || lower(buffer.get(index)) != product[0]) continue;
+      int position = index + 1;
+      while (position < end && lower(buffer.get(position)) == product[position - index]) {
+        position++;
+      }
+      if (position < end || (buffer.get(end) != '/' && buffer.get(end) != ':')) continue;
+      end++;
+      while (end < to && (buffer.get(end) == ' ' || buffer.get(end) == '\t')) {
+        end++;
+      }
+      final long match = version(buffer, end, to, 1);
+      if (match != NOT_FOUND) return match;
+    }
+    return NOT_FOUND;
+  }
+
+  private static long version(
+      final ByteBuffer buffer, final int from, final int to, final int components) {
+    int index = from < to && buffer.get(from) == 'v' ? from + 1 : from;
+    int count = 0;
+    do {
+      if (count > 0) index++;
+      index = number(buffer, index, to);
+      if (index < 0) return NOT_FOUND;
+      count++;
+    } while (count < 3 && index + 1 < to && buffer.get(index) == '.');
+    if (count < components) return NOT_FOUND;
+    if (index < to && buffer.get(index) == '-') {
+      index = identifiers(buffer, index + 1, to, true);
+      if (index < 0) return NOT_FOUND;
+    }
+    if (index < to && buffer.get(index) == '+') {
+      index = identifiers(buffer, index + 1, to, false);
+      if (index < 0) return NOT_FOUND;
+    }
+    return index == to || !isWord(buffer.get(index)) ? match(from, index) : NOT_FOUND;
+  }
+
+  private static int number(final ByteBuffer buffer, final int from, final int to) {
+    int index = from;
+    int value = 0;
+    while (index < to && isDigit(buffer.get(index))) {
+      final int digit = buffer.get(index) - '0';
+      if (value > (Integer.MAX_VALUE - digit) / 10) return -1;
+      value = value * 10 + digit;
+      index++;
+    }
+    if (index == from || (buffer.get(from) == '0' && index - from > 1)) return -1;
+    return index;
+  }
+
+  private static int identifiers(
+      final ByteBuffer buffer, final int from, final int to, final boolean preRelease) {
+    int index = from;
+    while (true) {
+      final int start = index;
+      boolean numeric = true;
+      while (index < to && isIdentifier(buffer.get(index))) {
+        numeric &= isDigit(buffer.get(index));
+        index++;
+      }
+      if (index == start) return -1;
+      if (preRelease && numeric && buffer.get(start) == '0' && index - start > 1) return -1;
+      if (index == to || buffer.get(index) != '.') return index;
+      index++;
+    }
+  }
+
+  /**
+   * A mutable builder of a {@link SemVerScanner}. This class is <strong>not</strong> thread-safe.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public static final class Builder {
+
+    private final List<String> products = new ArrayList<>();
+    private boolean ignoreCase;
+
+    private Builder() {}
+
+    /**
+     * Adds a {@code product} whose version is to be found, such as {@code MyApp} of {@code
+     * MyApp/3.14.2}, or the header name {@code x-client-version} of {@code x-client-version:
+     * v2.1}.
+     *
+     * @param product name, which is a {@code token} of RFC 9110.
+     * @return <em>this</em> builder.
+     * @throws IllegalArgumentException if {@code product} is {@code null}, empty, or contains any
+     *     character other than {@code [0-9A-Za-z!#$%&'*+.^_`|~-]}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract("null -> fail; _ -> this")
+    @SuppressWarnings({"ConstantValue", "Contract"})
+    public Builder addProduct(final String product) throws IllegalArgumentException {
+      if (product == null) throw illegalArgumentOf("product", MUST_NOT_BE_NULL);
+      if (product.isEmpty() || !product.chars().allMatch(SemVerScanner::isToken)) {
+        throw new IllegalArgumentException(
+            "`product` MUST be a non-empty token of [0-9A-Za-z!#$%&'*+.^_`|~-]");
+      }
+      products.add(product);
+      return this;
+    }
+
+    /**
+     * Sets whether products are matched regardless of the case of {@code US-ASCII} letters, as
+     * for header names. Products are matched case-sensitively by default.
+     *
+     * @param ignoreCase whether to ignore the case of products.
+     * @return <em>this</em> builder.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract("_ -> this")
+    public Builder ignoreCase(final boolean ignoreCase) {
+      this.ignoreCase = ignoreCase;
+      return this;
+    }
+
+    /**
+     * Builds a {@link SemVerScanner} of the products added so far, or one which finds any version
+     * if none were added. <em>This</em> builder can still be used afterwards.
+     *
+     * @return the new {@code SemVerScanner}.
+     * @since 1.6.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+    @Contract(value = " -> new", pure = true)
+    public SemVerScanner build() {
+      final byte[][] names = new byte[products.size()][];
+      for (int i = 0; i < names.length; i++) {
+        final String product = products.get(i);
+        names[i] =
+            (ignoreCase ? product.toLowerCase(Locale.ROOT) : product)
+                .getBytes(StandardCharsets.US_ASCII);
+      }
+      return new SemVerScanner(names, ignoreCase);
+    }
+  }
+}
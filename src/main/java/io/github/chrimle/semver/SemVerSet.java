@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A mutable hash set of {@link SemVer}s, stored as {@linkplain PackedSemVer packed} {@code long}s
+ * in a single open-addressing table.
+ *
+ * <p>There are no per-element objects; each version occupies one slot of a {@code long[]}, which
+ * is probed linearly from a position derived from a multiplicative hash of the packed value.
+ * Versions can be looked up by their {@code major}, {@code minor} and {@code patch} versions,
+ * without creating a {@code SemVer}.
+ *
+ * <p>Only {@linkplain SemVer#isPackable() packable} <em>release</em> versions can be added, but any
+ * version can be looked up. This set is <strong>not</strong> thread-safe.
+ *
+ * <p><strong>Example:</strong>
+ *
+ * <pre>{@code
+ * SemVerSet blocked = new SemVerSet();
+ * blocked.add(new SemVer(1, 4, 2));
+ * boolean isBlocked = blocked.contains(major, minor, patch);
+ * }</pre>
+ *
+ * @see SemVerMap
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerSet {
+
+  /** Marks an empty slot, since packed values are never negative. */
+  static final long EMPTY = -1L;
+
+  static final int DEFAULT_CAPACITY = 16;
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private long[] keys;
+  private int size;
+  private int shift;
+
+  /**
+   * Creates an empty {@link SemVerSet}.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerSet() {
+    this(DEFAULT_CAPACITY / 2);
+  }
+
+  /**
+   * Creates an empty {@link SemVerSet}, which can hold {@code expectedSize} versions without
+   * resizing.
+   *
+   * @param expectedSize number of versions.
+   * @throws IllegalArgumentException if {@code expectedSize} is negative.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public SemVerSet(final int expectedSize) throws IllegalArgumentException {
+    if (expectedSize < 0) throw illegalArgumentOf("expectedSize", MUST_BE_AT_LEAST, "0");
+    allocate(capacityFor(expectedSize));
+  }
+
+  /**
+   * Returns the number of versions in <em>this</em> set.
+   *
+   * @return the number of versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether <em>this</em> set contains no versions.
+   *
+   * @return whether {@link #size()} is {@code 0}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds the {@code version}, unless it is already present.
+   *
+   * @param version to add.
+   * @return whether the {@code version} was added.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @throws ArithmeticException if {@code version} is not {@linkplain SemVer#isPackable()
+   *     packable}.
+   * @throws IllegalStateException if the set is full, and does not contain the version. Then, the
+   *     set is not modified.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public boolean add(final SemVer version) throws ArithmeticException, IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return addPacked(version.toPacked());
+  }
+
+  /**
+   * Adds the {@linkplain PackedSemVer packed} version, unless it is already present.
+   *
+   * @param packed version to add.
+   * @return whether the {@code packed} version was added.
+   * @throws IllegalArgumentException if {@code packed} is negative.
+   * @throws IllegalStateException if the set is full, and does not contain the version. Then, the
+   *     set is not modified.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public boolean addPacked(final long packed) throws IllegalArgumentException {
+    if (packed < 0) throw illegalArgumentOf("packed", MUST_BE_AT_LEAST, "0");
+    final int mask = keys.length - 1;
+    int slot = slot(packed, shift);
+    for (long key; (key = keys[slot]) != EMPTY; slot = (slot + 1) & mask) {
+      if (key == packed) return false;
+    }
+    if (size == keys.length >>> 1) {
+      // Grows before inserting, so that a full set throws without being modified.
+      resize();
+      slot = slot(packed, shift);
+      while (keys[slot] != EMPTY) slot = (slot + 1) & (keys.length - 1);
+    }
+    keys[slot] = packed;
+    size++;
+    return true;
+  }
+
+  /**
+   * Returns whether <em>this</em> set contains the {@code version}.
+   *
+   * @param version to look up.
+   * @return whether the {@code version} is present.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = "null -> fail", pure = true)
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public boolean contains(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return version.isPackable() && containsPacked(version.toPacked());
+  }
+
+  /**
+   * Returns whether <em>this</em> set contains the release version {@code major.minor.patch},
+   * without creating a {@link SemVer}.
+   *
+   * @param major version.
+   * @param minor version.
+   * @param patch version.
+   * @return whether the version is present.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean contains(final int major, final int minor, final int patch) {
+    return PackedSemVer.isPackable(major, minor, patch)
+        && containsPacked(PackedSemVer.packUnchecked(major, minor, patch));
+  }
+
+  /**
+   * Returns whether <em>this</em> set contains the {@linkplain PackedSemVer packed} version.
+   *
+   * @param packed version to look up.
+   * @return whether the {@code packed} version is present.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(pure = true)
+  public boolean containsPacked(final long packed) {
+    if (packed < 0) return false;
+    final int mask = keys.length - 1;
+    for (int slot = slot(packed, shift); ; slot = (slot + 1) & mask) {
+      final long key = keys[slot];
+      if (key == packed) return true;
+      if (key == EMPTY) return false;
+    }
+  }
+
+  /**
+   * Removes the {@code version}, if present.
+   *
+   * @param version to remove.
+   * @return whether the {@code version} was removed.
+   * @throws IllegalArgumentException if {@code version} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public boolean remove(final SemVer version) throws IllegalArgumentException {
+    if (version == null) throw illegalArgumentOf("version", MUST_NOT_BE_NULL);
+    return version.isPackable() && removePacked(version.toPacked());
+  }
+
+  /**
+   * Removes the {@linkplain PackedSemVer packed} version, if present.
+   *
+   * @param packed version to remove.
+   * @return whether the {@code packed} version was removed.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public boolean removePacked(final long packed) {
+    if (packed < 0) return false;
+    final int mask = keys.length - 1;
+    for (int slot = slot(packed, shift); ; slot = (slot + 1) & mask) {
+      final long key = keys[slot];
+      if (key == EMPTY) return false;
+      if (key == packed) {
+        size--;
+        shiftBack(keys, null, slot, shift);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Removes all versions.
+   *
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  public void clear() {
+    Arrays.fill(keys, EMPTY);
+    size = 0;
+  }
+
+  /**
+   * Performs the {@code action} for each {@linkplain PackedSemVer packed} version, in an
+   * unspecified order.
+   *
+   * @param action to perform.
+   * @throws IllegalArgumentException if {@code action} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void forEachPacked(final LongConsumer action) throws IllegalArgumentException {
+    if (action == null) throw illegalArgumentOf("action", MUST_NOT_BE_NULL);
+    for (final long key : keys) {
+      if (key != EMPTY) action.accept(key);
+    }
+  }
+
+  /**
+   * Returns the {@linkplain PackedSemVer packed} versions, in ascending order.
+   *
+   * @return a new array of the packed versions.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(value = " -> new", pure = true)
+  public long[] toPackedArray() {
+    final long[] packed = new long[size];
+    int index = 0;
+    for (final long key : keys) {
+      if (key != EMPTY) packed[index++] = key;
+    }
+    SemVerSort.sortPacked(packed);
+    return packed;
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    Arrays.fill(keys, EMPTY);
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  private void resize() {
+    if (keys.length == MAX_CAPACITY) throw new IllegalStateException("`SemVerSet` is full");
+    final long[] old = keys;
+    allocate(old.length << 1);
+    final int mask = keys.length - 1;
+    for (final long key : old) {
+      if (key == EMPTY) continue;
+      int slot = slot(key, shift);
+      while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+      keys[slot] = key;
+    }
+  }
+
+  /** Returns the power of two capacity, at most half full with {@code expectedSize} keys. */
+  static int capacityFor(final int expectedSize) {
+    if (expectedSize >= MAX_CAPACITY >>> 1) return MAX_CAPACITY;
+    final int capacity = Integer.highestOneBit(Math.max(1, 2 * expectedSize - 1)) << 1;
+    return Math.max(DEFAULT_CAPACITY, capacity);
+  }
+
+  /**
+   * Returns the home slot of the {@code packed} key, from the upper bits of a Fibonacci hash, which
+   * spreads the consecutive versions of real-world version histories across the table.
+   */
+  static int slot(final long packed, final int shift) {
+    return (int) ((packed * 0x9E3779B97F4A7C15L) >>> shift);
+  }
+
+  /**
+   * Empties the {@code slot}, moving later keys of the same probe sequence backwards, so that
+   * lookups never need to skip deleted slots.
+   */
+  static void shiftBack(
+      final long[] keys, final Object @Nullable [] values, int hole, final int shift) {
+    final int mask = keys.length - 1;
+    for (int slot = (hole + 1) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+      final int home = slot(keys[slot], shift);
+      if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+        keys[hole] = keys[slot];
+        if (values != null) values[hole] = values[slot];
+        hole = slot;
+      }
+    }
+    keys[hole] = EMPTY;
+    if (values != null) values[hole] = null;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Hashing and serialization shared by {@link SemVerCardinalitySketch}, {@link
+ * SemVerFrequencySketch} and {@link SemVerQuantileSketch}.
+ *
+ * <p>A <em>release</em> {@link SemVer} hashes equal to its {@linkplain PackedSemVer packed} value,
+ * so that adding either form of the same version is indistinguishable. Numbers are serialized as
+ * unsigned {@code LEB128} varints, like the varints of {@link SemVerCodec}, but of up to 64 bits.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerSketches {
+
+  static final String MALFORMED_MESSAGE = "The bytes MUST be a sketch serialized by `toByteArray`";
+
+  private static final int MAX_VARINT_SIZE = 10;
+
+  private SemVerSketches() {}
+
+  /** Returns the 64-bit hash of a packed value, by the finalizer of {@code MurmurHash3}. */
+  static long hash(long packed) {
+    packed ^= packed >>> 33;
+    packed *= 0xFF51AFD7ED558CCDL;
+    packed ^= packed >>> 33;
+    packed *= 0xC4CEB9FE1A85EC53L;
+    return packed ^ (packed >>> 33);
+  }
+
+  /** Returns the 64-bit hash of the {@code version}, including its labels, without allocating. */
+  static long hash(final SemVer version) {
+    final String preRelease = version.preRelease();
+    final String buildMetadata = version.buildMetadata();
+    final boolean isRelease = preRelease.isEmpty() && buildMetadata.isEmpty();
+    if (isRelease && PackedSemVer.isPackable(version.major(), version.minor(), version.patch())) {
+      return hash(PackedSemVer.packUnchecked(version.major(), version.minor(), version.patch()));
+    }
+    long hash = hash(((long) version.major() << 32) | version.minor());
+    hash = hash(hash ^ version.patch());
+    // The lengths separate the labels, so that `1.0.0-a` and `1.0.0+a` hash differently.
+    hash = hash(hash ^ ((long) preRelease.length() << 32 | buildMetadata.length()));
+    for (int i = 0; i < preRelease.length(); i++) {
+      hash = (hash ^ preRelease.charAt(i)) * 0x100000001B3L;
+    }
+    for (int i = 0; i < buildMetadata.length(); i++) {
+      hash = (hash ^ buildMetadata.charAt(i)) * 0x100000001B3L;
+    }
+    return hash(hash);
+  }
+
+  /** Returns the number of bytes of the unsigned varint of {@code value}. */
+  static int unsignedSize(final long value) {
+    return value == 0 ? 1 : (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7;
+  }
+
+  static void putUnsigned(long value, final ByteBuffer target) {
+    while ((value & ~0x7FL) != 0) {
+      target.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    target.put((byte) value);
+  }
+
+  static long getUnsigned(final ByteBuffer source) {
+    long value = 0;
+    for (int shift = 0; shift < 7 * MAX_VARINT_SIZE; shift += 7) {
+      final byte next = source.get();
+      value |= (long) (next & 0x7F) << shift;
+      if (next >= 0) return value;
+    }
+    throw new IllegalArgumentException(MALFORMED_MESSAGE);
+  }
+
+  /** Reads an unsigned varint, which <strong>MUST</strong> be within {@code [min, max]}. */
+  static int getInt(final ByteBuffer source, final int min, final int max) {
+    final long value = getUnsigned(source);
+    if (value < min || value > max) throw new IllegalArgumentException(MALFORMED_MESSAGE);
+    return (int) value;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonical instances of small {@link SemVer}s, as returned by {@link SemVer#of(int, int, int)}.
+ * Versions outside the small range are delegated to {@link SemVerCache}, which is therefore not
+ * loaded until the first of them is requested.
+ *
+ * <p>The table is split into rows of patch versions, which are allocated on first use and never
+ * evicted, so that only the rows of the versions used are ever allocated. The table is not
+ * synchronized. Since {@link SemVer} is immutable, a racing thread may at worst observe a stale
+ * slot or row and create an equal instance - which is then <em>not</em> canonical, but still
+ * correct.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+final class SemVerSmallCache {
+
+  static final int SMALL_MAJORS = 8;
+  static final int SMALL_MINORS = 32;
+  static final int SMALL_PATCHES = 64;
+
+  private static final SemVer[][] ROWS = new SemVer[SMALL_MAJORS * SMALL_MINORS][];
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+
+  private SemVerSmallCache() {}
+
+  static SemVer canonical(final int major, final int minor, final int patch) {
+    if (major >= SMALL_MAJORS || minor >= SMALL_MINORS || patch >= SMALL_PATCHES) {
+      return SemVerCache.canonical(major, minor, patch);
+    }
+    // Negative versions fail in the constructor, before an out-of-bounds index is accessed.
+    if ((major | minor | patch) < 0) return new SemVer(major, minor, patch);
+    final int index = major * SMALL_MINORS + minor;
+    SemVer[] row = ROWS[index];
+    if (row == null) {
+      row = new SemVer[SMALL_PATCHES];
+      ROWS[index] = row;
+    } else {
+      final SemVer cached = row[patch];
+      if (cached != null) {
+        HITS.increment();
+        return cached;
+      }
+    }
+    MISSES.increment();
+    final SemVer semVer = new SemVer(major, minor, patch);
+    row[patch] = semVer;
+    return semVer;
+  }
+
+  static CacheStatistics statistics() {
+    return new CacheStatistics(HITS.sum(), MISSES.sum());
+  }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static io.github.chrimle.exceptionfactory.ExceptionFactory.illegalArgumentOf;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Static utilities for sorting large amounts of {@link SemVer}s, in the order of {@link
+ * SemVer#compareTo(SemVer)}.
+ *
+ * <p>Instead of comparing versions pairwise, the versions are sorted by their {@linkplain
+ * PackedSemVer packed} representation with a <em>least significant digit radix sort</em>, which
+ * only performs a few linear passes over primitive keys. Passes over digits shared by all keys,
+ * such as the upper bits of small {@code major} versions, are skipped. Inputs of at least {@value
+ * #PARALLEL_THRESHOLD} versions are split into chunks, which are sorted in parallel in the {@link
+ * ForkJoinPool#commonPool()} and then merged.
+ *
+ * <p>Sorting {@code SemVer}s is <em>stable</em>. If any version is not {@linkplain
+ * SemVer#isPackable() packable} - such as a <em>pre-release</em> version - the versions are instead
+ * sorted by {@link Arrays#sort(Object[])} or {@link Arrays#parallelSort(Comparable[])}, which
+ * results in the same order.
+ *
+ * @since 1.6.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+public final class SemVerSort {
+
+  /** The least number of elements sorted in parallel, if more than one core is available. */
+  static final int PARALLEL_THRESHOLD = 1 << 17;
+
+  /** Ranges of at most this size are sorted without being split further. */
+  private static final int CHUNK_SIZE = 1 << 15;
+
+  /** Ranges of at most this size are sorted by insertion, rather than by radix. */
+  private static final int INSERTION_THRESHOLD = 64;
+
+  private static final int DIGIT_BITS = 8;
+  private static final int DIGITS = Long.SIZE / DIGIT_BITS;
+  private static final int RADIX = 1 << DIGIT_BITS;
+
+  private SemVerSort() {}
+
+  /**
+   * Sorts the {@linkplain PackedSemVer packed} versions into ascending order, which is identical to
+   * {@link SemVer#compareTo(SemVer)} of the unpacked versions.
+   *
+   * @param packed versions to sort.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void sortPacked(final long[] packed) throws IllegalArgumentException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    sortKeys(packed, null, 0, packed.length);
+  }
+
+  /**
+   * Sorts the {@linkplain PackedSemVer packed} versions in the range {@code [from, to)} into
+   * ascending order.
+   *
+   * @param packed versions to sort.
+   * @param from index, inclusive.
+   * @param to index, exclusive.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code packed}.
+   * @see #sortPacked(long[])
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void sortPacked(final long[] packed, final int from, final int to)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    Objects.checkFromToIndex(from, to, packed.length);
+    sortKeys(packed, null, from, to);
+  }
+
+  /**
+   * Sorts the {@linkplain PackedSemVer packed} versions into ascending order, and moves the
+   * distinct versions to the front of the array. The remaining elements are left unspecified.
+   *
+   * @param packed versions to sort.
+   * @return the number of distinct versions.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static int sortDistinctPacked(final long[] packed) throws IllegalArgumentException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    return sortDistinctPacked(packed, 0, packed.length);
+  }
+
+  /**
+   * Sorts the {@linkplain PackedSemVer packed} versions in the range {@code [from, to)} into
+   * ascending order, and moves the distinct versions to the front of the range. The remaining
+   * elements of the range are left unspecified.
+   *
+   * @param packed versions to sort.
+   * @param from index, inclusive.
+   * @param to index, exclusive.
+   * @return the index following the last distinct version.
+   * @throws IllegalArgumentException if {@code packed} is {@code null}.
+   * @throws IndexOutOfBoundsException if the range is out of bounds of {@code packed}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static int sortDistinctPacked(final long[] packed, final int from, final int to)
+      throws IllegalArgumentException, IndexOutOfBoundsException {
+    if (packed == null) throw illegalArgumentOf("packed", MUST_NOT_BE_NULL);
+    Objects.checkFromToIndex(from, to, packed.length);
+    if (from == to) return to;
+    sortKeys(packed, null, from, to);
+    int end = from + 1;
+    for (int i = from + 1; i < to; i++) {
+      if (packed[i] != packed[end - 1]) {
+        packed[end++] = packed[i];
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Sorts the {@code versions} into the order of {@link SemVer#compareTo(SemVer)}. The sort is
+   * <em>stable</em>.
+   *
+   * @param versions to sort.
+   * @throws IllegalArgumentException if {@code versions} is {@code null} or contains {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void sort(final SemVer[] versions) throws IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    final long @Nullable [] keys = keysOf(versions);
+    if (keys != null) {
+      sortKeys(keys, versions, 0, versions.length);
+    } else if (isParallel(versions.length)) {
+      Arrays.parallelSort(versions);
+    } else {
+      Arrays.sort(versions);
+    }
+  }
+
+  /**
+   * Sorts the {@code versions} into the order of {@link SemVer#compareTo(SemVer)}. The sort is
+   * <em>stable</em>, and the {@code List} is updated through its {@link List#listIterator()}.
+   *
+   * @param versions to sort.
+   * @throws IllegalArgumentException if {@code versions} is {@code null} or contains {@code null}.
+   * @throws UnsupportedOperationException if {@code versions} is unmodifiable.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static void sort(final List<SemVer> versions) throws IllegalArgumentException {
+    if (versions == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+    final SemVer[] array = versions.toArray(new SemVer[0]);
+    sort(array);
+    final ListIterator<SemVer> iterator = versions.listIterator();
+    for (final SemVer version : array) {
+      iterator.next();
+      iterator.set(version);
+    }
+  }
+
+  /**
+   * Sorts the {@code versions} into the order of {@link SemVer#compareTo(SemVer)}, and moves the
+   * distinct versions, according to {@link SemVer#equals(Object)}, to the front of the array. The
+   * first occurrence of each version is kept, and the remaining elements are left unspecified.
+   *
+   * @param versions to sort.
+   * @return the number of distinct versions.
+   * @throws IllegalArgumentException if {@code versions} is {@code null} or contains {@code null}.
+   * @since 1.6.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "1.6.0")
+  @Contract(mutates = "param1")
+  public static int sortDistinct(final SemVer[] versions) throws IllegalArgumentException {
+    sort(versions);
+    if (versions.length == 0) return 0;
+    int end = 1;
+    int runStart = 0;
+    for (int i = 1; i < versions.length; i++) {
+      final SemVer version = versions[i];
+      // Versions of equal precedence, e.g. only differing in build metadata, form a run.
+      if (version.compareTo(versions[end - 1]) != 0) {
+        runStart = end;
+      } else if (containsEqual(versions, runStart, end, version)) {
+        continue;
+      }
+      versions[end++] = version;
+    }
+    return end;
+  }
+
+  private static boolean containsEqual(
+      final SemVer[] versions, final int from, final int to, final SemVer version) {
+    for (int i = to - 1; i >= from; i--) {
+      if (versions[i].equals(version)) return true;
+    }
+    return false;
+  }
+
+  /** Returns the packed keys of the {@code versions}, or {@code null} if any is not packable. */
+  private static long @Nullable [] keysOf(final SemVer[] versions) {
+    long[] keys = new long[versions.length];
+    for (int i = 0; i < versions.length; i++) {
+      final SemVer version = versions[i];
+      if (version == null) throw illegalArgumentOf("versions", MUST_NOT_BE_NULL);
+      if (keys != null) {
+        if (version.isPackable()) {
+          keys[i] = version.toPacked();
+        } else {
+          // Keeps scanning for `null`, so that the fallback fails the same way.
+          keys = null;
+        }
+      }
+    }
+    return keys;
+  }
+
+  private static boolean isParallel(final int size) {
+    return size >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+  }
+
+  private static void sortKeys(
+      final long[] keys, final SemVer @Nullable [] values, final int from, final int to) {
+    sortKeys(keys, values, from, to, isParallel(to - from));
+  }
+
+  /**
+   * Sorts the {@code keys}, and the {@code values} alongside them if not {@code null}. The buffers
+   * only cover the range, so index {@code i} of the range is index {@code i - from} of a buffer.
+   */
+  static void sortKeys(
+      final long[] keys,
+      final SemVer @Nullable [] values,
+      final int from,
+      final int to,
+      final boolean parallel) {
+    final int size = to - from;
+    if (size < 2) return;
+    if (values == null && size <= INSERTION_THRESHOLD) {
+      Arrays.sort(keys, from, to);
+      return;
+    }
+    final Buffers buffers = new Buffers(from, size, values != null);
+    if (parallel) {
+      ForkJoinPool.commonPool().invoke(new SortTask(keys, values, from, to, buffers));
+    } else {
+      radixSort(keys, values, from, to, buffers);
+    }
+  }
+
+  /**
+   * Sorts the range by the {@value #DIGIT_BITS}-bit digits of the keys, from the least significant
+   * digit. The sign bit is flipped in the most significant digit, so that the order is identical
+   * to {@link Long#compare(long, long)}. Each pass is stable, which makes the whole sort stable.
+   */
+  private static void radixSort(
+      final long[] keys,
+      final SemVer @Nullable [] values,
+      final int from,
+      final int to,
+      final Buffers buffers) {
+    if (to - from <= INSERTION_THRESHOLD) {
+      insertionSort(keys, values, from, to);
+      return;
+    }
+    final int[][] counts = new int[DIGITS][RADIX];
+    for (int i = from; i < to; i++) {
+      final long key = keys[i];
+      for (int digit = 0; digit < DIGITS; digit++) {
+        counts[digit][digitOf(key, digit)]++;
+      }
+    }
+    // Element `i` of the range is at `i - offset` of the source and target arrays.
+    long[] sourceKeys = keys;
+    SemVer[] sourceValues = values;
+    int sourceOffset = 0;
+    long[] targetKeys = buffers.keys;
+    SemVer[] targetValues = buffers.values;
+    int targetOffset = buffers.base;
+    for (int digit = 0; digit < DIGITS; digit++) {
+      final int[] count = counts[digit];
+      // All keys share this digit, so this pass would not change the order.
+      if (count[digitOf(keys[from], digit)] == to - from) continue;
+      int position = from - targetOffset;
+      for (int bucket = 0; bucket < RADIX; bucket++) {
+        final int bucketSize = count[bucket];
+        count[bucket] = position;
+        position += bucketSize;
+      }
+      for (int i = from - sourceOffset; i < to - sourceOffset; i++) {
+        final int target = count[digitOf(sourceKeys[i], digit)]++;
+        targetKeys[target] = sourceKeys[i];
+        if (sourceValues != null) targetValues[target] = sourceValues[i];
+      }
+      final long[] swapKeys = sourceKeys;
+      sourceKeys = targetKeys;
+      targetKeys = swapKeys;
+      final SemVer[] swapValues = sourceValues;
+      sourceValues = targetValues;
+      targetValues = swapValues;
+      final int swapOffset = sourceOffset;
+      sourceOffset = targetOffset;
+      targetOffset = swapOffset;
+    }
+    if (sourceKeys != keys) {
+      System.arraycopy(sourceKeys, from - sourceOffset, keys, from, to - from);
+      if (values != null) {
+        System.arraycopy(sourceValues, from - sourceOffset, values, from, to - from);
+      }
+    }
+  }
+
+  private static int digitOf(final long key, final int digit) {
+    final int value = (int) (key >>> (digit * DIGIT_BITS)) & (RADIX - 1);
+    return digit == DIGITS - 1 ? value ^ (RADIX >>> 1) : value;
+  }
+
+  private static void insertionSort(
+      final long[] keys, final SemVer @Nullable [] values, final int from, final int to) {
+    for (int i = from + 1; i < to; i++) {
+      final long key = keys[i];
+      final SemVer value = values == null ? null : values[i];
+      int j = i - 1;
+      while (j >= from && keys[j] > key) {
+        keys[j + 1] = keys[j];
+        if (values != null) values[j + 1] = values[j];
+        j--;
+      }
+      keys[j + 1] = key;
+      if (values != null) values[j + 1] = value;
+    }
+  }
+
+  /** Stably merges the sorted ranges {@code [from, mid)} and {@code [mid, to)}. */
+  private static void merge(
+      final long[] keys,
+      final SemVer @Nullable [] values,
+      final int from,
+      final int mid,
+      final int to,
+      final Buffers buffers) {
+    if (keys[mid - 1] <= keys[mid]) return;
+    // The left range is moved into the buffer, and merged back from there.
+    final long[] leftKeys = buffers.keys;
+    final SemVer[] leftValues = buffers.values;
+    final int offset = buffers.base;
+    System.arraycopy(keys, from, leftKeys, from - offset, mid - from);
+    if (values != null) System.arraycopy(values, from, leftValues, from - offset, mid - from);
+    int left = from - offset;
+    final int leftEnd = mid - offset;
+    int right = mid;
+    int target = from;
+    while (left < leftEnd && right < to) {
+      if (leftKeys[left] <= keys[right]) {
+        if (values != null) values[target] = leftValues[left];
+        keys[target++] = leftKeys[left++];
+      } else {
+        if (values != null) values[target] = values[right];
+        keys[target++] = keys[right++];
+      }
+    }
+    while (left < leftEnd) {
+      if (values != null) values[target] = leftValues[left];
+      keys[target++] = leftKeys[left++];
+    }
+  }
+
+  /** Scratch space for sorting the range starting at {@code base}. */
+  private static final class Buffers {
+
+    private final int base;
+    private final long[] keys;
+    private final SemVer @Nullable [] values;
+
+    private Buffers(final int base, final int size, final boolean withValues) {
+      this.base = base;
+      this.keys = new long[size];
+      this.values = withValues ? new SemVer[size] : null;
+    }
+  }
+
+  @SuppressWarnings("serial") // Tasks are never serialized.
+  private static final class SortTask extends RecursiveAction {
+
+    private final long[] keys;
+    private final SemVer @Nullable [] values;
+    private final int from;
+    private final int to;
+    private final Buffers buffers;
+
+    private SortTask(
+        final long[] keys,
+        final SemVer @Nullable [] values,
+        final int from,
+        final int to,
+        final Buffers buffers) {
+      this.keys = keys;
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.buffers = buffers;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= CHUNK_SIZE) {
+        radixSort(keys, values, from, to, buffers);
+        return;
+      }
+      final int mid = (from + to) >>> 1;
+      invokeAll(
+          new SortTask(keys, values, from, mid, buffers),
+          new SortTask(keys, values, mid, to, buffers));
+      merge(keys, values, from, mid, to, buffers);
+    }
+  }
+}
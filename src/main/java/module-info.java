@@ -43,4 +43,6 @@ module io.github.chrimle.semver {
   requires static org.apiguardian.api;
   requires static org.jetbrains.annotations;
   requires static org.jspecify;
+  requires static jdk.incubator.vector;
+  requires static jdk.jfr;
 }
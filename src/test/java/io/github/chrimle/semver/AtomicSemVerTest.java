@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class AtomicSemVerTest {
+
+  @Nested
+  class IncrementTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1.2.3,MAJOR,2.0.0
+            1.2.3,MINOR,1.3.0
+            1.2.3,PATCH,1.2.4
+            """)
+    void testIncrement(final String initial, final Change change, final String expected) {
+      final var atomic = new AtomicSemVer(SemVer.parse(initial));
+      assertEquals(SemVer.parse(expected), atomic.incrementAndGet(change));
+      assertEquals(SemVer.parse(expected), atomic.getAndIncrement(change));
+      assertEquals(SemVer.parse(expected).incrementVersion(change), atomic.get());
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            2097151,0,0,MAJOR
+            0,2097151,0,MINOR
+            0,0,2097151,PATCH
+            """)
+    void testOverflowThrows(
+        final int major, final int minor, final int patch, final Change change) {
+      final var initial = new SemVer(major, minor, patch);
+      final var atomic = new AtomicSemVer(initial);
+      assertThrows(ArithmeticException.class, () -> atomic.incrementAndGet(change));
+      assertThrows(ArithmeticException.class, () -> atomic.getAndIncrement(change));
+      assertEquals(initial, atomic.get());
+    }
+
+    @Test
+    void testConcurrentIncrementsAreDistinct() throws Exception {
+      final var atomic = new AtomicSemVer();
+      final Set<SemVer> assigned = ConcurrentHashMap.newKeySet();
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    for (int i = 0; i < 10_000; i++) {
+                      assigned.add(atomic.incrementAndGet(Change.PATCH));
+                    }
+                  }));
+        }
+        for (final Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+      assertEquals(40_000, assigned.size());
+      assertEquals(new SemVer(0, 0, 40_000), atomic.get());
+    }
+  }
+
+  @Nested
+  class UpdateTests {
+
+    @Test
+    void testCompareAndSet() {
+      final var atomic = new AtomicSemVer(new SemVer(1, 0, 0));
+      assertFalse(atomic.compareAndSet(new SemVer(2, 0, 0), new SemVer(3, 0, 0)));
+      assertTrue(atomic.compareAndSet(new SemVer(1, 0, 0), new SemVer(3, 0, 0)));
+      assertEquals(new SemVer(3, 0, 0), atomic.get());
+      assertFalse(atomic.compareAndSet(SemVer.parse("3.0.0-rc.1"), new SemVer(4, 0, 0)));
+    }
+
+    @Test
+    void testAdvanceTo() {
+      final var atomic = new AtomicSemVer(new SemVer(1, 2, 0));
+      assertEquals(new SemVer(1, 2, 0), atomic.advanceTo(new SemVer(1, 1, 9)));
+      assertEquals(new SemVer(1, 3, 0), atomic.advanceTo(new SemVer(1, 3, 0)));
+      assertEquals(new SemVer(1, 3, 0), atomic.get());
+    }
+
+    @Test
+    void testSetAndGetPacked() {
+      final var atomic = new AtomicSemVer();
+      assertEquals(new SemVer(0, 0, 0), atomic.get());
+      atomic.set(new SemVer(4, 5, 6));
+      assertEquals(PackedSemVer.pack(4, 5, 6), atomic.getPacked());
+      assertEquals(new SemVer(4, 5, 6).toString(), atomic.toString());
+    }
+
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    @Test
+    void testInvalidThrows() {
+      final var atomic = new AtomicSemVer();
+      final var notPackable = new SemVer(PackedSemVer.MAX_VERSION + 1, 0, 0);
+      assertThrows(ArithmeticException.class, () -> new AtomicSemVer(notPackable));
+      assertThrows(ArithmeticException.class, () -> atomic.set(SemVer.parse("1.0.0-rc.1")));
+      assertThrows(ArithmeticException.class, () -> atomic.advanceTo(notPackable));
+      assertThrows(IllegalArgumentException.class, () -> new AtomicSemVer(null));
+      assertThrows(IllegalArgumentException.class, () -> atomic.incrementAndGet(null));
+      assertThrows(IllegalArgumentException.class, () -> atomic.compareAndSet(null, null));
+      assertEquals(new SemVer(0, 0, 0), atomic.get());
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CacheStatisticsTest {
+
+  @ParameterizedTest
+  @CsvSource(
+      value =
+          """
+          0,0,0,1.0
+          3,1,4,0.75
+          0,5,5,0.0
+          """)
+  void testRequestsAndHitRate(
+      final long hits, final long misses, final long requests, final double hitRate) {
+    final var statistics = new CacheStatistics(hits, misses);
+    assertEquals(requests, statistics.requests());
+    assertEquals(hitRate, statistics.hitRate());
+  }
+
+  @Test
+  void testMinus() {
+    final var later = new CacheStatistics(10, 4);
+    assertEquals(new CacheStatistics(7, 3), later.minus(new CacheStatistics(3, 1)));
+    assertThrows(IllegalArgumentException.class, () -> later.minus(new CacheStatistics(11, 0)));
+  }
+
+  @Test
+  void testNegativeThrows() {
+    assertThrows(IllegalArgumentException.class, () -> new CacheStatistics(-1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new CacheStatistics(0, -1));
+  }
+
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  @Test
+  void testMinusNullThrows() {
+    final var statistics = new CacheStatistics(0, 0);
+    assertThrows(IllegalArgumentException.class, () -> statistics.minus(null));
+  }
+}
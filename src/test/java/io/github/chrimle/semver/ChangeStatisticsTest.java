@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ChangeStatisticsTest {
+
+  private static final SemVer[] HISTORY = {
+    SemVer.parse("0.1.0"),
+    SemVer.parse("0.1.1"),
+    SemVer.parse("0.2.0"),
+    SemVer.parse("1.0.0-rc.1"),
+    SemVer.parse("1.0.0-rc.2"),
+    SemVer.parse("1.0.0"),
+    SemVer.parse("1.0.2"),
+    SemVer.parse("1.1.0"),
+    SemVer.parse("1.1.0"),
+    SemVer.parse("3.0.0"),
+  };
+
+  /** Creates a random history of mostly, but not only, strictly next versions. */
+  private static SemVer[] randomHistory(final int size, final long seed) {
+    final var random = new Random(seed);
+    final var history = new SemVer[size];
+    history[0] = new SemVer(0, 1, 0);
+    for (int i = 1; i < size; i++) {
+      final var previous = history[i - 1];
+      history[i] =
+          switch (random.nextInt(10)) {
+            case 0 -> new SemVer(previous.major(), previous.minor() + 2, 0);
+            case 1 -> previous;
+            case 2 -> previous.incrementMajor();
+            case 3, 4 -> previous.incrementMinor();
+            default -> previous.incrementPatch();
+          };
+    }
+    return history;
+  }
+
+  private static ChangeStatistics expected(final SemVer[] history) {
+    final var statistics = new ChangeStatistics();
+    for (final SemVer version : history) {
+      statistics.accept(version);
+    }
+    return statistics;
+  }
+
+  private static void assertStatisticsEquals(
+      final ChangeStatistics expected, final ChangeStatistics actual) {
+    assertEquals(expected.count(), actual.count());
+    for (final Change change : Change.values()) {
+      assertEquals(expected.count(change), actual.count(change));
+    }
+    assertArrayEquals(expected.invalidJumps(), actual.invalidJumps());
+  }
+
+  @Test
+  void testHistory() {
+    final var statistics = expected(HISTORY);
+    assertEquals(10L, statistics.count());
+    assertEquals(3L, statistics.count(Change.MAJOR));
+    assertEquals(2L, statistics.count(Change.MINOR));
+    assertEquals(2L, statistics.count(Change.PATCH));
+    assertEquals(4, statistics.invalidJumpCount());
+    assertArrayEquals(new long[] {4L, 6L, 8L, 9L}, statistics.invalidJumps());
+    assertEquals(
+        "ChangeStatistics{count=10, major=3, minor=2, patch=2, invalidJumps=4}",
+        statistics.toString());
+  }
+
+  @Test
+  void testEmpty() {
+    final var statistics = new ChangeStatistics();
+    assertEquals(0L, statistics.count());
+    assertEquals(0L, statistics.count(Change.MAJOR));
+    assertArrayEquals(new long[0], statistics.invalidJumps());
+    statistics.accept(new SemVer(1, 0, 0));
+    assertEquals(1L, statistics.count());
+    assertEquals(0, statistics.invalidJumpCount());
+  }
+
+  @Test
+  void testAcceptPackedMatchesAccept() {
+    final var history = randomHistory(10_000, 3L);
+    final var statistics = new ChangeStatistics();
+    for (final SemVer version : history) {
+      statistics.acceptPacked(version.toPacked());
+    }
+    assertStatisticsEquals(expected(history), statistics);
+  }
+
+  @Test
+  void testMixedAcceptAndAcceptPacked() {
+    final var statistics = new ChangeStatistics();
+    for (int i = 0; i < HISTORY.length; i++) {
+      if (i % 2 == 0 && HISTORY[i].isPackable()) {
+        statistics.acceptPacked(HISTORY[i].toPacked());
+      } else {
+        statistics.accept(HISTORY[i]);
+      }
+    }
+    assertStatisticsEquals(expected(HISTORY), statistics);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7})
+  void testCombine(final int parts) {
+    final var history = randomHistory(1_000, parts);
+    final List<ChangeStatistics> statistics = new ArrayList<>();
+    for (int part = 0; part < parts; part++) {
+      final var partial = new ChangeStatistics();
+      final int from = history.length * part / parts;
+      final int to = history.length * (part + 1) / parts;
+      for (int i = from; i < to; i++) {
+        if (i % 2 == 0) partial.accept(history[i]);
+        else partial.acceptPacked(history[i].toPacked());
+      }
+      statistics.add(partial);
+    }
+    final var combined = new ChangeStatistics();
+    combined.combine(new ChangeStatistics());
+    for (final ChangeStatistics partial : statistics) {
+      combined.combine(partial);
+      combined.combine(new ChangeStatistics());
+    }
+    assertStatisticsEquals(expected(history), combined);
+  }
+
+  @Test
+  void testParallelStream() {
+    final var history = randomHistory(100_000, 5L);
+    final var statistics =
+        Arrays.stream(history)
+            .parallel()
+            .collect(ChangeStatistics::new, ChangeStatistics::accept, ChangeStatistics::combine);
+    assertStatisticsEquals(expected(history), statistics);
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testInvalidArguments() {
+    final var statistics = new ChangeStatistics();
+    assertThrows(IllegalArgumentException.class, () -> statistics.accept(null));
+    assertThrows(IllegalArgumentException.class, () -> statistics.acceptPacked(-1L));
+    assertThrows(IllegalArgumentException.class, () -> statistics.combine(null));
+    assertThrows(IllegalArgumentException.class, () -> statistics.count(null));
+  }
+}
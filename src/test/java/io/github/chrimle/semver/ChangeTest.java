@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ChangeTest {
+
+  @Nested
+  class BetweenTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        textBlock =
+            """
+            1.2.3,       2.0.0,       MAJOR, MAJOR
+            1.2.3,       3.1.4,       MAJOR,
+            1.2.3,       1.3.0,       MINOR, MINOR
+            1.2.3,       1.7.1,       MINOR,
+            1.2.3,       1.2.4,       PATCH, PATCH
+            1.2.3,       1.2.9,       PATCH,
+            1.2.3,       1.2.3,       ,
+            1.2.3,       1.2.3+build, ,
+            1.2.3,       1.2.2,       ,
+            1.2.3,       2.0.0-rc.1,  MAJOR, MAJOR
+            1.2.3,       1.3.0-rc.1,  MINOR, MINOR
+            1.2.3,       1.2.4-rc.1,  PATCH, PATCH
+            2.0.0-rc.1,  2.0.0,       MAJOR, MAJOR
+            2.0.0-rc.1,  2.0.0-rc.2,  ,
+            2.0.0-rc.2,  2.0.0-rc.1,  ,
+            2.0.0-rc.1,  3.0.0,       MAJOR,
+            2.0.0-rc.1,  2.1.0,       MINOR,
+            1.2.0-rc.1,  1.2.0,       MINOR, MINOR
+            1.2.0-rc.1,  2.0.0,       MAJOR, MAJOR
+            1.2.3-rc.1,  1.2.3,       PATCH, PATCH
+            1.2.3-rc.1,  1.3.0,       MINOR, MINOR
+            1.2.3-rc.1,  1.2.4,       PATCH,
+            1.2.3+build, 1.2.4,       PATCH, PATCH
+            """)
+    void testBetween(
+        final String from, final String to, final Change lenient, final Change strict) {
+      assertEquals(lenient, Change.between(SemVer.parse(from), SemVer.parse(to)));
+      assertEquals(strict, Change.strictlyBetween(SemVer.parse(from), SemVer.parse(to)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Change.class)
+    void testStrictlyBetweenIncrementedVersions(final Change change) {
+      final var random = new Random(change.ordinal());
+      for (int i = 0; i < 1_000; i++) {
+        final var version = new SemVer(random.nextInt(3), random.nextInt(3), random.nextInt(3));
+        final var next = version.incrementVersion(change);
+        // The most significant change is returned when several changes result in `next`.
+        assertEquals(change, Change.strictlyBetween(version, next));
+        assertEquals(change, Change.between(version, next));
+      }
+    }
+
+    @Test
+    void testStrictlyBetweenAtIntegerMaxValue() {
+      final int max = Integer.MAX_VALUE;
+      assertEquals(
+          Change.PATCH, Change.strictlyBetween(new SemVer(max, 0, 0), new SemVer(max, 0, 1)));
+      assertEquals(
+          Change.MINOR, Change.strictlyBetween(new SemVer(1, 2, max), new SemVer(1, 3, 0)));
+      assertEquals(
+          Change.MAJOR, Change.strictlyBetween(new SemVer(1, max, max), new SemVer(2, 0, 0)));
+      assertNull(Change.strictlyBetween(new SemVer(1, max, max), new SemVer(1, max, max)));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNullArguments() {
+      final var version = new SemVer(1, 2, 3);
+      assertThrows(IllegalArgumentException.class, () -> Change.between(null, version));
+      assertThrows(IllegalArgumentException.class, () -> Change.between(version, null));
+      assertThrows(IllegalArgumentException.class, () -> Change.strictlyBetween(null, version));
+      assertThrows(IllegalArgumentException.class, () -> Change.strictlyBetween(version, null));
+    }
+  }
+}
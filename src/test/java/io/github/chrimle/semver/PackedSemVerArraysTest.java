@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PackedSemVerArraysTest {
+
+  private static SemVer[] randomVersions(final int size, final long seed) {
+    final var random = new Random(seed);
+    final var versions = new SemVer[size];
+    for (int i = 0; i < size; i++) {
+      versions[i] = new SemVer(random.nextInt(4), random.nextInt(4), random.nextInt(4));
+    }
+    return versions;
+  }
+
+  private static long[] pack(final SemVer[] versions) {
+    final var packed = new long[versions.length];
+    for (int i = 0; i < versions.length; i++) {
+      packed[i] = versions[i].toPacked();
+    }
+    return packed;
+  }
+
+  private static BitSet expected(final SemVer[] versions, final Predicate<SemVer> predicate) {
+    final var expected = new BitSet();
+    for (int i = 0; i < versions.length; i++) {
+      if (predicate.test(versions[i])) expected.set(i);
+    }
+    return expected;
+  }
+
+  @Nested
+  class CompareTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 63, 64, 65, 1000})
+    void testMatchesCompareTo(final int size) {
+      final var versions = randomVersions(size, size);
+      final var pivot = new SemVer(1, 2, 1);
+      final var result = new byte[size];
+      PackedSemVerArrays.compare(pack(versions), pivot.toPacked(), result);
+      for (int i = 0; i < size; i++) {
+        assertEquals(Integer.signum(versions[i].compareTo(pivot)), result[i]);
+      }
+    }
+
+    @Test
+    void testLongerResult() {
+      final var result = new byte[] {5, 5, 5};
+      PackedSemVerArrays.compare(new long[] {0L, 2L}, 1L, result);
+      assertArrayEquals(new byte[] {-1, 1, 5}, result);
+    }
+
+    @Test
+    void testShorterResultThrows() {
+      assertThrows(
+          IndexOutOfBoundsException.class,
+          () -> PackedSemVerArrays.compare(new long[2], 0L, new byte[1]));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVerArrays.compare(null, 0L, new byte[0]));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> PackedSemVerArrays.compare(new long[0], -1L, new byte[0]));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVerArrays.compare(new long[0], 0L, null));
+    }
+  }
+
+  @Nested
+  class InRangeTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 63, 64, 65, 1000})
+    void testMatchesCompareTo(final int size) {
+      final var versions = randomVersions(size, size);
+      final var packed = pack(versions);
+      final var min = new SemVer(1, 1, 0);
+      final var max = new SemVer(2, 3, 1);
+      final var expected =
+          expected(versions, version -> version.compareTo(min) >= 0 && version.compareTo(max) <= 0);
+      assertEquals(expected, PackedSemVerArrays.inRange(packed, min.toPacked(), max.toPacked()));
+      assertEquals(
+          expected.cardinality(),
+          PackedSemVerArrays.countInRange(packed, min.toPacked(), max.toPacked()));
+    }
+
+    @Test
+    void testBounds() {
+      final long[] packed = {0L, 1L, PackedSemVer.MAX_PACKED};
+      final var all = PackedSemVerArrays.inRange(packed, 0L, PackedSemVer.MAX_PACKED);
+      assertEquals(3, all.cardinality());
+      assertTrue(PackedSemVerArrays.inRange(packed, 1L, 0L).isEmpty());
+      assertEquals(0, PackedSemVerArrays.countInRange(packed, 1L, 0L));
+      assertEquals(1, PackedSemVerArrays.countInRange(packed, 1L, 1L));
+    }
+
+    @Test
+    void testNegativeValuesAreNeverInRange() {
+      final long[] packed = {-1L, Long.MIN_VALUE, 0L};
+      assertEquals(1, PackedSemVerArrays.countInRange(packed, 0L, PackedSemVer.MAX_PACKED));
+      final var result = new byte[packed.length];
+      PackedSemVerArrays.compare(packed, 0L, result);
+      assertArrayEquals(new byte[] {-1, -1, 0}, result);
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      assertThrows(IllegalArgumentException.class, () -> PackedSemVerArrays.inRange(null, 0, 1));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVerArrays.inRange(new long[0], -1, 1));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVerArrays.inRange(new long[0], 0, -1));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVerArrays.countInRange(null, 0, 1));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> PackedSemVerArrays.countInRange(new long[0], -1, 1));
+    }
+  }
+
+  @Nested
+  class StableTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 63, 64, 65, 1000})
+    void testMatchesIsStable(final int size) {
+      final var versions = randomVersions(size, size);
+      final var packed = pack(versions);
+      final var expected = expected(versions, SemVer::isStable);
+      assertEquals(expected, PackedSemVerArrays.stable(packed));
+      assertEquals(expected.cardinality(), PackedSemVerArrays.countStable(packed));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNullThrows() {
+      assertThrows(IllegalArgumentException.class, () -> PackedSemVerArrays.stable(null));
+      assertThrows(IllegalArgumentException.class, () -> PackedSemVerArrays.countStable(null));
+    }
+  }
+}
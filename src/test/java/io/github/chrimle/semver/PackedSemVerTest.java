@@ -0,0 +1,288 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PackedSemVerTest {
+
+  @Nested
+  class PackTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0
+            1,2,3
+            2097151,0,0
+            0,2097151,0
+            0,0,2097151
+            2097151,2097151,2097151
+            """)
+    void testRoundTrip(final int major, final int minor, final int patch) {
+      final long packed = PackedSemVer.pack(major, minor, patch);
+      assertTrue(PackedSemVer.isValid(packed));
+      assertEquals(major, PackedSemVer.major(packed));
+      assertEquals(minor, PackedSemVer.minor(packed));
+      assertEquals(patch, PackedSemVer.patch(packed));
+    }
+
+    @Test
+    void testBounds() {
+      assertEquals(PackedSemVer.MIN_PACKED, PackedSemVer.pack(0, 0, 0));
+      final int max = PackedSemVer.MAX_VERSION;
+      assertEquals(PackedSemVer.MAX_PACKED, PackedSemVer.pack(max, max, max));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            -1,0,0,major
+            0,-1,0,minor
+            0,0,-1,patch
+            """)
+    void testNegativeThrows(
+        final int major, final int minor, final int patch, final String version) {
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class, () -> PackedSemVer.pack(major, minor, patch));
+      assertEquals("`%s` MUST be at least `0`".formatted(version), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            2097152,0,0
+            0,2097152,0
+            0,0,2097152
+            2147483647,0,0
+            """)
+    void testTooLargeThrows(final int major, final int minor, final int patch) {
+      assertFalse(PackedSemVer.isPackable(major, minor, patch));
+      final var exception =
+          assertThrows(ArithmeticException.class, () -> PackedSemVer.pack(major, minor, patch));
+      assertEquals(
+          "`SemVer` cannot be packed with a version greater than `MAX_VERSION` (2097151)",
+          exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0
+            1,2,3
+            2097151,2097151,2097151
+            """)
+    void testTryPackValid(final int major, final int minor, final int patch) {
+      assertEquals(
+          PackedSemVer.pack(major, minor, patch), PackedSemVer.tryPack(major, minor, patch));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            -1,0,0
+            0,-1,0
+            0,0,-1
+            2097152,0,0
+            0,0,2147483647
+            """)
+    void testTryPackInvalid(final int major, final int minor, final int patch) {
+      assertEquals(PackedSemVer.INVALID, PackedSemVer.tryPack(major, minor, patch));
+      assertFalse(PackedSemVer.isValid(PackedSemVer.INVALID));
+    }
+  }
+
+  @Nested
+  class CompareTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1,2,3,1,2,3
+            1,2,3,1,2,4
+            1,2,3,1,3,0
+            1,2,3,2,0,0
+            0,2097151,2097151,1,0,0
+            2097151,0,0,2097150,2097151,2097151
+            """)
+    void testMatchesSemVer(
+        final int major1,
+        final int minor1,
+        final int patch1,
+        final int major2,
+        final int minor2,
+        final int patch2) {
+      final var left = new SemVer(major1, minor1, patch1);
+      final var right = new SemVer(major2, minor2, patch2);
+      assertEquals(
+          Integer.signum(left.compareTo(right)),
+          Integer.signum(PackedSemVer.compare(left.toPacked(), right.toPacked())));
+      assertEquals(
+          Integer.signum(left.compareTo(right)),
+          Integer.signum(Long.compareUnsigned(left.toPacked(), right.toPacked())));
+      assertEquals(
+          Integer.signum(right.compareTo(left)),
+          Integer.signum(PackedSemVer.compare(right.toPacked(), left.toPacked())));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0,false
+            0,2097151,2097151,false
+            1,0,0,true
+            2097151,2097151,2097151,true
+            """)
+    void testIsStable(final int major, final int minor, final int patch, final boolean stable) {
+      final var semVer = new SemVer(major, minor, patch);
+      assertEquals(semVer.isStable(), PackedSemVer.isStable(semVer.toPacked()));
+      assertEquals(stable, PackedSemVer.isStable(semVer.toPacked()));
+    }
+  }
+
+  @Nested
+  class IncrementTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1.2.3,MAJOR
+            1.2.3,MINOR
+            1.2.3,PATCH
+            0.2097151.2097151,MAJOR
+            0.0.2097151,MINOR
+            """)
+    void testMatchesSemVer(final String version, final Change change) {
+      final var semVer = SemVer.parse(version);
+      assertEquals(
+          semVer.incrementVersion(change).toPacked(),
+          PackedSemVer.incrementVersion(semVer.toPacked(), change));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            2097151,0,0,MAJOR
+            0,2097151,0,MINOR
+            0,0,2097151,PATCH
+            """)
+    void testOverflowThrows(
+        final int major, final int minor, final int patch, final Change change) {
+      final long packed = PackedSemVer.pack(major, minor, patch);
+      final var exception =
+          assertThrows(
+              ArithmeticException.class, () -> PackedSemVer.incrementVersion(packed, change));
+      assertEquals(
+          "The next `SemVer` cannot be packed with a `%s` greater than `MAX_VERSION` (2097151)"
+              .formatted(change.name().toLowerCase(Locale.ROOT)),
+          exception.getMessage());
+      assertEquals(PackedSemVer.INVALID, PackedSemVer.tryIncrementVersion(packed, change));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1.2.3,MAJOR
+            1.2.3,MINOR
+            1.2.3,PATCH
+            """)
+    void testTryIncrementVersion(final String version, final Change change) {
+      final long packed = SemVer.parse(version).toPacked();
+      assertEquals(
+          PackedSemVer.incrementVersion(packed, change),
+          PackedSemVer.tryIncrementVersion(packed, change));
+    }
+
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    @Test
+    void testInvalidThrows() {
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVer.incrementVersion(-1L, Change.PATCH));
+      assertThrows(IllegalArgumentException.class, () -> PackedSemVer.incrementVersion(0L, null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> PackedSemVer.tryIncrementVersion(-1L, Change.PATCH));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVer.tryIncrementVersion(0L, null));
+    }
+  }
+
+  @Nested
+  class ChangeBetweenTests {
+
+    @Test
+    void testMatchesChange() {
+      final var random = new Random(11L);
+      for (int i = 0; i < 10_000; i++) {
+        final var from = new SemVer(random.nextInt(3), random.nextInt(3), random.nextInt(3));
+        final var to = new SemVer(random.nextInt(4), random.nextInt(4), random.nextInt(4));
+        assertEquals(
+            Change.between(from, to), PackedSemVer.changeBetween(from.toPacked(), to.toPacked()));
+        assertEquals(
+            Change.strictlyBetween(from, to),
+            PackedSemVer.strictChangeBetween(from.toPacked(), to.toPacked()));
+      }
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        textBlock =
+            """
+            1.2.2097151,       1.3.0, MINOR
+            1.2097151.5,       2.0.0, MAJOR
+            1.2097151.2097151, 2.0.0, MAJOR
+            1.2.2097151,       2.0.0, MAJOR
+            """)
+    void testStrictChangeBetweenAtMaxVersion(
+        final String from, final String to, final Change expected) {
+      final long fromPacked = SemVer.parse(from).toPacked();
+      final long toPacked = SemVer.parse(to).toPacked();
+      assertEquals(expected, PackedSemVer.strictChangeBetween(fromPacked, toPacked));
+      assertEquals(
+          Change.strictlyBetween(SemVer.parse(from), SemVer.parse(to)),
+          PackedSemVer.strictChangeBetween(fromPacked, toPacked));
+    }
+
+    @Test
+    void testNegativeArguments() {
+      assertThrows(IllegalArgumentException.class, () -> PackedSemVer.changeBetween(-1L, 0L));
+      assertThrows(IllegalArgumentException.class, () -> PackedSemVer.changeBetween(0L, -1L));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVer.strictChangeBetween(-1L, 0L));
+      assertThrows(
+          IllegalArgumentException.class, () -> PackedSemVer.strictChangeBetween(0L, -1L));
+    }
+  }
+}
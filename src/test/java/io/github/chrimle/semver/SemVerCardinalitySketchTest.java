@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerCardinalitySketchTest {
+
+  private static SemVerCardinalitySketch sketchOf(final int from, final int to) {
+    final var sketch = new SemVerCardinalitySketch();
+    for (int i = from; i < to; i++) {
+      sketch.addPacked(PackedSemVer.pack(i % 10, i / 10 % 100, i / 1000));
+    }
+    return sketch;
+  }
+
+  @Nested
+  class EstimateTests {
+
+    @Test
+    void testEmpty() {
+      assertEquals(0, new SemVerCardinalitySketch().estimate());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1000, 100_000})
+    void testWithinError(final int distinct) {
+      final long estimate = sketchOf(0, distinct).estimate();
+      // Four standard errors of the default precision.
+      assertEquals(distinct, estimate, Math.max(1, distinct * 0.04));
+    }
+
+    @Test
+    void testDuplicatesAreNotCounted() {
+      final var sketch = new SemVerCardinalitySketch();
+      for (int i = 0; i < 1000; i++) {
+        sketch.add(new SemVer(1, 2, 3));
+        sketch.addPacked(PackedSemVer.pack(1, 2, 3));
+      }
+      assertEquals(1, sketch.estimate());
+    }
+
+    @Test
+    void testLabelsAreDistinct() {
+      final var sketch = new SemVerCardinalitySketch();
+      sketch.add(SemVer.parse("1.0.0"));
+      sketch.add(SemVer.parse("1.0.0-a"));
+      sketch.add(SemVer.parse("1.0.0+a"));
+      sketch.add(SemVer.parse("1.0.0-a+a"));
+      sketch.add(new SemVer(PackedSemVer.MAX_VERSION + 1, 0, 0));
+      assertEquals(5, sketch.estimate());
+    }
+  }
+
+  @Nested
+  class MergeTests {
+
+    @Test
+    void testMergeOverlapping() {
+      final var sketch = sketchOf(0, 30_000);
+      sketch.merge(sketchOf(20_000, 50_000));
+      assertEquals(50_000, sketch.estimate(), 50_000 * 0.04);
+    }
+
+    @Test
+    void testMergeIsExact() {
+      final var merged = sketchOf(0, 1000);
+      merged.merge(sketchOf(1000, 2000));
+      assertEquals(sketchOf(0, 2000).estimate(), merged.estimate());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var sketch = new SemVerCardinalitySketch();
+      assertThrows(IllegalArgumentException.class, () -> sketch.merge(null));
+      assertThrows(
+          IllegalArgumentException.class, () -> sketch.merge(new SemVerCardinalitySketch(10)));
+    }
+  }
+
+  @Nested
+  class SerializationTests {
+
+    @Test
+    void testRoundTrip() {
+      final var sketch = sketchOf(0, 5000);
+      final var bytes = sketch.toByteArray();
+      assertEquals(5 + (1 << SemVerCardinalitySketch.DEFAULT_PRECISION), bytes.length);
+      final var restored = SemVerCardinalitySketch.fromByteArray(bytes);
+      assertEquals(sketch.precision(), restored.precision());
+      assertEquals(sketch.estimate(), restored.estimate());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testMalformedThrows() {
+      final var bytes = new SemVerCardinalitySketch(4).toByteArray();
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerCardinalitySketch.fromByteArray(null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerCardinalitySketch.fromByteArray(new byte[] {1, 2}));
+      bytes[bytes.length - 1] = 100;
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerCardinalitySketch.fromByteArray(bytes));
+      final var truncated = new byte[bytes.length - 1];
+      System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerCardinalitySketch.fromByteArray(truncated));
+    }
+  }
+
+  @Nested
+  class ValidationTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 19})
+    void testInvalidPrecisionThrows(final int precision) {
+      assertThrows(IllegalArgumentException.class, () -> new SemVerCardinalitySketch(precision));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var sketch = new SemVerCardinalitySketch();
+      assertThrows(IllegalArgumentException.class, () -> sketch.add(null));
+      assertThrows(IllegalArgumentException.class, () -> sketch.addPacked(-1L));
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SemVerClassLoadingTest {
+
+  private static final String EXCEPTION_FACTORY = "io.github.chrimle.exceptionfactory.";
+
+  /** The classes of this library which are loaded by {@link ValidInput}, besides itself. */
+  private static final Set<String> VALID_INPUT_CLASSES =
+      Set.of(
+          SemVer.class.getName(),
+          // The switch map of `Change`, generated for the switch in `SemVer#incrementVersion`.
+          SemVer.class.getName() + "$1",
+          Change.class.getName(),
+          SemVerSmallCache.class.getName(),
+          SemVerIdentifiers.class.getName(),
+          SemVerParser.class.getName(),
+          SemVerFormatter.class.getName(),
+          SemVerInstrumentation.class.getName());
+
+  /**
+   * Defines the classes of this library, and of the {@code exceptionfactory}, anew - recording
+   * which of them are loaded.
+   */
+  private static final class RecordingClassLoader extends ClassLoader {
+
+    private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+    private RecordingClassLoader() {
+      super(SemVerClassLoadingTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve)
+        throws ClassNotFoundException {
+      if (!name.startsWith("io.github.chrimle.")) return super.loadClass(name, resolve);
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> loadedClass = findLoadedClass(name);
+        if (loadedClass == null) {
+          final String resource = name.replace('.', '/') + ".class";
+          try (InputStream input = getParent().getResourceAsStream(resource)) {
+            if (input == null) throw new ClassNotFoundException(name);
+            final byte[] bytes = input.readAllBytes();
+            loadedClass = defineClass(name, bytes, 0, bytes.length);
+            loaded.add(name);
+          } catch (final IOException exception) {
+            throw new ClassNotFoundException(name, exception);
+          }
+        }
+        if (resolve) resolveClass(loadedClass);
+        return loadedClass;
+      }
+    }
+
+    private String run(final Class<? extends Supplier<String>> type) {
+      try {
+        @SuppressWarnings("unchecked")
+        final Supplier<String> supplier =
+            (Supplier<String>) loadClass(type.getName()).getDeclaredConstructor().newInstance();
+        return supplier.get();
+      } catch (final ReflectiveOperationException exception) {
+        throw new IllegalStateException(exception);
+      }
+    }
+  }
+
+  /** Constructs, compares, increments and formats valid versions. */
+  public static final class ValidInput implements Supplier<String> {
+
+    @Override
+    public String get() {
+      final SemVer version = new SemVer(1, 2, 3, "rc.1", "build.5");
+      final SemVer next = version.incrementVersion(Change.MINOR).incrementPatch();
+      final SemVer parsed = SemVer.parse("v1.3.1");
+      return next.toCompleteVersionString()
+          + version.compareTo(next)
+          + next.equals(parsed)
+          + (next.hashCode() == parsed.hashCode())
+          + parsed.toShortVersionString()
+          + Change.between(version, next);
+    }
+  }
+
+  /** Returns a canonical version outside the small range. */
+  public static final class LargeInput implements Supplier<String> {
+
+    @Override
+    public String get() {
+      return SemVer.of(1000, 0, 0).toString();
+    }
+  }
+
+  /** Rejects a negative version. */
+  public static final class InvalidInput implements Supplier<String> {
+
+    @Override
+    public String get() {
+      try {
+        return new SemVer(-1, 0, 0).toString();
+      } catch (final IllegalArgumentException exception) {
+        return String.valueOf(exception.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  class ExceptionFactoryTests {
+
+    @Test
+    void testOnlyExpectedClassesLoadedByValidInput() {
+      final var loader = new RecordingClassLoader();
+      assertEquals("v1.3.1-1truetruev1.3.1MINOR", loader.run(ValidInput.class));
+      assertTrue(loader.loaded.remove(ValidInput.class.getName()));
+      assertEquals(VALID_INPUT_CLASSES, loader.loaded);
+    }
+
+    @Test
+    void testCacheLoadedByLargeInput() {
+      final var loader = new RecordingClassLoader();
+      loader.run(LargeInput.class);
+      assertTrue(loader.loaded.contains(SemVerCache.class.getName()));
+      assertFalse(loader.loaded.contains(SemVerExceptions.class.getName()));
+      assertTrue(loader.loaded.stream().noneMatch(name -> name.startsWith(EXCEPTION_FACTORY)));
+    }
+
+    @Test
+    void testLoadedByInvalidInput() {
+      final var loader = new RecordingClassLoader();
+      assertTrue(loader.run(InvalidInput.class).contains("major"));
+      assertTrue(loader.loaded.contains(SemVerExceptions.class.getName()));
+      assertTrue(loader.loaded.stream().anyMatch(name -> name.startsWith(EXCEPTION_FACTORY)));
+    }
+  }
+}
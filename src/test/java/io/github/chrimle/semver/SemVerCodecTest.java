@@ -0,0 +1,293 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerCodecTest {
+
+  private static final SemVer[] VERSIONS = {
+    new SemVer(0, 0, 0),
+    new SemVer(1, 2, 3),
+    new SemVer(127, 127, 63),
+    new SemVer(128, 128, 64),
+    new SemVer(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE),
+    new SemVer(1, 0, 0, "rc.1", ""),
+    new SemVer(1, 0, 0, "", "build.5"),
+    new SemVer(2, 0, 0, "alpha.beta-1", "sha.5114f85"),
+  };
+
+  private static SemVer[] randomReleases(final int size, final long seed) {
+    final var random = new Random(seed);
+    final var versions = new SemVer[size];
+    for (int i = 0; i < size; i++) {
+      // Mixes small and large versions, so that keys differ in every byte.
+      final int bound = random.nextBoolean() ? 300 : Integer.MAX_VALUE;
+      versions[i] =
+          new SemVer(random.nextInt(bound), random.nextInt(bound), random.nextInt(bound));
+    }
+    return versions;
+  }
+
+  @Nested
+  class VarintTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        textBlock =
+            """
+            0.0.0, 3
+            1.2.3, 3
+            127.127.63, 3
+            128.128.64, 6
+            1.0.0-rc.1, 9
+            1.0.0+b, 6
+            """)
+    void testVarintSize(final String version, final int expected) {
+      final var semVer = SemVer.parse(version);
+      assertEquals(expected, SemVerCodec.varintSize(semVer));
+      assertEquals(expected, SemVerCodec.writeVarint(semVer, ByteBuffer.allocate(32)).position());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testByteBufferRoundTrip(final boolean direct) {
+      final var buffer = direct ? ByteBuffer.allocateDirect(256) : ByteBuffer.allocate(256);
+      for (final SemVer version : VERSIONS) {
+        buffer.clear();
+        SemVerCodec.writeVarint(version, buffer);
+        assertEquals(SemVerCodec.varintSize(version), buffer.position());
+        buffer.flip();
+        final SemVer decoded = SemVerCodec.readVarint(buffer);
+        assertEquals(version, decoded);
+        assertEquals(version.buildMetadata(), decoded.buildMetadata());
+        assertFalse(buffer.hasRemaining());
+      }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testBulkByteBufferRoundTrip(final boolean direct) {
+      final var buffer = direct ? ByteBuffer.allocateDirect(256) : ByteBuffer.allocate(256);
+      buffer.position(3);
+      SemVerCodec.writeVarints(VERSIONS, buffer).flip().position(3);
+      final var decoded = new SemVer[VERSIONS.length];
+      SemVerCodec.readVarints(buffer, decoded);
+      assertArrayEquals(VERSIONS, decoded);
+      assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testDataStreamRoundTrip() throws IOException {
+      final var bytes = new ByteArrayOutputStream();
+      final var output = new DataOutputStream(bytes);
+      SemVerCodec.writeVarint(new SemVer(4, 5, 6), output);
+      SemVerCodec.writeVarints(VERSIONS, output);
+      final var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+      assertEquals(new SemVer(4, 5, 6), SemVerCodec.readVarint(input));
+      final var decoded = new SemVer[VERSIONS.length];
+      SemVerCodec.readVarints(input, decoded);
+      assertArrayEquals(VERSIONS, decoded);
+      assertThrows(EOFException.class, () -> SemVerCodec.readVarint(input));
+    }
+
+    @Test
+    void testDataStreamAndByteBufferAreEqual() throws IOException {
+      final var bytes = new ByteArrayOutputStream();
+      SemVerCodec.writeVarints(VERSIONS, new DataOutputStream(bytes));
+      final var buffer = SemVerCodec.writeVarints(VERSIONS, ByteBuffer.allocate(256));
+      assertArrayEquals(bytes.toByteArray(), Arrays.copyOf(buffer.array(), buffer.position()));
+      final var single = new ByteArrayOutputStream();
+      for (final SemVer version : VERSIONS) {
+        SemVerCodec.writeVarint(version, new DataOutputStream(single));
+      }
+      assertArrayEquals(bytes.toByteArray(), single.toByteArray());
+    }
+
+    @Test
+    void testOverflowWritesNothing() {
+      final var buffer = ByteBuffer.allocate(8);
+      assertThrows(BufferOverflowException.class, () -> SemVerCodec.writeVarints(VERSIONS, buffer));
+      assertThrows(
+          BufferOverflowException.class,
+          () -> SemVerCodec.writeVarint(new SemVer(1, 0, 0, "rc.100", ""), buffer));
+      assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testMalformedBytes() {
+      final byte[] tooLong = {-1, -1, -1, -1, -1, 1, 0, 0};
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerCodec.readVarint(ByteBuffer.wrap(tooLong)));
+      final byte[] tooLarge = {-1, -1, -1, -1, 15, 0, 0};
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerCodec.readVarint(ByteBuffer.wrap(tooLarge)));
+      final byte[] invalidLabel = {1, 0, 1, 1, '!', 0};
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerCodec.readVarint(ByteBuffer.wrap(invalidLabel)));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerCodec.readVarint(new DataInputStream(new ByteArrayInputStream(tooLong))));
+      final byte[] truncated = {1, 0, 1, 10, 'r', 'c'};
+      assertThrows(
+          BufferUnderflowException.class,
+          () -> SemVerCodec.readVarint(ByteBuffer.wrap(truncated)));
+      assertThrows(
+          EOFException.class,
+          () -> SemVerCodec.readVarint(new DataInputStream(new ByteArrayInputStream(truncated))));
+    }
+  }
+
+  @Nested
+  class KeyTests {
+
+    @Test
+    void testKeyOrderIsCompareToOrder() {
+      final var versions = randomReleases(2_000, 13L);
+      final var keys = new byte[versions.length][];
+      for (int i = 0; i < versions.length; i++) {
+        keys[i] = SemVerCodec.toKey(versions[i]);
+        assertEquals(SemVerCodec.KEY_SIZE, keys[i].length);
+      }
+      for (int i = 1; i < versions.length; i++) {
+        assertEquals(
+            Integer.signum(versions[i - 1].compareTo(versions[i])),
+            Integer.signum(Arrays.compareUnsigned(keys[i - 1], keys[i])));
+      }
+    }
+
+    @Test
+    void testKeyIsBigEndian() {
+      assertArrayEquals(
+          new byte[] {0, 0, 0, 1, 0, 0, 1, 0, 0, 0, 0, 3},
+          SemVerCodec.toKey(new SemVer(1, 256, 3)));
+      assertEquals(
+          new SemVer(1, 256, 3),
+          SemVerCodec.fromKey(new byte[] {0, 0, 0, 1, 0, 0, 1, 0, 0, 0, 0, 3}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testByteBufferRoundTrip(final boolean littleEndian) {
+      final var versions = randomReleases(100, 17L);
+      final var buffer = ByteBuffer.allocateDirect(versions.length * SemVerCodec.KEY_SIZE);
+      if (littleEndian) buffer.order(ByteOrder.LITTLE_ENDIAN);
+      SemVerCodec.writeKey(versions[0], buffer);
+      assertArrayEquals(SemVerCodec.toKey(versions[0]), getBytes(buffer, 0));
+      buffer.clear();
+      SemVerCodec.writeKeys(versions, buffer).flip();
+      assertArrayEquals(SemVerCodec.toKey(versions[1]), getBytes(buffer, SemVerCodec.KEY_SIZE));
+      assertEquals(versions[0], SemVerCodec.readKey(buffer));
+      final var decoded = new SemVer[versions.length - 1];
+      SemVerCodec.readKeys(buffer, decoded);
+      assertArrayEquals(Arrays.copyOfRange(versions, 1, versions.length), decoded);
+    }
+
+    private byte[] getBytes(final ByteBuffer buffer, final int index) {
+      final var bytes = new byte[SemVerCodec.KEY_SIZE];
+      buffer.get(index, bytes);
+      return bytes;
+    }
+
+    @Test
+    void testDataStreamRoundTrip() throws IOException {
+      final var versions = randomReleases(100, 19L);
+      final var bytes = new ByteArrayOutputStream();
+      final var output = new DataOutputStream(bytes);
+      SemVerCodec.writeKey(versions[0], output);
+      SemVerCodec.writeKeys(versions, output);
+      assertArrayEquals(SemVerCodec.toKey(versions[0]), Arrays.copyOf(bytes.toByteArray(), 12));
+      final var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+      assertEquals(versions[0], SemVerCodec.readKey(input));
+      final var decoded = new SemVer[versions.length];
+      SemVerCodec.readKeys(input, decoded);
+      assertArrayEquals(versions, decoded);
+    }
+
+    @Test
+    void testRejectsLabels() {
+      final var buffer = ByteBuffer.allocate(64);
+      final SemVer[] versions = {new SemVer(1, 0, 0), new SemVer(1, 0, 0, "rc.1", "")};
+      assertThrows(IllegalArgumentException.class, () -> SemVerCodec.toKey(versions[1]));
+      assertThrows(IllegalArgumentException.class, () -> SemVerCodec.writeKeys(versions, buffer));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              SemVerCodec.writeKey(
+                  new SemVer(1, 0, 0, "", "b"), new DataOutputStream(new ByteArrayOutputStream())));
+      assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testMalformedKeys() {
+      assertThrows(IllegalArgumentException.class, () -> SemVerCodec.fromKey(new byte[11]));
+      final byte[] negative = new byte[SemVerCodec.KEY_SIZE];
+      negative[4] = -128;
+      assertThrows(IllegalArgumentException.class, () -> SemVerCodec.fromKey(negative));
+      assertThrows(
+          BufferUnderflowException.class, () -> SemVerCodec.readKey(ByteBuffer.allocate(11)));
+      assertThrows(
+          BufferOverflowException.class,
+          () -> SemVerCodec.writeKey(new SemVer(1, 0, 0), ByteBuffer.allocate(11)));
+    }
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testNullArguments() {
+    final var buffer = ByteBuffer.allocate(64);
+    final var output = new DataOutputStream(new ByteArrayOutputStream());
+    final var input = new DataInputStream(new ByteArrayInputStream(new byte[0]));
+    final var version = new SemVer(1, 2, 3);
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.varintSize(null));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.writeVarint(null, buffer));
+    assertThrows(
+        IllegalArgumentException.class, () -> SemVerCodec.writeVarint(version, (ByteBuffer) null));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.writeVarint(null, output));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> SemVerCodec.writeVarints(new SemVer[] {null}, buffer));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.readVarint((ByteBuffer) null));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.readVarints(input, null));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.toKey(null));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.fromKey(null));
+    assertThrows(
+        IllegalArgumentException.class, () -> SemVerCodec.writeKeys(new SemVer[] {null}, output));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.readKey((DataInput) null));
+    assertThrows(IllegalArgumentException.class, () -> SemVerCodec.readKeys(buffer, null));
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerColumnTest {
+
+  private static final int SMALL_CHUNK_SHIFT = 4;
+
+  private static Path tempFile() throws IOException {
+    final Path path = Files.createTempFile("versions", ".col");
+    // Mapped files cannot be deleted on every platform until the mapping is garbage collected.
+    path.toFile().deleteOnExit();
+    Files.delete(path);
+    return path;
+  }
+
+  private static SemVer[] randomVersions(final int size, final long seed) {
+    final var random = new Random(seed);
+    final var versions = new SemVer[size];
+    for (int i = 0; i < size; i++) {
+      versions[i] = new SemVer(random.nextInt(4), random.nextInt(4), random.nextInt(4));
+    }
+    return versions;
+  }
+
+  private static BitSet expected(final SemVer[] versions, final Predicate<SemVer> predicate) {
+    final var expected = new BitSet();
+    for (int i = 0; i < versions.length; i++) {
+      if (predicate.test(versions[i])) expected.set(i);
+    }
+    return expected;
+  }
+
+  @Nested
+  class AppendTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 1_000})
+    void testAppendAndGet(final int size) {
+      final var versions = randomVersions(size, size);
+      final var column = SemVerColumn.allocate(SMALL_CHUNK_SHIFT);
+      for (final SemVer version : versions) {
+        column.append(version);
+      }
+      assertEquals(size, column.size());
+      for (int i = 0; i < size; i++) {
+        assertEquals(versions[i], column.get(i));
+        assertEquals(versions[i].toPacked(), column.getPacked(i));
+      }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 1_000})
+    void testAppendAll(final int size) {
+      final var versions = randomVersions(size, size);
+      final var column = SemVerColumn.allocate(SMALL_CHUNK_SHIFT);
+      column.append(new SemVer(9, 9, 9));
+      column.appendAll(versions);
+      assertEquals(size + 1L, column.size());
+      for (int i = 0; i < size; i++) {
+        assertEquals(versions[i], column.get(i + 1));
+      }
+    }
+
+    @Test
+    void testAppendAllPackedRange() {
+      final var column = SemVerColumn.allocate();
+      column.appendAllPacked(new long[] {1L, 2L, 3L, 4L}, 1, 3);
+      assertEquals(2L, column.size());
+      assertEquals(2L, column.getPacked(0));
+      assertEquals(3L, column.getPacked(1));
+      assertThrows(
+          IndexOutOfBoundsException.class, () -> column.appendAllPacked(new long[2], 1, 3));
+    }
+
+    @Test
+    void testAppendAllIsAllOrNothing() {
+      final var column = SemVerColumn.allocate();
+      assertThrows(
+          ArithmeticException.class,
+          () -> column.appendAll(new SemVer(1, 0, 0), new SemVer(2, 0, 0, "rc.1", "")));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> column.appendAllPacked(new long[] {1L, -1L}, 0, 2));
+      assertEquals(0L, column.size());
+    }
+
+    @Test
+    void testGetOutOfBounds() {
+      final var column = SemVerColumn.allocate();
+      column.append(new SemVer(1, 2, 3));
+      assertThrows(IndexOutOfBoundsException.class, () -> column.get(1));
+      assertThrows(IndexOutOfBoundsException.class, () -> column.getPacked(-1));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNullArguments() {
+      final var column = SemVerColumn.allocate();
+      assertThrows(IllegalArgumentException.class, () -> column.append(null));
+      assertThrows(IllegalArgumentException.class, () -> column.appendAll((SemVer[]) null));
+      assertThrows(
+          IllegalArgumentException.class, () -> column.appendAll(new SemVer(1, 0, 0), null));
+      assertThrows(IllegalArgumentException.class, () -> column.appendAllPacked(null, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> column.atLeast(null));
+      assertThrows(IllegalArgumentException.class, () -> column.lessThan(null));
+      assertThrows(IllegalArgumentException.class, () -> SemVerColumn.map(null));
+    }
+  }
+
+  @Nested
+  class FilterTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        textBlock =
+            """
+            0.0.0
+            1.2.3
+            2.0.0-rc.1
+            3.3.3+build
+            4.0.0
+            2097152.0.0
+            """)
+    void testAtLeastAndLessThan(final String bound) {
+      final var version = SemVer.parse(bound);
+      final var versions = randomVersions(1_000, 3L);
+      final var column = SemVerColumn.allocate(SMALL_CHUNK_SHIFT);
+      column.appendAll(versions);
+      assertEquals(expected(versions, v -> v.compareTo(version) >= 0), column.atLeast(version));
+      assertEquals(expected(versions, v -> v.compareTo(version) < 0), column.lessThan(version));
+    }
+
+    @Test
+    void testStable() {
+      final var versions = randomVersions(1_000, 5L);
+      final var column = SemVerColumn.allocate(SMALL_CHUNK_SHIFT);
+      column.appendAll(versions);
+      assertEquals(expected(versions, SemVer::isStable), column.stable());
+    }
+
+    @Test
+    void testMaxPacked() {
+      final var column = SemVerColumn.allocate();
+      column.appendAllPacked(new long[] {PackedSemVer.MAX_PACKED, 0L}, 0, 2);
+      assertEquals(BitSet.valueOf(new long[] {1L}), column.stable());
+      assertEquals(BitSet.valueOf(new long[] {2L}), column.lessThan(new SemVer(0, 0, 1)));
+    }
+  }
+
+  @Nested
+  class MappedTests {
+
+    @Test
+    void testReopensPersistedVersions() throws IOException {
+      final Path path = tempFile();
+      final var versions = randomVersions(100, 7L);
+      final var column = SemVerColumn.map(path, SMALL_CHUNK_SHIFT);
+      assertTrue(column.isMapped());
+      column.appendAll(versions);
+      column.append(new SemVer(5, 0, 0));
+      column.force();
+
+      final var reopened = SemVerColumn.map(path, SMALL_CHUNK_SHIFT);
+      assertEquals(101L, reopened.size());
+      for (int i = 0; i < versions.length; i++) {
+        assertEquals(versions[i], reopened.get(i));
+      }
+      assertEquals(new SemVer(5, 0, 0), reopened.get(100));
+
+      reopened.append(new SemVer(6, 0, 0));
+      assertEquals(new SemVer(6, 0, 0), SemVerColumn.map(path, SMALL_CHUNK_SHIFT).get(101));
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+      final Path path = tempFile();
+      SemVerColumn.map(path).force();
+      assertEquals(0L, SemVerColumn.map(path).size());
+      assertFalse(SemVerColumn.allocate().isMapped());
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+      final Path path = tempFile();
+      Files.writeString(path, "1.2.3\n4.5.6\n7.8.9\n");
+      assertThrows(IOException.class, () -> SemVerColumn.map(path));
+      Files.writeString(path, "1.2.3\n");
+      assertThrows(IOException.class, () -> SemVerColumn.map(path));
+    }
+  }
+}
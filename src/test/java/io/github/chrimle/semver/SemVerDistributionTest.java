@@ -0,0 +1,345 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerDistributionTest {
+
+  private static SemVerDistribution distribution(final String... versions) {
+    final var distribution = new SemVerDistribution();
+    for (final String version : versions) {
+      assertTrue(distribution.record(SemVer.parse(version)));
+    }
+    return distribution;
+  }
+
+  private static void await(final CyclicBarrier barrier) {
+    try {
+      barrier.await();
+    } catch (final Exception exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  @Nested
+  class RecordTests {
+
+    @Test
+    void testRecordAllForms() {
+      final var distribution = new SemVerDistribution();
+      assertTrue(distribution.record(new SemVer(1, 2, 3)));
+      assertTrue(distribution.record(1, 2, 3));
+      assertTrue(distribution.recordPacked(PackedSemVer.pack(1, 2, 3)));
+      assertTrue(distribution.record(SemVer.parse("1.2.3-rc.1+build.7")));
+      final var snapshot = distribution.snapshot();
+      assertEquals(1, snapshot.size());
+      assertEquals(4, snapshot.count(1, 2, 3));
+      assertEquals(4, snapshot.total());
+    }
+
+    @Test
+    void testUnpackableIsDropped() {
+      final var distribution = new SemVerDistribution();
+      assertFalse(distribution.record(PackedSemVer.MAX_VERSION + 1, 0, 0));
+      assertEquals(1, distribution.dropped());
+      assertTrue(distribution.snapshot().isEmpty());
+    }
+
+    @Test
+    void testFullIsDropped() {
+      final var distribution = new SemVerDistribution(2);
+      assertTrue(distribution.record(1, 0, 0));
+      assertTrue(distribution.record(2, 0, 0));
+      assertFalse(distribution.record(3, 0, 0));
+      assertTrue(distribution.record(1, 0, 0));
+      assertEquals(1, distribution.dropped());
+      assertEquals(3, distribution.snapshot().total());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var distribution = new SemVerDistribution();
+      assertThrows(IllegalArgumentException.class, () -> distribution.record(null));
+      assertThrows(IllegalArgumentException.class, () -> distribution.record(-1, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> distribution.record(0, 0, -1));
+      assertThrows(IllegalArgumentException.class, () -> distribution.recordPacked(-1L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 65537})
+    void testInvalidMaxVersionsThrows(final int maxVersions) {
+      assertThrows(IllegalArgumentException.class, () -> new SemVerDistribution(maxVersions));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 64})
+    void testConcurrentRecordsAreNeverLost(final int stripes) throws InterruptedException {
+      final var distribution = new SemVerDistribution(64, stripes);
+      final var threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+        threads[t] =
+            new Thread(
+                () -> {
+                  for (int i = 0; i < 10_000; i++) {
+                    distribution.record(i % 3, i % 5, 0);
+                  }
+                });
+        threads[t].start();
+      }
+      for (final Thread thread : threads) {
+        thread.join();
+      }
+      final var snapshot = distribution.snapshot();
+      assertEquals(40_000, snapshot.total());
+      assertEquals(15, snapshot.size());
+      assertEquals(0, distribution.dropped());
+    }
+  }
+
+  @Nested
+  class WindowTests {
+
+    @Test
+    void testSnapshotAndReset() {
+      final var distribution = distribution("1.0.0", "1.0.0", "2.0.0");
+      final var window = distribution.snapshotAndReset();
+      assertEquals(3, window.total());
+      assertTrue(distribution.snapshot().isEmpty());
+      distribution.record(2, 0, 0);
+      final var next = distribution.snapshot();
+      assertEquals(1, next.total());
+      assertEquals(new SemVer(2, 0, 0), next.min());
+    }
+
+    @Test
+    void testSnapshotAndResetReleasesVersions() {
+      final var distribution = new SemVerDistribution(2);
+      assertTrue(distribution.record(1, 0, 0));
+      assertTrue(distribution.record(2, 0, 0));
+      assertFalse(distribution.record(3, 0, 0));
+      distribution.snapshotAndReset();
+      assertTrue(distribution.record(3, 0, 0));
+      assertTrue(distribution.record(4, 0, 0));
+      assertFalse(distribution.record(1, 0, 0));
+      assertEquals(2, distribution.dropped());
+      assertEquals(new SemVer(3, 0, 0), distribution.snapshot().min());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testConcurrentSnapshotAndResetNeverLosesRecords(final int stripes)
+        throws InterruptedException {
+      final var distribution = new SemVerDistribution(64, stripes);
+      final var threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+        threads[t] =
+            new Thread(
+                () -> {
+                  for (int i = 0; i < 20_000; i++) {
+                    distribution.record(i % 3, i % 5, 0);
+                  }
+                });
+        threads[t].start();
+      }
+      long total = 0;
+      while (threads[0].isAlive() || threads[1].isAlive()) {
+        total += distribution.snapshotAndReset().total();
+      }
+      for (final Thread thread : threads) {
+        thread.join();
+      }
+      total += distribution.snapshotAndReset().total();
+      assertEquals(80_000, total);
+      assertEquals(0, distribution.dropped());
+    }
+
+    @Test
+    void testDecay() {
+      final var distribution = new SemVerDistribution(16, 1);
+      for (int i = 0; i < 9; i++) {
+        distribution.record(1, 0, 0);
+      }
+      distribution.record(2, 0, 0);
+      distribution.decay();
+      final var snapshot = distribution.snapshot();
+      assertEquals(4, snapshot.count(1, 0, 0));
+      assertEquals(0, snapshot.count(2, 0, 0));
+      assertEquals(1, snapshot.size());
+    }
+
+    @Test
+    void testConcurrentDecaysEachHalve() throws InterruptedException {
+      for (int run = 0; run < 200; run++) {
+        final var distribution = new SemVerDistribution(16, 1);
+        for (int i = 0; i < 1 << 20; i += 1 << 10) {
+          distribution.recordPacked(0L);
+        }
+        final var threads = new Thread[2];
+        for (int t = 0; t < threads.length; t++) {
+          threads[t] = new Thread(distribution::decay);
+          threads[t].start();
+        }
+        for (final Thread thread : threads) {
+          thread.join();
+        }
+        assertEquals(1 << 8, distribution.snapshot().total());
+      }
+    }
+
+    @Test
+    void testConcurrentDecayAndResetNeverGoNegative() throws InterruptedException {
+      final var distribution = new SemVerDistribution(64, 1);
+      final var recorder =
+          new Thread(
+              () -> {
+                for (int i = 0; i < 200_000; i++) {
+                  distribution.record(1, i % 7, 0);
+                }
+              });
+      final var decayer =
+          new Thread(
+              () -> {
+                while (recorder.isAlive()) {
+                  distribution.decay();
+                }
+              });
+      recorder.start();
+      decayer.start();
+      while (recorder.isAlive()) {
+        final var window = distribution.snapshotAndReset();
+        assertTrue(window.total() >= 0);
+        assertTrue(window.top(10).stream().allMatch(count -> count.count() > 0));
+      }
+      decayer.join();
+      assertTrue(distribution.snapshot().total() >= 0);
+    }
+
+    @Test
+    void testConcurrentInsertsOfOneVersionNeverDropAnother() throws Exception {
+      for (int run = 0; run < 500; run++) {
+        // Two distinct versions always fit, however the inserts of the first one race.
+        final var distribution = new SemVerDistribution(2, 4);
+        final var barrier = new CyclicBarrier(4);
+        final Thread[] threads = new Thread[3];
+        for (int i = 0; i < threads.length; i++) {
+          threads[i] =
+              new Thread(
+                  () -> {
+                    await(barrier);
+                    distribution.record(1, 0, 0);
+                  });
+          threads[i].start();
+        }
+        await(barrier);
+        assertTrue(distribution.record(2, 0, 0));
+        for (final Thread thread : threads) {
+          thread.join();
+        }
+        assertEquals(0, distribution.dropped());
+        assertEquals(4, distribution.snapshot().total());
+      }
+    }
+  }
+
+  @Nested
+  class SnapshotTests {
+
+    @Test
+    void testEmpty() {
+      final var snapshot = new SemVerDistribution().snapshot();
+      assertTrue(snapshot.isEmpty());
+      assertEquals(0, snapshot.total());
+      assertNull(snapshot.min());
+      assertNull(snapshot.max());
+      assertEquals(List.of(), snapshot.top(3));
+      assertEquals(Map.of(), snapshot.countsByMajor());
+    }
+
+    @Test
+    void testMinAndMax() {
+      final var snapshot = distribution("2.0.0", "0.9.1", "10.1.0", "1.4.2").snapshot();
+      assertEquals(new SemVer(0, 9, 1), snapshot.min());
+      assertEquals(new SemVer(10, 1, 0), snapshot.max());
+    }
+
+    @Test
+    void testRollups() {
+      final var snapshot =
+          distribution("1.0.0", "1.0.1", "1.1.0", "1.1.0", "2.0.0", "0.1.0").snapshot();
+      assertEquals(4, snapshot.countMajor(1));
+      assertEquals(1, snapshot.countMajor(2));
+      assertEquals(0, snapshot.countMajor(3));
+      assertEquals(0, snapshot.countMajor(-1));
+      assertEquals(2, snapshot.countMinor(1, 0));
+      assertEquals(2, snapshot.countMinor(1, 1));
+      assertEquals(0, snapshot.countMinor(1, 2));
+      assertEquals(0, snapshot.count(-1, 0, 0));
+      assertEquals(Map.of(0, 1L, 1, 4L, 2, 1L), snapshot.countsByMajor());
+      assertEquals(List.of(0, 1, 2), List.copyOf(snapshot.countsByMajor().keySet()));
+      assertEquals(5, snapshot.count(SemVerRange.parse(">=1.0.0")));
+    }
+
+    @Test
+    void testCountMajorAtMaxVersion() {
+      final var distribution = new SemVerDistribution();
+      final int max = PackedSemVer.MAX_VERSION;
+      distribution.record(max, max, max);
+      distribution.record(max, 0, 0);
+      assertEquals(2, distribution.snapshot().countMajor(max));
+      assertEquals(1, distribution.snapshot().countMinor(max, max));
+    }
+
+    @Test
+    void testTop() {
+      final var snapshot =
+          distribution("1.0.0", "2.0.0", "2.0.0", "3.0.0", "3.0.0", "4.0.0").snapshot();
+      assertEquals(
+          List.of(
+              new SemVerDistribution.VersionCount(new SemVer(3, 0, 0), 2),
+              new SemVerDistribution.VersionCount(new SemVer(2, 0, 0), 2),
+              new SemVerDistribution.VersionCount(new SemVer(4, 0, 0), 1)),
+          snapshot.top(3));
+      assertEquals(4, snapshot.top(10).size());
+      assertEquals(List.of(), snapshot.top(0));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var snapshot = distribution("1.0.0").snapshot();
+      assertThrows(IllegalArgumentException.class, () -> snapshot.top(-1));
+      assertThrows(IllegalArgumentException.class, () -> snapshot.count(null));
+    }
+
+    @Test
+    void testToString() {
+      final var distribution = distribution("1.0.0", "1.0.0", "2.0.0");
+      assertEquals("SemVerDistribution{versions=2, dropped=0}", distribution.toString());
+      assertEquals("Snapshot{versions=2, total=3}", distribution.snapshot().toString());
+    }
+  }
+}
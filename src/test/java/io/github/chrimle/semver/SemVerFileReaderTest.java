@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerFileReaderTest {
+
+  private static Path write(final String content) throws IOException {
+    final Path path = Files.createTempFile("versions", ".txt");
+    // Mapped files cannot be deleted on every platform until the mapping is garbage collected.
+    path.toFile().deleteOnExit();
+    return Files.writeString(path, content, StandardCharsets.UTF_8);
+  }
+
+  private static String randomLines(final int size, final long seed) {
+    final var random = new Random(seed);
+    final var builder = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      new SemVer(random.nextInt(10), random.nextInt(50), random.nextInt(200))
+          .appendCompleteVersionString(builder)
+          .append('\n');
+    }
+    return builder.toString();
+  }
+
+  private static List<SemVer> parseLines(final String content) {
+    final List<SemVer> versions = new ArrayList<>();
+    for (final String line : content.split("\n")) {
+      if (!line.isEmpty()) versions.add(SemVer.parse(line));
+    }
+    return versions;
+  }
+
+  @Nested
+  class VersionsTests {
+
+    @Test
+    void testReadsLinesInOrder() throws IOException {
+      final var reader = SemVerFileReader.open(write("1.2.3\nv0.1\r\n\n2.0.0-rc.1+build.5\n4"));
+      assertEquals(
+          List.of(
+              new SemVer(1, 2, 3),
+              new SemVer(0, 1, 0),
+              new SemVer(2, 0, 0, "rc.1", "build.5"),
+              new SemVer(4, 0, 0)),
+          reader.versions().toList());
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+      final var reader = SemVerFileReader.open(write(""));
+      assertEquals(0L, reader.size());
+      assertEquals(0L, reader.versions().count());
+      assertEquals(0L, reader.packedVersions().count());
+    }
+
+    @Test
+    void testReportsMalformedLinesWithByteOffset() throws IOException {
+      final var reader = SemVerFileReader.open(write("1.0.0\nnot a version\n2.0.0\n1.2.3.4\r\n"));
+      final List<String> reported = new ArrayList<>();
+      final var versions =
+          reader.versions((line, offset) -> reported.add(offset + ":" + line)).toList();
+      assertEquals(List.of(new SemVer(1, 0, 0), new SemVer(2, 0, 0)), versions);
+      assertEquals(List.of("6:not a version", "26:1.2.3.4"), reported);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 64, 1 << 10})
+    void testSegmentsEndOnLineBoundaries(final int segmentSize) throws IOException {
+      final String content = randomLines(2_000, segmentSize);
+      final var reader = SemVerFileReader.open(write(content), segmentSize);
+      assertEquals(content.length(), reader.size());
+      assertEquals(parseLines(content), reader.versions().toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 1 << 12, SemVerFileReader.SEGMENT_SIZE})
+    void testParallelStreamPreservesOrder(final int segmentSize) throws IOException {
+      final String content = randomLines(50_000, 7L);
+      final var reader = SemVerFileReader.open(write(content), segmentSize);
+      final List<Long> reported = Collections.synchronizedList(new ArrayList<>());
+      final List<SemVer> versions =
+          reader.versions((line, offset) -> reported.add(offset)).parallel().toList();
+      assertEquals(parseLines(content), versions);
+      assertTrue(reported.isEmpty());
+    }
+
+    @Test
+    void testLineLongerThanSegment() throws IOException {
+      final Path path = write("1.2.3\n" + "1".repeat(32) + "\n");
+      assertThrows(IOException.class, () -> SemVerFileReader.open(path, 16));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNullArguments() throws IOException {
+      assertThrows(IllegalArgumentException.class, () -> SemVerFileReader.open(null));
+      final var reader = SemVerFileReader.open(write("1.2.3\n"));
+      assertThrows(IllegalArgumentException.class, () -> reader.versions(null));
+      assertThrows(IllegalArgumentException.class, () -> reader.packedVersions(null));
+    }
+  }
+
+  @Nested
+  class PackedVersionsTests {
+
+    @Test
+    void testReadsPackedVersions() throws IOException {
+      final var reader = SemVerFileReader.open(write("1.2.3\n0.0.1\n"));
+      assertArrayEquals(
+          new long[] {new SemVer(1, 2, 3).toPacked(), new SemVer(0, 0, 1).toPacked()},
+          reader.packedVersions().toArray());
+    }
+
+    @Test
+    void testDoesNotUseCache() throws IOException {
+      final var reader = SemVerFileReader.open(write("1000.2.3\nv2000.0\n3000\n"));
+      final CacheStatistics before = SemVer.cacheStatistics();
+      assertEquals(3, reader.packedVersions().count());
+      assertEquals(0, SemVer.cacheStatistics().minus(before).requests());
+    }
+
+    @Test
+    void testReportsVersionsWhichAreNotPackable() throws IOException {
+      final var reader = SemVerFileReader.open(write("1.0.0-rc.1\n1.0.0\nfoo\n4194304.0.0\n"));
+      final List<String> reported = new ArrayList<>();
+      final long[] packed =
+          reader.packedVersions((line, offset) -> reported.add(offset + ":" + line)).toArray();
+      assertArrayEquals(new long[] {new SemVer(1, 0, 0).toPacked()}, packed);
+      assertEquals(List.of("0:1.0.0-rc.1", "17:foo", "21:4194304.0.0"), reported);
+    }
+
+    @Test
+    void testParallelStreamPreservesOrder() throws IOException {
+      final String content = randomLines(50_000, 11L);
+      final var reader = SemVerFileReader.open(write(content), 1 << 14);
+      final long[] expected = parseLines(content).stream().mapToLong(SemVer::toPacked).toArray();
+      assertArrayEquals(expected, reader.packedVersions().parallel().toArray());
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemVerFrequencySketchTest {
+
+  @Nested
+  class EstimateTests {
+
+    @Test
+    void testExactWithoutCollisions() {
+      final var sketch = new SemVerFrequencySketch();
+      for (int i = 0; i < 5; i++) {
+        sketch.add(new SemVer(1, 2, 3));
+      }
+      sketch.addPacked(PackedSemVer.pack(1, 2, 3), 3);
+      sketch.add(SemVer.parse("1.2.3-rc.1"));
+      assertEquals(8, sketch.estimate(new SemVer(1, 2, 3)));
+      assertEquals(8, sketch.estimatePacked(PackedSemVer.pack(1, 2, 3)));
+      assertEquals(1, sketch.estimate(SemVer.parse("1.2.3-rc.1")));
+      assertEquals(0, sketch.estimate(new SemVer(3, 2, 1)));
+      assertEquals(9, sketch.total());
+    }
+
+    @Test
+    void testNeverUnderestimates() {
+      final var sketch = new SemVerFrequencySketch(4, 64);
+      final var counts = new long[1000];
+      final var random = new Random(42);
+      for (int i = 0; i < 20_000; i++) {
+        final int version = (int) Math.min(999, Math.abs(random.nextGaussian()) * 100);
+        counts[version]++;
+        sketch.addPacked(version);
+      }
+      for (int version = 0; version < counts.length; version++) {
+        final long estimate = sketch.estimatePacked(version);
+        assertTrue(estimate >= counts[version]);
+      }
+      // The most frequent versions are estimated within `e / width` of the total.
+      assertEquals(counts[0], sketch.estimatePacked(0), Math.E / 64 * sketch.total());
+    }
+  }
+
+  @Nested
+  class MergeTests {
+
+    @Test
+    void testMerge() {
+      final var sketch = new SemVerFrequencySketch();
+      sketch.addPacked(7L, 5);
+      final var other = new SemVerFrequencySketch();
+      other.addPacked(7L, 2);
+      other.addPacked(8L);
+      sketch.merge(other);
+      assertEquals(7, sketch.estimatePacked(7L));
+      assertEquals(1, sketch.estimatePacked(8L));
+      assertEquals(8, sketch.total());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var sketch = new SemVerFrequencySketch();
+      assertThrows(IllegalArgumentException.class, () -> sketch.merge(null));
+      assertThrows(
+          IllegalArgumentException.class, () -> sketch.merge(new SemVerFrequencySketch(4, 8)));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> sketch.merge(new SemVerFrequencySketch(3, SemVerFrequencySketch.DEFAULT_WIDTH)));
+    }
+  }
+
+  @Nested
+  class SerializationTests {
+
+    @Test
+    void testRoundTrip() {
+      final var sketch = new SemVerFrequencySketch(3, 100);
+      for (int i = 0; i < 1000; i++) {
+        sketch.addPacked(i % 37, i);
+      }
+      final var restored = SemVerFrequencySketch.fromByteArray(sketch.toByteArray());
+      assertEquals(3, restored.depth());
+      assertEquals(100, restored.width());
+      assertEquals(sketch.total(), restored.total());
+      for (int i = 0; i < 37; i++) {
+        assertEquals(sketch.estimatePacked(i), restored.estimatePacked(i));
+      }
+    }
+
+    @Test
+    void testEmptyIsCompact() {
+      final var bytes = new SemVerFrequencySketch().toByteArray();
+      assertEquals(4 + 1 + 2 + 1 + 4 * SemVerFrequencySketch.DEFAULT_WIDTH, bytes.length);
+    }
+
+    @Test
+    void testOversizedDimensionsThrowWithoutAllocating() {
+      // The magic, a depth of 32 and a width of 2^24 - which would be 4 GiB of counters.
+      final var bytes = new byte[] {0, 0, 0, 0, 32, (byte) 0x80, (byte) 0x80, (byte) 0x80, 8, 0};
+      System.arraycopy(new SemVerFrequencySketch(1, 4).toByteArray(), 0, bytes, 0, 4);
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class, () -> SemVerFrequencySketch.fromByteArray(bytes));
+      assertNull(exception.getCause());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testMalformedThrows() {
+      final var bytes = new SemVerFrequencySketch(1, 4).toByteArray();
+      assertThrows(IllegalArgumentException.class, () -> SemVerFrequencySketch.fromByteArray(null));
+      final var truncated = new byte[bytes.length - 1];
+      System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerFrequencySketch.fromByteArray(truncated));
+      final var extended = new byte[bytes.length + 1];
+      System.arraycopy(bytes, 0, extended, 0, bytes.length);
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerFrequencySketch.fromByteArray(extended));
+      bytes[0] = 0;
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerFrequencySketch.fromByteArray(bytes));
+    }
+  }
+
+  @Nested
+  class ValidationTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,1
+            33,1
+            1,0
+            1,16777217
+            """)
+    void testInvalidDimensionsThrows(final int depth, final int width) {
+      assertThrows(IllegalArgumentException.class, () -> new SemVerFrequencySketch(depth, width));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var sketch = new SemVerFrequencySketch();
+      assertThrows(IllegalArgumentException.class, () -> sketch.add(null));
+      assertThrows(IllegalArgumentException.class, () -> sketch.addPacked(-1L));
+      assertThrows(IllegalArgumentException.class, () -> sketch.addPacked(0L, -1L));
+      assertThrows(IllegalArgumentException.class, () -> sketch.estimate(null));
+      assertThrows(IllegalArgumentException.class, () -> sketch.estimatePacked(-1L));
+    }
+  }
+}
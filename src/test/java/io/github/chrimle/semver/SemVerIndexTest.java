@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemVerIndexTest {
+
+  private static final SemVerIndex INDEX =
+      SemVerIndex.of(
+          List.of(
+              SemVer.parse("2.1.0"),
+              SemVer.parse("0.1.0"),
+              SemVer.parse("1.0.0"),
+              SemVer.parse("1.2.3"),
+              SemVer.parse("0.9.9"),
+              SemVer.parse("1.0.0"),
+              SemVer.parse("1.10.0"),
+              SemVer.parse("2.0.0")));
+
+  @Nested
+  class BuildTests {
+
+    @Test
+    void testSortedAndDistinct() {
+      assertEquals(7, INDEX.size());
+      assertEquals(
+          List.of(
+              SemVer.parse("0.1.0"),
+              SemVer.parse("0.9.9"),
+              SemVer.parse("1.0.0"),
+              SemVer.parse("1.2.3"),
+              SemVer.parse("1.10.0"),
+              SemVer.parse("2.0.0"),
+              SemVer.parse("2.1.0")),
+          INDEX.asList());
+    }
+
+    @Test
+    void testToString() {
+      assertEquals("SemVerIndex{size=7}", INDEX.toString());
+    }
+
+    @Test
+    void testOfPackedMatchesOf() {
+      final long[] packed = {new SemVer(2, 1, 0).toPacked(), new SemVer(0, 1, 0).toPacked()};
+      final var index = SemVerIndex.ofPacked(packed);
+      assertEquals(2, index.size());
+      assertEquals(new SemVer(2, 1, 0).toPacked(), packed[0], "input must not be modified");
+      assertEquals(SemVerIndex.of(List.of(new SemVer(0, 1, 0), new SemVer(2, 1, 0))), index);
+    }
+
+    @Test
+    void testRandomInput() {
+      final var random = new Random(42);
+      final List<SemVer> versions = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        versions.add(new SemVer(random.nextInt(5), random.nextInt(20), random.nextInt(50)));
+      }
+      final var expected = versions.stream().distinct().sorted().toList();
+      assertEquals(expected, SemVerIndex.of(versions).asList());
+    }
+
+    @Test
+    void testEmpty() {
+      final var index = SemVerIndex.of(List.of());
+      assertTrue(index.isEmpty());
+      assertNull(index.latest());
+      assertNull(index.latestStable());
+      assertNull(index.floor(new SemVer(1, 0, 0)));
+    }
+
+    @Test
+    void testInvalidInputThrows() {
+      final List<SemVer> tooLarge = List.of(new SemVer(PackedSemVer.MAX_VERSION + 1, 0, 0));
+      assertThrows(ArithmeticException.class, () -> SemVerIndex.of(tooLarge));
+      final List<SemVer> preRelease = List.of(SemVer.parse("1.0.0-rc.1"));
+      assertThrows(ArithmeticException.class, () -> SemVerIndex.of(preRelease));
+      assertThrows(IllegalArgumentException.class, () -> SemVerIndex.ofPacked(1L, -1L));
+      final List<SemVer> withNull = Arrays.asList(new SemVer(1, 0, 0), null);
+      assertThrows(IllegalArgumentException.class, () -> SemVerIndex.of(withNull));
+    }
+  }
+
+  @Nested
+  class QueryTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0.0.0,,0.1.0
+            0.1.0,0.1.0,0.1.0
+            1.2.0,1.0.0,1.2.3
+            1.5.0,1.2.3,1.10.0
+            3.0.0,2.1.0,
+            1.2097152.0,1.10.0,2.0.0
+            2147483647.0.0,2.1.0,
+            1.2.3-rc.1,1.0.0,1.2.3
+            0.1.0-0,,0.1.0
+            2.1.1-rc.1,2.1.0,
+            """)
+    void testFloorAndCeiling(final String version, final String floor, final String ceiling) {
+      final var semVer = SemVer.parse(version);
+      assertEquals(floor == null ? null : SemVer.parse(floor), INDEX.floor(semVer));
+      assertEquals(ceiling == null ? null : SemVer.parse(ceiling), INDEX.ceiling(semVer));
+    }
+
+    @Test
+    void testLatest() {
+      assertEquals(new SemVer(2, 1, 0), INDEX.latest());
+      assertEquals(new SemVer(2, 1, 0), INDEX.latestStable());
+      assertNull(SemVerIndex.of(List.of(new SemVer(0, 1, 0))).latestStable());
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0.9.9
+            1,1.10.0
+            2,2.1.0
+            3,
+            -1,
+            """)
+    void testLatestInMajor(final int major, final String expected) {
+      assertEquals(expected == null ? null : SemVer.parse(expected), INDEX.latestInMajor(major));
+    }
+
+    @Test
+    void testRange() {
+      final var from = new SemVer(1, 0, 0);
+      final var to = new SemVer(2, 0, 0);
+      assertEquals(3, INDEX.count(from, to));
+      assertEquals(
+          List.of(new SemVer(1, 0, 0), new SemVer(1, 2, 3), new SemVer(1, 10, 0)),
+          INDEX.range(from, to));
+      assertEquals(0, INDEX.count(to, from));
+      assertTrue(INDEX.range(to, from).isEmpty());
+    }
+
+    @Test
+    void testContains() {
+      assertTrue(INDEX.contains(new SemVer(1, 2, 3)));
+      assertFalse(INDEX.contains(new SemVer(1, 2, 4)));
+      assertFalse(INDEX.contains(new SemVer(Integer.MAX_VALUE, 0, 0)));
+      assertEquals(3, INDEX.indexOf(new SemVer(1, 2, 3)));
+      assertEquals(-1, INDEX.indexOf(new SemVer(1, 2, 4)));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNullThrows() {
+      assertThrows(IllegalArgumentException.class, () -> INDEX.floor(null));
+      assertThrows(IllegalArgumentException.class, () -> INDEX.ceiling(null));
+      assertThrows(IllegalArgumentException.class, () -> INDEX.contains(null));
+    }
+  }
+}
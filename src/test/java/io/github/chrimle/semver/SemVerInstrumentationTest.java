@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemVerInstrumentationTest {
+
+  /** Records every measurement as a {@code String}. */
+  private static final class RecordingMetrics implements SemVerMetrics {
+
+    private final List<String> measurements = new ArrayList<>();
+
+    @Override
+    public synchronized void parsed(final long nanos, final boolean valid) {
+      assertTrue(nanos >= 0);
+      measurements.add("parsed:" + valid);
+    }
+
+    @Override
+    public synchronized void formatted(final long nanos) {
+      assertTrue(nanos >= 0);
+      measurements.add("formatted");
+    }
+
+    @Override
+    public synchronized void rejected(final String component) {
+      measurements.add("rejected:" + component);
+    }
+
+    @Override
+    public synchronized void overflowed(final Change change) {
+      measurements.add("overflowed:" + change);
+    }
+  }
+
+  private static List<String> measure(final Runnable runnable) {
+    final RecordingMetrics metrics = new RecordingMetrics();
+    SemVerInstrumentation.setMetrics(metrics);
+    try {
+      runnable.run();
+    } finally {
+      SemVerInstrumentation.setMetrics(null);
+    }
+    return metrics.measurements;
+  }
+
+  @Nested
+  class MetricsTests {
+
+    @Test
+    void testDisabledByDefault() {
+      assertFalse(SemVerInstrumentation.isEnabled());
+      assertNull(SemVerInstrumentation.getMetrics());
+      assertFalse(SemVerInstrumentation.isFlightRecorderEnabled());
+    }
+
+    @Test
+    void testSetMetrics() {
+      final SemVerMetrics metrics = new SemVerMetrics() {};
+      SemVerInstrumentation.setMetrics(metrics);
+      try {
+        assertTrue(SemVerInstrumentation.isEnabled());
+        assertSame(metrics, SemVerInstrumentation.getMetrics());
+        // The default methods do nothing.
+        SemVer.parse("1.2.3").toCompleteVersionString();
+      } finally {
+        SemVerInstrumentation.setMetrics(null);
+      }
+      assertFalse(SemVerInstrumentation.isEnabled());
+    }
+
+    @Test
+    void testParsed() {
+      final var bytes = "1.2.3".getBytes(StandardCharsets.US_ASCII);
+      assertEquals(
+          List.of(
+              "parsed:true",
+              "parsed:true",
+              "parsed:true",
+              "parsed:false",
+              "parsed:true",
+              "parsed:false",
+              "parsed:true"),
+          measure(
+              () -> {
+                SemVer.parse("1.2.3");
+                SemVer.parse(bytes, 0, bytes.length);
+                SemVer.parse(ByteBuffer.wrap(bytes));
+                assertThrows(IllegalArgumentException.class, () -> SemVer.parse("1.2.x"));
+                SemVer.tryParse("v1");
+                SemVer.tryParse(bytes, 0, 2);
+                SemVer.tryParse(ByteBuffer.wrap(bytes));
+              }));
+    }
+
+    @Test
+    void testFormatted() {
+      final var version = SemVer.parse("1.2.3-rc.1");
+      final var measurements =
+          measure(
+              () -> {
+                version.toCompleteVersionString();
+                version.toShortVersionString();
+                version.appendCompleteVersionString(new StringBuilder());
+                version.appendShortVersionString(new StringBuilder());
+                version.writeCompleteVersionString(ByteBuffer.allocate(32));
+                version.writeShortVersionString(ByteBuffer.allocate(32));
+                version.writeCompleteVersionString(new byte[32], 0);
+                version.writeShortVersionString(new byte[32], 0);
+                try {
+                  version.appendCompleteVersionString((Appendable) new StringBuilder());
+                  version.appendShortVersionString((Appendable) new StringBuilder());
+                } catch (final IOException exception) {
+                  throw new UncheckedIOException(exception);
+                }
+              });
+      assertEquals(10, measurements.size());
+      assertTrue(measurements.stream().allMatch("formatted"::equals));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            -1, 0, 0, '', '', major
+            0, -1, 0, '', '', minor
+            0, 0, -1, '', '', patch
+            0, 0, 0, , '', preRelease
+            0, 0, 0, 01, '', preRelease
+            0, 0, 0, '', , buildMetadata
+            0, 0, 0, '', a..b, buildMetadata
+            """)
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testRejected(
+        final int major,
+        final int minor,
+        final int patch,
+        final String preRelease,
+        final String buildMetadata,
+        final String component) {
+      assertEquals(
+          List.of("rejected:" + component),
+          measure(
+              () ->
+                  assertThrows(
+                      IllegalArgumentException.class,
+                      () -> new SemVer(major, minor, patch, preRelease, buildMetadata))));
+    }
+
+    @Test
+    void testOverflowed() {
+      final var max = new SemVer(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+      assertEquals(
+          List.of("overflowed:MAJOR", "overflowed:MINOR", "overflowed:PATCH"),
+          measure(
+              () -> {
+                assertThrows(ArithmeticException.class, max::incrementMajor);
+                assertThrows(ArithmeticException.class, max::incrementMinor);
+                assertThrows(ArithmeticException.class, max::incrementPatch);
+                assertNull(max.tryIncrementVersion(Change.MAJOR));
+              }));
+    }
+
+    @Test
+    void testNotMeasuredWhenDisabled() {
+      final RecordingMetrics metrics = new RecordingMetrics();
+      SemVerInstrumentation.setMetrics(metrics);
+      SemVerInstrumentation.setMetrics(null);
+      SemVer.parse("1.2.3").toCompleteVersionString();
+      assertThrows(IllegalArgumentException.class, () -> new SemVer(-1, 0, 0));
+      assertTrue(metrics.measurements.isEmpty());
+    }
+  }
+
+  @Nested
+  class FlightRecorderTests {
+
+    @Test
+    void testEvents() throws IOException {
+      final Path file = Files.createTempFile("semver", ".jfr");
+      try (Recording recording = new Recording()) {
+        recording.enable("io.github.chrimle.semver.Parse");
+        recording.enable("io.github.chrimle.semver.Format");
+        recording.enable("io.github.chrimle.semver.Rejected");
+        recording.enable("io.github.chrimle.semver.Overflow");
+        assertTrue(SemVerInstrumentation.setFlightRecorderEnabled(true));
+        recording.start();
+        try {
+          SemVer.parse("1.2.3").toShortVersionString();
+          assertNull(SemVer.tryParse("1.2.x"));
+          assertThrows(IllegalArgumentException.class, () -> new SemVer(0, 0, 0, "01", ""));
+          final var max = new SemVer(Integer.MAX_VALUE, 0, 0);
+          assertThrows(ArithmeticException.class, max::incrementMajor);
+        } finally {
+          assertFalse(SemVerInstrumentation.setFlightRecorderEnabled(false));
+        }
+        SemVer.parse("3.2.1");
+        recording.stop();
+        recording.dump(file);
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final Map<String, Long> counts =
+            events.stream()
+                .collect(
+                    Collectors.groupingBy(
+                        event -> event.getEventType().getName(),
+                        TreeMap::new,
+                        Collectors.counting()));
+        assertEquals(
+            Map.of(
+                "io.github.chrimle.semver.Parse", 2L,
+                "io.github.chrimle.semver.Format", 1L,
+                "io.github.chrimle.semver.Rejected", 1L,
+                "io.github.chrimle.semver.Overflow", 1L),
+            counts);
+        final Map<String, RecordedEvent> byName =
+            events.stream()
+                .collect(
+                    Collectors.toMap(
+                        event -> event.getEventType().getName(),
+                        Function.identity(),
+                        (first, second) -> first));
+        final RecordedEvent rejected = byName.get("io.github.chrimle.semver.Rejected");
+        assertEquals("preRelease", rejected.getString("component"));
+        assertEquals(SemVerIdentifiers.PRE_RELEASE_MESSAGE, rejected.getString("message"));
+        final RecordedEvent overflow = byName.get("io.github.chrimle.semver.Overflow");
+        assertEquals("MAJOR", overflow.getString("change"));
+        final RecordedEvent parse = byName.get("io.github.chrimle.semver.Parse");
+        assertTrue(parse.getBoolean("valid"));
+        assertTrue(parse.getLong("elapsed") >= 0);
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+}
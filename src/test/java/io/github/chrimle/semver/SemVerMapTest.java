@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerMapTest {
+
+  @Test
+  void testPutGetRemove() {
+    final var map = new SemVerMap<String>();
+    assertNull(map.put(new SemVer(1, 2, 3), "a"));
+    assertEquals("a", map.put(new SemVer(1, 2, 3), "b"));
+    assertEquals("b", map.get(new SemVer(1, 2, 3)));
+    assertEquals("b", map.get(1, 2, 3));
+    assertEquals("b", map.getPacked(new SemVer(1, 2, 3).toPacked()));
+    assertTrue(map.containsKey(new SemVer(1, 2, 3)));
+    assertTrue(map.containsKey(1, 2, 3));
+    assertNull(map.get(1, 2, 4));
+    assertEquals(1, map.size());
+    assertEquals("b", map.remove(new SemVer(1, 2, 3)));
+    assertNull(map.remove(new SemVer(1, 2, 3)));
+    assertFalse(map.containsKey(1, 2, 3));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void testLookupOfVersionsWhichCannotBeKeys() {
+    final var map = new SemVerMap<String>();
+    map.put(new SemVer(1, 0, 0), "a");
+    assertNull(map.get(new SemVer(1, 0, 0, "rc.1", "")));
+    assertFalse(map.containsKey(new SemVer(1, 0, 0, "", "build")));
+    assertNull(map.get(0, -1, 0));
+    assertNull(map.get(0, 0, PackedSemVer.MAX_VERSION + 1));
+    assertNull(map.getPacked(-1L));
+    assertNull(map.removePacked(-1L));
+    assertThrows(ArithmeticException.class, () -> map.put(new SemVer(1, 0, 0, "rc.1", ""), "b"));
+    assertThrows(IllegalArgumentException.class, () -> map.putPacked(-1L, "b"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 100, 10_000})
+  void testMatchesHashMap(final int expectedSize) {
+    final var random = new Random(expectedSize);
+    final var map = new SemVerMap<Integer>(expectedSize);
+    final Map<SemVer, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 50_000; i++) {
+      // Few distinct keys, so that insertions, lookups and removals collide.
+      final var version = new SemVer(random.nextInt(4), random.nextInt(30), random.nextInt(30));
+      switch (random.nextInt(3)) {
+        case 0 -> assertEquals(expected.put(version, i), map.put(version, i));
+        case 1 -> assertEquals(expected.remove(version), map.remove(version));
+        default ->
+            assertEquals(
+                expected.get(version), map.get(version.major(), version.minor(), version.patch()));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    final Map<SemVer, Integer> visited = new HashMap<>();
+    map.forEachPacked((value, packed) -> visited.put(SemVer.fromPacked(packed), value));
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  void testClear() {
+    final var map = new SemVerMap<String>();
+    map.put(new SemVer(1, 0, 0), "a");
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(1, 0, 0));
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new SemVerMap<String>(-1));
+    final var map = new SemVerMap<String>();
+    assertThrows(IllegalArgumentException.class, () -> map.put(null, "a"));
+    assertThrows(IllegalArgumentException.class, () -> map.put(new SemVer(1, 0, 0), null));
+    assertThrows(IllegalArgumentException.class, () -> map.get(null));
+    assertThrows(IllegalArgumentException.class, () -> map.containsKey(null));
+    assertThrows(IllegalArgumentException.class, () -> map.remove(null));
+    assertThrows(IllegalArgumentException.class, () -> map.forEachPacked(null));
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerParseCacheTest {
+
+  private static byte[] ascii(final String text) {
+    return text.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  @Nested
+  class ConstructorTests {
+
+    @ParameterizedTest
+    @CsvSource({"1, 8", "8, 8", "9, 16", "1000, 1024", "1024, 1024", "16777216, 16777216"})
+    void testCapacity(final int capacity, final int expected) {
+      assertEquals(expected, new SemVerParseCache(capacity).capacity());
+    }
+
+    @Test
+    void testDefaultCapacity() {
+      assertEquals(SemVerParseCache.DEFAULT_CAPACITY, new SemVerParseCache().capacity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, (1 << 24) + 1, Integer.MAX_VALUE})
+    void testInvalidCapacity(final int capacity) {
+      assertThrows(IllegalArgumentException.class, () -> new SemVerParseCache(capacity));
+    }
+  }
+
+  @Nested
+  class ParseTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.2.3", "v1", "0.0.0", "1.4.0-rc.2+build.77", "2147483647.0.1"})
+    void testEqualToSemVerParse(final String text) {
+      final var cache = new SemVerParseCache();
+      final var bytes = ascii(" " + text + " ");
+      final SemVer expected = SemVer.parse(text);
+      assertEquals(expected, cache.parse(text));
+      assertEquals(expected, cache.parse(bytes, 1, text.length()));
+      assertEquals(expected, cache.parse(ByteBuffer.wrap(bytes, 1, text.length())));
+      final var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(1);
+      assertEquals(expected, cache.tryParse(direct.limit(1 + text.length())));
+      assertEquals(1, direct.position());
+      assertEquals(new CacheStatistics(3, 1), cache.statistics());
+    }
+
+    @Test
+    void testSameInstance() {
+      final var cache = new SemVerParseCache();
+      final SemVer first = cache.parse("1.2.3-alpha");
+      assertSame(first, cache.parse(new StringBuilder("1.2.3-alpha")));
+      assertSame(first, cache.parse(ascii("x1.2.3-alphax"), 1, 11));
+      assertNotSame(first, cache.parse("1.2.3-beta"));
+    }
+
+    @Test
+    void testDirectBufferIsInsertedOnMiss() {
+      final var cache = new SemVerParseCache();
+      final var bytes = ascii("x1.2.3-alphax");
+      final var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(1).limit(12);
+      final SemVer first = cache.parse(direct);
+      bytes[1] = '9';
+      direct.put(1, (byte) '9');
+      assertSame(first, cache.parse("1.2.3-alpha"));
+      assertNotSame(first, cache.parse(direct));
+      assertSame(cache.parse(bytes, 1, 11), cache.parse(direct));
+      assertEquals(1, direct.position());
+      assertEquals(new CacheStatistics(3, 2), cache.statistics());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1.2.x", "01.2.3", "1.2.3-", "v", "2147483648.0.0"})
+    void testMalformedIsCached(final String text) {
+      final var cache = new SemVerParseCache();
+      for (int i = 0; i < 3; i++) {
+        assertNull(cache.tryParse(text));
+        assertNull(cache.tryParse(ascii(text), 0, text.length()));
+        final var exception = assertThrows(IllegalArgumentException.class, () -> cache.parse(text));
+        assertEquals(SemVerParser.FORMAT_MESSAGE, exception.getMessage());
+      }
+      assertEquals(new CacheStatistics(8, 1), cache.statistics());
+    }
+
+    @Test
+    void testUncacheable() {
+      final var cache = new SemVerParseCache();
+      final String tooLong = "1.2.3-" + "a".repeat(SemVerParseCache.MAX_KEY_LENGTH);
+      assertEquals(SemVer.parse(tooLong), cache.parse(tooLong));
+      assertEquals(SemVer.parse(tooLong), cache.parse(tooLong));
+      assertNull(cache.tryParse("1.2.3-é"));
+      assertNull(cache.tryParse("1.2.3-é"));
+      assertEquals(new CacheStatistics(0, 4), cache.statistics());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNull() {
+      final var cache = new SemVerParseCache();
+      assertThrows(IllegalArgumentException.class, () -> cache.parse((CharSequence) null));
+      assertThrows(IllegalArgumentException.class, () -> cache.tryParse((byte[]) null, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> cache.tryParse((ByteBuffer) null));
+    }
+
+    @Test
+    void testOutOfBounds() {
+      final var cache = new SemVerParseCache();
+      assertThrows(IndexOutOfBoundsException.class, () -> cache.tryParse(new byte[4], 2, 3));
+      assertThrows(IndexOutOfBoundsException.class, () -> cache.tryParse(new byte[4], -1, 1));
+    }
+  }
+
+  @Nested
+  class EvictionTests {
+
+    @Test
+    void testBounded() {
+      final var cache = new SemVerParseCache(64);
+      for (int i = 0; i < 10_000; i++) {
+        cache.parse("1.0." + i);
+      }
+      int cached = 0;
+      for (int i = 0; i < 10_000; i++) {
+        final long hits = cache.statistics().hits();
+        cache.parse("1.0." + i);
+        if (cache.statistics().hits() > hits) cached++;
+      }
+      assertTrue(cached <= cache.capacity());
+    }
+
+    @Test
+    void testReferencedEntriesAreKept() {
+      // A capacity of 8 is a single set, so every entry competes with every other.
+      final var cache = new SemVerParseCache(8);
+      for (int i = 0; i < 8; i++) {
+        cache.parse("1.0." + i);
+      }
+      for (int i = 0; i < 4; i++) {
+        cache.parse("1.0." + i);
+      }
+      for (int i = 8; i < 12; i++) {
+        cache.parse("1.0." + i);
+      }
+      final CacheStatistics before = cache.statistics();
+      for (int i = 0; i < 4; i++) {
+        cache.parse("1.0." + i);
+      }
+      assertEquals(new CacheStatistics(4, 0), cache.statistics().minus(before));
+      cache.parse("1.0.4");
+      assertEquals(new CacheStatistics(4, 1), cache.statistics().minus(before));
+    }
+  }
+
+  @Nested
+  class ConcurrencyTests {
+
+    @Test
+    void testConcurrentParsing() {
+      final var cache = new SemVerParseCache(128);
+      IntStream.range(0, 200_000)
+          .parallel()
+          .forEach(
+              i -> {
+                final String text = (i % 3) + "." + (i % 101) + (i % 7 == 0 ? ".x" : ".0");
+                assertEquals(SemVer.tryParse(text), cache.tryParse(text));
+              });
+      assertEquals(200_000, cache.statistics().requests());
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerQuantileSketchTest {
+
+  /** Tolerance of the ranks of the default sketch, which is a few times its expected error. */
+  private static final double TOLERANCE = 0.03;
+
+  private static long[] randomPacked(final int size, final long seed) {
+    final var random = new Random(seed);
+    final var packed = new long[size];
+    for (int i = 0; i < size; i++) {
+      packed[i] = PackedSemVer.pack(random.nextInt(10), random.nextInt(20), random.nextInt(50));
+    }
+    return packed;
+  }
+
+  private static SemVerQuantileSketch sketchOf(final long[] packed) {
+    final var sketch = new SemVerQuantileSketch();
+    for (final long value : packed) {
+      sketch.addPacked(value);
+    }
+    return sketch;
+  }
+
+  private static double exactRank(final long[] packed, final long value) {
+    return (double) Arrays.stream(packed).filter(other -> other < value).count() / packed.length;
+  }
+
+  private static byte[] concat(final byte[] first, final byte[] second) {
+    final byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, bytes, first.length, second.length);
+    return bytes;
+  }
+
+  @Nested
+  class RankTests {
+
+    @Test
+    void testEmpty() {
+      final var sketch = new SemVerQuantileSketch();
+      assertTrue(sketch.isEmpty());
+      assertEquals(0.0, sketch.rank(new SemVer(1, 0, 0)));
+      assertNull(sketch.quantile(0.5));
+      assertEquals(PackedSemVer.INVALID, sketch.quantilePacked(0.5));
+    }
+
+    @Test
+    void testSmallIsExact() {
+      final var sketch = new SemVerQuantileSketch();
+      sketch.add(new SemVer(1, 0, 0));
+      sketch.add(new SemVer(2, 0, 0));
+      sketch.add(new SemVer(3, 0, 0));
+      sketch.add(new SemVer(4, 0, 0));
+      assertEquals(0.5, sketch.rank(new SemVer(3, 0, 0)));
+      assertEquals(0.5, sketch.rank(SemVer.parse("3.0.0-rc.1")));
+      assertEquals(0.0, sketch.rank(new SemVer(0, 1, 0)));
+      assertEquals(1.0, sketch.rank(new SemVer(5, 0, 0)));
+      assertEquals(1.0, sketch.rank(new SemVer(PackedSemVer.MAX_VERSION + 1, 0, 0)));
+      assertEquals(new SemVer(2, 0, 0), sketch.quantile(0.5));
+      assertEquals(new SemVer(1, 0, 0), sketch.quantile(0.0));
+      assertEquals(new SemVer(4, 0, 0), sketch.quantile(1.0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 100_000})
+    void testWithinError(final int size) {
+      final var packed = randomPacked(size, size);
+      final var sketch = sketchOf(packed);
+      assertEquals(size, sketch.count());
+      for (int major = 0; major <= 10; major++) {
+        final long value = PackedSemVer.pack(major, 5, 0);
+        assertEquals(exactRank(packed, value), sketch.rankPacked(value), TOLERANCE);
+      }
+      final var sorted = packed.clone();
+      Arrays.sort(sorted);
+      for (final double fraction : new double[] {0.1, 0.25, 0.5, 0.9}) {
+        final long quantile = sketch.quantilePacked(fraction);
+        assertEquals(fraction, exactRank(sorted, quantile), TOLERANCE);
+      }
+      assertEquals(sorted[0], sketch.quantilePacked(0.0));
+      assertEquals(sorted[size - 1], sketch.quantilePacked(1.0));
+    }
+
+    @Test
+    void testBoundedSize() {
+      final var sketch = sketchOf(randomPacked(200_000, 7L));
+      assertTrue(sketch.toByteArray().length < 8 * 4 * SemVerQuantileSketch.DEFAULT_K);
+    }
+  }
+
+  @Nested
+  class MergeTests {
+
+    @Test
+    void testMerge() {
+      final var left = randomPacked(50_000, 1L);
+      final var right = randomPacked(30_000, 2L);
+      final var sketch = sketchOf(left);
+      sketch.merge(sketchOf(right));
+      final var all = new long[left.length + right.length];
+      System.arraycopy(left, 0, all, 0, left.length);
+      System.arraycopy(right, 0, all, left.length, right.length);
+      assertEquals(all.length, sketch.count());
+      for (int major = 0; major <= 10; major++) {
+        final long value = PackedSemVer.pack(major, 0, 0);
+        assertEquals(exactRank(all, value), sketch.rankPacked(value), TOLERANCE);
+      }
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var sketch = new SemVerQuantileSketch();
+      assertThrows(IllegalArgumentException.class, () -> sketch.merge(null));
+      assertThrows(IllegalArgumentException.class, () -> sketch.merge(sketch));
+      assertThrows(
+          IllegalArgumentException.class, () -> sketch.merge(new SemVerQuantileSketch(100)));
+    }
+  }
+
+  @Nested
+  class SerializationTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 100_000})
+    void testRoundTrip(final int size) {
+      final var sketch = sketchOf(randomPacked(size, 3L));
+      final var restored = SemVerQuantileSketch.fromByteArray(sketch.toByteArray());
+      assertEquals(sketch.k(), restored.k());
+      assertEquals(sketch.count(), restored.count());
+      for (int major = 0; major <= 10; major++) {
+        final long value = PackedSemVer.pack(major, 0, 0);
+        assertEquals(sketch.rankPacked(value), restored.rankPacked(value));
+      }
+      assertEquals(sketch.quantilePacked(0.0), restored.quantilePacked(0.0));
+      assertEquals(sketch.quantilePacked(0.5), restored.quantilePacked(0.5));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testMalformedThrows() {
+      final var sketch = new SemVerQuantileSketch();
+      sketch.addPacked(5L);
+      final var bytes = sketch.toByteArray();
+      assertThrows(IllegalArgumentException.class, () -> SemVerQuantileSketch.fromByteArray(null));
+      final var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerQuantileSketch.fromByteArray(truncated));
+      final var extended = Arrays.copyOf(bytes, bytes.length + 1);
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerQuantileSketch.fromByteArray(extended));
+      // The count no longer matches the weight of the levels.
+      final var miscounted = bytes.clone();
+      miscounted[6] = 2;
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerQuantileSketch.fromByteArray(miscounted));
+    }
+
+    @Test
+    void testInvalidMinMaxThrows() {
+      final var sketch = new SemVerQuantileSketch();
+      sketch.addPacked(5L);
+      final var bytes = sketch.toByteArray();
+      // The magic, k and count, followed by min and max, and a single level holding 5.
+      final var header = Arrays.copyOf(bytes, 7);
+      final byte[] levels = {1, 1, 5};
+      // 2^63, which is decoded as a negative value.
+      final byte[] negative = {-128, -128, -128, -128, -128, -128, -128, -128, -128, 1};
+      final byte[][] invalid = {
+        concat(negative, new byte[] {5}), concat(new byte[] {5}, negative), new byte[] {6, 5}
+      };
+      for (final byte[] minMax : invalid) {
+        final var malformed = concat(header, concat(minMax, levels));
+        assertThrows(
+            IllegalArgumentException.class, () -> SemVerQuantileSketch.fromByteArray(malformed));
+      }
+      assertEquals(
+          5L,
+          SemVerQuantileSketch.fromByteArray(concat(header, concat(new byte[] {5, 5}, levels)))
+              .quantilePacked(0.5));
+    }
+  }
+
+  @Nested
+  class ValidationTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {7, 65537})
+    void testInvalidKThrows(final int k) {
+      assertThrows(IllegalArgumentException.class, () -> new SemVerQuantileSketch(k));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-0.1", "1.1", "NaN"})
+    void testInvalidFractionThrows(final String fraction) {
+      final var sketch = new SemVerQuantileSketch();
+      final double value = Double.parseDouble(fraction);
+      assertThrows(IllegalArgumentException.class, () -> sketch.quantile(value));
+      assertThrows(IllegalArgumentException.class, () -> sketch.quantilePacked(value));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var sketch = new SemVerQuantileSketch();
+      assertThrows(IllegalArgumentException.class, () -> sketch.add(null));
+      assertThrows(
+          ArithmeticException.class,
+          () -> sketch.add(new SemVer(PackedSemVer.MAX_VERSION + 1, 0, 0)));
+      assertThrows(IllegalArgumentException.class, () -> sketch.addPacked(-1L));
+      assertThrows(IllegalArgumentException.class, () -> sketch.rank(null));
+      assertThrows(IllegalArgumentException.class, () -> sketch.rankPacked(-1L));
+    }
+  }
+}
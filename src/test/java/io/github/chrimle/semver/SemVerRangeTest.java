@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerRangeTest {
+
+  @Nested
+  class ParseTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = ';',
+        value =
+            """
+            1.2.3            ; [1.2.3,1.2.4)
+            =v1.2.3          ; [1.2.3,1.2.4)
+            1.2              ; [1.2.0,1.3.0)
+            1.x              ; [1.0.0,2.0.0)
+            1.2.*            ; [1.2.0,1.3.0)
+            *                ; [0.0.0,)
+            '  '             ; [0.0.0,)
+            >1.2.3           ; [1.2.4,)
+            >1.2             ; [1.3.0,)
+            >= 1.2           ; [1.2.0,)
+            <1.2.3           ; [0.0.0,1.2.3)
+            <=1.2.3          ; [0.0.0,1.2.4)
+            <=1.2            ; [0.0.0,1.3.0)
+            ~1.2.3           ; [1.2.3,1.3.0)
+            ~1.2             ; [1.2.0,1.3.0)
+            ~1               ; [1.0.0,2.0.0)
+            ^1.2.3           ; [1.2.3,2.0.0)
+            ^0.2.3           ; [0.2.3,0.3.0)
+            ^0.0.3           ; [0.0.3,0.0.4)
+            ^0.0             ; [0.0.0,0.1.0)
+            ^0               ; [0.0.0,1.0.0)
+            ^1.2             ; [1.2.0,2.0.0)
+            >=1.0.0 <2.0.0   ; [1.0.0,2.0.0)
+            1.2.3 - 2.3.4    ; [1.2.3,2.3.5)
+            1.2 - 2.3        ; [1.2.0,2.4.0)
+            [1.0,2.0)        ; [1.0.0,2.0.0)
+            (1.0,2.0]        ; [1.0.1,2.0.1)
+            (,1.0]           ; [0.0.0,1.0.1)
+            [1.5,)           ; [1.5.0,)
+            [1.2.3]          ; [1.2.3,1.2.4)
+            '[1.0,2.0),[3.0,4.0)' ; [1.0.0,2.0.0),[3.0.0,4.0.0)
+            '[1.0,2.0), [1.5,3.0)' ; [1.0.0,3.0.0)
+            ^1.2 || ^2.0     ; [1.2.0,3.0.0)
+            ^1.2 || ^3.0     ; [1.2.0,2.0.0),[3.0.0,4.0.0)
+            >=2.0.0 <1.0.0   ; (,0.0.0)
+            >2147483647.2147483647.2147483647 ; (,0.0.0)
+            ^2147483647      ; [2147483647.0.0,)
+            """)
+    void testNormalizedForm(final String expression, final String normalized) {
+      final var range = SemVerRange.parse(expression);
+      assertEquals(normalized, range.toString());
+      assertEquals(range, SemVerRange.parse(range.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          ">=",
+          "1.2.3.4",
+          "01.2",
+          "1.x.3",
+          "!1.2",
+          "v",
+          "1.2 -",
+          "[1.0,2.0",
+          "[1.0,2.0,3.0)",
+          "(1.0)",
+          "[,1.0)",
+          "[1.0,)x",
+          "[1.0,),",
+          "[1.x,2.0)",
+          ">=1.0.0 || <=x.1",
+          ">=1.2.3-rc.1",
+          "[1.0-rc,2.0)",
+          "^1.2.3+build"
+        })
+    void testInvalidThrows(final String expression) {
+      assertThrows(IllegalArgumentException.class, () -> SemVerRange.parse(expression));
+    }
+  }
+
+  @Nested
+  class TestTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = ';',
+        value =
+            """
+            ^1.2.3             ; 1.2.3  ; true
+            ^1.2.3             ; 1.9.0  ; true
+            ^1.2.3             ; 2.0.0  ; false
+            ^1.2.3             ; 1.2.2  ; false
+            ~1.2.3             ; 1.2.99 ; true
+            ~1.2.3             ; 1.3.0  ; false
+            >=1.0.0 <2.0.0     ; 1.5.0  ; true
+            >=1.0.0 <2.0.0     ; 0.9.0  ; false
+            [1.0,2.0)          ; 2.0.0  ; false
+            [1.0,2.0]          ; 2.0.0  ; true
+            ^1.0 || ^3.0       ; 2.5.0  ; false
+            ^1.0 || ^3.0       ; 3.5.0  ; true
+            <2.0.0             ; 1.2097152.0 ; true
+            >1.2097151.2097151 ; 1.2097152.0 ; true
+            """)
+    void testMatches(final String expression, final String version, final boolean expected) {
+      final var range = SemVerRange.parse(expression);
+      final var semVer = SemVer.parse(version);
+      assertEquals(expected, range.test(semVer));
+      assertEquals(expected, range.test(semVer.major(), semVer.minor(), semVer.patch()));
+      if (semVer.isPackable()) {
+        assertEquals(expected, range.testPacked(semVer.toPacked()));
+      }
+    }
+
+    @Test
+    void testIntersectAndUnion() {
+      final var caret = SemVerRange.parse("^1.2");
+      final var tilde = SemVerRange.parse("~1.4");
+      assertEquals(tilde, caret.intersect(tilde));
+      assertEquals(caret, caret.union(tilde));
+      assertTrue(caret.intersect(SemVerRange.parse("^2")).isEmpty());
+      assertEquals(SemVerRange.any(), SemVerRange.parse("<1.0.0").union(SemVerRange.parse(">=1")));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = ';',
+        value =
+            """
+            [1.0,2.0)  ; 2.0.0-rc.1  ; true
+            [2.0,3.0)  ; 2.0.0-rc.1  ; false
+            [1.0,2.0]  ; 2.0.0-rc.1  ; true
+            (1.0,2.0)  ; 1.0.1-rc.1  ; false
+            ^1.2.3     ; 1.2.3-rc.1  ; false
+            *          ; 0.0.0-rc.1  ; true
+            <1.0.0     ; 0.0.0-0     ; true
+            >=0.0.1    ; 0.0.1-0     ; false
+            ^1.0 || ^3 ; 3.0.0-beta  ; false
+            ^1.0 || ^3 ; 3.0.1-beta  ; true
+            """)
+    void testMatchesPreRelease(
+        final String expression, final String version, final boolean expected) {
+      final var semVer = SemVer.parse(version);
+      final var range = SemVerRange.parse(expression);
+      assertEquals(expected, range.test(semVer));
+      assertEquals(expected, range.maxSatisfying(List.of(semVer)) != null);
+    }
+
+    @Test
+    void testExactly() {
+      final var version = new SemVer(1, 2, 3);
+      final var range = SemVerRange.exactly(version);
+      assertTrue(range.test(version));
+      assertFalse(range.test(version.incrementPatch()));
+      assertEquals(SemVerRange.parse("[1.2.3]"), range);
+      final var preRelease = SemVer.parse("1.2.3-rc.1");
+      assertFalse(range.test(preRelease));
+      assertThrows(IllegalArgumentException.class, () -> SemVerRange.exactly(preRelease));
+    }
+  }
+
+  @Nested
+  class SelectTests {
+
+    private final List<SemVer> versions = new ArrayList<>();
+    private SemVerIndex index = SemVerIndex.of(List.of());
+
+    @BeforeEach
+    void setUp() {
+      final var random = new Random(7);
+      for (int i = 0; i < 2_000; i++) {
+        versions.add(new SemVer(random.nextInt(4), random.nextInt(12), random.nextInt(12)));
+      }
+      index = SemVerIndex.of(versions);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "^1.2",
+          "~2.3.4",
+          ">=1.0.0 <2.0.0 || [3.1,3.4]",
+          "<0.0.0",
+          "*",
+          ">3.11.11",
+          "0.x || 2.5"
+        })
+    void testMatchesLinearScan(final String expression) {
+      final var range = SemVerRange.parse(expression);
+      final var expected = index.asList().stream().filter(range).toList();
+      assertEquals(expected, range.select(index));
+      assertEquals(expected.size(), range.count(index));
+      final SemVer max = expected.isEmpty() ? null : expected.get(expected.size() - 1);
+      final SemVer min = expected.isEmpty() ? null : expected.get(0);
+      assertEquals(max, range.maxSatisfying(index));
+      assertEquals(min, range.minSatisfying(index));
+      assertEquals(max, range.maxSatisfying(index.asList()));
+    }
+  }
+}
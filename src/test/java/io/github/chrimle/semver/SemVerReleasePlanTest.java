@@ -0,0 +1,385 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.semver.SemVerReleasePlan.Propagation;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemVerReleasePlanTest {
+
+  private static final int MAX = Integer.MAX_VALUE;
+
+  private static SemVer[] versions(final String... versions) {
+    final SemVer[] semVers = new SemVer[versions.length];
+    for (int i = 0; i < versions.length; i++) {
+      semVers[i] = SemVer.parse(versions[i]);
+    }
+    return semVers;
+  }
+
+  /** A chain of modules, where each module depends on the previous one. */
+  private static int[][] chain(final int size) {
+    final int[][] dependencies = new int[size][];
+    dependencies[0] = new int[0];
+    for (int module = 1; module < size; module++) {
+      dependencies[module] = new int[] {module - 1};
+    }
+    return dependencies;
+  }
+
+  @Nested
+  class IncrementTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1.2.3,          MAJOR
+            1.2.3,          MINOR
+            1.2.3,          PATCH
+            1.0.0-rc.1,     MAJOR
+            1.2.0-rc.1,     MAJOR
+            1.2.0-rc.1,     MINOR
+            1.2.3-rc.1,     MINOR
+            1.2.3-rc.1+b.1, PATCH
+            1.2.3+b.1,      PATCH
+            """)
+    void testEqualToTryIncrementVersion(final String version, final Change change) {
+      final SemVer semVer = SemVer.parse(version);
+      final var plan = SemVerReleasePlan.of(new SemVer[] {semVer}, new Change[] {change});
+      final SemVer expected = semVer.tryIncrementVersion(change);
+      assertNotNull(expected);
+      assertEquals(expected, plan.version(0));
+      assertEquals(expected.major(), plan.major(0));
+      assertEquals(expected.minor(), plan.minor(0));
+      assertEquals(expected.patch(), plan.patch(0));
+      assertEquals(change, plan.change(0));
+      assertFalse(plan.isPropagated(0));
+      assertFalse(plan.isOverflowed(0));
+    }
+
+    @Test
+    void testEqualToTryIncrementVersionForRandomVersions() {
+      final SplittableRandom random = new SplittableRandom(42L);
+      final SemVer[] semVers = new SemVer[10_000];
+      final Change[] changes = new Change[semVers.length];
+      for (int i = 0; i < semVers.length; i++) {
+        semVers[i] =
+            new SemVer(
+                random.nextInt(3) == 0 ? MAX : random.nextInt(3),
+                random.nextInt(3) == 0 ? MAX : random.nextInt(3),
+                random.nextInt(3) == 0 ? MAX : random.nextInt(3),
+                random.nextBoolean() ? "rc.1" : "",
+                "");
+        final int change = random.nextInt(Change.values().length + 1);
+        changes[i] = change == Change.values().length ? null : Change.values()[change];
+      }
+      final var plan = SemVerReleasePlan.of(semVers, changes);
+      for (int i = 0; i < semVers.length; i++) {
+        final SemVer expected =
+            changes[i] == null ? semVers[i] : semVers[i].tryIncrementVersion(changes[i]);
+        assertEquals(expected == null, plan.isOverflowed(i));
+        assertEquals(expected == null ? semVers[i] : expected, plan.version(i));
+        assertEquals(changes[i], plan.change(i));
+      }
+    }
+
+    @Test
+    void testUnchangedReturnsSameInstance() {
+      final SemVer[] semVers = versions("1.2.3-rc.1+b.1", "2.0.0");
+      final var plan = SemVerReleasePlan.of(semVers, new Change[] {null, null});
+      assertSame(semVers[0], plan.version(0));
+      assertSame(semVers[1], plan.version(1));
+      assertNull(plan.change(0));
+      assertEquals(new BitSet(), plan.changed());
+    }
+
+    @Test
+    void testCopiesArguments() {
+      final SemVer[] semVers = versions("1.2.3");
+      final Change[] changes = {Change.MINOR};
+      final var plan = SemVerReleasePlan.of(semVers, changes);
+      semVers[0] = SemVer.parse("9.9.9");
+      changes[0] = Change.MAJOR;
+      assertEquals(SemVer.parse("1.3.0"), plan.version(0));
+      assertEquals(Change.MINOR, plan.change(0));
+    }
+
+    @Test
+    void testEmpty() {
+      final var plan = SemVerReleasePlan.of(new SemVer[0], new Change[0]);
+      assertEquals(0, plan.size());
+      assertEquals(0, plan.batches());
+      assertEquals(0, plan.toPacked().length);
+    }
+  }
+
+  @Nested
+  class OverflowTests {
+
+    @Test
+    void testCollectsOverflowedModules() {
+      final SemVer[] semVers = {
+        new SemVer(MAX, 0, 0), new SemVer(1, 2, 3), new SemVer(1, MAX, 0), new SemVer(1, 2, MAX)
+      };
+      final var plan =
+          SemVerReleasePlan.of(
+              semVers, new Change[] {Change.MAJOR, Change.MAJOR, Change.MINOR, Change.PATCH});
+      final BitSet expected = new BitSet();
+      expected.set(0);
+      expected.set(2);
+      expected.set(3);
+      assertEquals(expected, plan.overflowed());
+      assertEquals(4, plan.changed().cardinality());
+      assertSame(semVers[0], plan.version(0));
+      assertEquals(MAX, plan.major(0));
+      assertEquals(new SemVer(2, 0, 0), plan.version(1));
+      assertEquals(MAX, plan.minor(2));
+      assertEquals(MAX, plan.patch(3));
+    }
+
+    @Test
+    void testOverflowedModuleStillPropagates() {
+      final var plan =
+          SemVerReleasePlan.of(
+              new SemVer[] {new SemVer(MAX, 0, 0), new SemVer(1, 0, 0)},
+              new Change[] {Change.MAJOR, null},
+              chain(2),
+              Propagation.PATCH);
+      assertTrue(plan.isOverflowed(0));
+      assertFalse(plan.isOverflowed(1));
+      assertEquals(new SemVer(1, 0, 1), plan.version(1));
+    }
+  }
+
+  @Nested
+  class PropagationTests {
+
+    @Test
+    void testTransitive() {
+      final var plan =
+          SemVerReleasePlan.of(
+              versions("1.0.0", "2.0.0", "3.0.0", "4.0.0"),
+              new Change[] {Change.MAJOR, null, null, null},
+              new int[][] {{}, {0}, {1}, {}},
+              Propagation.PATCH);
+      assertEquals(3, plan.batches());
+      assertEquals(Change.MAJOR, plan.change(0));
+      assertEquals(Change.PATCH, plan.change(1));
+      assertEquals(Change.PATCH, plan.change(2));
+      assertNull(plan.change(3));
+      assertFalse(plan.isPropagated(0));
+      assertTrue(plan.isPropagated(1));
+      assertTrue(plan.isPropagated(2));
+      assertFalse(plan.isPropagated(3));
+      assertEquals(SemVer.parse("2.0.0"), plan.version(0));
+      assertEquals(SemVer.parse("2.0.1"), plan.version(1));
+      assertEquals(SemVer.parse("3.0.1"), plan.version(2));
+      assertEquals(SemVer.parse("4.0.0"), plan.version(3));
+      assertEquals("SemVerReleasePlan{size=4, batches=3}", plan.toString());
+    }
+
+    @Test
+    void testMostSignificantChangeWins() {
+      final var propagation = new Propagation(Change.MINOR, Change.PATCH, null);
+      final var plan =
+          SemVerReleasePlan.of(
+              versions("1.0.0", "1.0.0", "1.0.0", "1.0.0", "1.0.0"),
+              new Change[] {Change.MAJOR, Change.PATCH, Change.PATCH, Change.MAJOR, null},
+              new int[][] {{}, {}, {0, 1}, {0}, {1}},
+              propagation);
+      assertEquals(Change.MINOR, plan.change(2));
+      assertTrue(plan.isPropagated(2));
+      assertEquals(Change.MAJOR, plan.change(3));
+      assertFalse(plan.isPropagated(3));
+      assertNull(plan.change(4));
+      assertEquals(SemVer.parse("1.1.0"), plan.version(2));
+    }
+
+    @Test
+    void testNone() {
+      final var plan =
+          SemVerReleasePlan.of(
+              versions("1.0.0", "1.0.0"),
+              new Change[] {Change.MAJOR, null},
+              chain(2),
+              Propagation.NONE);
+      assertNull(plan.change(1));
+      assertEquals(2, plan.batches());
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            MAJOR, MINOR
+            MINOR,
+            PATCH, PATCH
+            """)
+    void testPropagate(final Change change, final Change expected) {
+      assertEquals(expected, new Propagation(Change.MINOR, null, Change.PATCH).propagate(change));
+    }
+
+    @Test
+    void testDuplicateDependencies() {
+      final var plan =
+          SemVerReleasePlan.of(
+              versions("1.0.0", "1.0.0"),
+              new Change[] {Change.MINOR, null},
+              new int[][] {{}, {0, 0}},
+              Propagation.PATCH);
+      assertEquals(Change.PATCH, plan.change(1));
+      assertEquals(2, plan.batches());
+    }
+
+    @Test
+    void testParallelEqualsSequential() {
+      final int size = 4 * SemVerReleasePlan.PARALLEL_THRESHOLD;
+      final SplittableRandom random = new SplittableRandom(42L);
+      final SemVer[] semVers = new SemVer[size];
+      final Change[] changes = new Change[size];
+      final int[][] dependencies = new int[size][];
+      for (int module = 0; module < size; module++) {
+        semVers[module] = new SemVer(random.nextInt(5), random.nextInt(5), random.nextInt(5));
+        changes[module] = random.nextInt(50) == 0 ? Change.values()[random.nextInt(3)] : null;
+        // Modules of the first half have no dependencies, so they form one large batch.
+        final int count = module < size / 2 ? 0 : random.nextInt(4);
+        dependencies[module] = new int[count];
+        for (int i = 0; i < count; i++) {
+          dependencies[module][i] = random.nextInt(module);
+        }
+      }
+      final var propagation = new Propagation(Change.MINOR, Change.PATCH, Change.PATCH);
+      final var plan = SemVerReleasePlan.of(semVers, changes, dependencies, propagation);
+      final Change[] expected = new Change[size];
+      for (int module = 0; module < size; module++) {
+        Change change = changes[module];
+        for (final int dependency : dependencies[module]) {
+          final Change propagated = propagation.propagate(expected[dependency]);
+          if (change == null || propagated != null && propagated.compareTo(change) < 0) {
+            change = propagated;
+          }
+        }
+        expected[module] = change;
+        assertEquals(change, plan.change(module));
+        assertEquals(
+            change == null ? semVers[module] : semVers[module].incrementVersion(change),
+            plan.version(module));
+      }
+    }
+  }
+
+  @Nested
+  class PackedTests {
+
+    @Test
+    void testToPacked() {
+      final var plan =
+          SemVerReleasePlan.of(
+              versions("1.2.3", "1.2.3-rc.1", "1.2.3-rc.1", "1.2.3+b.1", "1.2.3+b.1"),
+              new Change[] {Change.MINOR, null, Change.PATCH, null, Change.PATCH});
+      assertArrayEquals(
+          new long[] {
+            PackedSemVer.pack(1, 3, 0),
+            PackedSemVer.INVALID,
+            PackedSemVer.pack(1, 2, 3),
+            PackedSemVer.INVALID,
+            PackedSemVer.pack(1, 2, 4)
+          },
+          plan.toPacked());
+    }
+  }
+
+  @Nested
+  class ArgumentTests {
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNull() {
+      final SemVer[] semVers = versions("1.0.0");
+      final Change[] changes = {null};
+      final int[][] dependencies = {{}};
+      assertThrows(IllegalArgumentException.class, () -> SemVerReleasePlan.of(null, changes));
+      assertThrows(IllegalArgumentException.class, () -> SemVerReleasePlan.of(semVers, null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerReleasePlan.of(new SemVer[] {null}, changes));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerReleasePlan.of(semVers, changes, null, Propagation.NONE));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerReleasePlan.of(semVers, changes, new int[][] {null}, Propagation.NONE));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerReleasePlan.of(semVers, changes, dependencies, null));
+    }
+
+    @Test
+    void testLengthMismatch() {
+      final SemVer[] semVers = versions("1.0.0", "2.0.0");
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> SemVerReleasePlan.of(semVers, new Change[] {Change.PATCH}));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              SemVerReleasePlan.of(
+                  semVers, new Change[2], new int[][] {{}}, Propagation.NONE));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+      assertThrows(
+          IndexOutOfBoundsException.class,
+          () ->
+              SemVerReleasePlan.of(
+                  versions("1.0.0"), new Change[1], new int[][] {{1}}, Propagation.NONE));
+      assertThrows(
+          IndexOutOfBoundsException.class,
+          () ->
+              SemVerReleasePlan.of(
+                  versions("1.0.0"), new Change[1], new int[][] {{-1}}, Propagation.NONE));
+    }
+
+    @Test
+    void testCycle() {
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  SemVerReleasePlan.of(
+                      versions("1.0.0", "1.0.0", "1.0.0"),
+                      new Change[3],
+                      new int[][] {{}, {2}, {1}},
+                      Propagation.PATCH));
+      assertEquals("`dependencies` MUST NOT be cyclic", exception.getMessage());
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              SemVerReleasePlan.of(
+                  versions("1.0.0"), new Change[1], new int[][] {{0}}, Propagation.PATCH));
+    }
+  }
+}
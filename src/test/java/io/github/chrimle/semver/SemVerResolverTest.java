@@ -0,0 +1,305 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemVerResolverTest {
+
+  private static SemVerRange range(final String expression) {
+    return SemVerRange.parse(expression);
+  }
+
+  @Nested
+  class ResolveTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            *,          2.1.0
+            ^1,         1.4.2
+            ~1.2,       1.2.9
+            <1.0.0,     0.9.0
+            """)
+    void testSelectsGreatestSatisfying(final String expression, final String expected) {
+      final var resolver =
+          SemVerResolver.builder()
+              .addVersions(
+                  "a", SemVerIndex.of(List.of(SemVer.parse("0.9.0"), SemVer.parse("1.2.9"))))
+              .addVersion("a", SemVer.parse("1.4.2"))
+              .addVersion("a", SemVer.parse("2.1.0"))
+              .build();
+      final var resolution = resolver.resolve(Map.of("a", range(expression)));
+      assertTrue(resolution.isResolved());
+      assertEquals(Map.of("a", SemVer.parse(expected)), resolution.versions());
+    }
+
+    @Test
+    void testTransitive() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addDependency("a", new SemVer(2, 0, 0), "b", range("^1"))
+              .addDependency("b", new SemVer(1, 5, 0), "c", range(">=3.0.0"))
+              .addVersion("b", new SemVer(1, 0, 0))
+              .addVersion("b", new SemVer(2, 0, 0))
+              .addVersion("c", new SemVer(3, 1, 0))
+              .addVersion("d", new SemVer(1, 0, 0))
+              .build();
+      final var resolution = resolver.resolve(Map.of("a", SemVerRange.any()));
+      assertTrue(resolution.isResolved());
+      assertEquals(
+          Map.of(
+              "a", new SemVer(2, 0, 0),
+              "b", new SemVer(1, 5, 0),
+              "c", new SemVer(3, 1, 0)),
+          resolution.versions());
+    }
+
+    @Test
+    void testBacktracks() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addDependency("a", new SemVer(2, 0, 0), "c", range("^2"))
+              .addDependency("a", new SemVer(1, 0, 0), "c", range("^1"))
+              .addDependency("b", new SemVer(1, 0, 0), "c", range("^1.1"))
+              .addVersion("c", new SemVer(1, 0, 0))
+              .addVersion("c", new SemVer(1, 2, 0))
+              .addVersion("c", new SemVer(2, 0, 0))
+              .build();
+      final var resolution =
+          resolver.resolve(Map.of("a", SemVerRange.any(), "b", SemVerRange.any()));
+      assertTrue(resolution.isResolved());
+      assertEquals(
+          Map.of(
+              "a", new SemVer(1, 0, 0),
+              "b", new SemVer(1, 0, 0),
+              "c", new SemVer(1, 2, 0)),
+          resolution.versions());
+    }
+
+    @Test
+    void testCyclicDependencies() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addDependency("a", new SemVer(1, 0, 0), "b", range("^1"))
+              .addDependency("b", new SemVer(1, 0, 0), "a", range("^1"))
+              .addDependency("a", new SemVer(2, 0, 0), "b", range("^2"))
+              .addDependency("b", new SemVer(2, 0, 0), "a", range("^1"))
+              .build();
+      final var resolution = resolver.resolve(Map.of("a", SemVerRange.any()));
+      assertEquals(
+          Map.of("a", new SemVer(1, 0, 0), "b", new SemVer(1, 0, 0)), resolution.versions());
+    }
+
+    @Test
+    void testIndependentSubgraphs() {
+      final var builder = SemVerResolver.builder();
+      final Map<String, SemVerRange> requirements = new HashMap<>();
+      for (int i = 0; i < 100; i++) {
+        builder.addDependency("a" + i, new SemVer(1, 0, 0), "b" + i, range("^1"));
+        builder.addVersion("b" + i, new SemVer(1, i, 0));
+        builder.addVersion("b" + i, new SemVer(2, 0, 0));
+        requirements.put("a" + i, SemVerRange.any());
+      }
+      final var resolver = builder.build();
+      assertEquals("SemVerResolver{packages=200, subgraphs=100}", resolver.toString());
+      final var resolution = resolver.resolve(requirements);
+      assertTrue(resolution.isResolved());
+      assertEquals(200, resolution.versions().size());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(new SemVer(1, i, 0), resolution.versions().get("b" + i));
+      }
+    }
+
+    @Test
+    void testDeepChain() {
+      final var builder = SemVerResolver.builder();
+      for (int i = 0; i < 20_000; i++) {
+        builder.addDependency("p" + i, new SemVer(1, 0, 0), "p" + (i + 1), range("^1"));
+      }
+      builder.addVersion("p20000", new SemVer(1, 0, 0));
+      final var resolution = builder.build().resolve(Map.of("p0", range("^1")));
+      assertTrue(resolution.isResolved());
+      assertEquals(20_001, resolution.versions().size());
+    }
+
+    @Test
+    void testMemoizesFailedSelections() {
+      // Every combination of `x*` fails on `z`, which must not be explored exponentially often.
+      final var builder = SemVerResolver.builder();
+      final Map<String, SemVerRange> requirements = new HashMap<>();
+      for (int i = 0; i < 40; i++) {
+        builder.addDependency("x" + i, new SemVer(1, 0, 0), "y", SemVerRange.any());
+        builder.addDependency("x" + i, new SemVer(2, 0, 0), "y", SemVerRange.any());
+        requirements.put("x" + i, SemVerRange.any());
+      }
+      builder.addDependency("y", new SemVer(1, 0, 0), "z", range("^2"));
+      builder.addDependency("y", new SemVer(2, 0, 0), "z", range("^3"));
+      builder.addVersion("z", new SemVer(1, 0, 0));
+      requirements.put("z", range("^1"));
+      final var resolution = builder.build().resolve(requirements);
+      assertFalse(resolution.isResolved());
+      assertEquals(1, resolution.conflicts().size());
+      assertEquals("z", resolution.conflicts().get(0).name());
+    }
+  }
+
+  @Nested
+  class ConflictTests {
+
+    @Test
+    void testConflict() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addDependency("a", new SemVer(1, 0, 0), "c", range("^2"))
+              .addDependency("b", new SemVer(1, 0, 0), "c", range("^1"))
+              .addVersion("c", new SemVer(1, 0, 0))
+              .addVersion("c", new SemVer(2, 0, 0))
+              .addVersion("d", new SemVer(1, 0, 0))
+              .build();
+      final var resolution =
+          resolver.resolve(
+              Map.of("a", SemVerRange.any(), "b", SemVerRange.any(), "d", SemVerRange.any()));
+      assertFalse(resolution.isResolved());
+      assertEquals(Map.of("d", new SemVer(1, 0, 0)), resolution.versions());
+      assertEquals(1, resolution.conflicts().size());
+      final var conflict = resolution.conflicts().get(0);
+      assertEquals("c", conflict.name());
+      assertTrue(conflict.range().isEmpty());
+      assertEquals(
+          Set.of(
+              new SemVerResolver.Requirement("a", new SemVer(1, 0, 0), range("^2")),
+              new SemVerResolver.Requirement("b", new SemVer(1, 0, 0), range("^1"))),
+          Set.copyOf(conflict.requirements()));
+    }
+
+    @Test
+    void testConflictWithSelected() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addDependency("a", new SemVer(1, 0, 0), "b", range("^2"))
+              .addVersion("b", new SemVer(1, 0, 0))
+              .addVersion("b", new SemVer(2, 0, 0))
+              .build();
+      final var resolution = resolver.resolve(Map.of("a", range("^1"), "b", range("^1")));
+      final var conflict = resolution.conflicts().get(0);
+      assertEquals("b", conflict.name());
+      assertEquals(
+          List.of(
+              new SemVerResolver.Requirement(null, null, range("^1")),
+              new SemVerResolver.Requirement("a", new SemVer(1, 0, 0), range("^2"))),
+          conflict.requirements());
+    }
+
+    @Test
+    void testUnknownPackage() {
+      final var resolver = SemVerResolver.builder().addVersion("a", new SemVer(1, 0, 0)).build();
+      final var resolution = resolver.resolve(Map.of("b", range("^1")));
+      assertEquals(
+          List.of(
+              new SemVerResolver.Conflict(
+                  "b",
+                  range("^1"),
+                  List.of(new SemVerResolver.Requirement(null, null, range("^1"))))),
+          resolution.conflicts());
+      assertTrue(resolution.versions().isEmpty());
+    }
+
+    @Test
+    void testNoSatisfyingVersion() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addVersion("a", new SemVer(1, 0, 0))
+              .addDependency("b", new SemVer(1, 0, 0), "c", SemVerRange.any())
+              .build();
+      final var resolution = resolver.resolve(Map.of("a", range("^2"), "b", range("^1")));
+      assertEquals(Map.of(), resolution.versions());
+      assertEquals(2, resolution.conflicts().size());
+      assertEquals("a", resolution.conflicts().get(0).name());
+      assertEquals("c", resolution.conflicts().get(1).name());
+    }
+  }
+
+  @Nested
+  class CatalogueTests {
+
+    @Test
+    void testPackagesAndVersions() {
+      final var resolver =
+          SemVerResolver.builder()
+              .addDependency("a", new SemVer(1, 0, 0), "b", SemVerRange.any())
+              .addVersion("a", new SemVer(1, 0, 0))
+              .addVersion("a", new SemVer(0, 1, 0))
+              .build();
+      assertEquals(Set.of("a", "b"), resolver.packages());
+      assertEquals(
+          List.of(new SemVer(0, 1, 0), new SemVer(1, 0, 0)), resolver.versions("a").asList());
+      assertTrue(resolver.versions("b").isEmpty());
+      assertTrue(resolver.versions("c").isEmpty());
+    }
+
+    @Test
+    void testBuilderIsReusable() {
+      final var builder = SemVerResolver.builder().addVersion("a", new SemVer(1, 0, 0));
+      final var first = builder.build();
+      builder.addVersion("a", new SemVer(2, 0, 0));
+      assertEquals(1, first.versions("a").size());
+      assertEquals(2, builder.build().versions("a").size());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testInvalidThrows() {
+      final var builder = SemVerResolver.builder();
+      final var version = new SemVer(1, 0, 0);
+      final var any = SemVerRange.any();
+      assertThrows(IllegalArgumentException.class, () -> builder.addVersion(null, version));
+      assertThrows(IllegalArgumentException.class, () -> builder.addVersion("a", null));
+      assertThrows(
+          ArithmeticException.class, () -> builder.addVersion("a", SemVer.parse("1.0.0-rc.1")));
+      assertThrows(IllegalArgumentException.class, () -> builder.addVersions("a", null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> builder.addVersions(null, SemVerIndex.ofPacked()));
+      assertThrows(
+          IllegalArgumentException.class, () -> builder.addDependency(null, version, "b", any));
+      assertThrows(
+          IllegalArgumentException.class, () -> builder.addDependency("a", null, "b", any));
+      assertThrows(
+          IllegalArgumentException.class, () -> builder.addDependency("a", version, null, any));
+      assertThrows(
+          IllegalArgumentException.class, () -> builder.addDependency("a", version, "b", null));
+      final var resolver = builder.build();
+      assertTrue(resolver.packages().isEmpty());
+      assertThrows(IllegalArgumentException.class, () -> resolver.resolve(null));
+      assertThrows(IllegalArgumentException.class, () -> resolver.versions(null));
+      final Map<String, SemVerRange> requirements = new HashMap<>();
+      requirements.put("a", null);
+      assertThrows(IllegalArgumentException.class, () -> resolver.resolve(requirements));
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerScannerTest {
+
+  private static final SemVerScanner MY_APP =
+      SemVerScanner.builder().addProduct("MyApp").addProduct("x-client-version").build();
+
+  /** Returns the found version of each kind of input, asserting that they are equal. */
+  private static String find(final SemVerScanner scanner, final String text) {
+    final byte[] bytes = ("##" + text + "##").getBytes(StandardCharsets.US_ASCII);
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(2);
+    final ByteBuffer heap = ByteBuffer.wrap(bytes, 1, bytes.length - 1).slice().position(1);
+    final long match = scanner.find(text);
+    assertEquals(shift(match, 2), scanner.find("##" + text, 2, text.length()));
+    assertEquals(shift(match, 2), scanner.find(bytes, 2, text.length()));
+    assertEquals(shift(match, 2), scanner.find(direct.limit(2 + text.length())));
+    assertEquals(shift(match, 1), scanner.find(heap.limit(1 + text.length())));
+    assertEquals(2, direct.position());
+    if (match == SemVerScanner.NOT_FOUND) return null;
+    return text.substring(SemVerScanner.start(match), SemVerScanner.end(match));
+  }
+
+  private static long shift(final long match, final int distance) {
+    if (match == SemVerScanner.NOT_FOUND) return match;
+    return match + (((long) distance << 32) | distance);
+  }
+
+  @Nested
+  class AnyTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            MyApp/3.14.2 (Linux),                3.14.2
+            'x-client-version: v2.1',            v2.1
+            Foo 1.2.3-rc.1+build.5; bar,         1.2.3-rc.1+build.5
+            (Windows NT 10; 2024) Bar/0.9.0,     0.9.0
+            Chrome/120.0.6099.109 Safari/537.36, 537.36
+            1.0,                                 1.0
+            """)
+    void testFinds(final String text, final String expected) {
+      assertEquals(expected, find(SemVerScanner.any(), text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "",
+          "MyApp",
+          "MyApp/3 (Linux)",
+          "x1.2.3",
+          "1.2.3_4",
+          "01.2.3",
+          "1.2.",
+          "1.2.3-",
+          "1.2.3-01",
+          "1.2.3+",
+          "1.2.3+a..b",
+          "1.2.3.4",
+          "2147483648.0.0",
+          "version-1.2.3"
+        })
+    void testNotFound(final String text) {
+      assertNull(find(SemVerScanner.any(), text));
+      assertNull(SemVerScanner.any().scan(text));
+    }
+
+    @Test
+    void testScansConsecutiveMatches() {
+      final byte[] bytes = "A/1.2.3 B/2.0 C/x D/3.1.4".getBytes(StandardCharsets.US_ASCII);
+      final StringBuilder versions = new StringBuilder();
+      int offset = 0;
+      long match;
+      while ((match = SemVerScanner.any().find(bytes, offset, bytes.length - offset))
+          != SemVerScanner.NOT_FOUND) {
+        final SemVer version = SemVerScanner.any().scan(bytes, offset, bytes.length - offset);
+        versions.append(version.toCompleteVersionString()).append(' ');
+        offset = SemVerScanner.end(match);
+      }
+      assertEquals("v1.2.3 v2.0.0 v3.1.4 ", versions.toString());
+    }
+  }
+
+  @Nested
+  class ProductTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            MyApp/3.14.2 (Linux),                3.14.2
+            Mozilla/5.0 MyApp/3,                 3
+            OtherApp/1.0.0 MyApp/v2.0.0-beta.1,  v2.0.0-beta.1
+            'x-client-version: v2.1',            v2.1
+            MyApp/1.2.3.4 MyApp/1.2.4,           1.2.4
+            """)
+    void testFinds(final String text, final String expected) {
+      assertEquals(expected, find(MY_APP, text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "",
+          "MyApp",
+          "MyApp/",
+          "MyApp/x",
+          "NotMyApp/1.2.3",
+          "X-MyApp/1.2.3",
+          "myapp/1.2.3",
+          "MyApp 1.2.3",
+          "MyApp/1.2.3.4",
+          "Other/1.2.3"
+        })
+    void testNotFound(final String text) {
+      assertNull(find(MY_APP, text));
+    }
+
+    @Test
+    void testSkipsWhitespace() {
+      assertEquals("7.0.1", find(MY_APP, "x-client-version:\t 7.0.1"));
+      assertNull(find(MY_APP, "x-client-version:\r\n7.0.1"));
+    }
+
+    @Test
+    void testIgnoreCase() {
+      final SemVerScanner scanner =
+          SemVerScanner.builder().addProduct("X-Client-Version").ignoreCase(true).build();
+      assertEquals("2.1.0", find(scanner, "x-client-version: 2.1.0"));
+      assertEquals("2.1.0", find(scanner, "X-CLIENT-VERSION: 2.1.0"));
+      assertNull(find(scanner, "x-client-versions: 2.1.0"));
+    }
+
+    @Test
+    void testToString() {
+      assertEquals(
+          "SemVerScanner{products=[MyApp, x-client-version], ignoreCase=false}", MY_APP.toString());
+    }
+
+    @Test
+    void testScan() {
+      assertEquals(new SemVer(3, 14, 2), MY_APP.scan("MyApp/3.14.2 (Linux)"));
+      final byte[] bytes = "MyApp/v2.0.0-beta.1+b.5".getBytes(StandardCharsets.US_ASCII);
+      assertEquals(new SemVer(2, 0, 0, "beta.1", "b.5"), MY_APP.scan(ByteBuffer.wrap(bytes)));
+      assertNull(MY_APP.scan("Other/1.2.3"));
+    }
+
+    @Test
+    void testNonAsciiBytes() {
+      final byte[] bytes = "éMyApp/1.2.3é".getBytes(StandardCharsets.UTF_8);
+      assertEquals(new SemVer(1, 2, 3), MY_APP.scan(bytes, 0, bytes.length));
+    }
+  }
+
+  @Nested
+  class FindAllTests {
+
+    @Test
+    void testRanges() {
+      final byte[] bytes =
+          "User-Agent: MyApp/1.2.3\r\nAccept: */*\r\nx-client-version: v2.1\r\n"
+              .getBytes(StandardCharsets.US_ASCII);
+      final int[] offsets = {12, 25, 38};
+      final int[] lengths = {11, 11, 22};
+      final long[] matches = new long[3];
+      assertEquals(2, MY_APP.findAll(bytes, offsets, lengths, matches));
+      assertEquals(18, SemVerScanner.start(matches[0]));
+      assertEquals(23, SemVerScanner.end(matches[0]));
+      assertEquals(SemVerScanner.NOT_FOUND, matches[1]);
+      assertEquals(
+          "v2.1",
+          new String(
+              bytes,
+              SemVerScanner.start(matches[2]),
+              SemVerScanner.end(matches[2]) - SemVerScanner.start(matches[2]),
+              StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testBuffers() {
+      final ByteBuffer[] buffers = {
+        ByteBuffer.wrap("MyApp/1.2.3".getBytes(StandardCharsets.US_ASCII)),
+        ByteBuffer.wrap("Other/1.2.3".getBytes(StandardCharsets.US_ASCII))
+      };
+      final long[] matches = new long[2];
+      assertEquals(1, MY_APP.findAll(buffers, matches));
+      assertEquals(6, SemVerScanner.start(matches[0]));
+      assertEquals(SemVerScanner.NOT_FOUND, matches[1]);
+    }
+
+    @Test
+    void testOutOfBounds() {
+      final byte[] bytes = new byte[4];
+      assertThrows(
+          IndexOutOfBoundsException.class,
+          () -> MY_APP.findAll(bytes, new int[] {2}, new int[] {3}, new long[1]));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> MY_APP.findAll(bytes, new int[] {0, 0}, new int[] {1}, new long[2]));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> MY_APP.findAll(new ByteBuffer[2], new long[1]));
+    }
+  }
+
+  @Nested
+  class ArgumentTests {
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNull() {
+      assertThrows(IllegalArgumentException.class, () -> MY_APP.find((CharSequence) null));
+      assertThrows(IllegalArgumentException.class, () -> MY_APP.find((byte[]) null, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> MY_APP.find((ByteBuffer) null));
+      assertThrows(IllegalArgumentException.class, () -> MY_APP.scan((CharSequence) null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> MY_APP.findAll(new ByteBuffer[] {null}, new long[1]));
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerScanner.builder().addProduct(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "My App", "MyApp/", "x:y", "é"})
+    void testInvalidProduct(final String product) {
+      assertThrows(
+          IllegalArgumentException.class, () -> SemVerScanner.builder().addProduct(product));
+    }
+
+    @Test
+    void testOutOfBounds() {
+      assertThrows(IndexOutOfBoundsException.class, () -> MY_APP.find(new byte[2], 1, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> MY_APP.find("ab", -1, 1));
+    }
+  }
+}
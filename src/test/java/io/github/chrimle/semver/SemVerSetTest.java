@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerSetTest {
+
+  @Test
+  void testAddContainsRemove() {
+    final var set = new SemVerSet();
+    assertTrue(set.isEmpty());
+    assertTrue(set.add(new SemVer(1, 2, 3)));
+    assertFalse(set.add(new SemVer(1, 2, 3)));
+    assertTrue(set.contains(new SemVer(1, 2, 3)));
+    assertTrue(set.contains(1, 2, 3));
+    assertTrue(set.containsPacked(new SemVer(1, 2, 3).toPacked()));
+    assertFalse(set.contains(1, 2, 4));
+    assertEquals(1, set.size());
+    assertTrue(set.remove(new SemVer(1, 2, 3)));
+    assertFalse(set.remove(new SemVer(1, 2, 3)));
+    assertFalse(set.contains(1, 2, 3));
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void testLookupOfVersionsWhichCannotBeAdded() {
+    final var set = new SemVerSet();
+    set.add(new SemVer(1, 0, 0));
+    assertFalse(set.contains(new SemVer(1, 0, 0, "rc.1", "")));
+    assertFalse(set.contains(-1, 0, 0));
+    assertFalse(set.contains(PackedSemVer.MAX_VERSION + 1, 0, 0));
+    assertFalse(set.containsPacked(-1L));
+    assertFalse(set.removePacked(-1L));
+    assertThrows(ArithmeticException.class, () -> set.add(new SemVer(1, 0, 0, "", "build")));
+    assertThrows(IllegalArgumentException.class, () -> set.addPacked(-1L));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 100, 10_000})
+  void testMatchesHashSet(final int expectedSize) {
+    final var random = new Random(expectedSize);
+    final var set = new SemVerSet(expectedSize);
+    final Set<SemVer> expected = new HashSet<>();
+    for (int i = 0; i < 50_000; i++) {
+      // Few distinct versions, so that additions, lookups and removals collide.
+      final var version = new SemVer(random.nextInt(4), random.nextInt(30), random.nextInt(30));
+      switch (random.nextInt(3)) {
+        case 0 -> assertEquals(expected.add(version), set.add(version));
+        case 1 -> assertEquals(expected.remove(version), set.remove(version));
+        default ->
+            assertEquals(
+                expected.contains(version),
+                set.contains(version.major(), version.minor(), version.patch()));
+      }
+      assertEquals(expected.size(), set.size());
+    }
+    for (final SemVer version : expected) {
+      assertTrue(set.contains(version));
+    }
+  }
+
+  @Test
+  void testToPackedArrayAndForEachPacked() {
+    final var set = new SemVerSet();
+    final var expected = new TreeSet<Long>();
+    final var random = new Random(3L);
+    for (int i = 0; i < 1_000; i++) {
+      final long packed = random.nextLong() & PackedSemVer.MAX_PACKED;
+      set.addPacked(packed);
+      expected.add(packed);
+    }
+    assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), set.toPackedArray());
+    final var visited = new TreeSet<Long>();
+    set.forEachPacked(visited::add);
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  void testClear() {
+    final var set = new SemVerSet();
+    set.add(new SemVer(1, 0, 0));
+    set.clear();
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(1, 0, 0));
+    assertTrue(set.add(new SemVer(1, 0, 0)));
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new SemVerSet(-1));
+    final var set = new SemVerSet();
+    assertThrows(IllegalArgumentException.class, () -> set.add(null));
+    assertThrows(IllegalArgumentException.class, () -> set.contains(null));
+    assertThrows(IllegalArgumentException.class, () -> set.remove(null));
+    assertThrows(IllegalArgumentException.class, () -> set.forEachPacked(null));
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package io.github.chrimle.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerSortTest {
+
+  private static SemVer[] randomVersions(final int size, final long seed, final int bound) {
+    final var random = new Random(seed);
+    final var versions = new SemVer[size];
+    for (int i = 0; i < size; i++) {
+      // Distinct instances of equal versions reveal whether the sort is stable.
+      versions[i] = new SemVer(random.nextInt(bound), random.nextInt(bound), random.nextInt(bound));
+    }
+    return versions;
+  }
+
+  private static void assertSameElements(final SemVer[] expected, final SemVer[] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertSame(expected[i], actual[i]);
+    }
+  }
+
+  @Nested
+  class PackedTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 63, 64, 65, 1_000, 40_000})
+    void testMatchesArraysSort(final int size) {
+      final var random = new Random(size);
+      final long[] packed = new long[size];
+      for (int i = 0; i < size; i++) {
+        packed[i] = random.nextLong() & PackedSemVer.MAX_PACKED;
+      }
+      final long[] expected = packed.clone();
+      Arrays.sort(expected);
+      SemVerSort.sortPacked(packed);
+      assertArrayEquals(expected, packed);
+    }
+
+    @Test
+    void testSignedOrder() {
+      final long[] values = {3L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0L, -300L, 1L << 56};
+      final long[] expected = values.clone();
+      Arrays.sort(expected);
+      SemVerSort.sortPacked(values);
+      assertArrayEquals(expected, values);
+    }
+
+    @Test
+    void testRange() {
+      final long[] packed = {9L, 5L, 4L, 3L, 2L, 1L, 0L};
+      SemVerSort.sortPacked(packed, 1, 4);
+      assertArrayEquals(new long[] {9L, 3L, 4L, 5L, 2L, 1L, 0L}, packed);
+      assertThrows(IndexOutOfBoundsException.class, () -> SemVerSort.sortPacked(packed, 4, 8));
+    }
+
+    @Test
+    void testSortDistinct() {
+      final long[] packed = {5L, 1L, 5L, 3L, 1L, 1L};
+      assertEquals(3, SemVerSort.sortDistinctPacked(packed));
+      assertArrayEquals(new long[] {1L, 3L, 5L}, Arrays.copyOf(packed, 3));
+      final long[] range = {7L, 2L, 2L, 0L};
+      assertEquals(2, SemVerSort.sortDistinctPacked(range, 1, 3));
+      assertEquals(0, SemVerSort.sortDistinctPacked(new long[0]));
+    }
+
+    @Test
+    void testParallelMatchesArraysSort() {
+      final var random = new Random(3);
+      final long[] packed = new long[SemVerSort.PARALLEL_THRESHOLD + 12_345];
+      for (int i = 0; i < packed.length; i++) {
+        packed[i] = PackedSemVer.pack(random.nextInt(5), random.nextInt(100), random.nextInt(1000));
+      }
+      final long[] expected = packed.clone();
+      Arrays.sort(expected);
+      SemVerSort.sortKeys(packed, null, 0, packed.length, true);
+      assertArrayEquals(expected, packed);
+    }
+  }
+
+  @Nested
+  class SemVerTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 50, 1_000, 40_000})
+    void testMatchesArraysSort(final int size) {
+      final SemVer[] versions = randomVersions(size, size, 20);
+      final SemVer[] expected = versions.clone();
+      Arrays.sort(expected);
+      SemVerSort.sort(versions);
+      assertSameElements(expected, versions);
+    }
+
+    @Test
+    void testParallelIsStable() {
+      final SemVer[] versions = randomVersions(SemVerSort.PARALLEL_THRESHOLD + 7, 11, 8);
+      final long[] keys = Arrays.stream(versions).mapToLong(SemVer::toPacked).toArray();
+      final SemVer[] expected = versions.clone();
+      Arrays.sort(expected);
+      SemVerSort.sortKeys(keys, versions, 0, versions.length, true);
+      assertSameElements(expected, versions);
+    }
+
+    @Test
+    void testNonPackableFallsBack() {
+      final SemVer[] versions = {
+        SemVer.parse("1.0.0"),
+        SemVer.parse("1.0.0-rc.1"),
+        new SemVer(PackedSemVer.MAX_VERSION + 1, 0, 0),
+        SemVer.parse("0.9.0"),
+        SemVer.parse("1.0.0-beta")
+      };
+      final SemVer[] expected = versions.clone();
+      Arrays.sort(expected);
+      SemVerSort.sort(versions);
+      assertSameElements(expected, versions);
+    }
+
+    @Test
+    void testList() {
+      final List<SemVer> versions = new LinkedList<>(Arrays.asList(randomVersions(500, 5, 10)));
+      final List<SemVer> expected = new ArrayList<>(versions);
+      expected.sort(null);
+      SemVerSort.sort(versions);
+      assertEquals(expected, versions);
+    }
+
+    @Test
+    void testSortDistinct() {
+      final SemVer[] versions = {
+        SemVer.parse("2.0.0"),
+        SemVer.parse("1.0.0+b"),
+        SemVer.parse("1.0.0+a"),
+        SemVer.parse("1.0.0+b"),
+        SemVer.parse("2.0.0"),
+        SemVer.parse("0.1.0")
+      };
+      final int distinct = SemVerSort.sortDistinct(versions);
+      assertEquals(
+          List.of(
+              SemVer.parse("0.1.0"),
+              SemVer.parse("1.0.0+b"),
+              SemVer.parse("1.0.0+a"),
+              SemVer.parse("2.0.0")),
+          Arrays.asList(versions).subList(0, distinct));
+    }
+
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    @Test
+    void testNullThrows() {
+      assertThrows(IllegalArgumentException.class, () -> SemVerSort.sort((SemVer[]) null));
+      assertThrows(IllegalArgumentException.class, () -> SemVerSort.sortPacked(null));
+      final SemVer[] withNull = {SemVer.parse("1.0.0-rc.1"), null};
+      assertThrows(IllegalArgumentException.class, () -> SemVerSort.sort(withNull));
+    }
+  }
+}
@@ -18,11 +18,18 @@ package io.github.chrimle.semver;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class SemVerTest {
 
@@ -284,6 +291,612 @@ class SemVerTest {
     }
   }
 
+  @Nested
+  class ParseTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            v1.2.3,1,2,3
+            1.2.3,1,2,3
+            v1.2,1,2,0
+            v1,1,0,0
+            0.0.0,0,0,0
+            v10.20.30,10,20,30
+            v2147483647.2147483647.2147483647,2147483647,2147483647,2147483647
+            """)
+    void testValid(final String text, final int major, final int minor, final int patch) {
+      final var expected = new SemVer(major, minor, patch);
+      assertEquals(expected, SemVer.parse(text));
+      final var bytes = ("##" + text + "##").getBytes(StandardCharsets.US_ASCII);
+      assertEquals(expected, SemVer.parse(bytes, 2, text.length()));
+      final var heapBuffer = ByteBuffer.wrap(bytes, 2, text.length());
+      assertEquals(expected, SemVer.parse(heapBuffer));
+      assertEquals(2, heapBuffer.position());
+      final var directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+      assertEquals(expected, SemVer.parse(directBuffer.position(2).limit(2 + text.length())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "",
+          "v",
+          "V1.2.3",
+          "vv1",
+          "1.",
+          "1..2",
+          ".1",
+          "1.2.3.4",
+          "01.2.3",
+          "1.02.3",
+          "1.2.03",
+          "-1.2.3",
+          "1.-2.3",
+          "1.2.3 ",
+          " 1.2.3",
+          "1.2.x",
+          "2147483648.0.0",
+          "0.2147483648.0",
+          "0.0.21474836470"
+        })
+    void testInvalid(final String text) {
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(text));
+      final var bytes = text.getBytes(StandardCharsets.US_ASCII);
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(bytes, 0, bytes.length));
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(ByteBuffer.wrap(bytes)));
+      final var directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(directBuffer));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1,0,0
+            1,2,0
+            1,2,3
+            0,0,1
+            """)
+    void testRoundTrip(final int major, final int minor, final int patch) {
+      final var semVer = new SemVer(major, minor, patch);
+      assertEquals(semVer, SemVer.parse(semVer.toCompleteVersionString()));
+      assertEquals(semVer, SemVer.parse(semVer.toShortVersionString()));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNull() {
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse((CharSequence) null));
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse((byte[]) null, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse((ByteBuffer) null));
+    }
+
+    @Test
+    void testOutOfBounds() {
+      final var bytes = "1.2.3".getBytes(StandardCharsets.US_ASCII);
+      assertThrows(IndexOutOfBoundsException.class, () -> SemVer.parse(bytes, 1, 5));
+      assertThrows(IndexOutOfBoundsException.class, () -> SemVer.parse(bytes, -1, 2));
+    }
+  }
+
+  @Nested
+  class TryTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0
+            1,2,3
+            2147483647,2147483647,2147483647
+            """)
+    void testTryOfValid(final int major, final int minor, final int patch) {
+      assertEquals(SemVer.of(major, minor, patch), SemVer.tryOf(major, minor, patch));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            -1,0,0
+            0,-1,0
+            0,0,-1
+            -2147483648,-2147483648,-2147483648
+            """)
+    void testTryOfNegative(final int major, final int minor, final int patch) {
+      assertNull(SemVer.tryOf(major, minor, patch));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"v1.2.3", "1.2", "1.4.0-rc.2+build.77"})
+    void testTryParseValid(final String text) {
+      final var expected = SemVer.parse(text);
+      assertEquals(expected, SemVer.tryParse(text));
+      final var bytes = text.getBytes(StandardCharsets.US_ASCII);
+      assertEquals(expected, SemVer.tryParse(bytes, 0, bytes.length));
+      assertEquals(expected, SemVer.tryParse(ByteBuffer.wrap(bytes)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "v", "1..2", "01.2.3", "2147483648.0.0", "1.2.3-01", "1.2.3+"})
+    void testTryParseInvalid(final String text) {
+      assertNull(SemVer.tryParse(text));
+      final var bytes = text.getBytes(StandardCharsets.US_ASCII);
+      assertNull(SemVer.tryParse(bytes, 0, bytes.length));
+      assertNull(SemVer.tryParse(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void testTryParseRejectsWithoutAllocating() throws ReflectiveOperationException {
+      final String[] texts = {"1.2.3x", "1.2.3 trailing-junk", "1.2.3-rc..1", "1.2.3+a..b"};
+      final byte[][] bytes = new byte[texts.length][];
+      final ByteBuffer[] buffers = new ByteBuffer[texts.length];
+      for (int i = 0; i < texts.length; i++) {
+        bytes[i] = texts[i].getBytes(StandardCharsets.US_ASCII);
+        buffers[i] = ByteBuffer.allocateDirect(bytes[i].length).put(bytes[i]).flip();
+      }
+      // The platform-specific bean is accessed reflectively, since this module does not read it.
+      final Object threads = ManagementFactory.getThreadMXBean();
+      final var allocatedBytes =
+          Class.forName("com.sun.management.ThreadMXBean")
+              .getMethod("getThreadAllocatedBytes", long.class);
+      final long thread = Thread.currentThread().getId();
+      for (int round = 0; round < 2; round++) {
+        final long before = (long) allocatedBytes.invoke(threads, thread);
+        for (int repetition = 0; repetition < 1_000; repetition++) {
+          for (int i = 0; i < texts.length; i++) {
+            assertNull(SemVer.tryParse(bytes[i], 0, bytes[i].length));
+            assertNull(SemVer.tryParse(buffers[i]));
+          }
+        }
+        final long allocated = (long) allocatedBytes.invoke(threads, thread) - before;
+        // The first round may load classes, whereas each rejection used to allocate 48-104 bytes.
+        if (round > 0) assertTrue(allocated < 1024, allocated + " bytes allocated");
+      }
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testTryParseNull() {
+      assertThrows(IllegalArgumentException.class, () -> SemVer.tryParse((CharSequence) null));
+      assertThrows(IllegalArgumentException.class, () -> SemVer.tryParse((byte[]) null, 0, 0));
+      assertThrows(IllegalArgumentException.class, () -> SemVer.tryParse((ByteBuffer) null));
+    }
+
+    @Test
+    void testTryParseOutOfBounds() {
+      final var bytes = "1.2.3".getBytes(StandardCharsets.US_ASCII);
+      assertThrows(IndexOutOfBoundsException.class, () -> SemVer.tryParse(bytes, 1, 5));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1.2.3,MAJOR
+            1.2.3,MINOR
+            1.2.3,PATCH
+            2.0.0-rc.1,MAJOR
+            1.2.0-rc.1,MINOR
+            1.2.3-rc.1,PATCH
+            2147483647.0.0-rc.1,MAJOR
+            """)
+    void testTryIncrementVersion(final String version, final Change change) {
+      final var semVer = SemVer.parse(version);
+      assertEquals(semVer.incrementVersion(change), semVer.tryIncrementVersion(change));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            2147483647,0,0,MAJOR
+            0,2147483647,0,MINOR
+            0,0,2147483647,PATCH
+            """)
+    void testTryIncrementVersionOverflow(
+        final int major, final int minor, final int patch, final Change change) {
+      assertNull(new SemVer(major, minor, patch).tryIncrementVersion(change));
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testTryIncrementVersionNull() {
+      final var semVer = new SemVer(1, 2, 3);
+      assertThrows(IllegalArgumentException.class, () -> semVer.tryIncrementVersion(null));
+    }
+
+    @Test
+    void testOverflowMessages() {
+      final var semVer = new SemVer(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+      assertEquals(
+          "The next `SemVer` cannot be created with a `major` greater than `Integer.MAX_VALUE`"
+              + " (2147483647)",
+          assertThrows(ArithmeticException.class, semVer::incrementMajor).getMessage());
+      assertEquals(
+          "The next `SemVer` cannot be created with a `patch` greater than `Integer.MAX_VALUE`"
+              + " (2147483647)",
+          assertThrows(ArithmeticException.class, semVer::incrementPatch).getMessage());
+    }
+  }
+
+  @Nested
+  class PackedTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0
+            1,2,3
+            2097151,2097151,2097151
+            """)
+    void testRoundTrip(final int major, final int minor, final int patch) {
+      final var semVer = new SemVer(major, minor, patch);
+      assertTrue(semVer.isPackable());
+      assertEquals(semVer, SemVer.fromPacked(semVer.toPacked()));
+    }
+
+    @Test
+    void testNotPackable() {
+      final var semVer = new SemVer(1, PackedSemVer.MAX_VERSION + 1, 0);
+      assertFalse(semVer.isPackable());
+      assertThrows(ArithmeticException.class, semVer::toPacked);
+    }
+
+    @Test
+    void testFromNegativeThrows() {
+      assertThrows(IllegalArgumentException.class, () -> SemVer.fromPacked(-1L));
+    }
+  }
+
+  @Nested
+  class FormattingTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0,v0.0.0,v0
+            1,0,0,v1.0.0,v1
+            1,2,0,v1.2.0,v1.2
+            0,0,7,v0.0.7,v0.0.7
+            10,200,3000,v10.200.3000,v10.200.3000
+            2147483647,0,1,v2147483647.0.1,v2147483647.0.1
+            """)
+    void testAllTargets(
+        final int major,
+        final int minor,
+        final int patch,
+        final String complete,
+        final String shortened)
+        throws IOException {
+      final var semVer = new SemVer(major, minor, patch);
+      assertEquals(complete, semVer.toCompleteVersionString());
+      assertEquals(shortened, semVer.toShortVersionString());
+      assertEquals(complete.length(), semVer.completeVersionStringLength());
+      assertEquals(shortened.length(), semVer.shortVersionStringLength());
+
+      assertEquals(
+          "#" + complete, semVer.appendCompleteVersionString(new StringBuilder("#")).toString());
+      assertEquals(
+          "#" + shortened, semVer.appendShortVersionString(new StringBuilder("#")).toString());
+      assertEquals(complete, semVer.appendCompleteVersionString(new StringWriter()).toString());
+      assertEquals(shortened, semVer.appendShortVersionString(new StringWriter()).toString());
+
+      assertEquals(complete, written(semVer, ByteBuffer.allocate(40), true));
+      assertEquals(shortened, written(semVer, ByteBuffer.allocate(40), false));
+      assertEquals(complete, written(semVer, ByteBuffer.allocateDirect(40), true));
+      assertEquals(shortened, written(semVer, ByteBuffer.allocateDirect(40), false));
+
+      final byte[] bytes = new byte[40];
+      final int length = semVer.writeCompleteVersionString(bytes, 2);
+      assertEquals(complete, new String(bytes, 2, length, StandardCharsets.US_ASCII));
+      assertEquals(shortened.length(), semVer.writeShortVersionString(bytes, 0));
+    }
+
+    @Test
+    void testInsufficientSpaceWritesNothing() {
+      final var semVer = new SemVer(1, 2, 3);
+      final var buffer = ByteBuffer.allocate(5);
+      assertThrows(BufferOverflowException.class, () -> semVer.writeCompleteVersionString(buffer));
+      assertEquals(0, buffer.position());
+      final byte[] bytes = new byte[6];
+      assertThrows(
+          IndexOutOfBoundsException.class, () -> semVer.writeCompleteVersionString(bytes, 1));
+      assertEquals(0, bytes[0]);
+    }
+
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    @Test
+    void testNullThrows() {
+      final var semVer = new SemVer(1, 2, 3);
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> semVer.appendCompleteVersionString((StringBuilder) null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> semVer.appendShortVersionString((Appendable) null));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> semVer.writeCompleteVersionString((ByteBuffer) null));
+      assertThrows(
+          IllegalArgumentException.class, () -> semVer.writeShortVersionString(null, 0));
+    }
+
+    private static String written(
+        final SemVer semVer, final ByteBuffer buffer, final boolean complete) {
+      buffer.position(3);
+      if (complete) {
+        semVer.writeCompleteVersionString(buffer);
+      } else {
+        semVer.writeShortVersionString(buffer);
+      }
+      final byte[] bytes = new byte[buffer.position() - 3];
+      buffer.get(3, bytes);
+      return new String(bytes, StandardCharsets.US_ASCII);
+    }
+  }
+
+  @Nested
+  class OfTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0,0,0
+            1,2,3
+            7,31,63
+            8,0,0
+            12,345,6789
+            2147483647,2147483647,2147483647
+            """)
+    void testEqualToConstructed(final int major, final int minor, final int patch) {
+      final var semVer = SemVer.of(major, minor, patch);
+      assertEquals(new SemVer(major, minor, patch), semVer);
+      assertSame(semVer, SemVer.of(major, minor, patch));
+    }
+
+    @Test
+    void testSmallVersionsAreCanonical() {
+      final var semVer = SemVer.of(1, 2, 3);
+      assertSame(semVer, SemVer.parse("v1.2.3"));
+      assertSame(semVer, SemVer.of(1, 2, 2).incrementPatch());
+      assertSame(semVer, SemVer.fromPacked(semVer.toPacked()));
+      assertSame(SemVer.of(2, 0, 0), semVer.incrementVersion(Change.MAJOR));
+    }
+
+    @Test
+    void testStatisticsCountHitsAndMisses() {
+      final CacheStatistics before = SemVer.cacheStatistics();
+      SemVer.of(4, 5, 6);
+      SemVer.of(4, 5, 6);
+      final CacheStatistics delta = SemVer.cacheStatistics().minus(before);
+      // Other tests may run concurrently, so only lower bounds are asserted.
+      assertTrue(delta.hits() >= 1);
+      assertTrue(delta.requests() >= 2);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            -1,0,0
+            0,-1,0
+            0,0,-1
+            -1,100,100
+            """)
+    void testNegativeThrows(final int major, final int minor, final int patch) {
+      assertThrows(IllegalArgumentException.class, () -> SemVer.of(major, minor, patch));
+    }
+  }
+
+  @Nested
+  class PreReleaseTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            1.0.0-alpha,1.0.0-alpha.1
+            1.0.0-alpha.1,1.0.0-alpha.beta
+            1.0.0-alpha.beta,1.0.0-beta
+            1.0.0-beta,1.0.0-beta.2
+            1.0.0-beta.2,1.0.0-beta.11
+            1.0.0-beta.11,1.0.0-rc.1
+            1.0.0-rc.1,1.0.0
+            1.0.0-rc.1+build.9,1.0.0+build.1
+            1.0.0-1,1.0.0-a
+            1.0.0-9,1.0.0-10
+            1.0.0-A,1.0.0-a
+            1.0.0-rc,1.0.0-rc-1
+            0.9.9,1.0.0-0
+            """)
+    void testPrecedence(final String lower, final String higher) {
+      final var lowerSemVer = SemVer.parse(lower);
+      final var higherSemVer = SemVer.parse(higher);
+      assertTrue(lowerSemVer.compareTo(higherSemVer) < 0);
+      assertTrue(higherSemVer.compareTo(lowerSemVer) > 0);
+    }
+
+    @Test
+    void testBuildMetadataIsIgnoredByCompareTo() {
+      final var semVer = SemVer.parse("1.2.3-rc.1+build.1");
+      final var other = SemVer.parse("1.2.3-rc.1+build.2");
+      assertEquals(0, semVer.compareTo(other));
+      assertNotEquals(semVer, other);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            v1.4.0-rc.2+build.77,1,4,0,rc.2,build.77,v1.4-rc.2+build.77
+            1.0.0-0,1,0,0,0,'',v1-0
+            v2+exp.sha.5114f85,2,0,0,'',exp.sha.5114f85,v2+exp.sha.5114f85
+            1.2.3----RC-SNAPSHOT.12.9.1--.12+788,1,2,3,---RC-SNAPSHOT.12.9.1--.12,788,\
+            v1.2.3----RC-SNAPSHOT.12.9.1--.12+788
+            1.0.0-x-y-z.--,1,0,0,x-y-z.--,'',v1-x-y-z.--
+            1.0.0+0.build.1-rc.10000aaa-kk-0.1,1,0,0,'',0.build.1-rc.10000aaa-kk-0.1,\
+            v1+0.build.1-rc.10000aaa-kk-0.1
+            """)
+    void testParseAndFormat(
+        final String text,
+        final int major,
+        final int minor,
+        final int patch,
+        final String preRelease,
+        final String buildMetadata,
+        final String shortened) {
+      final var expected = new SemVer(major, minor, patch, preRelease, buildMetadata);
+      assertEquals(expected, SemVer.parse(text));
+      final var bytes = ("##" + text).getBytes(StandardCharsets.US_ASCII);
+      assertEquals(expected, SemVer.parse(bytes, 2, text.length()));
+      final var directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+      assertEquals(expected, SemVer.parse(directBuffer.position(2)));
+
+      final String complete = expected.toCompleteVersionString();
+      assertEquals(expected, SemVer.parse(complete));
+      assertEquals(shortened, expected.toShortVersionString());
+      assertEquals(complete.length(), expected.completeVersionStringLength());
+      assertEquals(shortened.length(), expected.shortVersionStringLength());
+      assertEquals(complete, expected.appendCompleteVersionString(new StringBuilder()).toString());
+      final byte[] written = new byte[complete.length()];
+      final var buffer = ByteBuffer.allocateDirect(written.length);
+      expected.writeCompleteVersionString(buffer).flip().get(written);
+      assertEquals(complete, new String(written, StandardCharsets.US_ASCII));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "1.2.3-",
+          "1.2.3+",
+          "1.2.3-+build",
+          "1.2.3-rc..1",
+          "1.2.3-rc.",
+          "1.2.3-.rc",
+          "1.2.3-01",
+          "1.2.3-rc.01",
+          "1.2.3-rc_1",
+          "1.2.3+build..1",
+          "1.2.3+build+1",
+          "1.2.3-rc+build.ä",
+          "1.2.3rc",
+          "1.2.3.-rc"
+        })
+    void testParseInvalid(final String text) {
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(text));
+      final var bytes = text.getBytes(StandardCharsets.UTF_8);
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(bytes, 0, bytes.length));
+      final var directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+      assertThrows(IllegalArgumentException.class, () -> SemVer.parse(directBuffer));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            '',x..y
+            01,''
+            rc!,''
+            '',build_1
+            .,''
+            """)
+    void testConstructorInvalid(final String preRelease, final String buildMetadata) {
+      assertThrows(
+          IllegalArgumentException.class, () -> new SemVer(1, 2, 3, preRelease, buildMetadata));
+    }
+
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    @Test
+    void testConstructorNullThrows() {
+      assertThrows(IllegalArgumentException.class, () -> new SemVer(1, 2, 3, null, ""));
+      assertThrows(IllegalArgumentException.class, () -> new SemVer(1, 2, 3, "", null));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            2.0.0-rc.1,MAJOR,2.0.0
+            2.1.0-rc.1,MAJOR,3.0.0
+            1.2.0-rc.1,MINOR,1.2.0
+            1.2.3-rc.1,MINOR,1.3.0
+            1.2.3-rc.1,PATCH,1.2.3
+            1.2.3+build,PATCH,1.2.4
+            2147483647.0.0-rc.1,MAJOR,2147483647.0.0
+            """)
+    void testIncrement(final String text, final Change change, final String expected) {
+      assertEquals(SemVer.parse(expected), SemVer.parse(text).incrementVersion(change));
+    }
+
+    @Test
+    void testIsStableAndIsPackable() {
+      final var preRelease = SemVer.parse("1.2.3-rc.1");
+      assertTrue(preRelease.isPreRelease());
+      assertFalse(preRelease.isStable());
+      assertFalse(preRelease.isPackable());
+      assertThrows(ArithmeticException.class, preRelease::toPacked);
+      final var withBuildMetadata = SemVer.parse("1.2.3+build.1");
+      assertFalse(withBuildMetadata.isPreRelease());
+      assertTrue(withBuildMetadata.isStable());
+      assertFalse(withBuildMetadata.isPackable());
+      assertFalse(new SemVer(1, 2, 3).isPreRelease());
+    }
+  }
+
+  @Nested
+  class ObjectMethodsTests {
+
+    @ParameterizedTest
+    @CsvSource(
+        value =
+            """
+            0, 0, 0, '', '', 0
+            1, 2, 3, '', '', 985986
+            1, 2, 3, rc.1, build.5, 340205315
+            2147483647, 7, 0, '', b, 2146768762
+            """)
+    void testHashCodeEquivalentToRecord(
+        final int major,
+        final int minor,
+        final int patch,
+        final String preRelease,
+        final String buildMetadata,
+        final int expected) {
+      assertEquals(
+          expected, new SemVer(major, minor, patch, preRelease, buildMetadata).hashCode());
+    }
+
+    @Test
+    void testToStringEquivalentToRecord() {
+      assertEquals(
+          "SemVer[major=1, minor=2, patch=3, preRelease=, buildMetadata=]",
+          new SemVer(1, 2, 3).toString());
+      assertEquals(
+          "SemVer[major=1, minor=2, patch=3, preRelease=rc.1, buildMetadata=build.5]",
+          SemVer.parse("1.2.3-rc.1+build.5").toString());
+    }
+
+    @Test
+    void testEquals() {
+      final var semVer = SemVer.parse("1.2.3-rc.1+build.5");
+      assertEquals(semVer, semVer);
+      assertEquals(new SemVer(1, 2, 3, "rc.1", "build.5"), semVer);
+      assertNotEquals(new SemVer(1, 2, 3, "rc.1", "build.6"), semVer);
+      assertNotEquals(new SemVer(1, 2, 3, "rc.2", "build.5"), semVer);
+      assertNotEquals(new SemVer(1, 2, 4, "rc.1", "build.5"), semVer);
+      assertNotEquals(new SemVer(1, 3, 3, "rc.1", "build.5"), semVer);
+      assertNotEquals(new SemVer(2, 2, 3, "rc.1", "build.5"), semVer);
+      assertNotEquals(semVer, null);
+      assertNotEquals(semVer, "1.2.3-rc.1+build.5");
+    }
+  }
+
   private static String getExceptionMessage(final Exception exception) {
     return Objects.requireNonNull(exception.getMessage());
   }